@@ -118,5 +118,7 @@ echo "Analysis Tools"
 echo "  1. JITWatch:     Analyze hotspot_*.log for JIT compilation details"
 echo "  2. JDK Mission Control: Open recording.jfr for performance profiling"
 echo "  3. Gatling:      View HTML report for load test metrics"
+echo "  4. Sprout events: jfr summary $OUTPUT_DIR/recording.jfr | grep sprout."
+echo "                    jfr print --categories Sprout $OUTPUT_DIR/recording.jfr"
 echo ""
 echo "════════════════════════════════════════════════════════════════"
@@ -0,0 +1,58 @@
+package sprout.aop;
+
+import org.openjdk.jmh.annotations.*;
+import sprout.aop.advisor.AdvisorRegistry;
+import sprout.aop.advisor.DefaultAdvisor;
+import sprout.context.CtorMeta;
+
+import java.util.concurrent.TimeUnit;
+
+/** 직접 호출 대비 CGLIB 프록시 호출 비용: 어드바이스 없음 / around 어드바이스 하나 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BeanMethodInterceptorBenchmark {
+
+    public static class Calculator {
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+
+    private Calculator direct;
+    private Calculator proxyWithoutAdvice;
+    private Calculator proxyWithAround;
+    private int a = 17;
+    private int b = 25;
+
+    @Setup
+    public void setUp() {
+        CglibProxyFactory factory = new CglibProxyFactory();
+        CtorMeta noArgs = new CtorMeta(new Class<?>[0], new Object[0]);
+        direct = new Calculator();
+
+        proxyWithoutAdvice = (Calculator) factory.createProxy(Calculator.class, new Calculator(), new AdvisorRegistry(), noArgs);
+
+        AdvisorRegistry advised = new AdvisorRegistry();
+        advised.registerAdvisor(new DefaultAdvisor(
+                (targetClass, method) -> method.getName().equals("add"),
+                MethodInvocation::proceed,
+                0));
+        proxyWithAround = (Calculator) factory.createProxy(Calculator.class, new Calculator(), advised, noArgs);
+    }
+
+    @Benchmark
+    public int directCall() {
+        return direct.add(a, b);
+    }
+
+    @Benchmark
+    public int proxyNoAdvice() {
+        return proxyWithoutAdvice.add(a, b);
+    }
+
+    @Benchmark
+    public int proxyAroundAdvice() {
+        return proxyWithAround.add(a, b);
+    }
+}
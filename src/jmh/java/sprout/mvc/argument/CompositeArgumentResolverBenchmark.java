@@ -0,0 +1,54 @@
+package sprout.mvc.argument;
+
+import org.openjdk.jmh.annotations.*;
+import sprout.mvc.annotation.Header;
+import sprout.mvc.annotation.PathVariable;
+import sprout.mvc.annotation.RequestParam;
+import sprout.mvc.argument.builtins.HeaderArgumentResolver;
+import sprout.mvc.argument.builtins.PathVariableArgumentResolver;
+import sprout.mvc.argument.builtins.RequestParamArgumentResolver;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** 경로 변수·쿼리 파라미터·헤더를 섞은 전형적인 GET 핸들러의 인자 해석 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompositeArgumentResolverBenchmark {
+
+    static class Controller {
+        public void find(@PathVariable("userId") Long userId,
+                         @PathVariable("orderId") String orderId,
+                         @RequestParam("page") int page,
+                         @RequestParam("sort") String sort,
+                         @Header("X-Request-Id") String requestId) {}
+    }
+
+    private CompositeArgumentResolver resolver;
+    private Method method;
+    private HttpRequest<?> request;
+    private Map<String, String> pathVariables;
+
+    @Setup
+    public void setUp() throws Exception {
+        resolver = new CompositeArgumentResolver(List.of(
+                new PathVariableArgumentResolver(),
+                new RequestParamArgumentResolver(),
+                new HeaderArgumentResolver()));
+        method = Controller.class.getMethod("find", Long.class, String.class, int.class, String.class, String.class);
+        request = new HttpRequest<>(HttpMethod.GET, "/users/42/orders/A-1001", null,
+                Map.of("page", "3", "sort", "createdAt,desc"),
+                Map.of("X-Request-Id", "7f1c2b0e", "Accept", "application/json"));
+        pathVariables = Map.of("userId", "42", "orderId", "A-1001");
+    }
+
+    @Benchmark
+    public Object[] resolveFiveArguments() throws Exception {
+        return resolver.resolveArguments(method, request, pathVariables);
+    }
+}
@@ -0,0 +1,102 @@
+package sprout.mvc.argument;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sprout.mvc.annotation.RequestBody;
+import sprout.mvc.argument.builtins.RequestBodyArgumentResolver;
+import sprout.mvc.exception.BadRequestException;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.codec.MessageCodecRegistry;
+import sprout.mvc.http.codec.builtins.JsonMessageCodec;
+
+import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 바이트 기반 {@link RequestBodyArgumentResolver}와 이전 방식(바이트 → String → trim → readValue)을 비교한다.
+ * legacy 쪽은 이전 리졸버의 본문을 그대로 옮겨 둔 것.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestBodyBindingBenchmark {
+
+    public static class OrderDto {
+        public String customer;
+        public int quantity;
+        public List<String> items;
+    }
+
+    static class Controller {
+        public void create(@RequestBody OrderDto order) {}
+    }
+
+    private static final byte[] VALID = "{\"customer\":\"sprout\",\"quantity\":3,\"items\":[\"a\",\"b\",\"c\"]}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MALFORMED = "{\"customer\":\"sprout\",\"quantity\":\"three\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper legacyMapper = new ObjectMapper();
+    private RequestBodyArgumentResolver resolver;
+    private Parameter parameter;
+
+    @Setup
+    public void setUp() throws Exception {
+        resolver = new RequestBodyArgumentResolver(
+                new MessageCodecRegistry(List.of(new JsonMessageCodec(new ObjectMapper()))));
+        parameter = Controller.class.getMethod("create", OrderDto.class).getParameters()[0];
+    }
+
+    @Benchmark
+    public Object legacyValid() {
+        return legacyResolve(VALID);
+    }
+
+    @Benchmark
+    public Object rawBytesValid() throws Exception {
+        return resolver.resolve(parameter, request(VALID), Map.of());
+    }
+
+    @Benchmark
+    public void legacyMalformed(Blackhole bh) {
+        try {
+            bh.consume(legacyResolve(MALFORMED));
+        } catch (BadRequestException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void rawBytesMalformed(Blackhole bh) throws Exception {
+        try {
+            bh.consume(resolver.resolve(parameter, request(MALFORMED), Map.of()));
+        } catch (BadRequestException e) {
+            bh.consume(e);
+        }
+    }
+
+    private static HttpRequest<String> request(byte[] body) {
+        return HttpRequest.ofRawBody(HttpMethod.POST, "/orders", ByteBuffer.wrap(body), Map.of(), Map.of());
+    }
+
+    private Object legacyResolve(byte[] body) {
+        String rawBody = new String(body, StandardCharsets.UTF_8);
+        if (rawBody.isBlank()) {
+            return null;
+        }
+        try {
+            return legacyMapper.readValue(rawBody.trim(), parameter.getType());
+        } catch (Exception e) {
+            throw new BadRequestException(
+                    "Failed to parse request body as JSON or convert to '" + parameter.getType().getName() + "'. " +
+                            "Check JSON format and target type. Cause: " + e.getMessage(), ResponseCode.BAD_REQUEST, e);
+        }
+    }
+}
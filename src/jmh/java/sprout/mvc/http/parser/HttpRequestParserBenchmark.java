@@ -0,0 +1,60 @@
+package sprout.mvc.http.parser;
+
+import org.openjdk.jmh.annotations.*;
+import sprout.mvc.http.HttpRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HttpRequestParserBenchmark {
+
+    private static final String GET = "GET /api/users/42?fields=name,email&sort=desc HTTP/1.1\r\n" +
+            "Host: localhost:8080\r\n" +
+            "User-Agent: Mozilla/5.0 (X11; Linux x86_64) Gecko/20100101 Firefox/118.0\r\n" +
+            "Accept: application/json\r\n" +
+            "Accept-Language: ko-KR,ko;q=0.9,en-US;q=0.8\r\n" +
+            "Accept-Encoding: gzip, deflate\r\n" +
+            "Cookie: SESSION=0f8e7d6c5b4a; theme=dark\r\n" +
+            "Connection: keep-alive\r\n\r\n";
+    private static final String POST = "POST /api/orders HTTP/1.1\r\n" +
+            "Host: localhost:8080\r\n" +
+            "Content-Type: application/json\r\n" +
+            "Content-Length: 58\r\n\r\n" +
+            "{\"customer\":\"sprout\",\"quantity\":3,\"items\":[\"a\",\"b\",\"c\"]}";
+
+    private final byte[] getBytes = GET.getBytes(StandardCharsets.UTF_8);
+    private final byte[] postBytes = POST.getBytes(StandardCharsets.UTF_8);
+    private HttpRequestParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new HttpRequestParser(new RequestLineParser(), new QueryStringParser(), new HttpHeaderParser());
+    }
+
+    @Benchmark
+    public HttpRequest<?> parseGetBytes() {
+        return parser.parse(getBytes, 0, getBytes.length);
+    }
+
+    @Benchmark
+    public HttpRequest<?> parsePostBytes() {
+        return parser.parse(postBytes, 0, postBytes.length);
+    }
+
+    @Benchmark
+    public HttpRequest<?> parseGetString() {
+        return parser.parse(GET);
+    }
+
+    /** 파싱 후 핸들러가 흔히 읽는 헤더·쿼리까지 접근 (지연 뷰의 인덱싱 비용 포함) */
+    @Benchmark
+    public Object parseGetAndRead() {
+        HttpRequest<?> request = parser.parse(getBytes, 0, getBytes.length);
+        request.getHeader("Accept");
+        request.getHeader("cookie");
+        return request.getQueryParam("fields");
+    }
+}
@@ -0,0 +1,41 @@
+package sprout.mvc.mapping;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PathPatternBenchmark {
+
+    private final PathPattern literal = new PathPattern("/api/v1/health");
+    private final PathPattern twoVariables = new PathPattern("/api/v1/users/{userId}/orders/{orderId}");
+    private final PathPattern regexVariable = new PathPattern("/files/{name:[a-z0-9-]+}/download");
+
+    @Benchmark
+    public boolean literalMatch() {
+        return literal.matches("/api/v1/health");
+    }
+
+    @Benchmark
+    public boolean variableMatch() {
+        return twoVariables.matches("/api/v1/users/1234/orders/98765");
+    }
+
+    @Benchmark
+    public boolean variableMiss() {
+        return twoVariables.matches("/api/v1/products/1234/reviews/98765");
+    }
+
+    @Benchmark
+    public Map<String, String> extractTwoVariables() {
+        return twoVariables.extractPathVariables("/api/v1/users/1234/orders/98765");
+    }
+
+    @Benchmark
+    public Map<String, String> extractRegexVariable() {
+        return regexVariable.extractPathVariables("/files/report-2024-q3/download");
+    }
+}
@@ -0,0 +1,70 @@
+package sprout.mvc.mapping;
+
+import org.openjdk.jmh.annotations.*;
+import sprout.mvc.http.HttpMethod;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 서비스 규모의 라우트 테이블(리소스 {@code resources}개 × CRUD·하위 리소스 8개)에서 핸들러 조회.
+ * 앞쪽/뒤쪽 리소스, 변수 없는 경로, 404를 각각 측정해 선형 탐색 여부가 드러나게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestMappingRegistryBenchmark {
+
+    @Param({"10", "50"})
+    public int resources;
+
+    static class Controller {
+        public void handle() {}
+    }
+
+    private RequestMappingRegistry registry;
+    private String firstResourcePath;
+    private String lastResourcePath;
+    private String lastResourceLiteral;
+
+    @Setup
+    public void setUp() throws Exception {
+        registry = new RequestMappingRegistry();
+        Controller controller = new Controller();
+        Method handler = Controller.class.getMethod("handle");
+        for (int i = 0; i < resources; i++) {
+            String base = "/api/v1/resource" + i;
+            registry.register(new PathPattern(base), HttpMethod.GET, controller, handler);
+            registry.register(new PathPattern(base), HttpMethod.POST, controller, handler);
+            registry.register(new PathPattern(base + "/search"), HttpMethod.GET, controller, handler);
+            registry.register(new PathPattern(base + "/{id}"), HttpMethod.GET, controller, handler);
+            registry.register(new PathPattern(base + "/{id}"), HttpMethod.PUT, controller, handler);
+            registry.register(new PathPattern(base + "/{id}"), HttpMethod.DELETE, controller, handler);
+            registry.register(new PathPattern(base + "/{id}/items"), HttpMethod.GET, controller, handler);
+            registry.register(new PathPattern(base + "/{id}/items/{itemId}"), HttpMethod.GET, controller, handler);
+        }
+        firstResourcePath = "/api/v1/resource0/123/items/7";
+        lastResourcePath = "/api/v1/resource" + (resources - 1) + "/123/items/7";
+        lastResourceLiteral = "/api/v1/resource" + (resources - 1) + "/search";
+    }
+
+    @Benchmark
+    public RequestMappingInfo firstResourceWithVariables() {
+        return registry.getHandlerMethod(firstResourcePath, HttpMethod.GET);
+    }
+
+    @Benchmark
+    public RequestMappingInfo lastResourceWithVariables() {
+        return registry.getHandlerMethod(lastResourcePath, HttpMethod.GET);
+    }
+
+    @Benchmark
+    public RequestMappingInfo literalPath() {
+        return registry.getHandlerMethod(lastResourceLiteral, HttpMethod.GET);
+    }
+
+    @Benchmark
+    public RequestMappingInfo notFound() {
+        return registry.getHandlerMethod("/api/v2/unknown/123", HttpMethod.GET);
+    }
+}
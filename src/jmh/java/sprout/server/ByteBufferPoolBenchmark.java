@@ -0,0 +1,49 @@
+package sprout.server;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 같은 풀을 두고 경쟁할 때의 대여/반납 처리량.
+ * 풀 없이 매번 할당하는 경우를 기준선으로 함께 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ByteBufferPoolBenchmark {
+
+    private ByteBufferPool heapPool;
+    private ByteBufferPool directPool;
+
+    @Setup
+    public void setUp() {
+        heapPool = new ByteBufferPool(false);
+        directPool = new ByteBufferPool(true);
+    }
+
+    @Benchmark
+    public ByteBuffer acquireReleaseHeap() {
+        ByteBuffer buffer = heapPool.acquire(ByteBufferPool.MEDIUM_BUFFER_SIZE);
+        buffer.put((byte) 1);
+        heapPool.release(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer acquireReleaseDirect() {
+        ByteBuffer buffer = directPool.acquire(ByteBufferPool.MEDIUM_BUFFER_SIZE);
+        buffer.put((byte) 1);
+        directPool.release(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer allocateWithoutPool() {
+        ByteBuffer buffer = ByteBuffer.allocate(ByteBufferPool.MEDIUM_BUFFER_SIZE);
+        buffer.put((byte) 1);
+        return buffer;
+    }
+}
@@ -0,0 +1,108 @@
+package sprout.server;
+
+import org.openjdk.jmh.annotations.*;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 완료 판정, 블로킹 모드 요청 읽기, 응답 직렬화.
+ * {@code -prof gc}로 돌리면 op당 할당량이 같이 나온다 (build.gradle의 jmh 설정에 기본 포함).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HttpUtilsBenchmark {
+
+    private static final byte[] GET = ("GET /api/users/42?fields=name,email HTTP/1.1\r\n" +
+            "Host: localhost:8080\r\n" +
+            "User-Agent: Mozilla/5.0 (X11; Linux x86_64) Gecko/20100101 Firefox/118.0\r\n" +
+            "Accept: application/json\r\n" +
+            "Accept-Encoding: gzip, deflate\r\n" +
+            "Connection: keep-alive\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] POST;
+    private static final byte[] CHUNKED = ("POST /api/upload HTTP/1.1\r\n" +
+            "Host: localhost\r\nTransfer-Encoding: chunked\r\n\r\n" +
+            "5\r\nhello\r\n6\r\n world\r\n0\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+
+    static {
+        String body = "{\"customer\":\"sprout\",\"quantity\":3,\"items\":[\"a\",\"b\",\"c\"]}";
+        POST = ("POST /api/orders HTTP/1.1\r\n" +
+                "Host: localhost:8080\r\n" +
+                "Content-Type: application/json\r\n" +
+                "Content-Length: " + body.length() + "\r\n\r\n" + body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer getBuffer;
+    private ByteBuffer postBuffer;
+    private ByteBuffer chunkedBuffer;
+    private ByteBuffer partialBuffer;
+    private ByteBufferPool pool;
+    private ResponseEntity<?> smallJson;
+    private ResponseEntity<?> largeBody;
+
+    @Setup
+    public void setUp() {
+        getBuffer = ByteBuffer.wrap(GET);
+        postBuffer = ByteBuffer.wrap(POST);
+        chunkedBuffer = ByteBuffer.wrap(CHUNKED);
+        partialBuffer = ByteBuffer.wrap(POST, 0, POST.length - 10).slice();
+        pool = new ByteBufferPool();
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Cache-Control", "no-store");
+        headers.put("X-Request-Id", "7f1c2b0e-4a51-4d0a-9c5e-1f2d3c4b5a69");
+        smallJson = new ResponseEntity<>("{\"id\":42,\"name\":\"sprout\"}", headers, ResponseCode.SUCCESS);
+        largeBody = new ResponseEntity<>(new byte[32 * 1024], new HashMap<>(), ResponseCode.SUCCESS, "application/octet-stream");
+    }
+
+    @Benchmark
+    public boolean isRequestCompleteGet() {
+        return HttpUtils.isRequestComplete(getBuffer.duplicate());
+    }
+
+    @Benchmark
+    public boolean isRequestCompleteContentLength() {
+        return HttpUtils.isRequestComplete(postBuffer.duplicate());
+    }
+
+    @Benchmark
+    public boolean isRequestCompleteChunked() {
+        return HttpUtils.isRequestComplete(chunkedBuffer.duplicate());
+    }
+
+    @Benchmark
+    public boolean isRequestCompletePartial() {
+        return HttpUtils.isRequestComplete(partialBuffer.duplicate());
+    }
+
+    @Benchmark
+    public String readRawRequestPost() throws IOException {
+        // 첫 패킷에 헤더 일부만 들어온 상황: 나머지는 스트림에서 읽는다
+        ByteBuffer initial = ByteBuffer.wrap(POST, 0, 32);
+        return HttpUtils.readRawRequest(initial, new ByteArrayInputStream(POST, 32, POST.length - 32));
+    }
+
+    @Benchmark
+    public ByteBuffer createResponseBufferSmall() {
+        return HttpUtils.createResponseBuffer(smallJson);
+    }
+
+    @Benchmark
+    public void createResponseBufferPooledSmall() {
+        pool.release(HttpUtils.createResponseBuffer(smallJson, pool));
+    }
+
+    @Benchmark
+    public void createResponseBufferPooledLarge() {
+        pool.release(HttpUtils.createResponseBuffer(largeBody, pool));
+    }
+}
@@ -0,0 +1,105 @@
+package sprout.server.websocket;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 프레임 파싱(헤더 + 언마스킹 포함 페이로드 읽기), 언마스킹 단독, 서버 프레임 인코딩.
+ * stream 쪽은 InputStream 파서와 바이트 단위 언마스킹, buffer 쪽은 상태 기계 리더와 long 단위 언마스킹.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WebSocketFrameBenchmark {
+
+    private static final byte[] MASK = {0x37, (byte) 0xfa, 0x21, 0x3d};
+
+    @Param({"125", "4096", "65536"})
+    public int payloadSize;
+
+    private final DefaultWebSocketFrameParser parser = new DefaultWebSocketFrameParser();
+    private final DefaultWebSocketFrameEncoder encoder = new DefaultWebSocketFrameEncoder();
+    private byte[] clientFrame;
+    private ByteBuffer readBuffer;
+    private int maskKey;
+    private byte[] maskedPayload;
+    private byte[] unmasked;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        byte[] payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'a');
+        text = new String(payload, StandardCharsets.US_ASCII);
+
+        maskedPayload = new byte[payloadSize];
+        for (int i = 0; i < payloadSize; i++) {
+            maskedPayload[i] = (byte) (payload[i] ^ MASK[i & 3]);
+        }
+        unmasked = new byte[payloadSize];
+
+        ByteBuffer frame = ByteBuffer.allocate(14 + payloadSize);
+        frame.put((byte) 0x81); // FIN + text
+        if (payloadSize <= 125) {
+            frame.put((byte) (0x80 | payloadSize));
+        } else if (payloadSize <= 0xFFFF) {
+            frame.put((byte) (0x80 | 126)).putShort((short) payloadSize);
+        } else {
+            frame.put((byte) (0x80 | 127)).putLong(payloadSize);
+        }
+        frame.put(MASK).put(maskedPayload).flip();
+        clientFrame = new byte[frame.remaining()];
+        frame.get(clientFrame);
+        readBuffer = ByteBuffer.allocate(clientFrame.length);
+        maskKey = ByteBuffer.wrap(MASK).getInt();
+    }
+
+    @Benchmark
+    public byte[] parseAndReadPayload() throws Exception {
+        WebSocketFrame frame = parser.parse(new ByteBufferInputStream(ByteBuffer.wrap(clientFrame)));
+        return frame.getPayloadBytes();
+    }
+
+    @Benchmark
+    public ByteBuffer readerParse() throws Exception {
+        // 언마스킹이 제자리에서 일어나므로 매번 원본 프레임을 다시 채운다 (stream 쪽의 wrap 비용에 대응)
+        readBuffer.clear();
+        readBuffer.put(clientFrame).flip();
+        return new ByteBufferFrameReader().read(readBuffer).getPayloadBuffer();
+    }
+
+    @Benchmark
+    public ByteBuffer unmaskWordwise() {
+        ByteBuffer buffer = ByteBuffer.wrap(unmasked);
+        ByteBufferFrameReader.unmask(buffer, 0, unmasked.length, maskKey);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] unmask() throws IOException {
+        InputStream in = new MaskingInputStream(new ByteArrayInputStream(maskedPayload), MASK);
+        int off = 0;
+        int n;
+        while (off < unmasked.length && (n = in.read(unmasked, off, unmasked.length - off)) != -1) {
+            off += n;
+        }
+        return unmasked;
+    }
+
+    @Benchmark
+    public byte[] encodeText() {
+        return encoder.encodeText(text);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return encoder.encodeBinary(unmasked);
+    }
+}
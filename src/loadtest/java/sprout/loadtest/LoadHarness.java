@@ -0,0 +1,132 @@
+package sprout.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import sprout.context.builtins.SproutApplicationContext;
+import sprout.server.HttpServer;
+import sprout.server.RequestExecutorService;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sprout 컨텍스트와 HttpServer를 같은 프로세스에서 임시 포트로 띄우고 시나리오별 부하를 건 뒤
+ * 지연 백분위·처리량을 JSON으로 남긴다. 같은 머신에서 두 번 돌린 결과 파일을 diff해서 비교한다.
+ *
+ * <pre>
+ * ./gradlew loadtest -PloadtestArgs="--rate=5000 --duration=20 --scenarios=keepalive,churn"
+ *
+ * --scenarios=keepalive,pipelined,churn   실행할 시나리오 (순서대로)
+ * --rate=2000              초당 목표 요청 수 (시나리오마다)
+ * --connections=16         동시 연결 수
+ * --pipeline-depth=4       pipelined 시나리오의 연결당 연속 요청 수
+ * --warmup=3 --duration=10 예열/측정 시간 (초). 예열 구간은 기록하지 않는다
+ * --path=/benchmark/hello  요청 경로
+ * --packages=sprout,app.benchmark  스캔할 패키지
+ * --output=build/reports/loadtest/results.json
+ * </pre>
+ */
+public final class LoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int rate = Integer.parseInt(options.getOrDefault("rate", "2000"));
+        int connections = Integer.parseInt(options.getOrDefault("connections", "16"));
+        int pipelineDepth = Integer.parseInt(options.getOrDefault("pipeline-depth", "4"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "3")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "10")));
+        String path = options.getOrDefault("path", "/benchmark/hello");
+        String[] packages = options.getOrDefault("packages", "sprout,app.benchmark").split(",");
+        Path output = Path.of(options.getOrDefault("output", "build/reports/loadtest/results.json"));
+
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (String name : options.getOrDefault("scenarios", "keepalive,pipelined,churn").split(",")) {
+            scenarios.add(switch (name.trim()) {
+                case "keepalive" -> new LoadScenario("keepalive", path, connections, 1, false, rate, warmup, duration);
+                case "pipelined" -> new LoadScenario("pipelined", path, connections, pipelineDepth, false, rate, warmup, duration);
+                case "churn" -> new LoadScenario("churn", path, connections, 1, true, rate, warmup, duration);
+                default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+            });
+        }
+
+        SproutApplicationContext context = new SproutApplicationContext(packages);
+        context.refresh();
+        HttpServer server = context.getBean(HttpServer.class);
+        int port = server.start(0);
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        System.out.printf("Sprout started on %s%n", address);
+
+        List<ScenarioResult> results = new ArrayList<>();
+        try {
+            OpenLoadGenerator generator = new OpenLoadGenerator(address);
+            for (LoadScenario scenario : scenarios) {
+                if (!scenario.warmup().isZero()) {
+                    generator.run(scenario.withDuration(scenario.warmup()));
+                }
+                ScenarioResult result = generator.run(scenario);
+                results.add(result);
+                System.out.printf("%-10s %,10.1f req/s  p50=%,dus p99=%,dus p99.9=%,dus max=%,dus errors=%d%n",
+                        scenario.name(), result.throughput(),
+                        result.latencyMicros().getValueAtPercentile(50),
+                        result.latencyMicros().getValueAtPercentile(99),
+                        result.latencyMicros().getValueAtPercentile(99.9),
+                        result.latencyMicros().getMaxValue(),
+                        result.errors());
+            }
+        } finally {
+            server.stop();
+            context.getBean(RequestExecutorService.class).shutdown();
+            context.close();
+        }
+
+        writeReport(output, results);
+        System.out.printf("Report written to %s%n", output.toAbsolutePath());
+        System.exit(0);
+    }
+
+    private static void writeReport(Path output, List<ScenarioResult> results) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("vm", System.getProperty("java.vm.name"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            scenarios.add(result.toMap());
+        }
+        report.put("scenarios", scenarios);
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private LoadHarness() {
+    }
+}
@@ -0,0 +1,31 @@
+package sprout.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 시나리오 하나.
+ *
+ * @param connections   동시에 유지하는 연결 수
+ * @param pipelineDepth 응답을 기다리지 않고 한 연결에 연속으로 보내는 요청 수 (1이면 파이프라이닝 없음)
+ * @param churn         true면 요청(또는 파이프라인 묶음)마다 연결을 새로 맺고 끊는다
+ * @param ratePerSecond 전체 목표 요청률. 서버 응답 속도와 무관하게 이 간격으로 요청 시점이 정해진다 (open model)
+ */
+public record LoadScenario(String name,
+                           String path,
+                           int connections,
+                           int pipelineDepth,
+                           boolean churn,
+                           int ratePerSecond,
+                           Duration warmup,
+                           Duration duration) {
+
+    public LoadScenario {
+        if (connections < 1) throw new IllegalArgumentException("connections must be >= 1");
+        if (pipelineDepth < 1) throw new IllegalArgumentException("pipelineDepth must be >= 1");
+        if (ratePerSecond < 1) throw new IllegalArgumentException("ratePerSecond must be >= 1");
+    }
+
+    public LoadScenario withDuration(Duration duration) {
+        return new LoadScenario(name, path, connections, pipelineDepth, churn, ratePerSecond, warmup, duration);
+    }
+}
@@ -0,0 +1,143 @@
+package sprout.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 요청률 open-model 부하 생성기.
+ *
+ * <p>전체 일정은 {@code 1s / rate} 간격의 슬롯으로 나뉘고, 연결 i는 i, i+N, i+2N ... 번째 슬롯을 맡는다.
+ * 서버가 느려져도 다음 요청의 의도 시각은 밀리지 않으며, 지연은 의도 시각부터 측정하므로
+ * 밀린 대기 시간이 결과에 그대로 드러난다 (coordinated omission 방지).</p>
+ */
+final class OpenLoadGenerator {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int TIMEOUT_MILLIS = 5_000;
+
+    private final InetSocketAddress address;
+
+    OpenLoadGenerator(InetSocketAddress address) {
+        this.address = address;
+    }
+
+    ScenarioResult run(LoadScenario scenario) throws InterruptedException {
+        byte[] request = ("GET " + scenario.path() + " HTTP/1.1\r\n" +
+                "Host: " + address.getHostString() + ":" + address.getPort() + "\r\n" +
+                "User-Agent: sprout-loadtest\r\n" +
+                "Accept: */*\r\n" +
+                "Connection: keep-alive\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        int connections = scenario.connections();
+        long intervalNanos = 1_000_000_000L / scenario.ratePerSecond();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+        long end = start + scenario.duration().toNanos();
+
+        List<Worker> workers = new ArrayList<>(connections);
+        List<Thread> threads = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            Worker worker = new Worker(scenario, request, i, connections, intervalNanos, start, end);
+            workers.add(worker);
+            threads.add(Thread.ofPlatform().name("loadtest-" + scenario.name() + "-" + i).daemon().start(worker));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Histogram merged = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long completed = 0;
+        long errors = 0;
+        long finishedAt = start;
+        for (Worker worker : workers) {
+            merged.add(worker.histogram);
+            completed += worker.completed;
+            errors += worker.errors;
+            finishedAt = Math.max(finishedAt, worker.finishedAt);
+        }
+        return new ScenarioResult(scenario, merged, completed, errors, finishedAt - start);
+    }
+
+    private final class Worker implements Runnable {
+        final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LoadScenario scenario;
+        final byte[] request;
+        final int stride;
+        final long intervalNanos;
+        final long start;
+        final long end;
+        final long[] intended;
+        long slot;
+        long completed;
+        long errors;
+        long finishedAt;
+
+        Worker(LoadScenario scenario, byte[] request, int index, int stride, long intervalNanos, long start, long end) {
+            this.scenario = scenario;
+            this.request = request;
+            this.slot = index;
+            this.stride = stride;
+            this.intervalNanos = intervalNanos;
+            this.start = start;
+            this.end = end;
+            this.intended = new long[scenario.pipelineDepth()];
+        }
+
+        @Override
+        public void run() {
+            RawHttpConnection connection = null;
+            while (true) {
+                int batch = 0;
+                while (batch < intended.length) {
+                    long at = start + slot * intervalNanos;
+                    if (at >= end) break;
+                    intended[batch++] = at;
+                    slot += stride;
+                }
+                if (batch == 0) break;
+
+                int done = 0;
+                try {
+                    if (connection == null) {
+                        sleepUntil(intended[0]);
+                        connection = new RawHttpConnection(address, request, TIMEOUT_MILLIS);
+                    }
+                    for (int k = 0; k < batch; k++) {
+                        sleepUntil(intended[k]);
+                        connection.send();
+                    }
+                    for (; done < batch; done++) {
+                        int status = connection.readResponse();
+                        long now = System.nanoTime();
+                        histogram.recordValue(Math.min((now - intended[done]) / 1_000, HIGHEST_TRACKABLE_MICROS));
+                        finishedAt = now;
+                        if (status >= 200 && status < 400) completed++;
+                        else errors++;
+                    }
+                    if (scenario.churn()) {
+                        connection.close();
+                        connection = null;
+                    }
+                } catch (IOException e) {
+                    // 응답을 못 받은 요청은 실패로 세고 새 연결로 다시 시작
+                    errors += batch - done;
+                    if (connection != null) connection.close();
+                    connection = null;
+                }
+            }
+            if (connection != null) connection.close();
+        }
+
+        private void sleepUntil(long deadline) {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package sprout.loadtest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * 미리 인코딩한 요청을 보내고 응답을 상태 코드와 Content-Length만 보고 건너뛰는 최소 HTTP/1.1 클라이언트 연결.
+ * 클라이언트 쪽 파싱 비용이 측정값을 흐리지 않도록 문자열을 만들지 않는다.
+ */
+final class RawHttpConnection implements AutoCloseable {
+    private static final byte[] CONTENT_LENGTH = "content-length:".getBytes();
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final byte[] request;
+    private final byte[] buf = new byte[16 * 1024];
+    private int pos;
+    private int limit;
+
+    RawHttpConnection(InetSocketAddress address, byte[] request, int timeoutMillis) throws IOException {
+        this.socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.setSoTimeout(timeoutMillis);
+        socket.connect(address, timeoutMillis);
+        this.in = socket.getInputStream();
+        this.out = socket.getOutputStream();
+        this.request = request;
+    }
+
+    void send() throws IOException {
+        out.write(request);
+        out.flush();
+    }
+
+    /** 응답 하나를 끝까지 읽고 상태 코드를 돌려준다. */
+    int readResponse() throws IOException {
+        int lineStart = pos;
+        int status = -1;
+        long contentLength = 0;
+        // 헤더: 줄 단위로 훑으면서 상태 코드와 Content-Length만 뽑는다
+        while (true) {
+            int lineEnd = indexOfLf();
+            while (lineEnd < 0) {
+                compactFrom(lineStart);
+                lineStart = 0;
+                fill();
+                lineEnd = indexOfLf();
+            }
+            int end = lineEnd > lineStart && buf[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            pos = lineEnd + 1;
+            if (end == lineStart) {
+                break; // 빈 줄 = 헤더 끝
+            }
+            if (status < 0) {
+                status = parseStatus(lineStart, end);
+            } else if (startsWithIgnoreCase(lineStart, end, CONTENT_LENGTH)) {
+                contentLength = parseLong(lineStart + CONTENT_LENGTH.length, end);
+            }
+            lineStart = pos;
+        }
+        skip(contentLength);
+        return status;
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private int indexOfLf() {
+        for (int i = pos; i < limit; i++) {
+            if (buf[i] == '\n') return i;
+        }
+        return -1;
+    }
+
+    private void compactFrom(int from) throws IOException {
+        int remaining = limit - from;
+        if (remaining == buf.length) {
+            throw new IOException("Response header line exceeds " + buf.length + " bytes");
+        }
+        System.arraycopy(buf, from, buf, 0, remaining);
+        pos -= from;
+        limit = remaining;
+    }
+
+    private void fill() throws IOException {
+        int n = in.read(buf, limit, buf.length - limit);
+        if (n < 0) throw new EOFException("Connection closed by server");
+        limit += n;
+    }
+
+    private void skip(long length) throws IOException {
+        long buffered = Math.min(length, limit - pos);
+        pos += (int) buffered;
+        length -= buffered;
+        while (length > 0) {
+            pos = 0;
+            limit = 0;
+            fill();
+            int take = (int) Math.min(length, limit);
+            pos = take;
+            length -= take;
+        }
+        if (pos == limit) {
+            pos = 0;
+            limit = 0;
+        }
+    }
+
+    private int parseStatus(int from, int to) {
+        // "HTTP/1.1 200 OK"
+        int sp = from;
+        while (sp < to && buf[sp] != ' ') sp++;
+        int code = 0;
+        for (int i = sp + 1; i < to && i < sp + 4; i++) {
+            code = code * 10 + (buf[i] - '0');
+        }
+        return code;
+    }
+
+    private boolean startsWithIgnoreCase(int from, int to, byte[] prefix) {
+        if (to - from < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (Character.toLowerCase(buf[from + i]) != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private long parseLong(int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            byte b = buf[i];
+            if (b >= '0' && b <= '9') value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+}
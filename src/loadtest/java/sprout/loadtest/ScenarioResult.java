@@ -0,0 +1,51 @@
+package sprout.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 시나리오 실행 결과. 지연은 의도한 전송 시각부터 응답 완료까지(coordinated omission 보정)를 마이크로초로 잰다.
+ */
+record ScenarioResult(LoadScenario scenario,
+                      Histogram latencyMicros,
+                      long completed,
+                      long errors,
+                      long elapsedNanos) {
+
+    private static final double[] PERCENTILES = {50, 75, 90, 99, 99.9, 99.99};
+
+    double throughput() {
+        return elapsedNanos == 0 ? 0 : completed * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /** JSON 직렬화용. 키 순서가 고정돼 있어 두 실행 결과를 그대로 diff할 수 있다. */
+    Map<String, Object> toMap() {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("min", latencyMicros.getMinValue());
+        for (double p : PERCENTILES) {
+            latency.put("p" + (p == Math.rint(p) ? Long.toString((long) p) : Double.toString(p)), latencyMicros.getValueAtPercentile(p));
+        }
+        latency.put("max", latencyMicros.getMaxValue());
+        latency.put("mean", round(latencyMicros.getMean()));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", scenario.name());
+        map.put("path", scenario.path());
+        map.put("connections", scenario.connections());
+        map.put("pipelineDepth", scenario.pipelineDepth());
+        map.put("churn", scenario.churn());
+        map.put("targetRate", scenario.ratePerSecond());
+        map.put("durationSeconds", scenario.duration().toMillis() / 1000.0);
+        map.put("completed", completed);
+        map.put("errors", errors);
+        map.put("throughput", round(throughput()));
+        map.put("latencyMicros", latency);
+        return map;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -4,6 +4,7 @@ import sprout.beans.annotation.Controller;
 import sprout.mvc.annotation.GetMapping;
 import sprout.mvc.annotation.RequestMapping;
 import sprout.mvc.annotation.RequestParam;
+import sprout.mvc.annotation.Workload;
 
 import java.math.BigInteger;
 import java.util.HashMap;
@@ -45,6 +46,7 @@ public class BenchmarkController {
      * Calculates fibonacci number using iterative method
      */
     @GetMapping("/cpu")
+    @Workload("cpu")
     public String cpu(@RequestParam(required = false, defaultValue = "35") String n) {
         int num = Integer.parseInt(n);
         long result = fibonacci(num);
@@ -55,6 +57,7 @@ public class BenchmarkController {
      * Heavy CPU-intensive endpoint - prime number calculation
      */
     @GetMapping("/cpu-heavy")
+    @Workload("cpu")
     public String cpuHeavy(@RequestParam(required = false, defaultValue = "10000") String limit) {
         int max = Integer.parseInt(limit);
         int primeCount = countPrimes(max);
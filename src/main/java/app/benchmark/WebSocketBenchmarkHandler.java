@@ -2,7 +2,9 @@ package app.benchmark;
 
 import sprout.beans.annotation.Component;
 import sprout.server.argument.annotation.Payload;
+import sprout.server.websocket.BroadcastResult;
 import sprout.server.websocket.CloseCode;
+import sprout.server.websocket.WebSocketContainer;
 import sprout.server.websocket.WebSocketSession;
 import sprout.server.websocket.annotation.*;
 
@@ -20,8 +22,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * - /ping-pong: 간단한 핑퐁 응답
  */
 @Component
-@WebSocketHandler("/ws/benchmark")
+@WebSocketHandler(WebSocketBenchmarkHandler.PATH)
 public class WebSocketBenchmarkHandler {
+    static final String PATH = "/ws/benchmark";
 
     // 연결된 모든 세션 관리
     private static final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
@@ -31,6 +34,12 @@ public class WebSocketBenchmarkHandler {
     private static long totalMessagesSent = 0;
     private static long totalConnections = 0;
 
+    private final WebSocketContainer container;
+
+    public WebSocketBenchmarkHandler(WebSocketContainer container) {
+        this.container = container;
+    }
+
     @OnOpen
     public void onOpen(WebSocketSession session) {
         sessions.put(session.getId(), session);
@@ -66,16 +75,9 @@ public class WebSocketBenchmarkHandler {
         totalMessagesReceived++;
         String response = createResponse("/broadcast", "From " + session.getId() + ": " + message);
         System.out.println("[WebSocket Benchmark] Broadcast: " + message);
-        for (WebSocketSession s : sessions.values()) {
-            if (s.isOpen()) {
-                try {
-                    s.sendText(response);
-                    totalMessagesSent++;
-                } catch (IOException e) {
-                    System.err.println("브로드캐스트 실패: " + s.getId() + " - " + e.getMessage());
-                }
-            }
-        }
+        // 프레임은 한 번만 인코딩되고 닫힌 세션은 컨테이너가 건너뛴다
+        BroadcastResult result = container.broadcastText(PATH, response);
+        totalMessagesSent += result.delivered();
     }
 
     @MessageMapping("/chat")
@@ -92,16 +94,8 @@ public class WebSocketBenchmarkHandler {
         String response = createResponse("/chat", chatMessage);
 
         // 채팅방의 모든 사용자에게 전송
-        for (WebSocketSession s : sessions.values()) {
-            if (s.isOpen()) {
-                try {
-                    s.sendText(response);
-                    totalMessagesSent++;
-                } catch (IOException e) {
-                    System.err.println("채팅 메시지 전송 실패: " + s.getId());
-                }
-            }
-        }
+        BroadcastResult result = container.broadcastText(PATH, response);
+        totalMessagesSent += result.delivered();
     }
 
     @MessageMapping("/ping")
@@ -14,6 +14,8 @@ import sprout.beans.annotation.Component;
 import sprout.beans.processor.BeanPostProcessor;
 import sprout.context.ApplicationContext;
 import sprout.context.CtorMeta;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -25,6 +27,8 @@ import java.util.function.Supplier;
 
 @Component
 public class AspectPostProcessor implements BeanPostProcessor {
+    private static final Logger log = LoggerFactory.getLogger(AspectPostProcessor.class);
+
     private final AdvisorRegistry advisorRegistry;
     private final ApplicationContext container;
     private final AdviceFactory adviceFactory;
@@ -41,7 +45,7 @@ public class AspectPostProcessor implements BeanPostProcessor {
     }
 
     public void initialize(List<String> basePackages) {
-        System.out.println("Initializing AspectPostProcessor with basePackages: " + basePackages);
+        log.debug("Initializing AspectPostProcessor with basePackages: {}", basePackages);
         if (initialized.compareAndSet(false, true)) { // 한 번만 초기화되도록 보장
             this.basePackages = basePackages;
             scanAndRegisterAdvisors(); // 초기화 시점에 Advisor 스캔 및 등록
@@ -50,7 +54,7 @@ public class AspectPostProcessor implements BeanPostProcessor {
 
     private void scanAndRegisterAdvisors() {
         if (basePackages == null || basePackages.isEmpty()) {
-            System.err.println("Warning: basePackages not set for AspectPostProcessor. No aspects will be scanned.");
+            log.warn("basePackages not set for AspectPostProcessor. No aspects will be scanned.");
             return;
         }
 
@@ -72,12 +76,12 @@ public class AspectPostProcessor implements BeanPostProcessor {
 
         for (Class<?> aspectClass : aspectClasses) {
             List<Advisor> advisorsForThisAspect = createAdvisorsFromAspect(aspectClass);
-            System.out.println(aspectClass.getName() + " has " + advisorsForThisAspect.size() + " advisors: " + advisorsForThisAspect);
+            log.debug("{} has {} advisors: {}", aspectClass.getName(), advisorsForThisAspect.size(), advisorsForThisAspect);
             for (Advisor advisor : advisorsForThisAspect) {
                 advisorRegistry.registerAdvisor(advisor);
             }
         }
-        System.out.println("advisorRegistry#getAllAdvisors()" + advisorRegistry.getAllAdvisors());
+        log.debug("Registered advisors: {}", advisorRegistry.getAllAdvisors());
     }
 
     private List<Advisor> createAdvisorsFromAspect(Class<?> aspectClass) {
@@ -109,7 +113,7 @@ public class AspectPostProcessor implements BeanPostProcessor {
         }
 
         if (needsProxy) {
-            System.out.println("Applying AOP proxy to bean: " + beanName + " (" + targetClass.getName() + ")");
+            log.debug("Applying AOP proxy to bean: {} ({})", beanName, targetClass.getName());
             CtorMeta meta = container.lookupCtorMeta(bean);
             return proxyFactory.createProxy(targetClass, bean, advisorRegistry, meta);
         }
@@ -0,0 +1,9 @@
+package sprout.beans;
+
+/**
+ * 컨텍스트가 닫힐 때 자원을 정리해야 하는 빈.
+ * {@link sprout.context.ApplicationContext#close()}가 빈을 비우기 전에, 등록된 순서의 역순으로 {@link #destroy()}를 부른다.
+ */
+public interface DisposableBean {
+    void destroy() throws Exception;
+}
@@ -3,12 +3,16 @@ package sprout.beans.internal;
 import sprout.beans.BeanCreationMethod;
 import sprout.beans.BeanDefinition;
 import sprout.beans.matching.BeanTypeMatchingService;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 
 import java.lang.reflect.Modifier;
 import java.util.*;
 
 
 public class BeanGraph {
+    private static final Logger log = LoggerFactory.getLogger(BeanGraph.class);
+
     private final Map<String, BeanDefinition> nodeMap = new HashMap<>();
     private final Map<String, List<String>> edges = new HashMap<>();
     private final Map<String, Integer> indegree = new HashMap<>();
@@ -26,7 +30,7 @@ public class BeanGraph {
         this.typeMatchingService = new BeanTypeMatchingService(nodeMap, Collections.emptyMap());
 
         buildEdges();
-        System.out.println(indegree);
+        log.trace("Bean graph indegree: {}", indegree);
     }
 
     public List<BeanDefinition> topologicallySorted() {
@@ -68,7 +72,7 @@ public class BeanGraph {
                     edges.computeIfAbsent(factoryBeanName, k -> new ArrayList<>()).add(def.getName());
                     indegree.merge(def.getName(), 1, Integer::sum);
                 } else if (factoryBeanName != null) {
-                    System.err.println("Warning: Factory bean '" + factoryBeanName + "' for '" + def.getName() + "' not found in container definitions.");
+                    log.warn("Factory bean '{}' for '{}' not found in container definitions.", factoryBeanName, def.getName());
                 }
             } else {
                 continue;
@@ -17,6 +17,8 @@ public final class SproutApplication {
 
         ApplicationContext applicationContext = new SproutApplicationContext(packages.toArray(new String[packages.size()]));
         applicationContext.refresh();
+        // JVM이 내려갈 때 DisposableBean(실행기, 클러스터 버스 등)을 정리한다
+        Runtime.getRuntime().addShutdownHook(new Thread(applicationContext::close, "sprout-context-shutdown"));
 
         HttpServer server = applicationContext.getBean(HttpServer.class);
         int port = applicationContext.getBean(AppConfig.class).getIntProperty("server.port", 8080);
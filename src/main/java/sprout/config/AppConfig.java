@@ -3,13 +3,18 @@ package sprout.config;
 import org.yaml.snakeyaml.Yaml;
 import sprout.beans.InfrastructureBean;
 import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Component
 public class AppConfig implements InfrastructureBean {
+    private static final Logger log = LoggerFactory.getLogger(AppConfig.class);
 
     private final Map<String, Object> properties;
 
@@ -22,9 +27,9 @@ public class AppConfig implements InfrastructureBean {
 
         if (inputStream != null) {
             this.properties = yaml.load(inputStream);
-            System.out.println("application.yml loaded successfully.");
+            log.info("application.yml loaded successfully.");
         } else {
-            System.err.println("application.yml not found in classpath. Using empty configuration.");
+            log.warn("application.yml not found in classpath. Using empty configuration.");
             this.properties = Collections.emptyMap();
         }
     }
@@ -59,4 +64,31 @@ public class AppConfig implements InfrastructureBean {
             return defaultValue;
         }
     }
+
+    /** "512MB", "64KB", "1GB", "1024" 형식의 바이트 수 */
+    public long getSizeProperty(String key, String defaultValue) {
+        return parseSize(getStringProperty(key, defaultValue));
+    }
+
+    public static long parseSize(String value) {
+        String v = value.trim().toUpperCase(Locale.ROOT);
+        long unit = 1;
+        if (v.endsWith("KB")) unit = 1024L;
+        else if (v.endsWith("MB")) unit = 1024L * 1024;
+        else if (v.endsWith("GB")) unit = 1024L * 1024 * 1024;
+        if (unit > 1) v = v.substring(0, v.length() - 2).trim();
+        else if (v.endsWith("B")) v = v.substring(0, v.length() - 1).trim();
+        return Long.parseLong(v) * unit;
+    }
+
+    public List<?> getListProperty(String key) {
+        Object value = getProperty(key);
+        return value instanceof List<?> list ? list : List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getMapProperty(String key) {
+        Object value = getProperty(key);
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
 }
@@ -1,19 +1,26 @@
 package sprout.context.builtins;
 
 import sprout.beans.BeanDefinition;
+import sprout.beans.DisposableBean;
 import sprout.beans.annotation.Order;
 import sprout.beans.instantiation.*;
 import sprout.beans.matching.BeanTypeMatchingService;
 import sprout.beans.processor.BeanPostProcessor;
 import sprout.context.*;
+import sprout.jfr.BeanCreationEvent;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRegistry {
+    private static final Logger log = LoggerFactory.getLogger(DefaultListableBeanFactory.class);
 
     private final Map<String, BeanDefinition> beanDefinitions = new ConcurrentHashMap<>();
     private final Map<String, Object> singletons = new ConcurrentHashMap<>();
+    // 닫을 때 역순으로 destroy하기 위한 등록 순서 (의존 대상이 먼저 만들어지므로 역순이면 쓰는 쪽부터 정리된다)
+    private final List<String> registrationOrder = new ArrayList<>();
     private final List<PendingListInjection> pendingListInjections = new ArrayList<>();
     private final Map<Class<?>, String> primaryTypeToNameMap = new HashMap<>(); // 기본 빈 매핑
     private final Map<Class<?>, Set<String>> typeToNamesMap = new HashMap<>(); // 모든 빈 매핑 (동일 타입 여러 개 처리)
@@ -48,13 +55,13 @@ public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRe
     public void registerCoreSingleton(String name, Object bean) {
         registerSingletonInstance(name, bean);
         primaryTypeToNameMap.put(bean.getClass(), name);
-        System.out.println(primaryTypeToNameMap);
         typeToNamesMap.computeIfAbsent(bean.getClass(), k -> new HashSet<>()).add(name);
     }
 
     @Override
     public void reset() {
         singletons.clear();
+        registrationOrder.clear();
         pendingListInjections.clear();
         primaryTypeToNameMap.clear();
         typeToNamesMap.clear();
@@ -205,7 +212,9 @@ public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRe
 
     public Object createBean(BeanDefinition def) {
         if (singletons.containsKey(def.getName())) return singletons.get(def.getName());
-        System.out.println("instantiating primary: " + def.getType().getName());
+        log.trace("Instantiating bean: {}", def.getType().getName());
+        BeanCreationEvent event = new BeanCreationEvent();
+        event.begin();
 
         try {
             // 적절한 인스턴스화 전략 선택
@@ -236,6 +245,11 @@ public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRe
 
             // 싱글톤 등록
             registerInternal(def.getName(), processedBean);
+            if (event.shouldCommit()) {
+                event.beanName = def.getName();
+                event.beanType = def.getType().getName();
+                event.commit();
+            }
             return processedBean;
 
         } catch (Exception e) {
@@ -258,6 +272,7 @@ public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRe
             throw new RuntimeException("Bean '" + name + "' already registered.");
         }
         singletons.put(name, instance);
+        registrationOrder.add(name);
 
         Class<?> type = instance.getClass();
         primaryTypeToNameMap.putIfAbsent(type, name);
@@ -275,8 +290,22 @@ public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRe
         }
     }
 
+    /** {@link DisposableBean} 싱글톤을 등록 역순으로 정리한다. 하나가 실패해도 나머지는 계속 정리한다. */
+    public void destroySingletons() {
+        List<String> names = new ArrayList<>(registrationOrder);
+        Collections.reverse(names);
+        for (String name : names) {
+            if (singletons.get(name) instanceof DisposableBean disposable) {
+                try {
+                    disposable.destroy();
+                } catch (Exception e) {
+                    log.warn("Failed to destroy bean '{}': {}", name, e.getMessage());
+                }
+            }
+        }
+    }
+
     public void postProcessListInjections() {
-        System.out.println("--- Post-processing List Injections ---");
         for (PendingListInjection pending : pendingListInjections) {
             Set<Object> uniqueBeansForList = new HashSet<>();
             for (Object bean : singletons.values()) {
@@ -296,7 +325,7 @@ public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRe
             pending.getListToPopulate().clear();
             pending.getListToPopulate().addAll(sortedBeansForList);
 
-            System.out.println("  Populated List<" + pending.getGenericType().getName() + "> in a bean with " + uniqueBeansForList.size() + " elements.");
+            log.debug("Populated List<{}> in a bean with {} elements.", pending.getGenericType().getName(), uniqueBeansForList.size());
         }
     }
 
@@ -304,6 +333,7 @@ public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRe
         if (singletons.containsKey(name)) return;        // 이미 있으면 무시
 
         singletons.put(name, bean);
+        registrationOrder.add(name);
 
         Class<?> type = bean.getClass();
         primaryTypeToNameMap.putIfAbsent(type, name);
@@ -117,6 +117,7 @@ public class SproutApplicationContext implements ApplicationContext {
 
     @Override
     public void close() {
+        beanFactory.destroySingletons();
         beanFactory.reset();
     }
 
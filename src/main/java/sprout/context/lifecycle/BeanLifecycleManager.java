@@ -1,5 +1,7 @@
 package sprout.context.lifecycle;
 
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import java.util.Comparator;
 import java.util.List;
 
@@ -8,6 +10,7 @@ import java.util.List;
  * 등록된 Phase들을 순서대로 실행
  */
 public class BeanLifecycleManager {
+    private static final Logger log = LoggerFactory.getLogger(BeanLifecycleManager.class);
 
     private final List<BeanLifecyclePhase> phases;
 
@@ -19,7 +22,7 @@ public class BeanLifecycleManager {
 
     public void executePhases(BeanLifecyclePhase.PhaseContext context) throws Exception {
         for (BeanLifecyclePhase phase : phases) {
-            System.out.println("--- Executing Phase: " + phase.getName() + " (order=" + phase.getOrder() + ") ---");
+            log.debug("Executing phase: {} (order={})", phase.getName(), phase.getOrder());
             phase.execute(context);
         }
     }
@@ -5,6 +5,8 @@ import sprout.beans.internal.BeanGraph;
 import sprout.context.BeanFactory;
 import sprout.context.PostInfrastructureInitializer;
 import sprout.context.builtins.DefaultListableBeanFactory;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 
 import java.util.List;
 
@@ -13,6 +15,7 @@ import java.util.List;
  * BeanPostProcessor, InfrastructureBean 등을 먼저 생성
  */
 public class InfrastructureBeanPhase implements BeanLifecyclePhase {
+    private static final Logger log = LoggerFactory.getLogger(InfrastructureBeanPhase.class);
 
     @Override
     public String getName() {
@@ -44,7 +47,7 @@ public class InfrastructureBeanPhase implements BeanLifecyclePhase {
 
         // PostInfrastructureInitializer 실행
         List<PostInfrastructureInitializer> initializers = beanFactory.getAllBeans(PostInfrastructureInitializer.class);
-        System.out.println("initializers: " + initializers);
+        log.debug("PostInfrastructureInitializers: {}", initializers);
         for (PostInfrastructureInitializer initializer : initializers) {
             initializer.afterInfrastructureSetup(beanFactory, context.getBasePackages());
         }
@@ -0,0 +1,74 @@
+package sprout.core.deadline;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 마감 시각. 요청을 다 읽은 시점부터 라우트의 제한 시간만큼이며, 핸들러가 도는 동안 {@link #current()}로 꺼낼 수 있다.
+ * 다운스트림 호출의 타임아웃을 남은 시간 안으로 맞추는 데 쓴다.
+ *
+ * <pre>{@code
+ * Duration budget = Deadline.budget(Duration.ofSeconds(2));  // 마감이 없으면 2초, 있으면 남은 시간과 2초 중 짧은 쪽
+ * }</pre>
+ */
+public final class Deadline {
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /** {@code startNanos}({@link System#nanoTime()} 기준)로부터 {@code timeoutMillis} 뒤 */
+    public static Deadline of(long startNanos, long timeoutMillis) {
+        return new Deadline(startNanos + timeoutMillis * 1_000_000L);
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /** 현재 스레드에서 처리 중인 요청의 마감. 마감이 없는 요청이거나 요청 밖이면 null */
+    public static Deadline current() {
+        return DeadlineHolder.get();
+    }
+
+    /** 현재 마감까지 남은 시간과 {@code max} 중 짧은 쪽. 마감이 없으면 {@code max}, 이미 지났으면 0 */
+    public static Duration budget(Duration max) {
+        Deadline deadline = current();
+        if (deadline == null) return max;
+        long remaining = deadline.remainingNanos();
+        return remaining < max.toNanos() ? Duration.ofNanos(remaining) : max;
+    }
+
+    public long expiresAtNanos() {
+        return expiresAtNanos;
+    }
+
+    /** 남은 시간(ns). 지났으면 0 */
+    public long remainingNanos() {
+        return Math.max(0, expiresAtNanos - System.nanoTime());
+    }
+
+    public long remainingMillis() {
+        return remainingNanos() / 1_000_000L;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /** 지났으면 {@link DeadlineExceededException}. 비싼 작업을 시작하기 전에 부른다. */
+    public void throwIfExpired() {
+        if (isExpired()) {
+            throw new DeadlineExceededException("Request deadline exceeded");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + remainingMillis() + "ms]";
+    }
+}
@@ -0,0 +1,26 @@
+package sprout.core.deadline;
+
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.context.ContextPropagator;
+
+/** 핸들러가 요청 실행기로 넘긴 작업도 같은 마감을 보도록 전파한다. */
+@Component
+@Order(40)
+public class DeadlineContextPropagator implements ContextPropagator<Deadline> {
+
+    @Override
+    public Deadline capture() {
+        return DeadlineHolder.get();
+    }
+
+    @Override
+    public void restore(Deadline deadline) {
+        DeadlineHolder.set(deadline);
+    }
+
+    @Override
+    public void clear() {
+        DeadlineHolder.clear();
+    }
+}
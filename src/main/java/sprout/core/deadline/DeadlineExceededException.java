@@ -0,0 +1,12 @@
+package sprout.core.deadline;
+
+/** 요청 마감이 지나 작업을 시작하지 않았거나 중단했을 때. 디스패처는 503으로 응답한다. */
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package sprout.core.deadline;
+
+public final class DeadlineHolder {
+    private static final ThreadLocal<Deadline> deadlineHolder = new ThreadLocal<>();
+
+    public static void set(Deadline deadline) {
+        deadlineHolder.set(deadline);
+    }
+
+    public static Deadline get() {
+        return deadlineHolder.get();
+    }
+
+    public static void clear() {
+        deadlineHolder.remove();
+    }
+}
@@ -0,0 +1,129 @@
+package sprout.core.filter.ratelimit;
+
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.config.AppConfig;
+import sprout.core.filter.Filter;
+import sprout.core.filter.FilterChain;
+import sprout.metrics.Counter;
+import sprout.metrics.MetricsRegistry;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 라우트 패턴별 토큰 버킷 제한. 가장 앞에서 실행되어, 초과한 요청은 바디 바인딩·보안 필터·핸들러를 거치지 않고
+ * 미리 인코딩해 둔 429로 바로 응답한다. 한 요청에는 가장 구체적인 패턴 하나만 적용된다.
+ * <p>
+ * key: principal 정책은 인증 결과가 필요하므로 여기서는 건너뛰고, 보안 필터 뒤에 도는 {@link RateLimitInterceptor}가 적용한다.
+ *
+ * <pre>
+ * server:
+ *   rate-limit:
+ *     max-keys: 1000000      # 라우트당 버킷 수 상한
+ *     routes:
+ *       - path: /api/**
+ *         capacity: 100
+ *         refill-per-second: 50
+ *         key: principal
+ * </pre>
+ */
+@Component
+@Order(0)
+public class RateLimitFilter implements Filter {
+    private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+
+    private final Route[] routes;
+
+    private record Route(RateLimitPolicy policy, TokenBucketTable buckets, ByteBuffer body,
+                         Map<String, String> headers, Counter rejected) {
+
+        ResponseEntity<ByteBuffer> rejection() {
+            // 응답 헤더가 엔티티 헤더 맵에 합쳐질 수 있으므로 맵은 요청마다 복사, 바디는 공유 버퍼의 뷰
+            return new ResponseEntity<>(body.duplicate(), new HashMap<>(headers), ResponseCode.TOO_MANY_REQUESTS, CONTENT_TYPE);
+        }
+    }
+
+    public RateLimitFilter(AppConfig appConfig, MetricsRegistry metricsRegistry) {
+        this(policiesFrom(appConfig.getListProperty("server.rate-limit.routes")),
+             appConfig.getIntProperty("server.rate-limit.max-keys", 1_000_000),
+             System::nanoTime, metricsRegistry);
+    }
+
+    RateLimitFilter(List<RateLimitPolicy> policies, int maxKeys, LongSupplier nanoClock, MetricsRegistry metricsRegistry) {
+        List<RateLimitPolicy> sorted = new ArrayList<>(policies);
+        sorted.sort(Comparator.comparing(RateLimitPolicy::pattern));
+
+        byte[] message = ResponseCode.TOO_MANY_REQUESTS.getMessage().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocateDirect(message.length);
+        body.put(message).flip();
+
+        this.routes = new Route[sorted.size()];
+        for (int i = 0; i < routes.length; i++) {
+            RateLimitPolicy policy = sorted.get(i);
+            String pattern = policy.pattern().getOriginalPattern();
+            routes[i] = new Route(policy,
+                    new TokenBucketTable(policy.capacity(), policy.refillPerSecond(), maxKeys, nanoClock),
+                    body.asReadOnlyBuffer(),
+                    Map.of("Retry-After", Long.toString(policy.retryAfterSeconds())),
+                    metricsRegistry.counter("http_server_rate_limited_total", "Requests rejected by rate limiting", "route", pattern));
+        }
+    }
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws IOException {
+        // 헤더만으로 먼저 필터를 통과한 업로드는 그때 이미 토큰을 썼다
+        Route route = request.isPreAdmitted() ? null : routeFor(request.getPath());
+        if (route != null && !route.policy().keyedAfterAuthentication() && !tryAcquire(route, request, response)) {
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    /** 인증이 끝난 요청에 principal 정책을 적용한다. 초과하면 429를 채우고 false */
+    boolean admitAuthenticated(HttpRequest<?> request, HttpResponse response) {
+        Route route = routeFor(request.getPath());
+        return route == null || !route.policy().keyedAfterAuthentication() || tryAcquire(route, request, response);
+    }
+
+    private boolean tryAcquire(Route route, HttpRequest<?> request, HttpResponse response) {
+        String key = route.policy().keyOf(request);
+        if (key == null || route.buckets().tryAcquire(key)) {
+            return true;
+        }
+        route.rejected().increment();
+        request.setRoutePattern(route.policy().pattern().getOriginalPattern());
+        response.setResponseEntity(route.rejection());
+        return false;
+    }
+
+    private Route routeFor(String path) {
+        for (Route route : routes) {
+            if (route.policy().pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static List<RateLimitPolicy> policiesFrom(List<?> routes) {
+        List<RateLimitPolicy> result = new ArrayList<>();
+        for (Object route : routes) {
+            if (route instanceof Map<?, ?> map && map.get("path") != null) {
+                result.add(RateLimitPolicy.from(map));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package sprout.core.filter.ratelimit;
+
+import sprout.beans.annotation.Component;
+import sprout.core.interceptor.Interceptor;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+
+/**
+ * key: principal 정책을 적용하는 단계. 인터셉터는 보안 필터를 포함한 모든 필터 뒤에 실행되므로,
+ * 여기서는 SecurityContext에 검증된 인증 정보가 들어 있다.
+ */
+@Component
+public class RateLimitInterceptor implements Interceptor {
+
+    private final RateLimitFilter rateLimitFilter;
+
+    public RateLimitInterceptor(RateLimitFilter rateLimitFilter) {
+        this.rateLimitFilter = rateLimitFilter;
+    }
+
+    @Override
+    public boolean preHandle(HttpRequest request, HttpResponse response, Object handler) {
+        return rateLimitFilter.admitAuthenticated(request, response);
+    }
+
+    @Override
+    public void postHandle(HttpRequest request, HttpResponse response, Object handler, Object result) {
+    }
+
+    @Override
+    public void afterCompletion(HttpRequest request, HttpResponse response, Object handler, Exception ex) {
+    }
+}
@@ -0,0 +1,97 @@
+package sprout.core.filter.ratelimit;
+
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.mapping.PathPattern;
+import sprout.security.context.SecurityContextHolder;
+import sprout.security.core.Authentication;
+import sprout.security.core.SecurityContext;
+import sprout.security.core.UserDetails;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 라우트 패턴 하나에 대한 제한 설정. 키를 만들 수 없으면(헤더·인증 정보 없음) 클라이언트 주소로 대신한다.
+ */
+public record RateLimitPolicy(PathPattern pattern, int capacity, double refillPerSecond, KeySource keySource, String headerName) {
+
+    public enum KeySource {
+        /** 클라이언트 IP */
+        ADDRESS,
+        /**
+         * 인증된 사용자 이름. 보안 필터가 인증을 마친 뒤 {@link RateLimitInterceptor}에서 센다.
+         * 인증되지 않은 요청은 클라이언트가 마음대로 바꿀 수 있는 헤더 대신 주소로 센다
+         */
+        PRINCIPAL,
+        /** 지정한 요청 헤더 값 (예: X-Api-Key) */
+        HEADER
+    }
+
+    /** 버킷 키. 주소조차 모르면 null (제한하지 않는다) */
+    String keyOf(HttpRequest<?> request) {
+        String key = switch (keySource) {
+            case ADDRESS -> null;
+            case PRINCIPAL -> principalOf();
+            case HEADER -> request.getHeader(headerName);
+        };
+        if (key != null && !key.isEmpty()) {
+            return key;
+        }
+        // 주소로 대신할 때는 헤더 값과 겹치지 않도록 구분자를 붙인다
+        String host = request.getRemoteHost();
+        return host == null ? null : keySource == KeySource.ADDRESS ? host : "@" + host;
+    }
+
+    /** 인증 결과가 있어야 키를 정할 수 있는 정책인지. 이런 정책은 필터 단계에서 건너뛰고 인터셉터 단계에서 적용한다 */
+    boolean keyedAfterAuthentication() {
+        return keySource == KeySource.PRINCIPAL;
+    }
+
+    /** 429 응답의 Retry-After (토큰 하나가 차는 시간, 초 단위 올림) */
+    long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(1.0 / refillPerSecond));
+    }
+
+    /**
+     * application.yml의 server.rate-limit.routes 항목 하나를 정책으로 변환한다.
+     * <pre>
+     * - path: /api/**
+     *   capacity: 100           # 버스트 허용량
+     *   refill-per-second: 50   # 초당 충전 토큰
+     *   key: header:X-Api-Key   # address(기본) | principal | header:이름
+     * </pre>
+     */
+    static RateLimitPolicy from(Map<?, ?> route) {
+        Object capacity = route.get("capacity");
+        Object refill = route.get("refill-per-second");
+        int capacityValue = capacity instanceof Number n ? n.intValue() : capacity != null ? Integer.parseInt(capacity.toString()) : 100;
+        double refillValue = refill instanceof Number n ? n.doubleValue() : refill != null ? Double.parseDouble(refill.toString()) : capacityValue;
+
+        String key = route.get("key") != null ? route.get("key").toString().trim() : "address";
+        KeySource source;
+        String header = null;
+        if (key.regionMatches(true, 0, "header:", 0, 7)) {
+            source = KeySource.HEADER;
+            header = key.substring(7).trim();
+            if (header.isEmpty()) {
+                throw new IllegalArgumentException("Rate limit key 'header:' requires a header name: " + route);
+            }
+        } else {
+            source = KeySource.valueOf(key.toUpperCase(Locale.ROOT));
+        }
+        return new RateLimitPolicy(new PathPattern(route.get("path").toString()), capacityValue, refillValue, source, header);
+    }
+
+    private static String principalOf() {
+        if (SecurityContextHolder.getContextHolderStrategy() != null) {
+            SecurityContext context = SecurityContextHolder.getContext();
+            Authentication authentication = context != null ? context.getAuthentication() : null;
+            if (authentication != null && authentication.isAuthenticated()) {
+                Object principal = authentication.getPrincipal();
+                return principal instanceof UserDetails user ? user.getUsername() : String.valueOf(principal);
+            }
+        }
+        // 검증되지 않은 Authorization 헤더를 키로 쓰면 값을 바꿔 가며 제한을 피할 수 있으므로 주소로 대신한다
+        return null;
+    }
+}
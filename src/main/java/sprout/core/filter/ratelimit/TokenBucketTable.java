@@ -0,0 +1,182 @@
+package sprout.core.filter.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 모음. 정책(용량·충전 속도) 하나당 테이블 하나를 쓴다.
+ *
+ * <p>버킷 상태는 {@code AtomicLong} 하나에 [마지막 충전 시각(ms) 38비트 | 토큰×1024 26비트]로 묶어 두고
+ * CAS로만 갱신하므로 요청 경로에 락이 없다. 키는 해시로 스트라이프에 나눠 담고, 스트라이프마다
+ * 가득 찬(= 새로 만든 것과 구분되지 않는) 버킷을 치워 키가 수백만 개여도 메모리가 상한을 넘지 않게 한다.
+ * 치우는 중인 버킷은 {@link #EVICTED}로 표시해 두어, 그 사이에 들어온 요청은 새 버킷을 다시 찾는다.
+ */
+final class TokenBucketTable {
+    static final int TOKEN_BITS = 26;
+    static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    static final int TOKEN_SCALE = 1024;
+    static final int MAX_CAPACITY = (int) (TOKEN_MASK / TOKEN_SCALE);
+    static final long EVICTED = -1L;
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final long capacityScaled;
+    private final double refillScaledPerMilli;
+    private final int maxKeysPerStripe;
+    private final LongSupplier nanoClock;
+    private final long epochNanos;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    // 주기적 정리: 기한이 지나면 요청 스레드 하나가 스트라이프 하나를 치운다
+    private final AtomicLong nextSweepMillis = new AtomicLong(SWEEP_INTERVAL_MILLIS);
+    private final AtomicInteger sweepCursor = new AtomicInteger();
+
+    private static final class Stripe {
+        final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        final AtomicBoolean sweeping = new AtomicBoolean();
+    }
+
+    TokenBucketTable(int capacity, double refillPerSecond, int maxKeys, LongSupplier nanoClock) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        if (!(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("refillPerSecond must be positive: " + refillPerSecond);
+        }
+        this.capacityScaled = (long) capacity * TOKEN_SCALE;
+        this.refillScaledPerMilli = refillPerSecond * TOKEN_SCALE / 1000.0;
+        this.nanoClock = nanoClock;
+        this.epochNanos = nanoClock.getAsLong();
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+    }
+
+    /** 토큰 하나를 꺼내면 true, 버킷이 비어 있으면 false */
+    boolean tryAcquire(String key) {
+        long now = nowMillis();
+        maybeSweep(now);
+
+        Stripe stripe = stripeFor(key);
+        for (;;) {
+            AtomicLong bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                AtomicLong created = new AtomicLong(pack(now, capacityScaled - TOKEN_SCALE));
+                bucket = stripe.buckets.putIfAbsent(key, created);
+                if (bucket == null) {
+                    if (stripe.buckets.size() > maxKeysPerStripe) {
+                        sweep(stripe, now, true);
+                    }
+                    return true;
+                }
+            }
+
+            long state = bucket.get();
+            if (state == EVICTED) {
+                // 정리 스레드가 곧 제거한다. 먼저 치우고 새 버킷으로 재시도
+                stripe.buckets.remove(key, bucket);
+                continue;
+            }
+            long tokens = refill(state, now);
+            if (tokens < TOKEN_SCALE) {
+                return false;
+            }
+            if (bucket.compareAndSet(state, pack(refilledAt(state, tokens, now), tokens - TOKEN_SCALE))) {
+                return true;
+            }
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    /** 현재 토큰 수 (테스트/진단용, 버킷이 없으면 가득 찬 것으로 본다) */
+    double availableTokens(String key) {
+        AtomicLong bucket = stripeFor(key).buckets.get(key);
+        long state = bucket != null ? bucket.get() : EVICTED;
+        if (state == EVICTED) {
+            return (double) capacityScaled / TOKEN_SCALE;
+        }
+        return (double) refill(state, nowMillis()) / TOKEN_SCALE;
+    }
+
+    private void maybeSweep(long now) {
+        long due = nextSweepMillis.get();
+        if (now >= due && nextSweepMillis.compareAndSet(due, now + SWEEP_INTERVAL_MILLIS)) {
+            sweep(stripes[sweepCursor.getAndIncrement() & stripeMask], now, false);
+        }
+    }
+
+    /**
+     * 가득 찬 버킷을 제거한다. {@code enforceLimit}이면 그래도 상한을 넘을 때 임의 순서로 더 제거한다
+     * (이때 제거된 키는 다음 요청에서 가득 찬 버킷으로 다시 시작한다).
+     */
+    private void sweep(Stripe stripe, long now, boolean enforceLimit) {
+        if (!stripe.sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<Map.Entry<String, AtomicLong>> it = stripe.buckets.entrySet().iterator();
+            while (it.hasNext()) {
+                AtomicLong bucket = it.next().getValue();
+                long state = bucket.get();
+                if (state == EVICTED || (refill(state, now) >= capacityScaled && bucket.compareAndSet(state, EVICTED))) {
+                    it.remove();
+                }
+            }
+            if (enforceLimit) {
+                it = stripe.buckets.entrySet().iterator();
+                while (stripe.buckets.size() > maxKeysPerStripe && it.hasNext()) {
+                    it.next().getValue().set(EVICTED);
+                    it.remove();
+                }
+            }
+        } finally {
+            stripe.sweeping.set(false);
+        }
+    }
+
+    private long refill(long state, long now) {
+        long tokens = state & TOKEN_MASK;
+        long elapsed = now - (state >>> TOKEN_BITS);
+        if (elapsed <= 0 || tokens >= capacityScaled) {
+            return tokens;
+        }
+        return Math.min(capacityScaled, tokens + (long) (elapsed * refillScaledPerMilli));
+    }
+
+    // 가득 차지 않았는데 충전된 토큰이 없으면 시각을 옮기지 않는다
+    // (짧은 간격의 요청이 소수점 이하 충전분을 계속 버리지 않도록)
+    private long refilledAt(long state, long tokens, long now) {
+        return tokens < capacityScaled && tokens == (state & TOKEN_MASK) ? state >>> TOKEN_BITS : now;
+    }
+
+    private static long pack(long millis, long tokensScaled) {
+        return (millis << TOKEN_BITS) | tokensScaled;
+    }
+
+    private long nowMillis() {
+        return (nanoClock.getAsLong() - epochNanos) / 1_000_000L;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+}
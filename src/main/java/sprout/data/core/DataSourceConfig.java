@@ -20,6 +20,8 @@ public class DataSourceConfig {
         hikariConfig.setMinimumIdle(5);
         hikariConfig.setMaximumPoolSize(10);
         hikariConfig.setConnectionTimeout(30000);
+        // 1(기본): 기동 시 DB에 못 붙으면 실패, -1: 연결 없이 기동하고 풀이 백그라운드에서 재시도
+        hikariConfig.setInitializationFailTimeout(appConfig.getIntProperty("sprout.database.initialization-fail-timeout", 1));
         return new HikariDataSource(hikariConfig);
     }
 
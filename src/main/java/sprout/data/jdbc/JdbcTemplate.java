@@ -1,6 +1,8 @@
 package sprout.data.jdbc;
 
 import sprout.beans.annotation.Component;
+import sprout.core.deadline.Deadline;
+import sprout.core.deadline.DeadlineExceededException;
 import sprout.data.RowMapper;
 import sprout.data.TransactionManager;
 
@@ -26,6 +28,7 @@ public class JdbcTemplate {
         try {
             connection = transactionManager.getConnection();
             pstmt = connection.prepareStatement(sql);
+            applyDeadline(pstmt);
             setParameters(pstmt, params);
             return pstmt.executeUpdate();
         } catch (SQLException e) {
@@ -43,6 +46,7 @@ public class JdbcTemplate {
         try {
             connection = transactionManager.getConnection();
             pstmt = connection.prepareStatement(sql);
+            applyDeadline(pstmt);
             setParameters(pstmt, params);
             rs = pstmt.executeQuery();
             if (rs.next()) {
@@ -66,6 +70,7 @@ public class JdbcTemplate {
         try {
             connection = transactionManager.getConnection();
             pstmt = connection.prepareStatement(sql);
+            applyDeadline(pstmt);
             setParameters(pstmt, params);
             rs = pstmt.executeQuery();
             List<T> results = new ArrayList<>();
@@ -82,6 +87,20 @@ public class JdbcTemplate {
         }
     }
 
+    /**
+     * 요청 마감 안에서 실행 중이면 남은 시간을 쿼리 타임아웃으로 건다 (JDBC는 초 단위라 올림, 최소 1초).
+     * 이미 지났으면 쿼리를 보내지 않는다.
+     */
+    private void applyDeadline(PreparedStatement pstmt) throws SQLException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) return;
+        long remainingMillis = deadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new DeadlineExceededException("Request deadline exceeded before executing SQL");
+        }
+        pstmt.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, Math.max(1, (remainingMillis + 999) / 1000)));
+    }
+
     private void setParameters(PreparedStatement pstmt, Object[] params) throws SQLException {
         for (int i = 0; i < params.length; i++) {
             pstmt.setObject(i + 1, params[i]);
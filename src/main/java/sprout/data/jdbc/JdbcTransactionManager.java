@@ -3,6 +3,8 @@ package sprout.data.jdbc;
 import sprout.beans.annotation.Component;
 import sprout.data.TransactionManager;
 import sprout.data.core.exception.DataAccessException;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -10,6 +12,7 @@ import java.sql.SQLException;
 
 @Component
 public class JdbcTransactionManager implements TransactionManager {
+    private static final Logger log = LoggerFactory.getLogger(JdbcTransactionManager.class);
 
     private final ThreadLocal<Connection> connectionHolder = new ThreadLocal<>();
     private final ThreadLocal<Integer> transactionDepth = new ThreadLocal<>();
@@ -45,7 +48,7 @@ public class JdbcTransactionManager implements TransactionManager {
             try {
                 connection.close(); // 풀로 커넥션 반환
             } catch (SQLException e) {
-                System.err.println("Failed to close connection: " + e.getMessage());
+                log.warn("Failed to close connection", e);
             }
         }
     }
@@ -59,10 +62,12 @@ public class JdbcTransactionManager implements TransactionManager {
             connection.setAutoCommit(false);
             connectionHolder.set(connection);
             transactionDepth.set(1);
-            System.out.println("Transaction started (depth 1): " + connection);
+            log.debug("Transaction started (depth 1): {}", connection);
         } else { // 중첩된 트랜잭션 진입
             transactionDepth.set(depth + 1);
-            System.out.println("Joining existing transaction (depth " + (depth + 1) + ")");
+            if (log.isDebugEnabled()) {
+                log.debug("Joining existing transaction (depth {})", depth + 1);
+            }
         }
     }
 
@@ -70,12 +75,12 @@ public class JdbcTransactionManager implements TransactionManager {
     public void commit() {
         Integer depth = transactionDepth.get();
         if (depth == null || depth == 0) {
-            System.err.println("Commit called without active transaction.");
+            log.warn("Commit called without active transaction.");
             return;
         }
 
         if (depth == 1) { // 최상위 트랜잭션 커밋
-            System.out.println("Committing transaction (depth 1)");
+            log.debug("Committing transaction (depth 1)");
             Connection connection = connectionHolder.get();
             if (connection != null) {
                 try {
@@ -86,11 +91,13 @@ public class JdbcTransactionManager implements TransactionManager {
                     closeConnection();
                 }
             } else {
-                System.err.println("Commit called without active transaction.");
+                log.warn("Commit called without active transaction.");
             }
         } else {
             transactionDepth.set(depth - 1);
-            System.out.println("Leaving nested transaction, commit deferred (depth " + (depth - 1) + ")");
+            if (log.isDebugEnabled()) {
+                log.debug("Leaving nested transaction, commit deferred (depth {})", depth - 1);
+            }
         }
 
     }
@@ -99,12 +106,12 @@ public class JdbcTransactionManager implements TransactionManager {
     public void rollback() {
         Integer depth = transactionDepth.get();
         if (depth == null || depth == 0) {
-            System.err.println("Rollback called without active transaction.");
+            log.warn("Rollback called without active transaction.");
             return;
         }
 
         if (depth == 1) { // 최상위 트랜잭션 커밋
-            System.out.println("Rollback transaction (depth 1)");
+            log.debug("Rollback transaction (depth 1)");
             Connection connection = connectionHolder.get();
             if (connection != null) {
                 try {
@@ -115,11 +122,13 @@ public class JdbcTransactionManager implements TransactionManager {
                     closeConnection();
                 }
             } else {
-                System.err.println("Rollback called without active transaction.");
+                log.warn("Rollback called without active transaction.");
             }
         } else {
             transactionDepth.set(depth - 1);
-            System.out.println("Leaving nested transaction, rollback deferred (depth " + (depth - 1) + ")");
+            if (log.isDebugEnabled()) {
+                log.debug("Leaving nested transaction, rollback deferred (depth {})", depth - 1);
+            }
         }
     }
 
@@ -0,0 +1,23 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 기동 시 빈 하나를 생성하고 후처리기를 적용하는 구간 */
+@Name(SproutEvents.PREFIX + "BeanCreation")
+@Label("Bean Creation")
+@Category({"Sprout", "Context"})
+@Description("Instantiating a bean and applying post processors")
+@StackTrace(false)
+public class BeanCreationEvent extends Event {
+
+    @Label("Bean Name")
+    public String beanName;
+
+    @Label("Bean Type")
+    public String beanType;
+}
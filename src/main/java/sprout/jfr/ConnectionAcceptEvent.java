@@ -0,0 +1,28 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 소켓 accept부터 프로토콜 핸들러에 넘길 때까지 */
+@Name(SproutEvents.PREFIX + "ConnectionAccept")
+@Label("Connection Accept")
+@Category({"Sprout", "Server"})
+@Description("Accepting a socket and handing it to a protocol handler")
+@StackTrace(false)
+public class ConnectionAcceptEvent extends Event {
+
+    @Label("Remote Address")
+    public String remoteAddress;
+
+    @Label("Protocol")
+    public String protocol;
+
+    @Label("Initial Bytes")
+    @DataAmount
+    public int initialBytes;
+}
@@ -0,0 +1,29 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 필터 체인 전체 (핸들러 호출 포함). 비동기 응답은 워커가 반환된 시점까지 */
+@Name(SproutEvents.PREFIX + "FilterChain")
+@Label("Filter Chain")
+@Category({"Sprout", "HTTP"})
+@Description("Running the filter chain, including handler dispatch")
+@StackTrace(false)
+public class FilterChainEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Async")
+    public boolean async;
+}
@@ -0,0 +1,27 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 컨트롤러 메서드 호출 (인자 바인딩 포함) */
+@Name(SproutEvents.PREFIX + "HandlerInvocation")
+@Label("Handler Invocation")
+@Category({"Sprout", "HTTP"})
+@Description("Binding arguments and invoking a controller method")
+@StackTrace(false)
+public class HandlerInvocationEvent extends Event {
+
+    @Label("Route")
+    public String route;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Outcome")
+    @Description("ok, async, or the exception class name")
+    public String outcome;
+}
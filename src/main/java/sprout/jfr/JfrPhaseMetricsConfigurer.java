@@ -0,0 +1,30 @@
+package sprout.jfr;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.metrics.MetricsRegistry;
+
+/**
+ * {@code server.metrics.jfr-phases: true}면 {@link PhaseHistogramStream}을 띄워 단계별 히스토그램을 /metrics에 노출한다.
+ * 기본은 꺼져 있으며, 꺼져 있을 때 JFR 이벤트는 외부 레코딩이 켜지 않는 한 비활성 상태로 남는다.
+ */
+@Component
+public class JfrPhaseMetricsConfigurer implements InfrastructureBean {
+    private final PhaseHistogramStream stream;
+
+    public JfrPhaseMetricsConfigurer(AppConfig appConfig, MetricsRegistry registry) {
+        if (Boolean.parseBoolean(appConfig.getStringProperty("server.metrics.jfr-phases", "false"))) {
+            this.stream = new PhaseHistogramStream(registry);
+            stream.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(stream::close, "sprout-jfr-stream-shutdown"));
+        } else {
+            this.stream = null;
+        }
+    }
+
+    /** 스트림이 꺼져 있으면 null */
+    public PhaseHistogramStream getStream() {
+        return stream;
+    }
+}
@@ -0,0 +1,65 @@
+package sprout.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.LatencyHistogram;
+import sprout.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sprout JFR 이벤트를 같은 프로세스 안에서 구독해 단계별 지연 히스토그램으로 모은다.
+ *
+ * <p>히스토그램은 {@link MetricsRegistry}에 {@code sprout_phase_duration_seconds{phase="RequestDecode"}}로
+ * 등록되므로 /metrics에서 바로 보인다. 이벤트는 JFR 스트림 스레드에서 배치로 전달되어 요청 스레드에는
+ * 이벤트 커밋 비용만 남는다.</p>
+ */
+public class PhaseHistogramStream implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(PhaseHistogramStream.class);
+
+    static final String METRIC = "sprout_phase_duration_seconds";
+
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    private final RecordingStream stream;
+
+    public PhaseHistogramStream(MetricsRegistry registry) {
+        this.stream = new RecordingStream();
+        // 디스크에 쌓인 청크는 소비 즉시 필요 없으므로 짧게 유지
+        stream.setMaxAge(Duration.ofSeconds(10));
+        for (Class<? extends Event> eventClass : SproutEvents.ALL) {
+            String name = SproutEvents.nameOf(eventClass);
+            String phase = name.substring(SproutEvents.PREFIX.length());
+            LatencyHistogram histogram = registry.histogram(METRIC, "Duration of Sprout request phases recorded via JFR", "phase", phase);
+            histograms.put(phase, histogram);
+
+            stream.enable(name).withoutStackTrace().withoutThreshold();
+            stream.onEvent(name, event -> record(histogram, event));
+        }
+    }
+
+    public void start() {
+        stream.startAsync();
+        log.info("JFR phase histogram stream started for {} event types", histograms.size());
+    }
+
+    /** 단계 이름(접두사 제외) → 현재 분포 */
+    public Map<String, LatencyHistogram.Snapshot> snapshot() {
+        Map<String, LatencyHistogram.Snapshot> result = new LinkedHashMap<>();
+        histograms.forEach((phase, histogram) -> result.put(phase, histogram.snapshot()));
+        return result;
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private static void record(LatencyHistogram histogram, RecordedEvent event) {
+        histogram.record(event.getDuration().toNanos());
+    }
+}
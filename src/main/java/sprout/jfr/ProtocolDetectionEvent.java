@@ -0,0 +1,25 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 첫 패킷으로 프로토콜을 판별하는 구간 */
+@Name(SproutEvents.PREFIX + "ProtocolDetection")
+@Label("Protocol Detection")
+@Category({"Sprout", "Server"})
+@Description("Running protocol detectors over the first bytes of a connection")
+@StackTrace(false)
+public class ProtocolDetectionEvent extends Event {
+
+    @Label("Protocol")
+    public String protocol;
+
+    @Label("Bytes")
+    @DataAmount
+    public int bytes;
+}
@@ -0,0 +1,28 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 요청 바이트를 {@code HttpRequest}로 파싱하는 구간 */
+@Name(SproutEvents.PREFIX + "RequestDecode")
+@Label("Request Decode")
+@Category({"Sprout", "HTTP"})
+@Description("Parsing raw request bytes into an HttpRequest")
+@StackTrace(false)
+public class RequestDecodeEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Bytes")
+    @DataAmount
+    public int bytes;
+}
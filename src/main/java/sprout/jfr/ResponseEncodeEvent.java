@@ -0,0 +1,28 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** {@code ResponseEntity}를 전송용 버퍼로 직렬화하는 구간 */
+@Name(SproutEvents.PREFIX + "ResponseEncode")
+@Label("Response Encode")
+@Category({"Sprout", "HTTP"})
+@Description("Serializing a ResponseEntity into a wire buffer")
+@StackTrace(false)
+public class ResponseEncodeEvent extends Event {
+
+    @Label("Status")
+    public int status;
+
+    @Label("Content Type")
+    public String contentType;
+
+    @Label("Bytes")
+    @DataAmount
+    public int bytes;
+}
@@ -0,0 +1,29 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 한 번의 소켓 write 호출 */
+@Name(SproutEvents.PREFIX + "SocketWrite")
+@Label("Socket Write")
+@Category({"Sprout", "Server"})
+@Description("A single non-blocking socket write")
+@StackTrace(false)
+public class SocketWriteEvent extends Event {
+
+    @Label("Protocol")
+    public String protocol;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public int bytesWritten;
+
+    @Label("Bytes Remaining")
+    @DataAmount
+    public int bytesRemaining;
+}
@@ -0,0 +1,43 @@
+package sprout.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.List;
+
+/**
+ * Sprout가 발행하는 JFR 이벤트 목록.
+ *
+ * <p>모든 이벤트는 {@code sprout.} 접두사를 쓰고 JFR 설정으로 켜고 끈다. 꺼져 있으면 계측 지점은
+ * {@code shouldCommit()}/{@code isEnabled()} 검사만 남고 이벤트 객체는 JIT가 스칼라 치환으로 없앤다.
+ * 필드 값(문자열 조립 등)은 반드시 {@code shouldCommit()}이 참일 때만 채운다.</p>
+ *
+ * <pre>
+ * java -XX:StartFlightRecording:settings=profile,+sprout.RequestDecode#enabled=true ...
+ * jfr print --categories Sprout recording.jfr
+ * </pre>
+ */
+public final class SproutEvents {
+    public static final String PREFIX = "sprout.";
+
+    public static final List<Class<? extends Event>> ALL = List.of(
+            ConnectionAcceptEvent.class,
+            ProtocolDetectionEvent.class,
+            RequestDecodeEvent.class,
+            FilterChainEvent.class,
+            HandlerInvocationEvent.class,
+            ResponseEncodeEvent.class,
+            SocketWriteEvent.class,
+            WebSocketFrameDecodeEvent.class,
+            WebSocketDispatchEvent.class,
+            BeanCreationEvent.class
+    );
+
+    private SproutEvents() {
+    }
+
+    /** 이벤트 클래스의 JFR 이름 (예: sprout.RequestDecode) */
+    public static String nameOf(Class<? extends Event> eventClass) {
+        jdk.jfr.Name name = eventClass.getAnnotation(jdk.jfr.Name.class);
+        return name != null ? name.value() : eventClass.getName();
+    }
+}
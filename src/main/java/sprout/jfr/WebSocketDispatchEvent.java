@@ -0,0 +1,26 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 완성된 WebSocket 메시지를 핸들러로 디스패치하는 구간 */
+@Name(SproutEvents.PREFIX + "WebSocketDispatch")
+@Label("WebSocket Dispatch")
+@Category({"Sprout", "WebSocket"})
+@Description("Dispatching a complete WebSocket message to its handler")
+@StackTrace(false)
+public class WebSocketDispatchEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Opcode")
+    public int opcode;
+
+    @Label("Handled")
+    public boolean handled;
+}
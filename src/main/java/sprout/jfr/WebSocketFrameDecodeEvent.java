@@ -0,0 +1,31 @@
+package sprout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** WebSocket 프레임 헤더 파싱 */
+@Name(SproutEvents.PREFIX + "WebSocketFrameDecode")
+@Label("WebSocket Frame Decode")
+@Category({"Sprout", "WebSocket"})
+@Description("Decoding a WebSocket frame header")
+@StackTrace(false)
+public class WebSocketFrameDecodeEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Opcode")
+    public int opcode;
+
+    @Label("Fin")
+    public boolean fin;
+
+    @Label("Payload Length")
+    @DataAmount
+    public long payloadLength;
+}
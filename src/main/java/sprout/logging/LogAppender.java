@@ -0,0 +1,12 @@
+package sprout.logging;
+
+/** 로그 이벤트의 최종 출력 대상. */
+public interface LogAppender {
+    void append(LogEvent event);
+
+    default void flush() {}
+
+    default void close() {
+        flush();
+    }
+}
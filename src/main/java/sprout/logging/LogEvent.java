@@ -0,0 +1,70 @@
+package sprout.logging;
+
+/**
+ * 하나의 로그 호출.
+ * 메시지 포맷팅({@code {}} 치환)은 만드는 쪽이 아니라 어펜더 스레드에서 처음 필요할 때 한다.
+ * 따라서 인자로는 이후 바뀌지 않는 값(문자열, 숫자, 식별자 등)을 넘겨야 한다.
+ */
+public final class LogEvent {
+    private final long timestamp;
+    private final LogLevel level;
+    private final String loggerName;
+    private final String threadName;
+    private final String pattern;
+    private final Object[] args;
+    private final Throwable throwable;
+    private String message;
+
+    public LogEvent(long timestamp, LogLevel level, String loggerName, String threadName,
+                    String pattern, Object[] args, Throwable throwable) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.loggerName = loggerName;
+        this.threadName = threadName;
+        this.pattern = pattern;
+        this.args = args;
+        this.throwable = throwable;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    public String getMessage() {
+        if (message == null) {
+            message = format(pattern, args);
+        }
+        return message;
+    }
+
+    /** {@code {}} 자리에 인자를 순서대로 넣는다. 남는 인자는 버리고, 모자라면 {@code {}}를 그대로 둔다. */
+    static String format(String pattern, Object[] args) {
+        if (pattern == null) return "null";
+        if (args == null || args.length == 0) return pattern;
+        StringBuilder sb = new StringBuilder(pattern.length() + 16 * args.length);
+        int argIndex = 0;
+        int from = 0;
+        int at;
+        while (argIndex < args.length && (at = pattern.indexOf("{}", from)) >= 0) {
+            sb.append(pattern, from, at).append(args[argIndex++]);
+            from = at + 2;
+        }
+        return sb.append(pattern, from, pattern.length()).toString();
+    }
+}
@@ -0,0 +1,14 @@
+package sprout.logging;
+
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF;
+
+    /** 대소문자 무시. 알 수 없는 값이면 {@code defaultLevel}. */
+    public static LogLevel parse(String value, LogLevel defaultLevel) {
+        if (value == null) return defaultLevel;
+        for (LogLevel level : values()) {
+            if (level.name().equalsIgnoreCase(value.trim())) return level;
+        }
+        return defaultLevel;
+    }
+}
@@ -0,0 +1,81 @@
+package sprout.logging;
+
+/**
+ * 프레임워크 내부 로거. {@link LoggerFactory#getLogger(Class)}로 얻는다.
+ *
+ * <p>레벨 검사는 volatile int 하나를 읽는 것이 전부이고, 비활성 레벨에서는 이벤트도 배열도 만들지 않는다.
+ * 인자가 한두 개인 오버로드는 가변 인자 배열을 만들지 않는다. 다만 기본형 인자는 호출 전에 박싱되므로
+ * 요청마다 불리는 경로에서는 {@code isDebugEnabled()} 등으로 감싸는 편이 좋다.
+ * 마지막 인자가 {@link Throwable}이면 스택 트레이스로 출력된다.</p>
+ */
+public final class Logger {
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final String name;
+    private volatile int threshold;
+
+    Logger(String name, LogLevel level) {
+        this.name = name;
+        this.threshold = level.ordinal();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LogLevel getLevel() {
+        return LogLevel.values()[threshold];
+    }
+
+    void setLevel(LogLevel level) {
+        this.threshold = level.ordinal();
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold && level != LogLevel.OFF;
+    }
+
+    public boolean isTraceEnabled() { return LogLevel.TRACE.ordinal() >= threshold; }
+    public boolean isDebugEnabled() { return LogLevel.DEBUG.ordinal() >= threshold; }
+    public boolean isInfoEnabled()  { return LogLevel.INFO.ordinal() >= threshold; }
+    public boolean isWarnEnabled()  { return LogLevel.WARN.ordinal() >= threshold; }
+    public boolean isErrorEnabled() { return LogLevel.ERROR.ordinal() >= threshold; }
+
+    public void trace(String msg) { if (isTraceEnabled()) log(LogLevel.TRACE, msg, NO_ARGS); }
+    public void trace(String msg, Object arg) { if (isTraceEnabled()) log(LogLevel.TRACE, msg, new Object[]{arg}); }
+    public void trace(String msg, Object arg1, Object arg2) { if (isTraceEnabled()) log(LogLevel.TRACE, msg, new Object[]{arg1, arg2}); }
+    public void trace(String msg, Object... args) { if (isTraceEnabled()) log(LogLevel.TRACE, msg, args); }
+
+    public void debug(String msg) { if (isDebugEnabled()) log(LogLevel.DEBUG, msg, NO_ARGS); }
+    public void debug(String msg, Object arg) { if (isDebugEnabled()) log(LogLevel.DEBUG, msg, new Object[]{arg}); }
+    public void debug(String msg, Object arg1, Object arg2) { if (isDebugEnabled()) log(LogLevel.DEBUG, msg, new Object[]{arg1, arg2}); }
+    public void debug(String msg, Object... args) { if (isDebugEnabled()) log(LogLevel.DEBUG, msg, args); }
+
+    public void info(String msg) { if (isInfoEnabled()) log(LogLevel.INFO, msg, NO_ARGS); }
+    public void info(String msg, Object arg) { if (isInfoEnabled()) log(LogLevel.INFO, msg, new Object[]{arg}); }
+    public void info(String msg, Object arg1, Object arg2) { if (isInfoEnabled()) log(LogLevel.INFO, msg, new Object[]{arg1, arg2}); }
+    public void info(String msg, Object... args) { if (isInfoEnabled()) log(LogLevel.INFO, msg, args); }
+
+    public void warn(String msg) { if (isWarnEnabled()) log(LogLevel.WARN, msg, NO_ARGS); }
+    public void warn(String msg, Object arg) { if (isWarnEnabled()) log(LogLevel.WARN, msg, new Object[]{arg}); }
+    public void warn(String msg, Object arg1, Object arg2) { if (isWarnEnabled()) log(LogLevel.WARN, msg, new Object[]{arg1, arg2}); }
+    public void warn(String msg, Object... args) { if (isWarnEnabled()) log(LogLevel.WARN, msg, args); }
+
+    public void error(String msg) { if (isErrorEnabled()) log(LogLevel.ERROR, msg, NO_ARGS); }
+    public void error(String msg, Object arg) { if (isErrorEnabled()) log(LogLevel.ERROR, msg, new Object[]{arg}); }
+    public void error(String msg, Object arg1, Object arg2) { if (isErrorEnabled()) log(LogLevel.ERROR, msg, new Object[]{arg1, arg2}); }
+    public void error(String msg, Object... args) { if (isErrorEnabled()) log(LogLevel.ERROR, msg, args); }
+
+    private void log(LogLevel level, String msg, Object[] args) {
+        Throwable throwable = null;
+        if (args.length > 0 && args[args.length - 1] instanceof Throwable t) {
+            throwable = t;
+        }
+        Thread thread = Thread.currentThread();
+        String threadName = thread.getName();
+        if (threadName.isEmpty()) {
+            threadName = "virtual-" + thread.threadId();
+        }
+        LoggerFactory.dispatch(new LogEvent(System.currentTimeMillis(), level, name, threadName, msg, args, throwable));
+    }
+}
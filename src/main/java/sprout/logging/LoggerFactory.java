@@ -0,0 +1,79 @@
+package sprout.logging;
+
+import sprout.logging.appender.AsyncLogAppender;
+import sprout.logging.appender.ConsoleLogAppender;
+import sprout.logging.appender.DropPolicy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로거 생성과 레벨·어펜더 설정의 진입점.
+ *
+ * <p>레벨은 로거 이름의 패키지 접두어 단위로 지정한다 (예: {@code sprout.server.websocket → DEBUG}).
+ * 가장 긴 접두어가 이기고, 아무것도 맞지 않으면 {@link #ROOT} 레벨을 쓴다.
+ * 레벨을 바꾸면 이미 만들어진 로거에도 바로 반영된다.</p>
+ *
+ * <p>기본 어펜더는 콘솔로 출력하는 {@link AsyncLogAppender}이고, 설정은
+ * {@link LoggingConfigurer}가 application.yml을 읽어 바꾼다.</p>
+ */
+public final class LoggerFactory {
+    public static final String ROOT = "root";
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final Map<String, LogLevel> levels = new ConcurrentHashMap<>();
+    private static volatile LogAppender appender;
+
+    static {
+        levels.put(ROOT, LogLevel.INFO);
+        appender = new AsyncLogAppender(new ConsoleLogAppender(), DEFAULT_BUFFER_SIZE, DropPolicy.KEEP_WARN);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> appender.close(), "sprout-log-shutdown"));
+    }
+
+    private LoggerFactory() {}
+
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    public static Logger getLogger(String name) {
+        return loggers.computeIfAbsent(name, n -> new Logger(n, effectiveLevel(n)));
+    }
+
+    /** {@code prefix}(패키지 또는 클래스 이름, 또는 {@link #ROOT})의 레벨을 바꾼다. */
+    public static synchronized void setLevel(String prefix, LogLevel level) {
+        levels.put(prefix, level);
+        for (Logger logger : loggers.values()) {
+            logger.setLevel(effectiveLevel(logger.getName()));
+        }
+    }
+
+    /** 어펜더를 교체하고 이전 어펜더는 남은 이벤트를 내보낸 뒤 닫는다. */
+    public static synchronized void setAppender(LogAppender newAppender) {
+        LogAppender previous = appender;
+        appender = newAppender;
+        if (previous != newAppender) {
+            previous.close();
+        }
+    }
+
+    public static LogAppender getAppender() {
+        return appender;
+    }
+
+    static void dispatch(LogEvent event) {
+        appender.append(event);
+    }
+
+    static LogLevel effectiveLevel(String name) {
+        String candidate = name;
+        while (true) {
+            LogLevel level = levels.get(candidate);
+            if (level != null) return level;
+            int dot = candidate.lastIndexOf('.');
+            if (dot < 0) return levels.get(ROOT);
+            candidate = candidate.substring(0, dot);
+        }
+    }
+}
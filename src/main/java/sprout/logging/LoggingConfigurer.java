@@ -0,0 +1,54 @@
+package sprout.logging;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.logging.appender.AsyncLogAppender;
+import sprout.logging.appender.ConsoleLogAppender;
+import sprout.logging.appender.DropPolicy;
+import sprout.logging.appender.Slf4jLogAppender;
+
+import java.util.Map;
+
+/**
+ * application.yml의 {@code sprout.logging} 설정을 {@link LoggerFactory}에 반영한다.
+ *
+ * <pre>
+ * sprout:
+ *   logging:
+ *     backend: console        # console | slf4j (logback)
+ *     async: true
+ *     buffer-size: 8192
+ *     drop-policy: keep-warn  # keep-warn | drop-newest
+ *     level:
+ *       root: INFO
+ *       sprout.server: WARN
+ *       sprout.data.jdbc: DEBUG
+ * </pre>
+ */
+@Component
+public class LoggingConfigurer implements InfrastructureBean {
+
+    public LoggingConfigurer(AppConfig appConfig) {
+        for (Map.Entry<String, Object> entry : appConfig.getMapProperty("sprout.logging.level").entrySet()) {
+            LogLevel level = LogLevel.parse(String.valueOf(entry.getValue()), null);
+            if (level != null) {
+                LoggerFactory.setLevel(entry.getKey(), level);
+            }
+        }
+
+        String backend = appConfig.getStringProperty("sprout.logging.backend", "console");
+        boolean async = Boolean.parseBoolean(appConfig.getStringProperty("sprout.logging.async", "true"));
+        int bufferSize = appConfig.getIntProperty("sprout.logging.buffer-size", LoggerFactory.DEFAULT_BUFFER_SIZE);
+        DropPolicy dropPolicy = "drop-newest".equalsIgnoreCase(appConfig.getStringProperty("sprout.logging.drop-policy", "keep-warn"))
+                ? DropPolicy.DROP_NEWEST
+                : DropPolicy.KEEP_WARN;
+
+        boolean slf4j = "slf4j".equalsIgnoreCase(backend) || "logback".equalsIgnoreCase(backend);
+        if (!slf4j && async && bufferSize == LoggerFactory.DEFAULT_BUFFER_SIZE && dropPolicy == DropPolicy.KEEP_WARN) {
+            return; // 기본 어펜더 그대로
+        }
+        LogAppender target = slf4j ? new Slf4jLogAppender() : new ConsoleLogAppender();
+        LoggerFactory.setAppender(async ? new AsyncLogAppender(target, bufferSize, dropPolicy) : target);
+    }
+}
@@ -0,0 +1,151 @@
+package sprout.logging.appender;
+
+import sprout.logging.LogAppender;
+import sprout.logging.LogEvent;
+import sprout.logging.LogLevel;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그 이벤트를 락프리 링 버퍼에 넣고 전용 데몬 스레드 하나가 {@code delegate}로 내보낸다.
+ *
+ * <p>요청 스레드는 슬롯 하나를 CAS로 차지하는 비용만 낸다. 버퍼가 가득 차면 {@link DropPolicy}에 따라
+ * 이벤트를 버리거나(버린 개수는 다음 출력 때 WARN 한 줄로 알린다) WARN 이상만 자리가 날 때까지 기다린다.
+ * 닫힌 뒤에 들어온 이벤트는 호출 스레드에서 바로 {@code delegate}로 쓴다.</p>
+ */
+public class AsyncLogAppender implements LogAppender {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final LogAppender delegate;
+    private final LogRingBuffer<LogEvent> buffer;
+    private final DropPolicy dropPolicy;
+    private final Thread worker;
+    private final LongAdder dropped = new LongAdder();
+    private long reportedDropped;
+
+    private volatile boolean running = true;
+    private volatile boolean waiting;
+    private volatile long consumed;
+    private final LongAdder published = new LongAdder();
+
+    public AsyncLogAppender(LogAppender delegate, int bufferSize, DropPolicy dropPolicy) {
+        this.delegate = delegate;
+        this.buffer = new LogRingBuffer<>(bufferSize);
+        this.dropPolicy = dropPolicy;
+        this.worker = new Thread(this::drainLoop, "sprout-log-appender");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        if (!running) {
+            delegate.append(event);
+            return;
+        }
+        if (!buffer.offer(event)) {
+            if (dropPolicy == DropPolicy.DROP_NEWEST || event.getLevel().ordinal() < LogLevel.WARN.ordinal()) {
+                dropped.increment();
+                return;
+            }
+            while (!buffer.offer(event)) {
+                if (!running) {
+                    delegate.append(event);
+                    return;
+                }
+                LockSupport.unpark(worker);
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+        }
+        published.increment();
+        if (waiting) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /** 지금까지 버퍼에 들어간 이벤트가 모두 출력될 때까지(최대 5초) 기다린다. */
+    @Override
+    public void flush() {
+        long target = published.sum();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (consumed < target && worker.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(worker);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        delegate.flush();
+    }
+
+    @Override
+    public void close() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueuedCount() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    private void drainLoop() {
+        while (true) {
+            LogEvent event = buffer.poll();
+            if (event == null) {
+                reportDropped();
+                if (!running) {
+                    // 종료 직전에 들어온 이벤트까지 비운다
+                    while ((event = buffer.poll()) != null) write(event);
+                    break;
+                }
+                waiting = true;
+                if ((event = buffer.poll()) == null) {
+                    delegate.flush();
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    waiting = false;
+                    continue;
+                }
+                waiting = false;
+            }
+            write(event);
+        }
+        delegate.flush();
+    }
+
+    private void write(LogEvent event) {
+        try {
+            delegate.append(event);
+        } catch (RuntimeException | Error e) {
+            // 출력 실패로 어펜더 스레드가 죽으면 이후 로그가 모두 쌓이기만 하므로 삼킨다
+        } finally {
+            consumed++;
+        }
+    }
+
+    private void reportDropped() {
+        long total = dropped.sum();
+        if (total > reportedDropped) {
+            long newlyDropped = total - reportedDropped;
+            reportedDropped = total;
+            write(new LogEvent(System.currentTimeMillis(), LogLevel.WARN, AsyncLogAppender.class.getName(),
+                    worker.getName(), "Log buffer full: {} event(s) dropped", new Object[]{newlyDropped}, null));
+            consumed--; // 버퍼를 거치지 않은 이벤트라 flush 계산에서 뺀다
+        }
+    }
+}
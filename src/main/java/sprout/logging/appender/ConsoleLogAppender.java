@@ -0,0 +1,54 @@
+package sprout.logging.appender;
+
+import sprout.logging.LogAppender;
+import sprout.logging.LogEvent;
+import sprout.logging.LogLevel;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * {@code 2025-01-01 12:00:00.000 INFO  [thread] logger - message} 형식으로 표준 출력에 쓴다.
+ * WARN 이상은 표준 에러로 보낸다.
+ */
+public class ConsoleLogAppender implements LogAppender {
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public ConsoleLogAppender() {
+        this(System.out, System.err);
+    }
+
+    public ConsoleLogAppender(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        StringBuilder sb = new StringBuilder(128);
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(event.getTimestamp()), sb);
+        sb.append(' ').append(event.getLevel().name());
+        for (int i = event.getLevel().name().length(); i < 5; i++) sb.append(' ');
+        sb.append(" [").append(event.getThreadName()).append("] ")
+          .append(event.getLoggerName()).append(" - ")
+          .append(event.getMessage());
+
+        PrintStream stream = event.getLevel().ordinal() >= LogLevel.WARN.ordinal() ? err : out;
+        stream.println(sb);
+        if (event.getThrowable() != null) {
+            event.getThrowable().printStackTrace(stream);
+        }
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+        err.flush();
+    }
+}
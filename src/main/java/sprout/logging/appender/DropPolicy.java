@@ -0,0 +1,9 @@
+package sprout.logging.appender;
+
+/** {@link AsyncLogAppender}의 버퍼가 가득 찼을 때의 처리 방식. */
+public enum DropPolicy {
+    /** 레벨과 관계없이 새 이벤트를 버린다. 로깅 때문에 요청 스레드가 멈추는 일이 없다. */
+    DROP_NEWEST,
+    /** INFO 이하는 버리고, WARN·ERROR는 자리가 날 때까지 기다린다. */
+    KEEP_WARN
+}
@@ -0,0 +1,74 @@
+package sprout.logging.appender;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 생산자 여럿, 소비자 하나인 고정 크기 락프리 링 버퍼.
+ *
+ * <p>슬롯마다 시퀀스 번호를 두는 방식이다. 생산자는 {@code tail}을 CAS로 한 칸 차지한 뒤 값을 쓰고
+ * 슬롯 시퀀스를 {@code pos + 1}로 올려 공개한다. 소비자는 시퀀스가 {@code head + 1}인 슬롯만 읽고
+ * {@code head + capacity}로 돌려놓아 다음 바퀴의 생산자에게 넘긴다.
+ * 가득 차면 {@link #offer(Object)}는 기다리지 않고 false를 돌려준다.</p>
+ */
+final class LogRingBuffer<E> {
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // 소비자 스레드만 쓴다
+
+    LogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1) << 1);
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    boolean offer(E element) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots[index] = element;
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // 한 바퀴 전 슬롯을 소비자가 아직 비우지 않음 → 가득 참
+            } else {
+                pos = tail.get(); // 다른 생산자가 먼저 차지함
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long pos = head;
+        int index = (int) (pos & mask);
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+        E element = (E) slots[index];
+        slots[index] = null;
+        sequences.set(index, pos + mask + 1);
+        head = pos + 1;
+        return element;
+    }
+
+    /** 차지됐지만 아직 소비되지 않은 슬롯 수 (근사치). */
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, slots.length));
+    }
+}
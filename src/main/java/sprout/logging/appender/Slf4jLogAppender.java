@@ -0,0 +1,37 @@
+package sprout.logging.appender;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import sprout.logging.LogAppender;
+import sprout.logging.LogEvent;
+
+/**
+ * SLF4J로 넘기는 어펜더. 클래스패스의 바인딩(기본은 logback-classic)이 실제 출력을 맡는다.
+ * 레벨 필터링은 sprout 쪽에서 이미 끝났으므로 logback 설정은 출력 형식과 대상만 정하면 된다.
+ * {@link AsyncLogAppender} 뒤에 두면 logback의 %thread는 어펜더 스레드가 되므로,
+ * 원래 호출 스레드 이름은 MDC의 {@value #THREAD_MDC_KEY} 키로 넘긴다 (%X{sproutThread}).
+ */
+public class Slf4jLogAppender implements LogAppender {
+    public static final String THREAD_MDC_KEY = "sproutThread";
+
+    @Override
+    public void append(LogEvent event) {
+        Logger logger = LoggerFactory.getLogger(event.getLoggerName());
+        String message = event.getMessage();
+        Throwable throwable = event.getThrowable();
+        MDC.put(THREAD_MDC_KEY, event.getThreadName());
+        try {
+            switch (event.getLevel()) {
+                case TRACE -> logger.trace(message, throwable);
+                case DEBUG -> logger.debug(message, throwable);
+                case INFO -> logger.info(message, throwable);
+                case WARN -> logger.warn(message, throwable);
+                case ERROR -> logger.error(message, throwable);
+                default -> { }
+            }
+        } finally {
+            MDC.remove(THREAD_MDC_KEY);
+        }
+    }
+}
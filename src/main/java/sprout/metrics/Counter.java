@@ -0,0 +1,20 @@
+package sprout.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** 단조 증가 카운터. 경합이 심한 경로에서도 스트라이프된 {@link LongAdder}라 CAS 재시도가 거의 없다. */
+public final class Counter {
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,131 @@
+package sprout.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 메모리 로그-선형 히스토그램 (나노초 단위).
+ *
+ * <p>2의 거듭제곱 구간마다 8개의 선형 하위 버킷을 두므로 상대 오차는 최대 12.5%이고,
+ * 0ns ~ 약 73분(2^42ns)을 328개 버킷으로 덮는다. 그보다 큰 값은 마지막 버킷에 들어간다.
+ * {@link #record(long)}는 비트 연산으로 버킷을 고른 뒤 카운터만 올리므로 할당이 없다.</p>
+ */
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 42;
+    static final int BUCKETS = (MAX_EXPONENT - 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts.incrementAndGet(indexOf(nanos));
+        count.increment();
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /** 스크레이프·리포트용 복사본. 기록 중에 만들면 버킷 합과 count가 약간 어긋날 수 있다. */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, sum.sum(), max.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+    }
+
+    /** 버킷에 들어가는 가장 큰 값 */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lower = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long total;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] counts, long sum, long max) {
+            this.counts = counts;
+            long total = 0;
+            for (long c : counts) total += c;
+            this.total = total;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return total;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return total == 0 ? 0 : (double) sum / total;
+        }
+
+        /** {@code value} 이하로 확실히 기록된 개수 (경계에 걸친 버킷은 제외) */
+        public long countAtOrBelow(long value) {
+            long result = 0;
+            for (int i = 0; i < counts.length && upperBoundOf(i) <= value; i++) {
+                result += counts[i];
+            }
+            return result;
+        }
+
+        /** 백분위(0~100) 값. 해당 버킷의 상한을 돌려주되 관측된 최댓값을 넘지 않는다. */
+        public long valueAtPercentile(double percentile) {
+            if (total == 0) return 0;
+            long rank = (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total);
+            if (rank < 1) rank = 1;
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package sprout.metrics;
+
+import sprout.beans.annotation.Component;
+import sprout.mvc.dispatcher.DispatchHook;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseEntity;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트별 요청 수(상태 코드별)와 처리 시간을 기록한다.
+ *
+ * <p>라우트는 실제 경로가 아니라 매칭된 패턴(/users/{id})으로 집계하고, 매칭되지 않은 요청은 모두
+ * {@value #UNMATCHED} 하나로 모아 시계열 수가 폭증하지 않게 한다. 라우트·메서드·상태 조합의
+ * 메트릭은 처음 한 번만 만들어지고, 이후 요청은 맵 조회와 카운터 증가만 한다.</p>
+ */
+@Component
+public class MetricsDispatchHook implements DispatchHook {
+    static final String UNMATCHED = "unmatched";
+    static final String REQUESTS = "http_server_requests_total";
+    static final String DURATION = "http_server_request_duration_seconds";
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    private final MetricsRegistry registry;
+    private final LongAdder inFlight = new LongAdder();
+    // 라우트 패턴 → HttpMethod ordinal별 메트릭
+    private final ConcurrentMap<String, RouteMetrics[]> routes = new ConcurrentHashMap<>();
+
+    public MetricsDispatchHook(MetricsRegistry registry) {
+        this.registry = registry;
+        registry.gauge("http_server_requests_in_flight", "Requests currently being dispatched", inFlight::sum);
+    }
+
+    @Override
+    public void beforeDispatch(HttpRequest<?> request, HttpResponse response) {
+        inFlight.increment();
+    }
+
+    @Override
+    public void afterDispatch(HttpRequest<?> request, HttpResponse response) {
+        if (response.isAsyncStarted()) {
+            // 비동기 응답은 실제로 완성된 시점의 상태·시간을 기록
+            response.onAsyncComplete(() -> record(request, response));
+            return;
+        }
+        record(request, response);
+    }
+
+    private void record(HttpRequest<?> request, HttpResponse response) {
+        inFlight.decrement();
+        long elapsed = System.nanoTime() - request.getCreatedNanos();
+        String route = request.getRoutePattern();
+        RouteMetrics metrics = metricsFor(route != null ? route : UNMATCHED, request.getMethod());
+        metrics.duration.record(elapsed);
+        metrics.status(statusOf(response)).increment();
+    }
+
+    private RouteMetrics metricsFor(String route, HttpMethod method) {
+        RouteMetrics[] byMethod = routes.computeIfAbsent(route, r -> new RouteMetrics[METHODS.length]);
+        int ordinal = method != null ? method.ordinal() : HttpMethod.GET.ordinal();
+        RouteMetrics metrics = byMethod[ordinal];
+        if (metrics == null) {
+            // 경쟁 시 중복 생성돼도 레지스트리가 같은 인스턴스를 돌려주므로 무해
+            metrics = new RouteMetrics(registry, route, METHODS[ordinal].name());
+            byMethod[ordinal] = metrics;
+        }
+        return metrics;
+    }
+
+    private static int statusOf(HttpResponse response) {
+        ResponseEntity<?> entity = response.getResponseEntity();
+        // 응답이 만들어지지 않았다면 연결 쪽에서 500으로 처리된다
+        return entity != null && entity.getStatusCode() != null ? entity.getStatusCode().getCode() : 500;
+    }
+
+    private static final class RouteMetrics {
+        final MetricsRegistry registry;
+        final String route;
+        final String method;
+        final LatencyHistogram duration;
+        final AtomicReferenceArray<Counter> statuses = new AtomicReferenceArray<>(600);
+
+        RouteMetrics(MetricsRegistry registry, String route, String method) {
+            this.registry = registry;
+            this.route = route;
+            this.method = method;
+            this.duration = registry.histogram(DURATION, "HTTP server request duration",
+                    "method", method, "route", route);
+        }
+
+        Counter status(int code) {
+            int index = code >= 0 && code < 600 ? code : 0;
+            Counter counter = statuses.get(index);
+            if (counter == null) {
+                counter = registry.counter(REQUESTS, "HTTP server requests",
+                        "method", method, "route", route, "status", Integer.toString(code));
+                statuses.set(index, counter);
+            }
+            return counter;
+        }
+    }
+}
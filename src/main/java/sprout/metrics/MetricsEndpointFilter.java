@@ -0,0 +1,44 @@
+package sprout.metrics;
+
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.core.filter.Filter;
+import sprout.core.filter.FilterChain;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * {@code GET server.metrics.path}(기본 /metrics)에 Prometheus 텍스트 포맷으로 응답한다.
+ * {@code server.metrics.enabled: false}면 그대로 다음 필터로 넘긴다.
+ */
+@Component
+public class MetricsEndpointFilter implements Filter {
+    private final MetricsRegistry registry;
+    private final boolean enabled;
+    private final String path;
+
+    public MetricsEndpointFilter(MetricsRegistry registry, AppConfig appConfig) {
+        this.registry = registry;
+        this.enabled = Boolean.parseBoolean(appConfig.getStringProperty("server.metrics.enabled", "true"));
+        this.path = appConfig.getStringProperty("server.metrics.path", "/metrics");
+    }
+
+    @Override
+    public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws IOException {
+        if (!enabled || request.getMethod() != HttpMethod.GET || !path.equals(request.getPath())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        // 스크레이프 요청도 unmatched가 아닌 자기 경로로 집계
+        request.setRoutePattern(path);
+        byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+        response.setResponseEntity(new ResponseEntity<>(body, new HashMap<>(), ResponseCode.SUCCESS, MetricsRegistry.PROMETHEUS_CONTENT_TYPE));
+    }
+}
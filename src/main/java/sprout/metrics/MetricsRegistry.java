@@ -0,0 +1,180 @@
+package sprout.metrics;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 프레임워크 내장 메트릭 저장소.
+ *
+ * <p>메트릭은 이름 + 라벨 조합마다 한 번만 만들어진다. 호출자는 반환된 {@link Counter}/{@link LatencyHistogram}을
+ * 필드에 들고 있다가 요청 경로에서는 값만 올리므로, 조회·라벨 문자열 조립은 등록 시점에만 일어난다.
+ * 같은 이름을 다른 타입으로 등록하면 {@link IllegalArgumentException}.</p>
+ */
+@Component
+public class MetricsRegistry implements InfrastructureBean {
+    public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    // Prometheus 히스토그램 버킷 경계 (초). 내부 히스토그램은 더 촘촘하므로 스크레이프 시점에 접어서 내보낸다
+    private static final String[] EXPORT_BUCKETS_SECONDS = {
+            "0.0001", "0.00025", "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10"
+    };
+    private static final long[] EXPORT_BUCKETS_NANOS = new long[EXPORT_BUCKETS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < EXPORT_BUCKETS_SECONDS.length; i++) {
+            EXPORT_BUCKETS_NANOS[i] = new BigDecimal(EXPORT_BUCKETS_SECONDS[i]).movePointRight(9).longValueExact();
+        }
+    }
+
+    enum Type {
+        COUNTER("counter"), GAUGE("gauge"), HISTOGRAM("histogram");
+
+        final String text;
+
+        Type(String text) {
+            this.text = text;
+        }
+    }
+
+    private final ConcurrentMap<String, Family> families = new ConcurrentSkipListMap<>();
+
+    /** @param labels 라벨 키와 값을 번갈아 나열 (예: "method", "GET", "route", "/users") */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) family(name, help, Type.COUNTER).series.computeIfAbsent(labelText(labels), k -> new Counter());
+    }
+
+    /** 다른 컴포넌트가 이미 세고 있는 단조 증가 값을 카운터로 노출한다. 스크레이프 시점에 읽는다. */
+    public void counter(String name, String help, LongSupplier supplier, String... labels) {
+        family(name, help, Type.COUNTER).series.put(labelText(labels), supplier);
+    }
+
+    public LatencyHistogram histogram(String name, String help, String... labels) {
+        return (LatencyHistogram) family(name, help, Type.HISTOGRAM).series.computeIfAbsent(labelText(labels), k -> new LatencyHistogram());
+    }
+
+    /** 스크레이프 시점에 {@code supplier}를 호출해 값을 읽는다. 같은 이름·라벨로 다시 등록하면 공급자를 교체한다. */
+    public void gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+        family(name, help, Type.GAUGE).series.put(labelText(labels), supplier);
+    }
+
+    /** Prometheus 텍스트 포맷(0.0.4)으로 전체 메트릭을 쓴다. 이름순 정렬. */
+    public void writePrometheus(StringBuilder out) {
+        for (Family family : families.values()) {
+            out.append("# HELP ").append(family.name).append(' ').append(escapeHelp(family.help)).append('\n');
+            out.append("# TYPE ").append(family.name).append(' ').append(family.type.text).append('\n');
+            for (Map.Entry<String, Object> series : family.series.entrySet()) {
+                switch (family.type) {
+                    case COUNTER -> sample(out, family.name, series.getKey(), null,
+                            Long.toString(series.getValue() instanceof Counter c ? c.get() : ((LongSupplier) series.getValue()).getAsLong()));
+                    case GAUGE -> sample(out, family.name, series.getKey(), null,
+                            formatDouble(((DoubleSupplier) series.getValue()).getAsDouble()));
+                    case HISTOGRAM -> writeHistogram(out, family.name, series.getKey(),
+                            ((LatencyHistogram) series.getValue()).snapshot());
+                }
+            }
+        }
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        writePrometheus(out);
+        return out.toString();
+    }
+
+    /** 등록된 메트릭 이름 목록 (정렬됨) */
+    public List<String> getNames() {
+        return new ArrayList<>(families.keySet());
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.computeIfAbsent(name, n -> new Family(n, help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric '" + name + "' is already registered as " + family.type.text);
+        }
+        return family;
+    }
+
+    private static void writeHistogram(StringBuilder out, String name, String labels, LatencyHistogram.Snapshot snapshot) {
+        String bucketName = name + "_bucket";
+        for (int i = 0; i < EXPORT_BUCKETS_SECONDS.length; i++) {
+            long count = snapshot.countAtOrBelow(EXPORT_BUCKETS_NANOS[i]);
+            sample(out, bucketName, labels, EXPORT_BUCKETS_SECONDS[i], Long.toString(count));
+        }
+        sample(out, bucketName, labels, "+Inf", Long.toString(snapshot.getCount()));
+        sample(out, name + "_sum", labels, null, formatDouble(snapshot.getSum() / 1e9));
+        sample(out, name + "_count", labels, null, Long.toString(snapshot.getCount()));
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String le, String value) {
+        out.append(name);
+        if (!labels.isEmpty() || le != null) {
+            out.append('{').append(labels);
+            if (le != null) {
+                if (!labels.isEmpty()) out.append(',');
+                out.append("le=\"").append(le).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    static String labelText(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be key/value pairs");
+        }
+        if (labels.length == 0) return "";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) sb.append(',');
+            sb.append(labels[i]).append("=\"");
+            String value = labels[i + 1] == null ? "" : labels[i + 1];
+            for (int j = 0; j < value.length(); j++) {
+                char c = value.charAt(j);
+                switch (c) {
+                    case '\\' -> sb.append("\\\\");
+                    case '"' -> sb.append("\\\"");
+                    case '\n' -> sb.append("\\n");
+                    default -> sb.append(c);
+                }
+            }
+            sb.append('"');
+        }
+        return sb.toString();
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    static String formatDouble(double value) {
+        if (Double.isNaN(value)) return "NaN";
+        if (Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static final class Family {
+        final String name;
+        final String help;
+        final Type type;
+        // 라벨 문자열 → Counter | LongSupplier | LatencyHistogram | DoubleSupplier
+        final ConcurrentMap<String, Object> series = new ConcurrentSkipListMap<>();
+
+        Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+    }
+}
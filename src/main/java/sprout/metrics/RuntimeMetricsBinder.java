@@ -0,0 +1,39 @@
+package sprout.metrics;
+
+import sprout.beans.annotation.Component;
+import sprout.server.ByteBufferPool;
+import sprout.server.RequestExecutorService;
+import sprout.server.websocket.WebSocketContainer;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 버퍼 풀, 요청 실행기, WebSocket 컨테이너의 현재 상태를 게이지로 등록한다.
+ * 값은 스크레이프할 때만 읽으므로 요청 경로에는 비용이 없다.
+ */
+@Component
+public class RuntimeMetricsBinder {
+
+    public RuntimeMetricsBinder(MetricsRegistry registry, ByteBufferPool bufferPool,
+                                RequestExecutorService executorService, WebSocketContainer webSocketContainer) {
+        for (int size : new int[]{ByteBufferPool.FRAME_HEADER_BUFFER_SIZE, ByteBufferPool.SMALL_BUFFER_SIZE, ByteBufferPool.MEDIUM_BUFFER_SIZE, ByteBufferPool.LARGE_BUFFER_SIZE}) {
+            String sizeLabel = Integer.toString(size);
+            registry.gauge("sprout_buffer_pool_available", "Buffers currently idle in the pool",
+                    () -> poolStat(bufferPool, size, stats -> stats.currentPoolSize), "size", sizeLabel);
+            registry.counter("sprout_buffer_pool_acquires_total", "Buffers acquired from the pool",
+                    () -> poolStat(bufferPool, size, stats -> stats.acquireCount), "size", sizeLabel);
+            registry.counter("sprout_buffer_pool_allocations_total", "Buffers newly allocated because the pool was empty",
+                    () -> poolStat(bufferPool, size, stats -> stats.allocateCount), "size", sizeLabel);
+        }
+
+        // 워크로드 실행기(WorkloadExecutors)와 같은 계열이므로 workload 라벨을 붙여 sum()이 겹치지 않게 한다
+        registry.gauge("sprout_executor_queued_tasks", "Request tasks waiting to run", executorService::getQueuedTaskCount, "workload", "request");
+        registry.gauge("sprout_executor_active_tasks", "Request tasks currently running", executorService::getActiveTaskCount, "workload", "request");
+        registry.gauge("sprout_websocket_sessions", "Open WebSocket sessions", webSocketContainer::getSessionCount);
+    }
+
+    private static long poolStat(ByteBufferPool pool, int size, ToLongFunction<ByteBufferPool.PoolStats> value) {
+        ByteBufferPool.PoolStats stats = pool.getStats(size);
+        return stats != null ? value.applyAsLong(stats) : 0;
+    }
+}
@@ -0,0 +1,54 @@
+package sprout.metrics;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+
+/**
+ * NIO 이벤트 루프와 연결 핸들러가 올리는 전송 계층 카운터.
+ * 카운터는 생성 시 한 번 등록해 두므로 이벤트 루프에서는 {@code LongAdder} 증가만 일어난다.
+ */
+@Component
+public class ServerMetrics implements InfrastructureBean {
+    /** 메트릭 빈 없이 직접 생성되는 핸들러용. 값은 쌓이지만 어디에도 노출되지 않는다. */
+    public static final ServerMetrics NOOP = new ServerMetrics(new MetricsRegistry());
+
+    private final Counter accepts;
+    private final Counter selects;
+    private final Counter wakeups;
+    private final Counter reads;
+    private final Counter bytesRead;
+    private final Counter writes;
+    private final Counter bytesWritten;
+
+    public ServerMetrics(MetricsRegistry registry) {
+        this.accepts = registry.counter("sprout_server_accepts_total", "Accepted connections");
+        this.selects = registry.counter("sprout_server_selects_total", "Selector select() returns (event loop wakeups)");
+        this.wakeups = registry.counter("sprout_server_selector_wakeups_total", "Explicit Selector.wakeup() calls from worker threads");
+        this.reads = registry.counter("sprout_server_reads_total", "Socket read calls");
+        this.bytesRead = registry.counter("sprout_server_read_bytes_total", "Bytes read from sockets");
+        this.writes = registry.counter("sprout_server_writes_total", "Socket write calls");
+        this.bytesWritten = registry.counter("sprout_server_written_bytes_total", "Bytes written to sockets");
+    }
+
+    public void onAccept() {
+        accepts.increment();
+    }
+
+    public void onSelect() {
+        selects.increment();
+    }
+
+    public void onWakeup() {
+        wakeups.increment();
+    }
+
+    public void onRead(int bytes) {
+        reads.increment();
+        if (bytes > 0) bytesRead.add(bytes);
+    }
+
+    public void onWrite(int bytes) {
+        writes.increment();
+        if (bytes > 0) bytesWritten.add(bytes);
+    }
+}
@@ -3,6 +3,8 @@ package sprout.mvc.advice;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.exception.ExceptionResolver;
 import sprout.mvc.http.*;
 
@@ -14,6 +16,8 @@ import java.util.Optional;
 @Component
 @Order(0)
 public class ControllerAdviceExceptionResolver implements ExceptionResolver {
+    private static final Logger log = LoggerFactory.getLogger(ControllerAdviceExceptionResolver.class);
+
     private final ControllerAdviceRegistry controllerAdviceRegistry;
     private final List<ResponseResolver> responseResolvers;
     private final ObjectMapper objectMapper;
@@ -49,11 +53,11 @@ public class ControllerAdviceExceptionResolver implements ExceptionResolver {
                     } else if (paramTypes[0].isAssignableFrom(HttpRequest.class) && paramTypes[1].isAssignableFrom(exception.getClass())) {
                         handlerReturnValue = handlerMethodRef.invoke(handlerInstance, request, exception);
                     }  else {
-                        System.err.println("Unsupported @ExceptionHandler method signature: " + handlerMethodRef.getName());
+                        log.warn("Unsupported @ExceptionHandler method signature: {}", handlerMethodRef.getName());
                         return null; // 처리 못 함
                     }
                 } else {
-                    System.err.println("Unsupported @ExceptionHandler method signature: " + handlerMethodRef.getName());
+                    log.warn("Unsupported @ExceptionHandler method signature: {}", handlerMethodRef.getName());
                     return null; // 처리 못 함
                 }
 
@@ -65,15 +69,13 @@ public class ControllerAdviceExceptionResolver implements ExceptionResolver {
                         return new Object(); // 처리 완료를 의미하는 임의의 객체 반환 (null이 아님)
                     }
                 }
-                System.err.println("No suitable ResponseResolver found for @ExceptionHandler return value: " + handlerReturnValue);
+                log.warn("No suitable ResponseResolver found for @ExceptionHandler return value: {}", handlerReturnValue);
                 return null; // 처리 못 함
 
             } catch (InvocationTargetException ie) {
-                System.err.println("Exception in @ExceptionHandler itself: " + ie.getTargetException().getMessage());
-                ie.getTargetException().printStackTrace();
+                log.error("Exception in @ExceptionHandler itself", ie.getTargetException());
             } catch (IllegalAccessException | IllegalArgumentException iae) {
-                System.err.println("Error invoking @ExceptionHandler: " + iae.getMessage());
-                iae.printStackTrace();
+                log.error("Error invoking @ExceptionHandler", iae);
             }
         }
         return null; // 이 ExceptionResolver가 예외를 처리하지 못했음을 알림
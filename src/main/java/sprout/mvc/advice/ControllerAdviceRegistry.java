@@ -2,6 +2,8 @@ package sprout.mvc.advice;
 
 import sprout.beans.annotation.Component;
 import sprout.context.BeanFactory;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.advice.annotation.ControllerAdvice;
 import sprout.mvc.advice.annotation.ExceptionHandler;
 
@@ -12,6 +14,7 @@ import java.util.stream.Collectors;
 
 @Component
 public class ControllerAdviceRegistry {
+    private static final Logger log = LoggerFactory.getLogger(ControllerAdviceRegistry.class);
 
     private final List<ExceptionHandlerObject> allExceptionHandlers = new ArrayList<>();
     private final Map<Class<? extends Throwable>, Optional<ExceptionHandlerObject>> cachedHandlers = new ConcurrentHashMap<>();
@@ -62,13 +65,15 @@ public class ControllerAdviceRegistry {
         Collection<Object> allBeans = context.getAllBeans();
         for (Object bean : allBeans) {
             if (bean.getClass().isAnnotationPresent(ControllerAdvice.class)) {
-                System.out.println("Found @ControllerAdvice: " + bean.getClass().getName());
+                log.debug("Found @ControllerAdvice: {}", bean.getClass().getName());
                 for (Method method : bean.getClass().getDeclaredMethods()) {
                     if (method.isAnnotationPresent(ExceptionHandler.class)) {
                         method.setAccessible(true);
                         allExceptionHandlers.add(new ExceptionHandlerObject(method, bean));
-                        System.out.println("  Registered @ExceptionHandler: " + method.getName() + " for types: " +
-                                Arrays.stream(method.getAnnotation(ExceptionHandler.class).value()).map(Class::getSimpleName).collect(Collectors.joining(", ")));
+                        if (log.isDebugEnabled()) {
+                            log.debug("Registered @ExceptionHandler: {} for types: {}", method.getName(),
+                                    Arrays.stream(method.getAnnotation(ExceptionHandler.class).value()).map(Class::getSimpleName).collect(Collectors.joining(", ")));
+                        }
                     }
                 }
             }
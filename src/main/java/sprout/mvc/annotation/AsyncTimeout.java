@@ -0,0 +1,16 @@
+package sprout.mvc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * CompletionStage를 반환하는 핸들러의 완료 제한 시간(ms). 넘기면 503으로 응답한다.
+ * 지정하지 않으면 server.async.timeout-ms (기본 30초)를 따른다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncTimeout {
+    long value();
+}
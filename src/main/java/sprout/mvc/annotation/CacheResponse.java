@@ -0,0 +1,19 @@
+package sprout.mvc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET 핸들러의 응답을 인코딩된 바이트 그대로 캐시한다.
+ * 캐시 키는 메서드 + 경로 + {@link #queryParams()}에 나열한 쿼리 파라미터 + {@link #vary()} 헤더 값.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheResponse {
+    long ttlSeconds() default 60;
+    String[] queryParams() default {};
+    // 코덱 협상 결과가 Accept에 따라 달라지므로 기본으로 Accept를 포함
+    String[] vary() default {"Accept"};
+}
@@ -0,0 +1,21 @@
+package sprout.mvc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 키의 GET 요청이 동시에 들어오면 핸들러는 한 번만 실행하고, 나머지 요청은 그 결과(인코딩된 응답)를 함께 받는다.
+ * 키는 메서드 + 경로 + {@link #queryParams()} + {@link #vary()} 헤더 값 + (기본) 인증된 사용자.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CoalesceRequests {
+    String[] queryParams() default {};
+    String[] vary() default {"Accept"};
+    // false면 사용자와 무관하게 공유 (사용자별로 달라지지 않는 응답에만)
+    boolean perPrincipal() default true;
+    // 실행 하나에 붙을 수 있는 최대 대기 요청 수. 넘으면 503
+    int maxWaiters() default 1000;
+}
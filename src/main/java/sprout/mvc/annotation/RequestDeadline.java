@@ -0,0 +1,16 @@
+package sprout.mvc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청을 다 읽은 시점부터 응답까지의 제한 시간(ms). 넘기면 클라이언트에 바로 503으로 응답하고 핸들러 스레드를 인터럽트한다.
+ * 지정하지 않으면 server.deadline.routes, 그다음 server.deadline.default-ms (기본 0 = 제한 없음)를 따른다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RequestDeadline {
+    long value();
+}
@@ -0,0 +1,17 @@
+package sprout.mvc.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러를 실행할 워크로드 실행기 이름. 메서드에 붙은 값이 컨트롤러 클래스에 붙은 값보다 우선한다.
+ * 기본 제공은 {@code cpu}(코어 수 크기의 플랫폼 스레드 풀), {@code io}(가상 스레드), {@code admin}(작은 고정 풀)이며
+ * server.workloads에서 바꾸거나 추가할 수 있다. 붙이지 않으면 요청을 읽은 실행기에서 그대로 실행한다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Workload {
+    String value();
+}
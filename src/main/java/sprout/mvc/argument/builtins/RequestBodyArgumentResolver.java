@@ -1,19 +1,35 @@
 package sprout.mvc.argument.builtins;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Controller;
+import sprout.context.BeanFactory;
+import sprout.context.ContextInitializer;
 import sprout.mvc.annotation.RequestBody;
 import sprout.mvc.argument.ArgumentResolver;
 import sprout.mvc.exception.BadRequestException;
+import sprout.mvc.exception.ExceptionMessage;
 import sprout.mvc.http.HttpRequest;
-import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.codec.MessageCodec;
+import sprout.mvc.http.codec.MessageCodecRegistry;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
-public class RequestBodyArgumentResolver implements ArgumentResolver {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+public class RequestBodyArgumentResolver implements ArgumentResolver, ContextInitializer {
+    private final MessageCodecRegistry codecRegistry;
+    // @RequestBody 파라미터별 리더 캐시. 배열 인덱스는 레지스트리의 코덱 순서
+    // (기본 코덱은 기동 시 채우고, 나머지는 해당 Content-Type의 첫 요청에서 채움)
+    private final Map<Parameter, MessageCodec.BodyReader[]> readers = new ConcurrentHashMap<>();
+
+    public RequestBodyArgumentResolver(MessageCodecRegistry codecRegistry) {
+        this.codecRegistry = codecRegistry;
+    }
 
     @Override
     public boolean supports(Parameter parameter) {
@@ -22,22 +38,70 @@ public class RequestBodyArgumentResolver implements ArgumentResolver {
 
     @Override
     public Object resolve(Parameter parameter, HttpRequest<?> request, Map<String, String> pathVariables) throws Exception {
-        // HttpRequest의 바디가 String 타입으로 넘어올 것을 예상
-        String rawBody = (String) request.getBody();
+        MessageCodec codec = codecRegistry.forRequestBody(request);
+        MessageCodec.BodyReader reader = readerFor(parameter, codec);
+
+        try {
+            ByteBuffer rawBody = request.getRawBody();
+            if (rawBody != null) {
+                // 소켓에서 읽은 바이트를 문자열로 만들지 않고 바로 바인딩
+                if (isBlank(rawBody)) {
+                    return null;
+                }
+                if (rawBody.hasArray()) {
+                    return reader.read(rawBody.array(), rawBody.arrayOffset() + rawBody.position(), rawBody.remaining());
+                }
+                byte[] copy = new byte[rawBody.remaining()];
+                rawBody.get(copy);
+                return reader.read(copy, 0, copy.length);
+            }
 
-        if (rawBody == null || rawBody.isBlank()) {
-            // @RequestBody가 붙었지만 바디가 비어있는 경우, null을 반환하거나 예외를 던질 수 있음
-            return null;
+            String body = (String) request.getBody();
+            if (body == null || body.isBlank()) {
+                // @RequestBody가 붙었지만 바디가 비어있는 경우 null
+                return null;
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            return reader.read(bytes, 0, bytes.length);
+        } catch (IOException e) {
+            // 메시지 조립과 스택 트레이스 생성을 생략한 400 (원인은 cause로 보존)
+            throw new BadRequestException(ExceptionMessage.MALFORMED_REQUEST_BODY, e, false, false);
         }
+    }
 
-        try {
-            // String 타입의 rawBody를 직접 대상 타입으로 변환
-            return objectMapper.readValue(rawBody.trim(), parameter.getType());
-        } catch (Exception e) { // JsonProcessingException 등 ObjectMapper에서 발생할 수 있는 모든 예외 처리
-            // BadRequestException을 던져 클라이언트에 400 Bad Request 응답
-            throw new BadRequestException(
-                    "Failed to parse request body as JSON or convert to '" + parameter.getType().getName() + "'. " +
-                            "Check JSON format and target type. Cause: " + e.getMessage(), ResponseCode.BAD_REQUEST, e);
+    @Override
+    public void initializeAfterRefresh(BeanFactory context) {
+        for (Object bean : context.getAllBeans()) {
+            if (!bean.getClass().isAnnotationPresent(Controller.class)) continue;
+            for (Method method : bean.getClass().getMethods()) {
+                for (Parameter parameter : method.getParameters()) {
+                    if (supports(parameter)) {
+                        readerFor(parameter, codecRegistry.getDefaultCodec());
+                    }
+                }
+            }
+        }
+    }
+
+    private MessageCodec.BodyReader readerFor(Parameter parameter, MessageCodec codec) {
+        MessageCodec.BodyReader[] cached = readers.computeIfAbsent(parameter, p -> new MessageCodec.BodyReader[codecRegistry.size()]);
+        int index = codecRegistry.indexOf(codec);
+        MessageCodec.BodyReader reader = cached[index];
+        if (reader == null) {
+            // 경쟁 시 같은 리더가 중복 생성될 수 있지만 결과는 동일하므로 무해
+            reader = codec.readerFor(parameter.getParameterizedType());
+            cached[index] = reader;
+        }
+        return reader;
+    }
+
+    private static boolean isBlank(ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
         }
+        return true;
     }
 }
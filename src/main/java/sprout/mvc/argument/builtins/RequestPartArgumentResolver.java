@@ -0,0 +1,65 @@
+package sprout.mvc.argument.builtins;
+
+import sprout.beans.annotation.Component;
+import sprout.mvc.annotation.RequestPart;
+import sprout.mvc.argument.ArgumentResolver;
+import sprout.mvc.argument.TypeConverter;
+import sprout.mvc.exception.BadRequestException;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.multipart.MultipartBody;
+import sprout.mvc.http.multipart.MultipartFile;
+
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * multipart/form-data 요청의 파트를 바인딩한다.
+ * {@link MultipartFile}, {@code List<MultipartFile>}, {@link MultipartBody} 전체, 그 밖의 타입은 텍스트 필드로 보고 변환한다.
+ */
+@Component
+public class RequestPartArgumentResolver implements ArgumentResolver {
+    @Override
+    public boolean supports(Parameter parameter) {
+        return parameter.isAnnotationPresent(RequestPart.class);
+    }
+
+    @Override
+    public Object resolve(Parameter parameter, HttpRequest<?> request, Map<String, String> pathVariables) throws Exception {
+        RequestPart requestPart = parameter.getAnnotation(RequestPart.class);
+        MultipartBody multipart = request.getMultipart();
+        if (parameter.getType() == MultipartBody.class) {
+            if (multipart == null && requestPart.required()) {
+                throw new BadRequestException("Request is not multipart/form-data.");
+            }
+            return multipart;
+        }
+
+        String partName = requestPart.value().isEmpty() ? parameter.getName() : requestPart.value();
+        Object value = multipart == null ? null : partValue(parameter, multipart, partName);
+        if (value == null && requestPart.required()) {
+            throw new BadRequestException("Required request part '" + partName + "' not found in request.");
+        }
+        return value;
+    }
+
+    private Object partValue(Parameter parameter, MultipartBody multipart, String partName) {
+        Class<?> type = parameter.getType();
+        if (type == MultipartFile.class) {
+            return multipart.getFile(partName);
+        }
+        if (type == List.class && isListOfFiles(parameter.getParameterizedType())) {
+            List<MultipartFile> files = multipart.getFiles(partName);
+            return files.isEmpty() ? null : files;
+        }
+        String field = multipart.getField(partName);
+        return field == null ? null : TypeConverter.convert(field, type);
+    }
+
+    private static boolean isListOfFiles(Type type) {
+        return type instanceof ParameterizedType pt
+                && pt.getActualTypeArguments()[0] == MultipartFile.class;
+    }
+}
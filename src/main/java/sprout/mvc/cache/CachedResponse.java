@@ -0,0 +1,39 @@
+package sprout.mvc.cache;
+
+import sprout.mvc.http.ResponseCode;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * 캐시된 응답 하나. 인코딩된 바디는 힙 밖(direct buffer)에 읽기 전용으로 보관하고,
+ * 꺼낼 때는 duplicate()만 넘기므로 히트 시 바디 복사가 소켓 버퍼로의 한 번뿐이다.
+ */
+final class CachedResponse {
+    final String path;
+    final ResponseCode statusCode;
+    final String contentType;
+    final Map<String, String> headers;
+    final ByteBuffer body;
+    final String etag;
+    final long expiresAtMillis;
+
+    CachedResponse(String path, ResponseCode statusCode, String contentType, Map<String, String> headers,
+                   ByteBuffer body, String etag, long expiresAtMillis) {
+        this.path = path;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+        this.etag = etag;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    int size() {
+        return body.capacity();
+    }
+
+    boolean isExpired(long now) {
+        return now >= expiresAtMillis;
+    }
+}
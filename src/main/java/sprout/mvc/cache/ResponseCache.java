@@ -0,0 +1,281 @@
+package sprout.mvc.cache;
+
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.mvc.annotation.CacheResponse;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.invoke.HandlerMethod;
+import sprout.mvc.mapping.RequestMappingInfo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static sprout.mvc.http.RequestKeys.appendComponent;
+
+/**
+ * GET 응답 캐시. {@link sprout.mvc.dispatcher.RequestDispatcher}가 필터 체인(보안 필터 포함)을 통과한 뒤,
+ * 핸들러 호출 직전에 조회한다.
+ *
+ * <ul>
+ *   <li>캐시 대상: {@link CacheResponse}가 붙은 핸들러, 또는 server.response-cache.routes에 등록된 라우트</li>
+ *   <li>저장: 인코딩이 끝난 바디를 direct buffer에 보관, 전체 용량(max-bytes)과 항목당 크기(max-entry-bytes) 제한</li>
+ *   <li>제거: TTL 만료, 용량 초과 시 오래된 순, {@link #evict(String)} / {@link #evictAll()}</li>
+ *   <li>검증: 바디 해시로 강한 ETag를 만들고, If-None-Match가 일치하면 핸들러 없이 304</li>
+ * </ul>
+ */
+@Component
+public class ResponseCache {
+    private static final ResponseCachePolicy NOT_CACHED = new ResponseCachePolicy(0, new String[0], new String[0]);
+
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final LongSupplier clock;
+    // 설정 파일로 지정한 라우트 패턴 → 정책
+    private final Map<String, ResponseCachePolicy> configuredRoutes;
+    // 핸들러별 정책 캐시 (대상이 아니면 NOT_CACHED)
+    private final Map<RequestMappingInfo, ResponseCachePolicy> policies = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    // 용량 초과 시 제거 순서 (저장/제거는 드물어서 이 맵만 락으로 보호하고, 조회는 entries에서 락 없이)
+    private final LinkedHashMap<String, Boolean> insertionOrder = new LinkedHashMap<>();
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    public ResponseCache(AppConfig appConfig) {
+        this(appConfig.getIntProperty("server.response-cache.max-bytes", 64 * 1024 * 1024),
+             appConfig.getIntProperty("server.response-cache.max-entry-bytes", 1024 * 1024),
+             routesFrom(appConfig.getListProperty("server.response-cache.routes")),
+             System::currentTimeMillis);
+    }
+
+    ResponseCache(long maxBytes, int maxEntryBytes, Map<String, ResponseCachePolicy> configuredRoutes, LongSupplier clock) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.configuredRoutes = configuredRoutes;
+        this.clock = clock;
+    }
+
+    /** 캐시 대상 요청이면 정책을, 아니면 null을 반환한다. */
+    public ResponseCachePolicy policyFor(HandlerMethod handlerMethod, HttpRequest<?> request) {
+        RequestMappingInfo info = handlerMethod.requestMappingInfo();
+        if (info == null || request.getMethod() != HttpMethod.GET) {
+            return null;
+        }
+        ResponseCachePolicy policy = policies.computeIfAbsent(info, this::resolvePolicy);
+        return policy == NOT_CACHED ? null : policy;
+    }
+
+    /**
+     * 경로와 지정한 쿼리 파라미터·Vary 헤더 값으로 키를 만든다. 값은 길이를 앞에 붙여(없으면 '-') 이어 붙이므로,
+     * 값에 구분자가 들어 있어도 서로 다른 요청이 같은 키가 되지 않는다.
+     */
+    public String keyFor(HttpRequest<?> request, ResponseCachePolicy policy) {
+        StringBuilder key = new StringBuilder(64).append(request.getMethod().name()).append(' ');
+        appendComponent(key, request.getPath());
+        Map<String, String> query = request.getQueryParams();
+        char separator = '?';
+        for (String name : policy.queryParams()) {
+            key.append(separator).append(name).append('=');
+            appendComponent(key, query != null ? query.get(name) : null);
+            separator = '&';
+        }
+        for (String name : policy.varyHeaders()) {
+            key.append('|').append(name).append('=');
+            appendComponent(key, header(request.getHeaders(), name));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시에 유효한 응답이 있으면 응답을 채우고 true를 반환한다 (If-None-Match 일치 시 304).
+     */
+    public boolean serve(String key, HttpRequest<?> request, HttpResponse response) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null || cached.isExpired(clock.getAsLong())) {
+            return false;
+        }
+        response.setResponseEntity(toResponseEntity(cached, request));
+        return true;
+    }
+
+    /**
+     * 핸들러가 만든 응답을 저장하고, 저장된 버전(ETag 포함)으로 응답을 교체한다.
+     * 200이 아니거나, 쿠키를 설정하거나, 항목 크기 제한을 넘는 응답은 저장하지 않는다.
+     */
+    public void store(String key, ResponseCachePolicy policy, HttpRequest<?> request, HttpResponse response) {
+        ResponseEntity<?> entity = response.getResponseEntity();
+        if (entity == null || entity.getStatusCode() != ResponseCode.SUCCESS || entity.getBody() == null) {
+            return;
+        }
+        Map<String, String> headers = entity.getHeaders() != null ? entity.getHeaders() : Map.of();
+        if (header(headers, "Set-Cookie") != null) {
+            return;
+        }
+        byte[] bodyBytes = bodyBytes(entity.getBody());
+        if (bodyBytes.length > maxEntryBytes || bodyBytes.length > maxBytes) {
+            return;
+        }
+
+        Map<String, String> cachedHeaders = new HashMap<>(headers);
+        String etag = strongEtag(bodyBytes);
+        cachedHeaders.put("ETag", etag);
+        if (policy.varyHeaders().length > 0) {
+            cachedHeaders.put("Vary", String.join(", ", policy.varyHeaders()));
+        }
+
+        ByteBuffer body = ByteBuffer.allocateDirect(bodyBytes.length);
+        body.put(bodyBytes).flip();
+        CachedResponse cached = new CachedResponse(request.getPath(), entity.getStatusCode(), entity.getContentType(),
+                Map.copyOf(cachedHeaders), body.asReadOnlyBuffer(), etag, clock.getAsLong() + policy.ttlMillis());
+
+        put(key, cached);
+        response.setResponseEntity(toResponseEntity(cached, request));
+    }
+
+    /** 경로가 같은 모든 항목(쿼리/헤더 조합 전부)을 제거한다. */
+    public synchronized void evict(String path) {
+        Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, CachedResponse> entry = it.next();
+            if (entry.getValue().path.equals(path)) {
+                it.remove();
+                insertionOrder.remove(entry.getKey());
+                usedBytes.addAndGet(-entry.getValue().size());
+            }
+        }
+    }
+
+    public synchronized void evictAll() {
+        entries.clear();
+        insertionOrder.clear();
+        usedBytes.set(0);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    private synchronized void put(String key, CachedResponse cached) {
+        CachedResponse previous = entries.put(key, cached);
+        if (previous != null) {
+            usedBytes.addAndGet(-previous.size());
+            insertionOrder.remove(key);
+        }
+        insertionOrder.put(key, Boolean.TRUE);
+        long used = usedBytes.addAndGet(cached.size());
+
+        // 용량을 넘으면 만료된 것 → 오래된 것 순으로 제거
+        if (used > maxBytes) {
+            long now = clock.getAsLong();
+            entries.entrySet().removeIf(e -> {
+                if (!e.getKey().equals(key) && e.getValue().isExpired(now)) {
+                    insertionOrder.remove(e.getKey());
+                    usedBytes.addAndGet(-e.getValue().size());
+                    return true;
+                }
+                return false;
+            });
+        }
+        Iterator<String> oldest = insertionOrder.keySet().iterator();
+        while (usedBytes.get() > maxBytes && oldest.hasNext()) {
+            String victim = oldest.next();
+            if (victim.equals(key)) continue;
+            oldest.remove();
+            CachedResponse removed = entries.remove(victim);
+            if (removed != null) {
+                usedBytes.addAndGet(-removed.size());
+            }
+        }
+    }
+
+    private ResponseEntity<?> toResponseEntity(CachedResponse cached, HttpRequest<?> request) {
+        if (matchesIfNoneMatch(header(request.getHeaders(), "If-None-Match"), cached.etag)) {
+            Map<String, String> headers = new HashMap<>();
+            headers.put("ETag", cached.etag);
+            String vary = cached.headers.get("Vary");
+            if (vary != null) headers.put("Vary", vary);
+            return new ResponseEntity<>(null, headers, ResponseCode.NOT_MODIFIED, cached.contentType);
+        }
+        return new ResponseEntity<>(cached.body.duplicate(), new HashMap<>(cached.headers), cached.statusCode, cached.contentType);
+    }
+
+    private ResponseCachePolicy resolvePolicy(RequestMappingInfo info) {
+        CacheResponse annotation = info.handlerMethod() != null ? info.handlerMethod().getAnnotation(CacheResponse.class) : null;
+        if (annotation != null) {
+            return ResponseCachePolicy.from(annotation);
+        }
+        ResponseCachePolicy configured = configuredRoutes.get(info.pattern().getOriginalPattern());
+        return configured != null ? configured : NOT_CACHED;
+    }
+
+    static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2); // If-None-Match는 약한 비교
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    static String strongEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder sb = new StringBuilder(18).append('"');
+            for (int i = 0; i < 8; i++) {
+                sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return sb.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body instanceof byte[] bytes) return bytes;
+        if (body instanceof ByteBuffer buffer) {
+            ByteBuffer src = buffer.duplicate();
+            byte[] bytes = new byte[src.remaining()];
+            src.get(bytes);
+            return bytes;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String header(Map<String, String> headers, String name) {
+        if (headers == null) return null;
+        String value = headers.get(name);
+        if (value != null) return value;
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) return entry.getValue();
+        }
+        return null;
+    }
+
+    private static Map<String, ResponseCachePolicy> routesFrom(List<?> routes) {
+        Map<String, ResponseCachePolicy> result = new HashMap<>();
+        for (Object route : routes) {
+            if (route instanceof Map<?, ?> map && map.get("path") != null) {
+                result.put(map.get("path").toString(), ResponseCachePolicy.from(map));
+            }
+        }
+        return result;
+    }
+}
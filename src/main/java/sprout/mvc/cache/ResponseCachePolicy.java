@@ -0,0 +1,37 @@
+package sprout.mvc.cache;
+
+import sprout.mvc.annotation.CacheResponse;
+
+import java.util.List;
+import java.util.Map;
+
+public record ResponseCachePolicy(long ttlMillis, String[] queryParams, String[] varyHeaders) {
+
+    public static ResponseCachePolicy from(CacheResponse annotation) {
+        return new ResponseCachePolicy(annotation.ttlSeconds() * 1000L, annotation.queryParams(), annotation.vary());
+    }
+
+    /**
+     * application.yml의 server.response-cache.routes 항목 하나를 정책으로 변환한다.
+     * <pre>
+     * - path: /products/{id}
+     *   ttl-seconds: 30
+     *   query-params: [lang]
+     *   vary: [Accept]
+     * </pre>
+     */
+    static ResponseCachePolicy from(Map<?, ?> route) {
+        Object ttl = route.get("ttl-seconds");
+        long ttlSeconds = ttl instanceof Number n ? n.longValue() : ttl != null ? Long.parseLong(ttl.toString()) : 60;
+        return new ResponseCachePolicy(ttlSeconds * 1000L,
+                toArray(route.get("query-params"), new String[0]),
+                toArray(route.get("vary"), new String[]{"Accept"}));
+    }
+
+    private static String[] toArray(Object value, String[] defaultValue) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(Object::toString).toArray(String[]::new);
+        }
+        return value != null ? new String[]{value.toString()} : defaultValue;
+    }
+}
@@ -0,0 +1,29 @@
+package sprout.mvc.coalesce;
+
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 리더가 만든 응답을 한 번 인코딩해 둔 것. 대기 요청마다 바디 뷰(duplicate)와 헤더 사본만 새로 만든다.
+ */
+final class CoalescedResponse {
+    final ResponseCode statusCode;
+    final String contentType;
+    final Map<String, String> headers;
+    final ByteBuffer body;
+
+    CoalescedResponse(ResponseCode statusCode, String contentType, Map<String, String> headers, ByteBuffer body) {
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    ResponseEntity<ByteBuffer> toResponseEntity() {
+        return new ResponseEntity<>(body.duplicate(), new HashMap<>(headers), statusCode, contentType);
+    }
+}
@@ -0,0 +1,40 @@
+package sprout.mvc.coalesce;
+
+import sprout.mvc.annotation.CoalesceRequests;
+
+import java.util.List;
+import java.util.Map;
+
+public record CoalescingPolicy(String[] queryParams, String[] varyHeaders, boolean perPrincipal, int maxWaiters) {
+
+    public static CoalescingPolicy from(CoalesceRequests annotation) {
+        return new CoalescingPolicy(annotation.queryParams(), annotation.vary(), annotation.perPrincipal(), annotation.maxWaiters());
+    }
+
+    /**
+     * application.yml의 server.request-coalescing.routes 항목 하나를 정책으로 변환한다.
+     * <pre>
+     * - path: /products/{id}
+     *   query-params: [lang]
+     *   vary: [Accept]
+     *   per-principal: true
+     *   max-waiters: 1000
+     * </pre>
+     */
+    static CoalescingPolicy from(Map<?, ?> route) {
+        Object perPrincipal = route.get("per-principal");
+        Object maxWaiters = route.get("max-waiters");
+        return new CoalescingPolicy(
+                toArray(route.get("query-params"), new String[0]),
+                toArray(route.get("vary"), new String[]{"Accept"}),
+                perPrincipal == null || Boolean.parseBoolean(perPrincipal.toString()),
+                maxWaiters instanceof Number n ? n.intValue() : maxWaiters != null ? Integer.parseInt(maxWaiters.toString()) : 1000);
+    }
+
+    private static String[] toArray(Object value, String[] defaultValue) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(Object::toString).toArray(String[]::new);
+        }
+        return value != null ? new String[]{value.toString()} : defaultValue;
+    }
+}
@@ -0,0 +1,231 @@
+package sprout.mvc.coalesce;
+
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.mvc.annotation.CoalesceRequests;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.invoke.HandlerMethod;
+import sprout.mvc.mapping.RequestMappingInfo;
+import sprout.security.context.SecurityContextHolder;
+import sprout.security.core.Authentication;
+import sprout.security.core.SecurityContext;
+import sprout.security.core.UserDetails;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static sprout.mvc.http.RequestKeys.appendComponent;
+
+/**
+ * 동일한 GET 요청의 single-flight 실행. {@link sprout.mvc.dispatcher.RequestDispatcher}가 응답 캐시 조회 뒤,
+ * 핸들러 호출 직전에 {@link #join}한다.
+ *
+ * <ul>
+ *   <li>대상: {@link CoalesceRequests}가 붙은 핸들러, 또는 server.request-coalescing.routes에 등록된 라우트</li>
+ *   <li>같은 키의 실행이 진행 중이 아니면 리더가 되어 핸들러를 실행하고, 끝나면 {@link #complete}로 결과를 넘긴다</li>
+ *   <li>진행 중이면 그 결과를 기다린다. 기다리는 동안 워커 스레드를 잡지 않도록 비동기 응답으로 처리된다</li>
+ *   <li>리더가 예외로 끝나면 대기 요청 모두가 같은 예외로 각자의 예외 처리를 거친다</li>
+ * </ul>
+ * 공유 응답에서는 Set-Cookie를 뺀다 (쿠키는 리더 요청에게만 간다).
+ */
+@Component
+public class RequestCoalescer {
+    private static final CoalescingPolicy NOT_COALESCED = new CoalescingPolicy(new String[0], new String[0], false, 0);
+
+    public enum Role {
+        /** 핸들러를 직접 실행하고 결과를 공유해야 한다 */
+        LEADER,
+        /** 진행 중인 실행의 결과를 기다린다 */
+        FOLLOWER,
+        /** 대기 요청 수 제한을 넘었다 */
+        REJECTED
+    }
+
+    /** 키 하나에 대해 진행 중인 실행 */
+    public static final class Flight {
+        private final String key;
+        private final int maxWaiters;
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final CompletableFuture<CoalescedResponse> result = new CompletableFuture<>();
+
+        Flight(String key, int maxWaiters) {
+            this.key = key;
+            this.maxWaiters = maxWaiters;
+        }
+
+        private boolean tryAttach() {
+            int current;
+            do {
+                current = waiters.get();
+                if (current >= maxWaiters) return false;
+            } while (!waiters.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * 리더의 결과가 나오면 응답을 채운다. 실패면 리더의 예외(Exception)를 넘긴다.
+         * 콜백은 리더의 실행을 마친 스레드에서 호출된다.
+         */
+        public void whenComplete(BiConsumer<ResponseEntity<?>, Exception> callback) {
+            result.whenComplete((shared, error) -> callback.accept(
+                    error == null ? shared.toResponseEntity() : null,
+                    error == null ? null : error instanceof Exception e ? e : new RuntimeException(error)));
+        }
+
+        public int getWaiters() {
+            return waiters.get();
+        }
+    }
+
+    public record Participation(Role role, Flight flight) {
+    }
+
+    // 설정 파일로 지정한 라우트 패턴 → 정책
+    private final Map<String, CoalescingPolicy> configuredRoutes;
+    // 핸들러별 정책 캐시 (대상이 아니면 NOT_COALESCED)
+    private final Map<RequestMappingInfo, CoalescingPolicy> policies = new ConcurrentHashMap<>();
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(AppConfig appConfig) {
+        this(routesFrom(appConfig.getListProperty("server.request-coalescing.routes")));
+    }
+
+    RequestCoalescer(Map<String, CoalescingPolicy> configuredRoutes) {
+        this.configuredRoutes = configuredRoutes;
+    }
+
+    /** 합치기 대상 요청이면 정책을, 아니면 null을 반환한다. */
+    public CoalescingPolicy policyFor(HandlerMethod handlerMethod, HttpRequest<?> request) {
+        RequestMappingInfo info = handlerMethod.requestMappingInfo();
+        if (info == null || request.getMethod() != HttpMethod.GET) {
+            return null;
+        }
+        CoalescingPolicy policy = policies.computeIfAbsent(info, this::resolvePolicy);
+        return policy == NOT_COALESCED ? null : policy;
+    }
+
+    /**
+     * 경로와 지정한 쿼리 파라미터·Vary 헤더 값, 필요하면 사용자 이름으로 키를 만든다. 값은 응답 캐시 키와 같은 방식으로
+     * 길이를 앞에 붙여 이어 붙이므로 다른 요청의 결과를 받는 일이 없다.
+     */
+    public String keyFor(HttpRequest<?> request, CoalescingPolicy policy) {
+        StringBuilder key = new StringBuilder(64).append(request.getMethod().name()).append(' ');
+        appendComponent(key, request.getPath());
+        char separator = '?';
+        for (String name : policy.queryParams()) {
+            key.append(separator).append(name).append('=');
+            appendComponent(key, request.getQueryParam(name));
+            separator = '&';
+        }
+        for (String name : policy.varyHeaders()) {
+            key.append('|').append(name).append('=');
+            appendComponent(key, request.getHeader(name));
+        }
+        if (policy.perPrincipal()) {
+            key.append("|@");
+            appendComponent(key, principalName());
+        }
+        return key.toString();
+    }
+
+    public Participation join(String key, CoalescingPolicy policy) {
+        Flight existing = flights.get(key);
+        if (existing == null) {
+            Flight created = new Flight(key, policy.maxWaiters());
+            existing = flights.putIfAbsent(key, created);
+            if (existing == null) {
+                return new Participation(Role.LEADER, created);
+            }
+        }
+        // 리더가 막 끝났더라도 붙으면 바로 결과를 받는다 (complete는 맵에서 먼저 뺀 뒤 결과를 채운다)
+        return existing.tryAttach()
+                ? new Participation(Role.FOLLOWER, existing)
+                : new Participation(Role.REJECTED, existing);
+    }
+
+    /**
+     * 리더의 실행이 끝났을 때 호출한다. {@code failure}가 있으면 대기 요청 모두에 그 예외를, 없으면 응답을 넘긴다.
+     * 이후 같은 키로 들어오는 요청은 새 실행을 시작한다.
+     */
+    public void complete(Flight flight, HttpResponse response, Exception failure) {
+        flights.remove(flight.key, flight);
+        if (failure != null) {
+            flight.result.completeExceptionally(failure);
+            return;
+        }
+        ResponseEntity<?> entity = response.getResponseEntity();
+        if (entity == null) {
+            flight.result.completeExceptionally(new IllegalStateException("Coalesced handler produced no response"));
+            return;
+        }
+        Map<String, String> headers = new HashMap<>();
+        if (entity.getHeaders() != null) {
+            for (Map.Entry<String, String> header : entity.getHeaders().entrySet()) {
+                if (!header.getKey().equalsIgnoreCase("Set-Cookie")) {
+                    headers.put(header.getKey(), header.getValue());
+                }
+            }
+        }
+        ByteBuffer body = ByteBuffer.wrap(bodyBytes(entity.getBody())).asReadOnlyBuffer();
+        flight.result.complete(new CoalescedResponse(entity.getStatusCode(), entity.getContentType(), Map.copyOf(headers), body));
+    }
+
+    /** 진행 중인 실행 수 */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private CoalescingPolicy resolvePolicy(RequestMappingInfo info) {
+        CoalesceRequests annotation = info.handlerMethod() != null ? info.handlerMethod().getAnnotation(CoalesceRequests.class) : null;
+        if (annotation != null) {
+            return CoalescingPolicy.from(annotation);
+        }
+        CoalescingPolicy configured = configuredRoutes.get(info.pattern().getOriginalPattern());
+        return configured != null ? configured : NOT_COALESCED;
+    }
+
+    private static String principalName() {
+        if (SecurityContextHolder.getContextHolderStrategy() == null) {
+            return null;
+        }
+        SecurityContext context = SecurityContextHolder.getContext();
+        Authentication authentication = context != null ? context.getAuthentication() : null;
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        return principal instanceof UserDetails user ? user.getUsername() : String.valueOf(principal);
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) return new byte[0];
+        if (body instanceof byte[] bytes) return bytes;
+        if (body instanceof ByteBuffer buffer) {
+            ByteBuffer src = buffer.duplicate();
+            byte[] bytes = new byte[src.remaining()];
+            src.get(bytes);
+            return bytes;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, CoalescingPolicy> routesFrom(List<?> routes) {
+        Map<String, CoalescingPolicy> result = new HashMap<>();
+        for (Object route : routes) {
+            if (route instanceof Map<?, ?> map && map.get("path") != null) {
+                result.put(map.get("path").toString(), CoalescingPolicy.from(map));
+            }
+        }
+        return result;
+    }
+}
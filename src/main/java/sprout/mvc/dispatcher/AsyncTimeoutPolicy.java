@@ -0,0 +1,37 @@
+package sprout.mvc.dispatcher;
+
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.mvc.annotation.AsyncTimeout;
+import sprout.mvc.invoke.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비동기 핸들러의 라우트별 제한 시간. 핸들러 메서드별로 한 번만 계산해 둔다.
+ */
+@Component
+public class AsyncTimeoutPolicy {
+    private final long defaultTimeoutMillis;
+    private final Map<Method, Long> timeouts = new ConcurrentHashMap<>();
+
+    public AsyncTimeoutPolicy(AppConfig appConfig) {
+        this(appConfig.getIntProperty("server.async.timeout-ms", 30_000));
+    }
+
+    AsyncTimeoutPolicy(long defaultTimeoutMillis) {
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+    }
+
+    public long timeoutMillis(HandlerMethod handlerMethod) {
+        if (handlerMethod.requestMappingInfo() == null || handlerMethod.requestMappingInfo().handlerMethod() == null) {
+            return defaultTimeoutMillis;
+        }
+        return timeouts.computeIfAbsent(handlerMethod.requestMappingInfo().handlerMethod(), method -> {
+            AsyncTimeout annotation = method.getAnnotation(AsyncTimeout.class);
+            return annotation != null ? annotation.value() : defaultTimeoutMillis;
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package sprout.mvc.dispatcher;
+
+/**
+ * 마감 타이머와 핸들러 스레드 중 누가 응답을 완성할지 정한다. 먼저 호출한 쪽만 true를 받는다.
+ * 인터럽트는 락 안에서 걸기 때문에 핸들러 스레드가 {@link #finish()}를 통과한 뒤에는 인터럽트되지 않는다.
+ */
+final class DeadlineGuard {
+    private final Thread worker;
+    private boolean done;
+
+    DeadlineGuard(Thread worker) {
+        this.worker = worker;
+    }
+
+    /** 타이머 쪽. 이겼으면 핸들러 스레드를 인터럽트한다. */
+    synchronized boolean expire() {
+        if (done) return false;
+        done = true;
+        worker.interrupt();
+        return true;
+    }
+
+    /** 핸들러 스레드 쪽. */
+    synchronized boolean finish() {
+        if (done) return false;
+        done = true;
+        return true;
+    }
+}
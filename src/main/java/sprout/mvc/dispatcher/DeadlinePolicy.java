@@ -0,0 +1,114 @@
+package sprout.mvc.dispatcher;
+
+import sprout.beans.DisposableBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.mvc.annotation.RequestDeadline;
+import sprout.mvc.invoke.HandlerMethod;
+import sprout.mvc.mapping.RequestMappingInfo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트별 요청 마감 시간과 마감 타이머.
+ *
+ * <pre>
+ * server:
+ *   deadline:
+ *     default-ms: 0          # 0이면 제한 없음
+ *     routes:
+ *       - path: /api/reports/{id}
+ *         timeout-ms: 2000
+ * </pre>
+ * 우선순위는 {@link RequestDeadline} → routes → default-ms. 라우트별 값은 핸들러마다 한 번만 계산해 둔다.
+ * <p>
+ * 타이머 스레드는 하나뿐이라 예약과 넘겨주기만 한다. 마감 처리(예외 리졸버, afterCompletion, 응답 인코딩)는
+ * 가상 스레드에서 실행해, 느린 리졸버 하나가 다른 요청의 마감을 늦추지 않게 한다.
+ */
+@Component
+public class DeadlinePolicy implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(DeadlinePolicy.class);
+    private static final long NONE = 0L;
+
+    private final long defaultDeadlineMillis;
+    private final Map<String, Long> configuredRoutes;
+    private final Map<RequestMappingInfo, Long> deadlines = new ConcurrentHashMap<>();
+    // 취소된 타이머는 바로 큐에서 빠지도록 (대부분의 요청은 마감 전에 끝난다)
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService completions = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sprout-deadline-completion-", 0).factory());
+
+    public DeadlinePolicy(AppConfig appConfig) {
+        this(appConfig.getIntProperty("server.deadline.default-ms", 0),
+             routesFrom(appConfig.getListProperty("server.deadline.routes")));
+    }
+
+    DeadlinePolicy(long defaultDeadlineMillis, Map<String, Long> configuredRoutes) {
+        this.defaultDeadlineMillis = defaultDeadlineMillis;
+        this.configuredRoutes = configuredRoutes;
+        this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "sprout-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /** 핸들러의 마감 시간(ms). 0이면 마감 없음 */
+    public long deadlineMillis(HandlerMethod handlerMethod) {
+        RequestMappingInfo info = handlerMethod.requestMappingInfo();
+        if (info == null) {
+            return defaultDeadlineMillis;
+        }
+        return deadlines.computeIfAbsent(info, this::resolve);
+    }
+
+    /** 마감 시각에 {@code task}를 완료 스레드에서 실행한다. 핸들러가 먼저 끝나면 반환된 future를 취소한다. */
+    public ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        return timer.schedule(() -> {
+            try {
+                completions.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 컨텍스트가 닫히는 중이다. 응답이 영영 나가지 않는 것보다는 타이머 스레드에서 처리한다
+                log.debug("Deadline completion executor is shut down; completing on the timer thread");
+                task.run();
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        completions.shutdown();
+    }
+
+    private long resolve(RequestMappingInfo info) {
+        RequestDeadline annotation = info.handlerMethod() != null ? info.handlerMethod().getAnnotation(RequestDeadline.class) : null;
+        if (annotation != null) {
+            return Math.max(NONE, annotation.value());
+        }
+        Long configured = info.pattern() != null ? configuredRoutes.get(info.pattern().getOriginalPattern()) : null;
+        return configured != null ? configured : defaultDeadlineMillis;
+    }
+
+    private static Map<String, Long> routesFrom(List<?> routes) {
+        Map<String, Long> result = new HashMap<>();
+        for (Object route : routes) {
+            if (route instanceof Map<?, ?> map && map.get("path") != null && map.get("timeout-ms") != null) {
+                result.put(map.get("path").toString(), Long.parseLong(map.get("timeout-ms").toString().trim()));
+            }
+        }
+        return result;
+    }
+}
@@ -1,28 +1,53 @@
 package sprout.mvc.dispatcher;
 
 import sprout.beans.annotation.Component;
+import sprout.core.deadline.Deadline;
+import sprout.core.deadline.DeadlineExceededException;
+import sprout.core.deadline.DeadlineHolder;
 import sprout.core.filter.Dispatcher;
 import sprout.core.filter.Filter;
 import sprout.core.filter.FilterChain;
 import sprout.core.interceptor.Interceptor;
 import sprout.core.interceptor.InterceptorChain;
+import sprout.jfr.FilterChainEvent;
+import sprout.jfr.HandlerInvocationEvent;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.advice.ControllerAdviceRegistry;
 import sprout.mvc.advice.ExceptionHandlerObject;
 import sprout.mvc.advice.ResponseAdvice;
+import sprout.mvc.cache.ResponseCache;
+import sprout.mvc.cache.ResponseCachePolicy;
+import sprout.mvc.coalesce.CoalescingPolicy;
+import sprout.mvc.coalesce.RequestCoalescer;
 import sprout.mvc.exception.ExceptionResolver;
 import sprout.mvc.http.*;
 import sprout.mvc.invoke.HandlerMethod;
 import sprout.mvc.invoke.HandlerMethodInvoker;
 import sprout.mvc.mapping.HandlerMapping;
+import sprout.mvc.mapping.RequestMappingInfo;
+import sprout.server.RequestExecutorService;
+import sprout.security.context.SecurityContextHolder;
+import sprout.server.WorkloadExecutors;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Component
 public class RequestDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(RequestDispatcher.class);
 
     private final HandlerMapping mapping;
     private final HandlerMethodInvoker invoker;
@@ -32,6 +57,11 @@ public class RequestDispatcher {
     private final List<Interceptor> interceptors;
     private final List<ExceptionResolver> exceptionResolvers;
     private final List<DispatchHook> dispatchHooks;
+    private final ResponseCache responseCache;
+    private final RequestCoalescer requestCoalescer;
+    private final AsyncTimeoutPolicy asyncTimeoutPolicy;
+    private final DeadlinePolicy deadlinePolicy;
+    private final WorkloadExecutors workloadExecutors;
 
     public RequestDispatcher(HandlerMapping mapping,
                              HandlerMethodInvoker invoker,
@@ -40,7 +70,12 @@ public class RequestDispatcher {
                              List<Filter> filters,
                              List<Interceptor> interceptors,
                              List<ExceptionResolver> exceptionResolvers,
-                             List<DispatchHook> dispatchHooks
+                             List<DispatchHook> dispatchHooks,
+                             ResponseCache responseCache,
+                             RequestCoalescer requestCoalescer,
+                             AsyncTimeoutPolicy asyncTimeoutPolicy,
+                             DeadlinePolicy deadlinePolicy,
+                             WorkloadExecutors workloadExecutors
     ) {
         this.mapping = mapping;
         this.invoker = invoker;
@@ -50,6 +85,11 @@ public class RequestDispatcher {
         this.interceptors = interceptors;
         this.exceptionResolvers = exceptionResolvers;
         this.dispatchHooks = dispatchHooks;
+        this.responseCache = responseCache;
+        this.requestCoalescer = requestCoalescer;
+        this.asyncTimeoutPolicy = asyncTimeoutPolicy;
+        this.deadlinePolicy = deadlinePolicy;
+        this.workloadExecutors = workloadExecutors;
     }
 
     public void dispatch(HttpRequest<?> req, HttpResponse res) throws IOException {
@@ -58,7 +98,17 @@ public class RequestDispatcher {
                 hook.beforeDispatch(req, res);
             }
 
+            FilterChainEvent event = new FilterChainEvent();
+            event.begin();
             new FilterChain(filters, this::doDispatch).doFilter(req, res);
+            if (event.shouldCommit()) {
+                ResponseEntity<?> entity = res.getResponseEntity();
+                event.method = String.valueOf(req.getMethod());
+                event.route = req.getRoutePattern();
+                event.status = entity != null && entity.getStatusCode() != null ? entity.getStatusCode().getCode() : 0;
+                event.async = res.isAsyncStarted();
+                event.commit();
+            }
         } finally {
             for (DispatchHook hook : dispatchHooks) {
                 hook.afterDispatch(req, res);
@@ -67,55 +117,383 @@ public class RequestDispatcher {
 
     }
 
+    /**
+     * 바디를 받기 전에 헤더만으로 필터 체인을 실행한다. 레이트 리밋·인증 같은 필터가 요청을 거절하면 응답이 res에 채워지고
+     * false를 반환하므로, 연결 핸들러는 바디를 읽거나 디스크에 쓰지 않고 바로 응답할 수 있다.
+     * 통과한 요청은 바디를 다 받은 뒤 {@link #dispatch}로 다시 처리된다 ({@link HttpRequest#isPreAdmitted()}).
+     * <p>
+     * 요청 하나가 두 번 집계되지 않도록 {@link DispatchHook}은 부르지 않는다. 보안 필터가 쓸 수 있게 보안 컨텍스트만 만들고 지운다.
+     */
+    public boolean admit(HttpRequest<?> req, HttpResponse res) throws IOException {
+        boolean[] admitted = {false};
+        // 보안 모듈이 초기화되지 않았으면 전략이 없다
+        boolean secured = SecurityContextHolder.getContextHolderStrategy() != null;
+        try {
+            if (secured) {
+                SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
+            }
+            new FilterChain(filters, (r, s) -> admitted[0] = true).doFilter(req, res);
+        } finally {
+            if (secured) {
+                SecurityContextHolder.clearContext();
+            }
+        }
+        req.setPreAdmitted(admitted[0]);
+        return admitted[0];
+    }
+
     private void doDispatch(HttpRequest<?> req, HttpResponse res) {
         HandlerMethod hm = null;
         Exception caughtException = null;
+        boolean async = false;
+        RequestCoalescer.Flight flight = null;
         InterceptorChain interceptorChain = new InterceptorChain(interceptors);
         try {
-            System.out.println(req.getPath() + "  " + req.getMethod().toString());
+            if (log.isDebugEnabled()) {
+                log.debug("Dispatching {} {}", req.getMethod(), req.getPath());
+            }
             hm = mapping.findHandler(req.getPath(), req.getMethod());
             if (hm == null) {
                 // FIX: BadRequestException 대신 404 응답을 생성
-                System.err.println("No handler found for: " + req.getMethod() + " " + req.getPath());
+                log.debug("No handler found for: {} {}", req.getMethod(), req.getPath());
                 res.setResponseEntity(
                         new ResponseEntity<>("Not Found", null, ResponseCode.NOT_FOUND)
                 );
                 return; // 핸들러가 없으므로 즉시 종료
             }
+            RequestMappingInfo mappingInfo = hm.requestMappingInfo();
+            if (mappingInfo != null) {
+                // 메트릭 등에서 경로 변수 값 대신 라우트 패턴으로 집계하도록 기록
+                req.setRoutePattern(mappingInfo.pattern().getOriginalPattern());
+            }
 
             if (!interceptorChain.applyPreHandle(req, res, hm)) {
                 return;
             }
 
-            Object returnValue = invoker.invoke(hm.requestMappingInfo(), req);
-            interceptorChain.applyPostHandle(req, res, hm, returnValue);
-            setResponseResolvers(returnValue, req, res);
+            // 필터(보안 포함)와 preHandle을 통과한 요청만 캐시를 조회 → 히트면 핸들러 호출 생략
+            ResponseCachePolicy cachePolicy = responseCache.policyFor(hm, req);
+            String cacheKey = null;
+            if (cachePolicy != null) {
+                cacheKey = responseCache.keyFor(req, cachePolicy);
+                if (responseCache.serve(cacheKey, req, res)) {
+                    // 핸들러 반환값 대신 캐시된 응답을 넘겨, 인터셉터는 히트에서도 preHandle/postHandle/afterCompletion을 모두 본다
+                    interceptorChain.applyPostHandle(req, res, hm, res.getResponseEntity());
+                    return;
+                }
+            }
+
+            // 같은 요청이 이미 실행 중이면 핸들러를 다시 부르지 않고 그 결과를 함께 받는다
+            CoalescingPolicy coalescingPolicy = requestCoalescer.policyFor(hm, req);
+            if (coalescingPolicy != null) {
+                RequestCoalescer.Participation participation =
+                        requestCoalescer.join(requestCoalescer.keyFor(req, coalescingPolicy), coalescingPolicy);
+                switch (participation.role()) {
+                    case LEADER -> flight = participation.flight();
+                    case FOLLOWER -> {
+                        async = true;
+                        followFlight(participation.flight(), req, res, hm, interceptorChain);
+                        return;
+                    }
+                    case REJECTED -> {
+                        res.setResponseEntity(new ResponseEntity<>(ResponseCode.SERVICE_UNAVAILABLE.getMessage(), null, ResponseCode.SERVICE_UNAVAILABLE));
+                        return;
+                    }
+                }
+            }
+
+            // CPU 작업 등 다른 워크로드로 지정된 핸들러는 그 실행기로 넘기고 이 스레드는 반환
+            RequestExecutorService workloadExecutor = workloadExecutors.executorFor(hm);
+            if (workloadExecutor != null) {
+                async = true;
+                dispatchToWorkload(workloadExecutor, req, res, hm, interceptorChain, cachePolicy, cacheKey, flight);
+                return;
+            }
+
+            async = invokeAndComplete(req, res, hm, interceptorChain, cachePolicy, cacheKey, flight);
 
         } catch (Exception e) { // 컨트롤러 또는 인터셉터에서 예외 발생 시
             caughtException = e;
-            System.err.println("Exception caught in doDispatch: " + e.getMessage());
-            e.printStackTrace(); // 디버깅용
-
-            Object handledReturnValue = null;
-            for (ExceptionResolver resolver : exceptionResolvers) {
-                handledReturnValue = resolver.resolveException(req, res, hm, caughtException);
-                if (handledReturnValue != null) {
-                    // 예외 리졸버가 응답을 직접 설정했을 수도 있고, 반환 값을 주었을 수도 있음
-                    // 반환 값이 있다면 ResponseResolvers로 처리
-                    if (handledReturnValue instanceof ResponseEntity) { // 이미 ResponseEntity라면 직접 설정
-                        res.setResponseEntity((ResponseEntity<?>) handledReturnValue);
-                    } else {
-                        setResponseResolvers(handledReturnValue, req, res);
+            handleException(e, req, res, hm);
+        } finally {
+            if (flight != null && !async) {
+                requestCoalescer.complete(flight, res, caughtException);
+            }
+            if (hm != null && !async) {
+                interceptorChain.applyAfterCompletion(req, res, hm, caughtException);
+            }
+        }
+
+    }
+
+    /**
+     * 핸들러 호출부터 응답 설정까지를 현재 스레드에서 수행한다.
+     * 응답을 비동기로 넘겼으면(마감 타이머, CompletionStage) true를 반환하며, 그때는 넘겨받은 쪽이 마무리한다.
+     */
+    private boolean invokeAndComplete(HttpRequest<?> req, HttpResponse res, HandlerMethod hm, InterceptorChain interceptorChain,
+                                      ResponseCachePolicy cachePolicy, String cacheKey, RequestCoalescer.Flight flight) throws Exception {
+        long deadlineMillis = deadlinePolicy.deadlineMillis(hm);
+        if (deadlineMillis > 0) {
+            Deadline deadline = Deadline.of(req.getReceivedNanos(), deadlineMillis);
+            if (deadline.isExpired()) {
+                // 워커를 기다리는 사이 이미 지났으면 핸들러를 부르지 않는다
+                throw new DeadlineExceededException("Request deadline exceeded before the handler started");
+            }
+            invokeWithDeadline(deadline, req, res, hm, interceptorChain, cachePolicy, cacheKey, flight);
+            return true;
+        }
+
+        Object returnValue = invokeHandler(hm, req);
+        if (returnValue instanceof CompletionStage<?> stage) {
+            // 워커 스레드는 바로 반환하고, 나머지(postHandle → 리졸버 → 캐시 → afterCompletion)는 완료 시점에 수행
+            startAsync(stage, req, res, hm, interceptorChain, cachePolicy, cacheKey, flight, asyncTimeoutPolicy.timeoutMillis(hm));
+            return true;
+        }
+        completeDispatch(returnValue, req, res, hm, interceptorChain, cachePolicy, cacheKey);
+        return false;
+    }
+
+    /**
+     * 워크로드 실행기에서 핸들러를 실행한다. 응답은 비동기로 표시해 두고 그 실행기의 스레드에서 완성한다.
+     * 실행기가 가득 차 거절하면 503.
+     */
+    private void dispatchToWorkload(RequestExecutorService executor, HttpRequest<?> req, HttpResponse res, HandlerMethod hm,
+                                    InterceptorChain interceptorChain, ResponseCachePolicy cachePolicy, String cacheKey,
+                                    RequestCoalescer.Flight flight) {
+        res.startAsync();
+        try {
+            executor.execute(() -> {
+                Exception caughtException = null;
+                boolean handedOff = false;
+                try {
+                    handedOff = invokeAndComplete(req, res, hm, interceptorChain, cachePolicy, cacheKey, flight);
+                } catch (Exception e) {
+                    caughtException = e;
+                    handleException(e, req, res, hm);
+                } finally {
+                    if (!handedOff) {
+                        finishAsync(req, res, hm, interceptorChain, flight, caughtException);
                     }
-                    return;
                 }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Workload executor rejected {} {}", req.getMethod(), req.getPath());
+            res.setResponseEntity(new ResponseEntity<>(ResponseCode.SERVICE_UNAVAILABLE.getMessage(), null, ResponseCode.SERVICE_UNAVAILABLE));
+            finishAsync(req, res, hm, interceptorChain, flight, e);
+        }
+    }
+
+    private Object invokeHandler(HandlerMethod hm, HttpRequest<?> req) throws Exception {
+        HandlerInvocationEvent event = new HandlerInvocationEvent();
+        event.begin();
+        String outcome = "error";
+        try {
+            Object returnValue = invoker.invoke(hm.requestMappingInfo(), req);
+            outcome = returnValue instanceof CompletionStage<?> ? "async" : "ok";
+            return returnValue;
+        } catch (Exception e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                RequestMappingInfo info = hm.requestMappingInfo();
+                event.route = req.getRoutePattern();
+                event.handler = info != null && info.handlerMethod() != null
+                        ? info.handlerMethod().getDeclaringClass().getSimpleName() + "#" + info.handlerMethod().getName()
+                        : null;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private void completeDispatch(Object returnValue, HttpRequest<?> req, HttpResponse res, HandlerMethod hm,
+                                  InterceptorChain interceptorChain, ResponseCachePolicy cachePolicy, String cacheKey) {
+        interceptorChain.applyPostHandle(req, res, hm, returnValue);
+        setResponseResolvers(returnValue, req, res);
+
+        if (cacheKey != null) {
+            responseCache.store(cacheKey, cachePolicy, req, res);
+        }
+    }
+
+    /**
+     * 마감이 있는 핸들러 호출. 응답을 먼저 비동기로 표시해 두고, 핸들러가 먼저 끝나면 이 스레드에서 응답을 완성한다.
+     * 마감이 먼저 오면 마감 완료 스레드가 503으로 응답을 완성하고 핸들러 스레드를 인터럽트하며, 핸들러의 결과는 버린다.
+     */
+    private void invokeWithDeadline(Deadline deadline, HttpRequest<?> req, HttpResponse res, HandlerMethod hm,
+                                    InterceptorChain interceptorChain, ResponseCachePolicy cachePolicy, String cacheKey,
+                                    RequestCoalescer.Flight flight) {
+        res.startAsync();
+        DeadlineGuard guard = new DeadlineGuard(Thread.currentThread());
+        ScheduledFuture<?> timer = deadlinePolicy.schedule(() -> {
+            if (guard.expire()) {
+                log.debug("Deadline exceeded for {} {}", req.getMethod(), req.getPath());
+                DeadlineExceededException exceeded = new DeadlineExceededException("Request deadline exceeded");
+                handleException(exceeded, req, res, hm);
+                finishAsync(req, res, hm, interceptorChain, flight, exceeded);
+            }
+        }, deadline.remainingNanos());
+
+        Object returnValue = null;
+        Exception failure = null;
+        DeadlineHolder.set(deadline);
+        try {
+            returnValue = invokeHandler(hm, req);
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            DeadlineHolder.clear();
+        }
+
+        if (!guard.finish()) {
+            // 타이머가 이미 응답했다. 인터럽트 표시를 지워 이 스레드의 다음 작업에 새지 않게 한다
+            Thread.interrupted();
+            if (returnValue instanceof Future<?> future) {
+                future.cancel(true);
+            }
+            return;
+        }
+        timer.cancel(false);
+
+        if (failure == null && returnValue instanceof CompletionStage<?> stage) {
+            // 남은 마감이 비동기 완료 제한 시간이 된다 (@AsyncTimeout 쪽이 더 짧으면 그쪽)
+            long timeoutMillis = Math.min(asyncTimeoutPolicy.timeoutMillis(hm), Math.max(1, deadline.remainingMillis()));
+            startAsync(stage, req, res, hm, interceptorChain, cachePolicy, cacheKey, flight, timeoutMillis);
+            return;
+        }
+
+        Exception caughtException = failure;
+        try {
+            if (failure == null) {
+                completeDispatch(returnValue, req, res, hm, interceptorChain, cachePolicy, cacheKey);
+            } else {
+                handleException(failure, req, res, hm);
+            }
+        } catch (Exception e) {
+            caughtException = e;
+            handleException(e, req, res, hm);
+        } finally {
+            finishAsync(req, res, hm, interceptorChain, flight, caughtException);
+        }
+    }
+
+    private void startAsync(CompletionStage<?> stage, HttpRequest<?> req, HttpResponse res, HandlerMethod hm,
+                            InterceptorChain interceptorChain, ResponseCachePolicy cachePolicy, String cacheKey,
+                            RequestCoalescer.Flight flight, long timeoutMillis) {
+        res.startAsync();
+
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        stage.whenComplete((value, error) -> {
+            if (error != null) result.completeExceptionally(error);
+            else result.complete(value);
+        });
+        result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        // 완료한 스레드(다운스트림 또는 타임아웃 스케줄러)에서 응답을 만들고 연결 쪽 리스너에 넘긴다
+        HandlerMethod handler = hm;
+        result.whenComplete((value, error) -> {
+            Exception caughtException = null;
+            try {
+                if (error == null) {
+                    completeDispatch(value, req, res, handler, interceptorChain, cachePolicy, cacheKey);
+                } else if (unwrap(error) instanceof TimeoutException) {
+                    if (stage instanceof Future<?> future) {
+                        future.cancel(true);
+                    }
+                    res.setResponseEntity(new ResponseEntity<>(ResponseCode.SERVICE_UNAVAILABLE.getMessage(), null, ResponseCode.SERVICE_UNAVAILABLE));
+                } else {
+                    Throwable cause = unwrap(error);
+                    caughtException = cause instanceof Exception ex ? ex : new RuntimeException(cause);
+                    handleException(caughtException, req, res, handler);
+                }
+            } catch (Exception e) {
+                caughtException = e;
+                handleException(e, req, res, handler);
+            } finally {
+                finishAsync(req, res, handler, interceptorChain, flight, caughtException);
             }
+        });
+    }
+
+    /** 비동기로 표시한 응답의 마무리: afterCompletion → (미처리 실패면 500) → 합쳐진 요청에 결과 전달 → 연결 쪽 리스너 호출 */
+    private void finishAsync(HttpRequest<?> req, HttpResponse res, HandlerMethod hm, InterceptorChain interceptorChain,
+                             RequestCoalescer.Flight flight, Exception caughtException) {
+        try {
+            interceptorChain.applyAfterCompletion(req, res, hm, caughtException);
         } finally {
-            if (hm != null) {
-                interceptorChain.applyAfterCompletion(req, res, hm, caughtException);
+            if (!res.isCommitted()) {
+                // 처리되지 않은 비동기 실패: 연결이 응답을 기다리며 멈추지 않도록 500으로 마무리
+                res.setResponseEntity(new ResponseEntity<>(ResponseCode.INTERNAL_SERVER_ERROR.getMessage(), null, ResponseCode.INTERNAL_SERVER_ERROR));
+            }
+            try {
+                if (flight != null) {
+                    requestCoalescer.complete(flight, res, caughtException);
+                }
+            } finally {
+                res.completeAsync();
+            }
+        }
+    }
+
+    /**
+     * 같은 키로 실행 중인 리더의 결과를 기다린다. 워커 스레드는 바로 반환하고(비동기 응답),
+     * 리더의 실행을 마친 스레드에서 공유 응답을 채우거나 리더의 예외로 이 요청의 예외 처리를 수행한다.
+     */
+    private void followFlight(RequestCoalescer.Flight flight, HttpRequest<?> req, HttpResponse res, HandlerMethod hm,
+                              InterceptorChain interceptorChain) {
+        res.startAsync();
+        flight.whenComplete((shared, failure) -> {
+            Exception caughtException = failure;
+            try {
+                if (failure == null) {
+                    res.setResponseEntity(shared);
+                    // 캐시 히트와 마찬가지로 공유 응답을 넘겨, 인터셉터는 대기 요청에서도 세 콜백을 모두 본다
+                    interceptorChain.applyPostHandle(req, res, hm, shared);
+                } else {
+                    handleException(failure, req, res, hm);
+                }
+            } catch (Exception e) {
+                caughtException = e;
+                handleException(e, req, res, hm);
+            } finally {
+                try {
+                    interceptorChain.applyAfterCompletion(req, res, hm, caughtException);
+                } finally {
+                    if (!res.isCommitted()) {
+                        res.setResponseEntity(new ResponseEntity<>(ResponseCode.INTERNAL_SERVER_ERROR.getMessage(), null, ResponseCode.INTERNAL_SERVER_ERROR));
+                    }
+                    res.completeAsync();
+                }
+            }
+        });
+    }
+
+    private void handleException(Exception caughtException, HttpRequest<?> req, HttpResponse res, HandlerMethod hm) {
+        log.debug("Exception caught in doDispatch", caughtException);
+
+        Object handledReturnValue = null;
+        for (ExceptionResolver resolver : exceptionResolvers) {
+            handledReturnValue = resolver.resolveException(req, res, hm, caughtException);
+            if (handledReturnValue != null) {
+                // 예외 리졸버가 응답을 직접 설정했을 수도 있고, 반환 값을 주었을 수도 있음
+                // 반환 값이 있다면 ResponseResolvers로 처리
+                if (handledReturnValue instanceof ResponseEntity) { // 이미 ResponseEntity라면 직접 설정
+                    res.setResponseEntity((ResponseEntity<?>) handledReturnValue);
+                } else {
+                    setResponseResolvers(handledReturnValue, req, res);
+                }
+                return;
             }
         }
+        log.error("Unhandled exception for {} {}", req.getMethod(), req.getPath(), caughtException);
+    }
 
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
     }
 
     private void setResponseResolvers(Object returnValue, HttpRequest<?> req, HttpResponse res) {
@@ -2,6 +2,7 @@ package sprout.mvc.exception;
 
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
+import sprout.core.deadline.DeadlineExceededException;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.HttpResponse;
 import sprout.mvc.http.ResponseCode;
@@ -20,6 +21,8 @@ public class DefaultExceptionResolver implements ExceptionResolver{
             response.setResponseEntity(new ResponseEntity<>("Access Denied: " + exception.getMessage(), null, ResponseCode.FORBIDDEN));
         } else if (exception instanceof LoginException) {
             response.setResponseEntity(new ResponseEntity<>("Unauthorized: " + exception.getMessage(), null, ResponseCode.UNAUTHORIZED));
+        } else if (exception instanceof DeadlineExceededException) {
+            response.setResponseEntity(new ResponseEntity<>(ResponseCode.SERVICE_UNAVAILABLE.getMessage(), null, ResponseCode.SERVICE_UNAVAILABLE));
         } else {
             response.setResponseEntity(new ResponseEntity<>("Internal Server Error: " + exception.getMessage(), null, ResponseCode.INTERNAL_SERVER_ERROR));
         }
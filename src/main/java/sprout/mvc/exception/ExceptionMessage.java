@@ -2,4 +2,5 @@ package sprout.mvc.exception;
 
 public class ExceptionMessage {
     public static final String BAD_REQUEST = "Bad Request";
+    public static final String MALFORMED_REQUEST_BODY = "Malformed request body";
 }
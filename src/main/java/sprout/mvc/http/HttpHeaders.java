@@ -0,0 +1,92 @@
+package sprout.mvc.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 요청 헤더 뷰. 이름 비교는 대소문자를 무시하고, 조회하지 않은 헤더는 문자열로 만들지 않는다.
+ */
+public final class HttpHeaders extends RawMultiValueMap {
+    private static final HttpHeaders EMPTY = new HttpHeaders(Map.of());
+
+    private HttpHeaders(byte[] raw, int from, int to) {
+        super(raw, from, to);
+    }
+
+    private HttpHeaders(Map<String, String> source) {
+        super(source);
+    }
+
+    /** 요청라인 다음부터 빈 줄 전까지의 헤더 구간 [from, to)를 감싼다. */
+    public static HttpHeaders parse(byte[] raw, int from, int to) {
+        return from >= to ? EMPTY : new HttpHeaders(raw, from, to);
+    }
+
+    public static HttpHeaders of(Map<String, String> headers) {
+        if (headers instanceof HttpHeaders httpHeaders) return httpHeaders;
+        return headers.isEmpty() ? EMPTY : new HttpHeaders(headers);
+    }
+
+    @Override
+    protected void scan(byte[] raw, int from, int to) {
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && raw[lineEnd] != '\n') lineEnd++;
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && raw[lineEnd - 1] == '\r') lineEnd--;
+
+            int colon = lineStart;
+            while (colon < lineEnd && raw[colon] != ':') colon++;
+            if (colon < lineEnd) { // 콜론이 없는 줄(빈 줄, 요청라인 등)은 무시
+                int nameStart = skipWhitespace(raw, lineStart, colon);
+                int nameEnd = trimWhitespace(raw, nameStart, colon);
+                if (nameStart < nameEnd) {
+                    int valueStart = skipWhitespace(raw, colon + 1, lineEnd);
+                    addEntry(nameStart, nameEnd, valueStart, trimWhitespace(raw, valueStart, lineEnd));
+                }
+            }
+            lineStart = next;
+        }
+    }
+
+    @Override
+    protected String decodeKey(byte[] raw, int start, int end) {
+        return new String(raw, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    protected String decodeValue(byte[] raw, int start, int end) {
+        return new String(raw, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean keyEquals(String a, String b) {
+        return a.equalsIgnoreCase(b);
+    }
+
+    @Override
+    protected boolean rawKeyMatches(byte[] raw, int start, int end, String name) {
+        if (end - start != name.length()) return false;
+        for (int i = 0; i < name.length(); i++) {
+            int b = raw[start + i] & 0xFF;
+            char c = name.charAt(i);
+            if (b != c && toLowerAscii(b) != toLowerAscii(c)) return false;
+        }
+        return true;
+    }
+
+    private static int toLowerAscii(int c) {
+        return (c >= 'A' && c <= 'Z') ? c + ('a' - 'A') : c;
+    }
+
+    private static int skipWhitespace(byte[] raw, int start, int end) {
+        while (start < end && (raw[start] == ' ' || raw[start] == '\t')) start++;
+        return start;
+    }
+
+    private static int trimWhitespace(byte[] raw, int start, int end) {
+        while (end > start && (raw[end - 1] == ' ' || raw[end - 1] == '\t')) end--;
+        return end;
+    }
+}
@@ -1,7 +1,12 @@
 package sprout.mvc.http;
 
+import sprout.mvc.http.multipart.MultipartBody;
 
-import java.util.Collections;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -10,23 +15,50 @@ public class HttpRequest<T> {
     private HttpMethod method;
     private String path;
     private T body;
-    private Map<String, String> queryParams;
-    private Map<String, String> headers;
+    private final ByteBuffer rawBody;
+    private final QueryParameters queryParams;
+    private final HttpHeaders headers;
     private String sessionId;
+    private final long createdNanos = System.nanoTime();
+    // 요청 바이트를 마지막까지 읽은 시점. 연결 핸들러가 알려주지 않으면 생성 시점과 같다
+    private volatile long receivedNanos = createdNanos;
+    // 매칭된 핸들러의 원본 패턴 (예: /users/{id}). 매칭 전이거나 핸들러가 없으면 null
+    private volatile String routePattern;
+    // 요청을 보낸 클라이언트 주소. 연결 핸들러가 채우며, 소켓 없이 만든 요청이면 null
+    private volatile SocketAddress remoteAddress;
+    // multipart/form-data 요청이면 연결 핸들러가 스트리밍으로 파싱한 결과
+    private volatile MultipartBody multipart;
+    // 바디를 받기 전에 헤더만으로 필터 체인을 이미 통과한 요청 (스트리밍 업로드)
+    private volatile boolean preAdmitted;
 
     public HttpRequest(HttpMethod method, String path, T body, Map<String, String> queryParams, Map<String, String> headers) {
+        this(method, path, body, null, queryParams, headers);
+    }
+
+    private HttpRequest(HttpMethod method, String path, T body, ByteBuffer rawBody, Map<String, String> queryParams, Map<String, String> headers) {
         this.method = method;
         this.path = path;
         this.body = body;
-        this.queryParams = Collections.unmodifiableMap(Objects.requireNonNull(queryParams, "Query parameters cannot be null"));;
-        this.headers = Collections.unmodifiableMap(Objects.requireNonNull(headers, "Headers cannot be null"));;
+        this.rawBody = rawBody;
+        this.queryParams = QueryParameters.of(Objects.requireNonNull(queryParams, "Query parameters cannot be null"));
+        this.headers = HttpHeaders.of(Objects.requireNonNull(headers, "Headers cannot be null"));
         this.sessionId = "";
     }
 
+    /** 읽기 전용 헤더 맵. 이름 비교는 대소문자를 무시하고, 같은 이름이 여러 번 오면 마지막 값을 돌려준다. */
     public Map<String, String> getHeaders() {
         return headers;
     }
 
+    /** 같은 이름의 헤더가 여러 개면 첫 번째 값. 없으면 null. */
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    public List<String> getHeaderValues(String name) {
+        return headers.getAll(name);
+    }
+
     public HttpMethod getMethod() {
         return method;
     }
@@ -35,24 +67,114 @@ public class HttpRequest<T> {
         return path;
     }
 
+    /**
+     * 바디를 원본 바이트로 들고 있는 요청을 만든다.
+     * 문자열 바디는 {@link #getBody()}가 처음 호출될 때 한 번만 디코딩된다.
+     */
+    public static HttpRequest<String> ofRawBody(HttpMethod method, String path, ByteBuffer rawBody, Map<String, String> queryParams, Map<String, String> headers) {
+        return new HttpRequest<>(method, path, null, Objects.requireNonNull(rawBody, "Raw body cannot be null"), queryParams, headers);
+    }
+
+    @SuppressWarnings("unchecked")
     public T getBody() {
+        if (body == null && rawBody != null) {
+            body = (T) StandardCharsets.UTF_8.decode(rawBody.duplicate()).toString();
+        }
         return body;
     }
 
+    /**
+     * 디코딩 전 바디 바이트. 소켓에서 읽은 요청이 아니면 null.
+     * 반환된 버퍼는 복제본이라 position/limit을 바꿔도 요청에는 영향이 없다.
+     */
+    public ByteBuffer getRawBody() {
+        return rawBody != null ? rawBody.duplicate() : null;
+    }
+
+    /** 읽기 전용 쿼리 파라미터 맵. 같은 키가 여러 번 오면 마지막 값을 돌려준다. */
     public Map<String, String> getQueryParams() {
         return queryParams;
     }
 
+    /** 같은 키가 여러 번 오면 첫 번째 값. 없으면 null. */
+    public String getQueryParam(String name) {
+        return queryParams.getFirst(name);
+    }
+
+    public List<String> getQueryParamValues(String name) {
+        return queryParams.getAll(name);
+    }
+
     public String getSessionId() {
         return sessionId;
     }
 
+    /** 요청 객체가 만들어진 시점({@link System#nanoTime()}). 파싱 직후이므로 서버 처리 시간의 기준점으로 쓴다. */
+    public long getCreatedNanos() {
+        return createdNanos;
+    }
+
+    /** 요청 바이트를 다 읽은 시점({@link System#nanoTime()}). 워커 대기 시간을 포함해 재는 요청 마감의 기준점이다. */
+    public long getReceivedNanos() {
+        return receivedNanos;
+    }
+
+    public void setReceivedNanos(long receivedNanos) {
+        this.receivedNanos = receivedNanos;
+    }
+
+    public String getRoutePattern() {
+        return routePattern;
+    }
+
+    public void setRoutePattern(String routePattern) {
+        this.routePattern = routePattern;
+    }
+
+    public SocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /** 클라이언트 IP 문자열 (포트 제외). 주소를 모르면 null */
+    public String getRemoteHost() {
+        SocketAddress address = remoteAddress;
+        if (address instanceof InetSocketAddress inet) {
+            return inet.getAddress() != null ? inet.getAddress().getHostAddress() : inet.getHostString();
+        }
+        return address != null ? address.toString() : null;
+    }
+
+    public void setRemoteAddress(SocketAddress remoteAddress) {
+        this.remoteAddress = remoteAddress;
+    }
+
+    /** multipart/form-data 바디. multipart 요청이 아니면 null */
+    public MultipartBody getMultipart() {
+        return multipart;
+    }
+
+    public void setMultipart(MultipartBody multipart) {
+        this.multipart = multipart;
+    }
+
+    /**
+     * 바디를 받기 전에 {@link sprout.mvc.dispatcher.RequestDispatcher#admit}으로 필터 체인을 이미 한 번 통과했는지.
+     * 바디를 받은 뒤 필터가 다시 실행되므로, 요청마다 한 번만 세야 하는 필터(레이트 리밋 등)는 이 값으로 중복을 피한다.
+     */
+    public boolean isPreAdmitted() {
+        return preAdmitted;
+    }
+
+    public void setPreAdmitted(boolean preAdmitted) {
+        this.preAdmitted = preAdmitted;
+    }
+
     @Override
     public String toString() {
         return "HttpRequest{" +
                 "method=" + method +
                 ", path='" + path + '\'' +
-                ", body=" + body +
+                ", body=" + getBody() +
                 ", queryParams=" + queryParams +
                 ", sessionId='" + sessionId + '\'' +
                 '}';
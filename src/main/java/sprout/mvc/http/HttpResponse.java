@@ -1,6 +1,8 @@
 package sprout.mvc.http;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class HttpResponse {
@@ -8,6 +10,11 @@ public class HttpResponse {
     private final Map<String, String> headers = new HashMap<>();
     private boolean committed = false;
 
+    // 비동기 응답 (컨트롤러가 CompletionStage를 반환한 경우)
+    private volatile boolean asyncStarted = false;
+    private boolean asyncCompleted = false;
+    private final List<Runnable> asyncListeners = new ArrayList<>(1);
+
     public void setResponseEntity(ResponseEntity<?> responseEntity) {
         this.responseEntity = responseEntity;
         this.committed = true;
@@ -28,4 +35,41 @@ public class HttpResponse {
     public Map<String, String> getHeaders() {
         return headers;
     }
-}
\ No newline at end of file
+
+    /** dispatch가 반환된 뒤에 응답이 채워질 것임을 표시한다. */
+    public void startAsync() {
+        this.asyncStarted = true;
+    }
+
+    public boolean isAsyncStarted() {
+        return asyncStarted;
+    }
+
+    /**
+     * 비동기 응답이 완성되면 실행할 작업을 등록한다. 이미 완성됐다면 호출 스레드에서 바로 실행한다.
+     * 리스너는 등록 순서대로 실행된다.
+     */
+    public void onAsyncComplete(Runnable listener) {
+        synchronized (asyncListeners) {
+            if (!asyncCompleted) {
+                asyncListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /** 비동기 응답 완성 (응답 엔티티를 설정한 뒤 호출). 두 번째 호출부터는 무시된다. */
+    public void completeAsync() {
+        List<Runnable> listeners;
+        synchronized (asyncListeners) {
+            if (asyncCompleted) return;
+            asyncCompleted = true;
+            listeners = new ArrayList<>(asyncListeners);
+            asyncListeners.clear();
+        }
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+}
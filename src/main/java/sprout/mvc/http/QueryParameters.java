@@ -0,0 +1,117 @@
+package sprout.mvc.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 쿼리 파라미터 뷰. 키는 대소문자를 구분하고(URL 의미 그대로), 값의 URL 디코딩은 조회 시점에 한 번만 한다.
+ */
+public final class QueryParameters extends RawMultiValueMap {
+    private static final QueryParameters EMPTY = new QueryParameters(Map.of());
+
+    private QueryParameters(byte[] raw, int from, int to) {
+        super(raw, from, to);
+    }
+
+    private QueryParameters(Map<String, String> source) {
+        super(source);
+    }
+
+    /** '?' 다음부터 쿼리 끝까지의 구간 [from, to)를 감싼다. */
+    public static QueryParameters parse(byte[] raw, int from, int to) {
+        return from >= to ? EMPTY : new QueryParameters(raw, from, to);
+    }
+
+    public static QueryParameters of(Map<String, String> params) {
+        if (params instanceof QueryParameters queryParameters) return queryParameters;
+        return params.isEmpty() ? EMPTY : new QueryParameters(params);
+    }
+
+    @Override
+    protected void scan(byte[] raw, int from, int to) {
+        int tokenStart = from;
+        while (tokenStart < to) {
+            int tokenEnd = tokenStart;
+            int eq = -1;
+            while (tokenEnd < to && raw[tokenEnd] != '&') {
+                if (eq < 0 && raw[tokenEnd] == '=') eq = tokenEnd;
+                tokenEnd++;
+            }
+            if (tokenEnd > tokenStart) { // 빈 토큰(&&)은 무시
+                if (eq >= 0) {
+                    addEntry(tokenStart, eq, eq + 1, tokenEnd);
+                } else {
+                    addEntry(tokenStart, tokenEnd, tokenEnd, tokenEnd); // 값 없는 파라미터는 ""
+                }
+            }
+            tokenStart = tokenEnd + 1;
+        }
+    }
+
+    @Override
+    protected String decodeKey(byte[] raw, int start, int end) {
+        return urlDecode(raw, start, end);
+    }
+
+    @Override
+    protected String decodeValue(byte[] raw, int start, int end) {
+        return urlDecode(raw, start, end);
+    }
+
+    @Override
+    protected boolean keyEquals(String a, String b) {
+        return a.equals(b);
+    }
+
+    @Override
+    protected boolean rawKeyMatches(byte[] raw, int start, int end, String name) {
+        if (end - start != name.length()) {
+            // 인코딩된 키는 길이가 달라질 수 있으므로 디코딩해서 비교
+            return needsDecoding(raw, start, end) && urlDecode(raw, start, end).equals(name);
+        }
+        for (int i = 0; i < name.length(); i++) {
+            int b = raw[start + i] & 0xFF;
+            if (b == '%' || b == '+' || b >= 0x80) {
+                return urlDecode(raw, start, end).equals(name);
+            }
+            if (b != name.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static boolean needsDecoding(byte[] raw, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = raw[i];
+            if (b == '%' || b == '+' || b < 0) return true;
+        }
+        return false;
+    }
+
+    /** application/x-www-form-urlencoded 디코딩 ('+' → 공백, %XX). 잘못된 %시퀀스는 그대로 둔다. */
+    static String urlDecode(byte[] raw, int start, int end) {
+        if (!needsDecoding(raw, start, end)) {
+            return new String(raw, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        byte[] out = new byte[end - start];
+        int n = 0;
+        for (int i = start; i < end; i++) {
+            byte b = raw[i];
+            if (b == '+') {
+                out[n++] = ' ';
+            } else if (b == '%' && i + 2 < end && hex(raw[i + 1]) >= 0 && hex(raw[i + 2]) >= 0) {
+                out[n++] = (byte) ((hex(raw[i + 1]) << 4) | hex(raw[i + 2]));
+                i += 2;
+            } else {
+                out[n++] = b;
+            }
+        }
+        return new String(out, 0, n, StandardCharsets.UTF_8);
+    }
+
+    private static int hex(byte b) {
+        if (b >= '0' && b <= '9') return b - '0';
+        if (b >= 'a' && b <= 'f') return b - 'a' + 10;
+        if (b >= 'A' && b <= 'F') return b - 'A' + 10;
+        return -1;
+    }
+}
@@ -0,0 +1,226 @@
+package sprout.mvc.http;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 요청 원본 바이트의 오프셋으로 표현되는 다중 값 키-값 목록의 읽기 전용 {@link Map} 뷰.
+ *
+ * <ul>
+ *   <li>처음 조회될 때 한 번만 훑어서 각 항목의 (키 시작, 키 끝, 값 시작, 값 끝) 오프셋만 기록한다.</li>
+ *   <li>키/값 문자열은 실제로 조회된 항목만 디코딩하고 캐시한다.</li>
+ *   <li>같은 키가 여러 번 나오면 모두 보관한다 ({@link #getAll(String)}).
+ *       Map 뷰의 {@link #get(Object)}는 기존 HashMap 동작과 같이 마지막 값을 돌려준다.</li>
+ * </ul>
+ */
+public abstract class RawMultiValueMap extends AbstractMap<String, String> {
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private final byte[] raw;
+    private final int from;
+    private final int to;
+
+    // 인덱싱 결과는 indexed(volatile) 쓰기로 공개 → 비동기 완료 스레드에서 읽어도 안전
+    private volatile boolean indexed;
+    private int count;
+    private int[] offsets = NO_OFFSETS; // 항목당 4개 (keyStart, keyEnd, valueStart, valueEnd)
+    private String[] keys;
+    private String[] values;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    protected RawMultiValueMap(byte[] raw, int from, int to) {
+        this.raw = raw;
+        this.from = from;
+        this.to = to;
+    }
+
+    /** 이미 디코딩된 맵으로부터 만든다 (문자열 요청, 테스트 등). */
+    protected RawMultiValueMap(Map<String, String> source) {
+        this.raw = null;
+        this.from = 0;
+        this.to = 0;
+        this.count = source.size();
+        this.keys = new String[count];
+        this.values = new String[count];
+        int i = 0;
+        for (Map.Entry<String, String> entry : source.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        this.indexed = true;
+    }
+
+    /** [from, to) 구간을 훑어 항목마다 {@link #addEntry(int, int, int, int)}를 호출한다. */
+    protected abstract void scan(byte[] raw, int from, int to);
+
+    protected abstract String decodeKey(byte[] raw, int start, int end);
+
+    protected abstract String decodeValue(byte[] raw, int start, int end);
+
+    protected abstract boolean keyEquals(String a, String b);
+
+    /** 키를 디코딩하지 않고 비교할 수 있으면 하위 클래스가 재정의한다. */
+    protected boolean rawKeyMatches(byte[] raw, int start, int end, String name) {
+        return keyEquals(decodeKey(raw, start, end), name);
+    }
+
+    protected final void addEntry(int keyStart, int keyEnd, int valueStart, int valueEnd) {
+        int base = count * 4;
+        if (base + 4 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(32, offsets.length * 2));
+        }
+        offsets[base] = keyStart;
+        offsets[base + 1] = keyEnd;
+        offsets[base + 2] = valueStart;
+        offsets[base + 3] = valueEnd;
+        count++;
+    }
+
+    private void ensureIndexed() {
+        if (indexed) return;
+        synchronized (this) {
+            if (indexed) return;
+            count = 0;
+            scan(raw, from, to);
+            keys = new String[count];
+            values = new String[count];
+            indexed = true;
+        }
+    }
+
+    private boolean keyMatches(int i, String name) {
+        if (keys[i] != null) return keyEquals(keys[i], name);
+        return rawKeyMatches(raw, offsets[i * 4], offsets[i * 4 + 1], name);
+    }
+
+    private String keyAt(int i) {
+        String key = keys[i];
+        if (key == null) {
+            key = decodeKey(raw, offsets[i * 4], offsets[i * 4 + 1]);
+            keys[i] = key;
+        }
+        return key;
+    }
+
+    private String valueAt(int i) {
+        String value = values[i];
+        if (value == null) {
+            value = decodeValue(raw, offsets[i * 4 + 2], offsets[i * 4 + 3]);
+            values[i] = value;
+        }
+        return value;
+    }
+
+    public String getFirst(String name) {
+        ensureIndexed();
+        for (int i = 0; i < count; i++) {
+            if (keyMatches(i, name)) return valueAt(i);
+        }
+        return null;
+    }
+
+    public String getLast(String name) {
+        ensureIndexed();
+        for (int i = count - 1; i >= 0; i--) {
+            if (keyMatches(i, name)) return valueAt(i);
+        }
+        return null;
+    }
+
+    public List<String> getAll(String name) {
+        ensureIndexed();
+        List<String> result = null;
+        for (int i = 0; i < count; i++) {
+            if (keyMatches(i, name)) {
+                if (result == null) result = new ArrayList<>(2);
+                result.add(valueAt(i));
+            }
+        }
+        return result != null ? result : List.of();
+    }
+
+    @Override
+    public String get(Object key) {
+        return key instanceof String name ? getLast(name) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String name)) return false;
+        ensureIndexed();
+        for (int i = 0; i < count; i++) {
+            if (keyMatches(i, name)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        ensureIndexed();
+        return count == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new DistinctKeys();
+        }
+        return entrySet;
+    }
+
+    /** 키가 중복되지 않는 항목들 (키 표기는 처음 나온 것, 값은 마지막 것) */
+    private final class DistinctKeys extends AbstractSet<Map.Entry<String, String>> {
+        private int[] distinct; // 각 고유 키가 처음 나온 항목 인덱스
+
+        private int[] distinct() {
+            if (distinct == null) {
+                ensureIndexed();
+                int[] firsts = new int[count];
+                int n = 0;
+                outer:
+                for (int i = 0; i < count; i++) {
+                    String key = keyAt(i);
+                    for (int j = 0; j < n; j++) {
+                        if (keyEquals(keys[firsts[j]], key)) continue outer;
+                    }
+                    firsts[n++] = i;
+                }
+                distinct = Arrays.copyOf(firsts, n);
+            }
+            return distinct;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            int[] firsts = distinct();
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < firsts.length;
+                }
+
+                @Override
+                public Map.Entry<String, String> next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    String key = keyAt(firsts[next++]);
+                    return new SimpleImmutableEntry<>(key, getLast(key));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return distinct().length;
+        }
+    }
+}
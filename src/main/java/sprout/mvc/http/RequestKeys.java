@@ -0,0 +1,20 @@
+package sprout.mvc.http;
+
+/**
+ * 요청 값으로 조회 키(응답 캐시, 요청 합치기)를 만들 때 쓰는 도우미.
+ */
+public final class RequestKeys {
+    private RequestKeys() {}
+
+    /**
+     * 값 하나를 키에 붙인다. 길이를 앞에 붙이고(없으면 '-') 값을 그대로 이어 쓰므로, 값에 구분자가 들어 있거나
+     * 값이 비어 있어도 서로 다른 요청이 같은 키가 되지 않는다.
+     */
+    public static void appendComponent(StringBuilder key, String value) {
+        if (value == null) {
+            key.append('-');
+            return;
+        }
+        key.append(value.length()).append(':').append(value);
+    }
+}
@@ -4,12 +4,16 @@ public enum ResponseCode {
     SUCCESS(200, ResponseMessage.SUCCESS),
     CREATED(201, ResponseMessage.CREATED),
     NO_CONTENT(204, ResponseMessage.ACCEPT_NO_CONTENT),
+    NOT_MODIFIED(304, ResponseMessage.NOT_MODIFIED),
     NOT_FOUND(404, ResponseMessage.NOT_FOUND),
     BAD_REQUEST(400, ResponseMessage.BAD_REQUEST),
     UNAUTHORIZED(401, ResponseMessage.UNAUTHORIZED),
     FORBIDDEN(403, ResponseMessage.FORBIDDEN),
     METHOD_NOT_ALLOWED(405, ResponseMessage.BAD_REQUEST),
-    INTERNAL_SERVER_ERROR(500, ResponseMessage.INTERNAL_SERVER_ERROR);
+    PAYLOAD_TOO_LARGE(413, ResponseMessage.PAYLOAD_TOO_LARGE),
+    TOO_MANY_REQUESTS(429, ResponseMessage.TOO_MANY_REQUESTS),
+    INTERNAL_SERVER_ERROR(500, ResponseMessage.INTERNAL_SERVER_ERROR),
+    SERVICE_UNAVAILABLE(503, ResponseMessage.SERVICE_UNAVAILABLE);
 
     private final int code;
     private final String message;
@@ -0,0 +1,53 @@
+package sprout.mvc.http.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jackson 기반 코덱. JsonFactory만 바꿔 끼우면 CBOR/Smile/MessagePack도 같은 경로로 처리된다.
+ */
+public class JacksonMessageCodec implements MessageCodec {
+    private final String mediaType;
+    private final ObjectMapper objectMapper;
+    // 응답 타입별 ObjectWriter 캐시
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JacksonMessageCodec(String mediaType, ObjectMapper objectMapper) {
+        this.mediaType = mediaType;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public BodyReader readerFor(Type type) {
+        ObjectReader reader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type));
+        return reader::readValue;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        if (value == null) {
+            return objectMapper.writeValueAsBytes(null);
+        }
+        return writers.computeIfAbsent(value.getClass(), objectMapper::writerFor).writeValueAsBytes(value);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public String toString() {
+        return "JacksonMessageCodec[" + mediaType + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package sprout.mvc.http.codec;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 요청/응답 바디와 WebSocket 메시지를 특정 미디어 타입으로 직렬화/역직렬화하는 코덱.
+ * 빈으로 등록하면 {@link MessageCodecRegistry}가 @Order 순서대로 수집한다 (첫 번째가 기본 코덱).
+ */
+public interface MessageCodec {
+
+    /** 대표 미디어 타입 (응답 Content-Type으로 사용) */
+    String getMediaType();
+
+    /** 파라미터가 제거된 소문자 미디어 타입을 처리할 수 있는지 */
+    default boolean supports(String mediaType) {
+        return getMediaType().equals(mediaType);
+    }
+
+    /** 대상 타입에 대해 미리 준비된 리더. 호출자가 캐시해서 재사용한다. */
+    BodyReader readerFor(Type type);
+
+    byte[] encode(Object value) throws IOException;
+
+    @FunctionalInterface
+    interface BodyReader {
+        Object read(byte[] buf, int offset, int length) throws IOException;
+    }
+}
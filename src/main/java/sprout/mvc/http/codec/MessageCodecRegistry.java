@@ -0,0 +1,166 @@
+package sprout.mvc.http.codec;
+
+import sprout.beans.annotation.Component;
+import sprout.mvc.http.HttpRequest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 등록된 {@link MessageCodec} 빈 목록과 Accept / Content-Type 협상 결과 캐시.
+ * 같은 헤더 값은 같은 코덱으로 귀결되므로, 헤더 문자열 → 코덱 결과를 캐시해 두면
+ * 요청마다의 협상 비용은 맵 조회 한 번이 된다.
+ * (라우트에 produces/consumes 선언이 없으므로 라우트별 결과는 헤더 값별 결과와 같다.)
+ */
+@Component
+public class MessageCodecRegistry {
+    // 클라이언트가 임의의 헤더 값을 보내 캐시가 무한히 커지는 것을 막기 위한 상한
+    static final int MAX_CACHED_ENTRIES = 256;
+
+    private final MessageCodec[] codecs;
+    private final Map<String, MessageCodec> acceptCache = new ConcurrentHashMap<>();
+    private final Map<String, MessageCodec> contentTypeCache = new ConcurrentHashMap<>();
+
+    public MessageCodecRegistry(List<MessageCodec> codecs) {
+        if (codecs.isEmpty()) {
+            throw new IllegalStateException("At least one MessageCodec bean is required.");
+        }
+        this.codecs = codecs.toArray(new MessageCodec[0]);
+    }
+
+    public MessageCodec getDefaultCodec() {
+        return codecs[0];
+    }
+
+    public int size() {
+        return codecs.length;
+    }
+
+    public int indexOf(MessageCodec codec) {
+        for (int i = 0; i < codecs.length; i++) {
+            if (codecs[i] == codec) return i;
+        }
+        return -1;
+    }
+
+    /** 요청 바디를 읽을 코덱. Content-Type이 없거나 모르는 타입이면 기본 코덱(JSON)으로 처리한다. */
+    public MessageCodec forRequestBody(HttpRequest<?> request) {
+        return forContentType(header(request.getHeaders(), "Content-Type"));
+    }
+
+    /** 응답 바디를 쓸 코덱. Accept가 없거나 맞는 코덱이 없으면 기본 코덱(JSON)으로 응답한다. */
+    public MessageCodec forResponseBody(HttpRequest<?> request) {
+        return negotiate(header(request.getHeaders(), "Accept"));
+    }
+
+    /** 요청(또는 WebSocket 핸드셰이크)이 Content-Type으로 명시한 코덱. 선언이 없거나 모르는 타입이면 null */
+    public MessageCodec declaredCodec(HttpRequest<?> request) {
+        String contentType = header(request.getHeaders(), "Content-Type");
+        if (contentType == null || contentType.isBlank()) {
+            return null;
+        }
+        return find(mediaTypeOf(contentType));
+    }
+
+    public MessageCodec forContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return getDefaultCodec();
+        }
+        MessageCodec cached = contentTypeCache.get(contentType);
+        if (cached != null) {
+            return cached;
+        }
+        MessageCodec codec = find(mediaTypeOf(contentType));
+        if (codec == null) codec = getDefaultCodec();
+        cache(contentTypeCache, contentType, codec);
+        return codec;
+    }
+
+    public MessageCodec negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return getDefaultCodec();
+        }
+        MessageCodec cached = acceptCache.get(accept);
+        if (cached != null) {
+            return cached;
+        }
+        MessageCodec codec = selectByQuality(accept);
+        cache(acceptCache, accept, codec);
+        return codec;
+    }
+
+    private MessageCodec selectByQuality(String accept) {
+        MessageCodec best = null;
+        double bestQuality = 0.0;
+        for (String range : accept.split(",")) {
+            double quality = qualityOf(range);
+            if (quality <= bestQuality) continue; // 같은 q면 먼저 나온 범위가 우선
+
+            MessageCodec codec = match(mediaTypeOf(range));
+            if (codec != null) {
+                best = codec;
+                bestQuality = quality;
+            }
+        }
+        return best != null ? best : getDefaultCodec();
+    }
+
+    private MessageCodec match(String mediaRange) {
+        if (mediaRange.equals("*/*") || mediaRange.equals("application/*")) {
+            return getDefaultCodec();
+        }
+        return find(mediaRange);
+    }
+
+    private MessageCodec find(String mediaType) {
+        for (MessageCodec codec : codecs) {
+            if (codec.supports(mediaType)) return codec;
+        }
+        return null;
+    }
+
+    private static void cache(Map<String, MessageCodec> cache, String key, MessageCodec codec) {
+        if (cache.size() < MAX_CACHED_ENTRIES) {
+            cache.put(key, codec);
+        }
+    }
+
+    static String mediaTypeOf(String value) {
+        int semicolon = value.indexOf(';');
+        String type = semicolon < 0 ? value : value.substring(0, semicolon);
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static double qualityOf(String range) {
+        int semicolon = range.indexOf(';');
+        while (semicolon >= 0) {
+            int next = range.indexOf(';', semicolon + 1);
+            String param = (next < 0 ? range.substring(semicolon + 1) : range.substring(semicolon + 1, next)).trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            }
+            semicolon = next;
+        }
+        return 1.0;
+    }
+
+    private static String header(Map<String, String> headers, String name) {
+        if (headers == null) return null;
+        String value = headers.get(name);
+        if (value != null) return value;
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) return entry.getValue();
+        }
+        return null;
+    }
+
+    public List<MessageCodec> getCodecs() {
+        return List.of(codecs);
+    }
+}
@@ -0,0 +1,17 @@
+package sprout.mvc.http.codec.builtins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.mvc.http.codec.JacksonMessageCodec;
+
+@Component
+@Order(1)
+public class CborMessageCodec extends JacksonMessageCodec {
+    public static final String MEDIA_TYPE = "application/cbor";
+
+    public CborMessageCodec() {
+        super(MEDIA_TYPE, new ObjectMapper(new CBORFactory()));
+    }
+}
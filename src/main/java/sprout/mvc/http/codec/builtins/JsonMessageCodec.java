@@ -0,0 +1,17 @@
+package sprout.mvc.http.codec.builtins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.mvc.http.codec.JacksonMessageCodec;
+
+@Component
+@Order(0)
+public class JsonMessageCodec extends JacksonMessageCodec {
+    public static final String MEDIA_TYPE = "application/json";
+
+    public JsonMessageCodec(ObjectMapper objectMapper) {
+        // 기본 코덱: 애플리케이션 공용 ObjectMapper를 그대로 사용
+        super(MEDIA_TYPE, objectMapper);
+    }
+}
@@ -0,0 +1,23 @@
+package sprout.mvc.http.codec.builtins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.mvc.http.codec.JacksonMessageCodec;
+
+@Component
+@Order(3)
+public class MessagePackMessageCodec extends JacksonMessageCodec {
+    public static final String MEDIA_TYPE = "application/msgpack";
+
+    public MessagePackMessageCodec() {
+        super(MEDIA_TYPE, new ObjectMapper(new MessagePackFactory()));
+    }
+
+    @Override
+    public boolean supports(String mediaType) {
+        // 사실상 표준처럼 쓰이는 x- 접두사 형태도 허용
+        return MEDIA_TYPE.equals(mediaType) || "application/x-msgpack".equals(mediaType);
+    }
+}
@@ -0,0 +1,17 @@
+package sprout.mvc.http.codec.builtins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.mvc.http.codec.JacksonMessageCodec;
+
+@Component
+@Order(2)
+public class SmileMessageCodec extends JacksonMessageCodec {
+    public static final String MEDIA_TYPE = "application/x-jackson-smile";
+
+    public SmileMessageCodec() {
+        super(MEDIA_TYPE, new ObjectMapper(new SmileFactory()));
+    }
+}
@@ -0,0 +1,55 @@
+package sprout.mvc.http.multipart;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파싱이 끝난 multipart/form-data 바디. 일반 필드는 문자열로, 파일 파트는 임시 파일로 들고 있다.
+ * 같은 이름이 여러 번 오면 도착 순서대로 모두 보관하고, 단건 조회는 첫 번째를 돌려준다.
+ */
+public final class MultipartBody {
+    private final Map<String, List<String>> fields;
+    private final Map<String, List<MultipartFile>> files;
+
+    MultipartBody(Map<String, List<String>> fields, Map<String, List<MultipartFile>> files) {
+        this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+        this.files = Collections.unmodifiableMap(new LinkedHashMap<>(files));
+    }
+
+    public String getField(String name) {
+        List<String> values = fields.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    public List<String> getFields(String name) {
+        return fields.getOrDefault(name, List.of());
+    }
+
+    public MultipartFile getFile(String name) {
+        List<MultipartFile> values = files.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    public List<MultipartFile> getFiles(String name) {
+        return files.getOrDefault(name, List.of());
+    }
+
+    public Map<String, List<String>> getFieldMap() {
+        return fields;
+    }
+
+    public Map<String, List<MultipartFile>> getFileMap() {
+        return files;
+    }
+
+    /** 핸들러가 옮기지 않은 임시 파일을 지운다. 연결 핸들러가 응답을 만든 뒤 호출한다. */
+    public void deleteTempFiles() {
+        for (List<MultipartFile> list : files.values()) {
+            for (MultipartFile file : list) {
+                file.deleteIfTemporary();
+            }
+        }
+    }
+}
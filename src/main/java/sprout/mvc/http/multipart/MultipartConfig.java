@@ -0,0 +1,79 @@
+package sprout.mvc.http.multipart;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+
+import java.nio.file.Path;
+
+/**
+ * multipart/form-data 업로드 제한.
+ * <pre>
+ * server:
+ *   multipart:
+ *     enabled: true
+ *     max-file-size: 512MB      # 파일 파트 하나
+ *     max-request-size: 1GB     # 요청 바디 전체 (Content-Length)
+ *     max-field-size: 64KB      # 파일이 아닌 필드 하나 (메모리에 문자열로 보관)
+ *     max-parts: 128
+ *     temp-dir: /var/tmp/sprout # 기본 java.io.tmpdir
+ * </pre>
+ * 스트리밍 업로드는 server.execution-mode: nio에서만 동작한다. hybrid(기본)·blocking 모드의 {@link sprout.server.builtins.BioHttpProtocolHandler}는
+ * 바디 전체를 문자열로 읽으며 multipart를 파싱하지 않으므로 @RequestPart 파라미터는 400으로 실패한다.
+ */
+@Component
+public class MultipartConfig implements InfrastructureBean {
+    private final boolean enabled;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+    private final int maxFieldSize;
+    private final int maxParts;
+    private final Path tempDir;
+
+    public MultipartConfig(AppConfig appConfig) {
+        this(Boolean.parseBoolean(appConfig.getStringProperty("server.multipart.enabled", "true")),
+             parseSize(appConfig.getStringProperty("server.multipart.max-file-size", "512MB")),
+             parseSize(appConfig.getStringProperty("server.multipart.max-request-size", "1GB")),
+             (int) parseSize(appConfig.getStringProperty("server.multipart.max-field-size", "64KB")),
+             appConfig.getIntProperty("server.multipart.max-parts", 128),
+             Path.of(appConfig.getStringProperty("server.multipart.temp-dir", System.getProperty("java.io.tmpdir"))));
+    }
+
+    public MultipartConfig(boolean enabled, long maxFileSize, long maxRequestSize, int maxFieldSize, int maxParts, Path tempDir) {
+        this.enabled = enabled;
+        this.maxFileSize = maxFileSize;
+        this.maxRequestSize = maxRequestSize;
+        this.maxFieldSize = maxFieldSize;
+        this.maxParts = maxParts;
+        this.tempDir = tempDir;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public long getMaxRequestSize() {
+        return maxRequestSize;
+    }
+
+    public int getMaxFieldSize() {
+        return maxFieldSize;
+    }
+
+    public int getMaxParts() {
+        return maxParts;
+    }
+
+    public Path getTempDir() {
+        return tempDir;
+    }
+
+    /** "512MB", "64KB", "1GB", "1024" 형식의 바이트 수 */
+    static long parseSize(String value) {
+        return AppConfig.parseSize(value);
+    }
+}
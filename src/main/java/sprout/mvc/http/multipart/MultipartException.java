@@ -0,0 +1,24 @@
+package sprout.mvc.http.multipart;
+
+import sprout.mvc.http.ResponseCode;
+
+/**
+ * 업로드를 더 읽을 수 없는 경우 (형식 오류, 크기 제한 초과). 연결 핸들러가 {@link #getResponseCode()}로 응답하고 연결을 닫는다.
+ */
+public class MultipartException extends RuntimeException {
+    private final ResponseCode responseCode;
+
+    public MultipartException(String message, ResponseCode responseCode) {
+        super(message);
+        this.responseCode = responseCode;
+    }
+
+    public MultipartException(String message, ResponseCode responseCode, Throwable cause) {
+        super(message, cause);
+        this.responseCode = responseCode;
+    }
+
+    public ResponseCode getResponseCode() {
+        return responseCode;
+    }
+}
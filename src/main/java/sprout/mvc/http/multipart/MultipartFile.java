@@ -0,0 +1,73 @@
+package sprout.mvc.http.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 임시 파일로 받아 둔 파일 파트. 요청 처리가 끝나면 임시 파일은 지워지므로,
+ * 보관하려면 핸들러 안에서 {@link #transferTo(Path)}로 옮긴다.
+ */
+public final class MultipartFile {
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+    private volatile Path path;
+    private volatile boolean transferred;
+
+    MultipartFile(String name, String originalFilename, String contentType, long size, Path path) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.path = path;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 현재 파일 위치 (옮기기 전에는 임시 파일) */
+    public Path getPath() {
+        return path;
+    }
+
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    /** 업로드된 파일을 {@code target}으로 옮긴다 (같은 파일 시스템이면 복사 없이 이름만 바뀐다). */
+    public void transferTo(Path target) throws IOException {
+        Files.move(path, target, StandardCopyOption.REPLACE_EXISTING);
+        this.path = target;
+        this.transferred = true;
+    }
+
+    void deleteIfTemporary() {
+        if (transferred) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 디렉터리 정리는 OS에 맡긴다
+        }
+    }
+}
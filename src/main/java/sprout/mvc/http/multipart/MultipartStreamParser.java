@@ -0,0 +1,317 @@
+package sprout.mvc.http.multipart;
+
+import sprout.mvc.http.ResponseCode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 소켓에서 들어오는 버퍼 단위로 multipart/form-data 바디를 파싱한다.
+ *
+ * <p>경계(CRLF + "--" + boundary)는 Boyer–Moore–Horspool로 찾는다. 경계가 걸쳐 있을 수 있는
+ * 마지막 (경계 길이 - 1) 바이트만 버퍼에 남기고 나머지는 바로 내보내므로, 파트 크기와 상관없이
+ * 파서가 들고 있는 메모리는 파트 헤더와 작은 필드 값뿐이다. 파일 파트는 읽기 버퍼의 구간을
+ * 그대로 {@link FileChannel}에 쓴다 (중간 byte[] 없음).
+ *
+ * <p>스레드 안전하지 않다. 연결 하나의 업로드는 한 번에 한 스레드만 {@link #feed}한다.
+ */
+public final class MultipartStreamParser {
+    private static final int MAX_PART_HEADER_BYTES = 8192;
+
+    private enum State { PREAMBLE, AFTER_BOUNDARY, HEADERS, BODY, EPILOGUE }
+
+    private final MultipartConfig config;
+    // 본문 중간의 경계: CRLF--boundary
+    private final byte[] delimiter;
+    // 맨 처음 경계: --boundary (앞에 CRLF가 없다)
+    private final byte[] firstDelimiter;
+    private final int[] delimiterSkip;
+    private final int[] firstDelimiterSkip;
+
+    private State state = State.PREAMBLE;
+    private final byte[] headerBuf = new byte[MAX_PART_HEADER_BYTES];
+    private int headerLen;
+    private int afterBoundaryLen;
+    private final byte[] afterBoundary = new byte[2];
+
+    // 현재 파트
+    private String partName;
+    private String partFilename;
+    private String partContentType;
+    private Path partPath;
+    private FileChannel partChannel;
+    private long partSize;
+    private byte[] fieldBuf;
+
+    private int partCount;
+    private final Map<String, List<String>> fields = new LinkedHashMap<>();
+    private final Map<String, List<MultipartFile>> files = new LinkedHashMap<>();
+
+    public MultipartStreamParser(String boundary, MultipartConfig config) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new MultipartException("Invalid multipart boundary", ResponseCode.BAD_REQUEST);
+        }
+        this.config = config;
+        byte[] b = boundary.getBytes(StandardCharsets.ISO_8859_1);
+        this.delimiter = new byte[b.length + 4];
+        delimiter[0] = '\r';
+        delimiter[1] = '\n';
+        delimiter[2] = '-';
+        delimiter[3] = '-';
+        System.arraycopy(b, 0, delimiter, 4, b.length);
+        this.firstDelimiter = Arrays.copyOfRange(delimiter, 2, delimiter.length);
+        this.delimiterSkip = skipTable(delimiter);
+        this.firstDelimiterSkip = skipTable(firstDelimiter);
+    }
+
+    /** {@code Content-Type: multipart/form-data; boundary=...}의 boundary. multipart/form-data가 아니면 null */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.regionMatches(true, 0, "multipart/form-data", 0, 19)) {
+            return null;
+        }
+        for (String param : contentType.substring(19).split(";")) {
+            String p = param.trim();
+            if (p.regionMatches(true, 0, "boundary=", 0, 9)) {
+                String value = p.substring(9).trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@code buffer}의 [position, limit)를 소비한다. 경계가 걸쳐 있을 수 있는 꼬리 몇 바이트는 남겨 두므로
+     * 호출자는 다음 데이터를 그 뒤에 이어 붙여(compact) 다시 넘겨야 한다.
+     */
+    public void feed(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            switch (state) {
+                case PREAMBLE -> {
+                    int from = buffer.position();
+                    int found = search(buffer, from, buffer.limit(), firstDelimiter, firstDelimiterSkip);
+                    if (found < 0) {
+                        // 프리앰블은 버린다
+                        buffer.position(Math.max(from, buffer.limit() - (firstDelimiter.length - 1)));
+                        return;
+                    }
+                    buffer.position(found + firstDelimiter.length);
+                    state = State.AFTER_BOUNDARY;
+                    afterBoundaryLen = 0;
+                }
+                case AFTER_BOUNDARY -> {
+                    byte b = buffer.get();
+                    if (afterBoundaryLen == 0 && (b == ' ' || b == '\t')) {
+                        continue; // 경계 뒤 공백(transport padding)
+                    }
+                    afterBoundary[afterBoundaryLen++] = b;
+                    if (afterBoundaryLen < 2) continue;
+                    if (afterBoundary[0] == '-' && afterBoundary[1] == '-') {
+                        state = State.EPILOGUE;
+                    } else if (afterBoundary[0] == '\r' && afterBoundary[1] == '\n') {
+                        if (++partCount > config.getMaxParts()) {
+                            throw new MultipartException("Too many multipart parts", ResponseCode.PAYLOAD_TOO_LARGE);
+                        }
+                        headerLen = 0;
+                        state = State.HEADERS;
+                    } else {
+                        throw new MultipartException("Malformed multipart boundary line", ResponseCode.BAD_REQUEST);
+                    }
+                }
+                case HEADERS -> {
+                    if (headerLen == MAX_PART_HEADER_BYTES) {
+                        throw new MultipartException("Multipart part headers too large", ResponseCode.BAD_REQUEST);
+                    }
+                    headerBuf[headerLen++] = buffer.get();
+                    if (headersComplete()) {
+                        startPart();
+                        state = State.BODY;
+                    }
+                }
+                case BODY -> {
+                    int from = buffer.position();
+                    int limit = buffer.limit();
+                    int found = search(buffer, from, limit, delimiter, delimiterSkip);
+                    if (found >= 0) {
+                        emit(buffer, from, found);
+                        finishPart();
+                        buffer.position(found + delimiter.length);
+                        afterBoundaryLen = 0;
+                        state = State.AFTER_BOUNDARY;
+                    } else {
+                        int safe = Math.max(from, limit - (delimiter.length - 1));
+                        emit(buffer, from, safe);
+                        buffer.position(safe);
+                        return;
+                    }
+                }
+                case EPILOGUE -> {
+                    buffer.position(buffer.limit());
+                    return;
+                }
+            }
+        }
+    }
+
+    /** 닫는 경계(--boundary--)까지 읽었는가 */
+    public boolean isComplete() {
+        return state == State.EPILOGUE;
+    }
+
+    public MultipartBody finish() {
+        if (!isComplete()) {
+            abort();
+            throw new MultipartException("Multipart body ended before the closing boundary", ResponseCode.BAD_REQUEST);
+        }
+        return new MultipartBody(fields, files);
+    }
+
+    /** 실패한 업로드의 열린 채널과 임시 파일을 모두 정리한다. */
+    public void abort() {
+        closePartChannel();
+        if (partPath != null) {
+            try {
+                Files.deleteIfExists(partPath);
+            } catch (IOException ignored) {
+            }
+            partPath = null;
+        }
+        for (List<MultipartFile> list : files.values()) {
+            for (MultipartFile file : list) {
+                file.deleteIfTemporary();
+            }
+        }
+    }
+
+    private boolean headersComplete() {
+        // 헤더가 없는 파트는 CRLF 하나로 끝난다
+        if (headerLen == 2 && headerBuf[0] == '\r' && headerBuf[1] == '\n') return true;
+        return headerLen >= 4 && headerBuf[headerLen - 4] == '\r' && headerBuf[headerLen - 3] == '\n'
+                && headerBuf[headerLen - 2] == '\r' && headerBuf[headerLen - 1] == '\n';
+    }
+
+    private void startPart() throws IOException {
+        partName = null;
+        partFilename = null;
+        partContentType = null;
+        partSize = 0;
+        String headers = new String(headerBuf, 0, headerLen, StandardCharsets.UTF_8);
+        for (String line : headers.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon <= 0) continue;
+            String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (name.equals("content-disposition")) {
+                partName = dispositionParam(value, "name");
+                partFilename = dispositionParam(value, "filename");
+            } else if (name.equals("content-type")) {
+                partContentType = value;
+            }
+        }
+        if (partName == null) {
+            throw new MultipartException("Multipart part without a form-data name", ResponseCode.BAD_REQUEST);
+        }
+        if (partFilename != null) {
+            partPath = Files.createTempFile(config.getTempDir(), "sprout-upload-", ".part");
+            partChannel = FileChannel.open(partPath, StandardOpenOption.WRITE);
+        } else {
+            fieldBuf = new byte[Math.min(256, config.getMaxFieldSize())];
+        }
+    }
+
+    private void emit(ByteBuffer buffer, int from, int to) throws IOException {
+        int length = to - from;
+        if (length <= 0) return;
+        partSize += length;
+        if (partChannel != null) {
+            if (partSize > config.getMaxFileSize()) {
+                throw new MultipartException("Uploaded file exceeds " + config.getMaxFileSize() + " bytes", ResponseCode.PAYLOAD_TOO_LARGE);
+            }
+            ByteBuffer slice = buffer.duplicate();
+            slice.limit(to).position(from);
+            while (slice.hasRemaining()) {
+                partChannel.write(slice);
+            }
+        } else {
+            if (partSize > config.getMaxFieldSize()) {
+                throw new MultipartException("Form field '" + partName + "' exceeds " + config.getMaxFieldSize() + " bytes", ResponseCode.PAYLOAD_TOO_LARGE);
+            }
+            int start = (int) (partSize - length);
+            if (partSize > fieldBuf.length) {
+                fieldBuf = Arrays.copyOf(fieldBuf, (int) Math.min(config.getMaxFieldSize(), Math.max(partSize, fieldBuf.length * 2L)));
+            }
+            buffer.get(from, fieldBuf, start, length);
+        }
+    }
+
+    private void finishPart() throws IOException {
+        if (partChannel != null) {
+            closePartChannel();
+            files.computeIfAbsent(partName, k -> new ArrayList<>(1))
+                    .add(new MultipartFile(partName, partFilename, partContentType, partSize, partPath));
+            partPath = null;
+        } else {
+            fields.computeIfAbsent(partName, k -> new ArrayList<>(1))
+                    .add(new String(fieldBuf, 0, (int) partSize, StandardCharsets.UTF_8));
+            fieldBuf = null;
+        }
+    }
+
+    private void closePartChannel() {
+        if (partChannel == null) return;
+        try {
+            partChannel.close();
+        } catch (IOException ignored) {
+        }
+        partChannel = null;
+    }
+
+    private static String dispositionParam(String disposition, String param) {
+        for (String token : disposition.split(";")) {
+            String t = token.trim();
+            int eq = t.indexOf('=');
+            if (eq <= 0 || !t.substring(0, eq).trim().equalsIgnoreCase(param)) continue;
+            String value = t.substring(eq + 1).trim();
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            return value;
+        }
+        return null;
+    }
+
+    private static int[] skipTable(byte[] pattern) {
+        int[] skip = new int[256];
+        Arrays.fill(skip, pattern.length);
+        for (int i = 0; i < pattern.length - 1; i++) {
+            skip[pattern[i] & 0xFF] = pattern.length - 1 - i;
+        }
+        return skip;
+    }
+
+    /** Horspool: [from, to)에서 pattern이 통째로 들어 있는 첫 위치, 없으면 -1 */
+    static int search(ByteBuffer buffer, int from, int to, byte[] pattern, int[] skip) {
+        int last = pattern.length - 1;
+        int i = from;
+        while (i + last < to) {
+            int j = last;
+            while (j >= 0 && buffer.get(i + j) == pattern[j]) j--;
+            if (j < 0) return i;
+            i += skip[buffer.get(i + last) & 0xFF];
+        }
+        return -1;
+    }
+}
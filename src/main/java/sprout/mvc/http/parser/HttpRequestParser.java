@@ -1,12 +1,19 @@
 package sprout.mvc.http.parser;
 
 import sprout.beans.annotation.Component;
+import sprout.jfr.RequestDecodeEvent;
 import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.QueryParameters;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @Component
 public class HttpRequestParser {
+    private static final byte[] CRLF_CRLF = {'\r', '\n', '\r', '\n'};
+    private static final byte[] LF_LF     = {'\n', '\n'};
+
     private final RequestLineParser lineParser;
     private final QueryStringParser qsParser;
     private final HttpHeaderParser headerParser;
@@ -21,23 +28,100 @@ public class HttpRequestParser {
         String[] parts = split(raw);
         String headerAndRequestLinePart = parts[0];
         String bodyPart   = parts[1];
-        String firstLine  = headerAndRequestLinePart.split("\r?\n",2)[0];
 
-        var rl    = lineParser.parse(firstLine);
+        var rl    = lineParser.parse(firstLine(headerAndRequestLinePart));
         var query = qsParser.parse(rl.rawPath());
+        Map<String, String> headers = headerParser.parse(headersOnly(headerAndRequestLinePart));
+
+        return new HttpRequest<>(rl.method(), rl.cleanPath(), bodyPart, query, headers);
+    }
+
+    /**
+     * 소켓에서 읽은 바이트를 그대로 파싱한다.
+     * 요청라인만 문자열로 디코딩하고, 쿼리·헤더는 {@code raw}의 오프셋으로 감싼 지연 뷰로,
+     * 바디는 복사 없이 {@code raw}를 감싼 슬라이스로 넘긴다.
+     * 따라서 호출자는 요청 처리가 끝날 때까지 {@code raw}를 재사용하면 안 된다.
+     */
+    public HttpRequest<String> parse(byte[] raw, int offset, int length) {
+        RequestDecodeEvent event = new RequestDecodeEvent();
+        event.begin();
+        int end = offset + length;
+        int delimiterIdx = indexOf(raw, offset, end, CRLF_CRLF);
+        int delimiterLen = CRLF_CRLF.length;
+
+        if (delimiterIdx == -1) {
+            delimiterIdx = indexOf(raw, offset, end, LF_LF);
+            delimiterLen = LF_LF.length;
+        }
+
+        int headEnd   = delimiterIdx != -1 ? delimiterIdx : end;
+        int bodyStart = delimiterIdx != -1 ? delimiterIdx + delimiterLen : end;
+
+        int lineEnd = offset;
+        while (lineEnd < headEnd && raw[lineEnd] != '\n') lineEnd++;
+        int headersStart = Math.min(lineEnd + 1, headEnd);
+        int lineTextEnd = lineEnd;
+        while (lineTextEnd > offset && (raw[lineTextEnd - 1] & 0xFF) <= ' ') lineTextEnd--; // CR, 뒤쪽 공백
+        int lineTextStart = offset;
+        while (lineTextStart < lineTextEnd && (raw[lineTextStart] & 0xFF) <= ' ') lineTextStart++;
 
-        String rawHeadersOnly = "";
+        var rl = lineParser.parse(new String(raw, lineTextStart, lineTextEnd - lineTextStart, StandardCharsets.UTF_8));
+        Map<String, String> query = parseQuery(raw, lineTextStart, lineTextEnd);
+        Map<String, String> headers = headerParser.parse(raw, headersStart, headEnd);
+        ByteBuffer bodyPart = ByteBuffer.wrap(raw, bodyStart, end - bodyStart).slice();
+
+        HttpRequest<String> request = HttpRequest.ofRawBody(rl.method(), rl.cleanPath(), bodyPart, query, headers);
+        if (event.shouldCommit()) {
+            event.method = String.valueOf(rl.method());
+            event.path = rl.cleanPath();
+            event.bytes = length;
+            event.commit();
+        }
+        return request;
+    }
+
+    /** 요청라인 [from, to)의 두 번째 토큰(요청 대상)에서 '?' 뒤 구간을 쿼리로 넘긴다. */
+    private Map<String, String> parseQuery(byte[] raw, int from, int to) {
+        int targetStart = from;
+        while (targetStart < to && raw[targetStart] != ' ') targetStart++;
+        targetStart++;
+        int targetEnd = targetStart;
+        int q = -1;
+        while (targetEnd < to && raw[targetEnd] != ' ') {
+            if (q < 0 && raw[targetEnd] == '?') q = targetEnd;
+            targetEnd++;
+        }
+        return q >= 0 ? qsParser.parse(raw, q + 1, targetEnd) : QueryParameters.of(Map.of());
+    }
+
+    public HttpRequest<String> parse(byte[] raw) {
+        return parse(raw, 0, raw.length);
+    }
+
+    private String firstLine(String headerAndRequestLinePart) {
+        return headerAndRequestLinePart.split("\r?\n",2)[0];
+    }
+
+    private String headersOnly(String headerAndRequestLinePart) {
         int firstLineEnd = headerAndRequestLinePart.indexOf("\n");
         if (firstLineEnd != -1) {
-            rawHeadersOnly = headerAndRequestLinePart.substring(firstLineEnd + 1);
+            return headerAndRequestLinePart.substring(firstLineEnd + 1);
         }
-        Map<String, String> headers = headerParser.parse(rawHeadersOnly);
+        return "";
+    }
 
-        return new HttpRequest<>(rl.method(), rl.cleanPath(), bodyPart, query, headers);
+    private static int indexOf(byte[] src, int from, int to, byte[] target) {
+        outer:
+        for (int i = from; i <= to - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (src[i + j] != target[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
     }
 
     private String[] split(String raw) {
-        System.out.println(raw);
         // 헤더·바디 구분 문자열을 먼저 CRLF( \r\n\r\n )로 찾고
         // 없으면 LF( \n\n ) 로 한 번 더 찾기
         int delimiterIdx   = raw.indexOf("\r\n\r\n");
@@ -1,30 +1,27 @@
 package sprout.mvc.http.parser;
 
 import sprout.beans.annotation.Component;
+import sprout.mvc.http.QueryParameters;
 
-import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.Map;
 
 @Component
 public class QueryStringParser {
     public Map<String,String> parse(String rawPath) {
-        Map<String,String> out = new HashMap<>();
-        String[] parts = rawPath.split("\\?",2);
-        if (parts.length == 2) {
-            for (String token : parts[1].split("&")) {
-                String[] kv = token.split("=",2);
-                if (kv.length == 2) {
-                    out.put(
-                            URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
-                            URLDecoder.decode(kv[1], StandardCharsets.UTF_8)
-                    );
-                } else if (kv.length == 1 && !kv[0].isEmpty()) { // 값이 없는 파라미터 처리 (예: ?param&)
-                    out.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8), "");
-                }
-            }
+        int q = rawPath.indexOf('?');
+        if (q < 0) {
+            return QueryParameters.of(Map.of());
         }
-        return out;
+        byte[] bytes = rawPath.substring(q + 1).getBytes(StandardCharsets.UTF_8);
+        return parse(bytes, 0, bytes.length);
     }
-}
\ No newline at end of file
+
+    /**
+     * '?' 다음부터의 쿼리 구간 [from, to)를 감싼다.
+     * 값이 없는 파라미터(예: ?param&)는 ""이고, URL 디코딩은 조회된 키/값에 대해서만 일어난다.
+     */
+    public QueryParameters parse(byte[] raw, int from, int to) {
+        return QueryParameters.parse(raw, from, to);
+    }
+}
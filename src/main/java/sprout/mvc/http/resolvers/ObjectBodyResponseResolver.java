@@ -3,12 +3,25 @@ package sprout.mvc.http.resolvers;
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
 import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.ResponseCode;
 import sprout.mvc.http.ResponseEntity;
 import sprout.mvc.http.ResponseResolver;
+import sprout.mvc.http.codec.MessageCodec;
+import sprout.mvc.http.codec.MessageCodecRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 
 @Component
 @Order(3)
 public class ObjectBodyResponseResolver implements ResponseResolver {
+    private final MessageCodecRegistry codecRegistry;
+
+    public ObjectBodyResponseResolver(MessageCodecRegistry codecRegistry) {
+        this.codecRegistry = codecRegistry;
+    }
+
     @Override
     public boolean supports(Object returnValue) {
         // ResponseEntity가 아니고 void나 null이 아닌 모든 객체를 처리
@@ -18,10 +31,21 @@ public class ObjectBodyResponseResolver implements ResponseResolver {
     @Override
     public ResponseEntity<?> resolve(Object returnValue, HttpRequest request) {
         // POST 요청이었다면 201 Created 반환
-        if ("POST".equalsIgnoreCase(request.getMethod().name())) {
-            return ResponseEntity.created(returnValue);
-        }
         // 그 외 (GET, PUT, DELETE 등)는 200 OK 반환
-        return ResponseEntity.ok(returnValue);
+        ResponseCode status = "POST".equalsIgnoreCase(request.getMethod().name())
+                ? ResponseCode.CREATED
+                : ResponseCode.SUCCESS;
+
+        // Accept 헤더로 협상한 코덱으로 바디를 인코딩
+        MessageCodec codec = codecRegistry.forResponseBody(request);
+        return new ResponseEntity<>(encode(codec, returnValue), new HashMap<>(), status, codec.getMediaType());
+    }
+
+    static byte[] encode(MessageCodec codec, Object body) {
+        try {
+            return codec.encode(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode response body as " + codec.getMediaType(), e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,10 +5,20 @@ import sprout.beans.annotation.Order;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.ResponseEntity;
 import sprout.mvc.http.ResponseResolver;
+import sprout.mvc.http.codec.MessageCodec;
+import sprout.mvc.http.codec.MessageCodecRegistry;
 
 @Component
 @Order(0)
 public class ResponseEntityResolver implements ResponseResolver {
+    private static final String DEFAULT_CONTENT_TYPE = "application/json";
+
+    private final MessageCodecRegistry codecRegistry;
+
+    public ResponseEntityResolver(MessageCodecRegistry codecRegistry) {
+        this.codecRegistry = codecRegistry;
+    }
+
     @Override
     public boolean supports(Object returnValue) {
         return returnValue instanceof ResponseEntity;
@@ -16,6 +26,16 @@ public class ResponseEntityResolver implements ResponseResolver {
 
     @Override
     public ResponseEntity<?> resolve(Object returnValue, HttpRequest request) {
-        return (ResponseEntity<?>) returnValue;
+        ResponseEntity<?> entity = (ResponseEntity<?>) returnValue;
+        Object body = entity.getBody();
+        // 문자열/바이트 바디이거나, 컨트롤러가 Content-Type을 직접 지정했다면 그대로 내보냄
+        if (body == null || body instanceof String || body instanceof byte[]
+                || !DEFAULT_CONTENT_TYPE.equals(entity.getContentType())) {
+            return entity;
+        }
+
+        MessageCodec codec = codecRegistry.forResponseBody(request);
+        return new ResponseEntity<>(ObjectBodyResponseResolver.encode(codec, body),
+                entity.getHeaders(), entity.getStatusCode(), codec.getMediaType());
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@ package sprout.mvc.mapping;
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Controller;
 import sprout.context.BeanFactory;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.annotation.*;
 import sprout.mvc.http.HttpMethod;
 
@@ -13,6 +15,8 @@ import java.util.Collection;
 
 @Component
 public class HandlerMethodScanner {
+    private static final Logger log = LoggerFactory.getLogger(HandlerMethodScanner.class);
+
     private final RequestMappingRegistry requestMappingRegistry;
     private final PathPatternResolver pathPatternResolver;
 
@@ -23,11 +27,11 @@ public class HandlerMethodScanner {
 
     public void scanControllers(BeanFactory context) {
         Collection<Object> beans = context.getAllBeans();
-        System.out.println(beans.size() + " beans found");
+        log.debug("{} beans found", beans.size());
         for (Object bean : beans) {
             Class<?> beanClass = bean.getClass();
             if (beanClass.isAnnotationPresent(Controller.class)) {
-                System.out.println("found controller: " + beanClass.getName());
+                log.debug("Found controller: {}", beanClass.getName());
                 String classLevelBasePath = extractBasePath(beanClass);
                 for (Method method : beanClass.getMethods()) {
                     RequestMappingInfoExtractor requestMappingInfoExtractor = findRequestMappingInfoExtractor(method);
@@ -73,11 +77,9 @@ public class HandlerMethodScanner {
             if (ann instanceof RequestMapping) {
                 int cnt = rm.method().length;
                 if (cnt != 1) { // 0 개(생략) -or- 2 개 이상이면 무시
-                    System.out.printf(
-                            "[WARN] %s.%s() - skipped: ambiguous @RequestMapping (method=%s)%n",
+                    log.warn("{}.{}() - skipped: ambiguous @RequestMapping (method={})",
                             method.getDeclaringClass().getSimpleName(), method.getName(),
-                            Arrays.toString(rm.method())
-                    );
+                            Arrays.toString(rm.method()));
                     return null;
                 }
             }
@@ -1,6 +1,8 @@
 package sprout.mvc.mapping;
 
 import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.http.HttpMethod;
 
 import java.lang.reflect.Method;
@@ -9,11 +11,13 @@ import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class RequestMappingRegistry {
+    private static final Logger log = LoggerFactory.getLogger(RequestMappingRegistry.class);
+
     private final Map<PathPattern, Map<HttpMethod, RequestMappingInfo>> mappings = new ConcurrentHashMap<>();
     private final Map<String, PathPattern> pathPatterns = new ConcurrentHashMap<>();
 
     public void register(PathPattern pathPattern, HttpMethod httpMethod, Object controller, Method handlerMethod) {
-        System.out.println("Registering request mapping for " + pathPattern.getOriginalPattern() + " with http method " + httpMethod);
+        log.debug("Registering request mapping for {} with http method {}", pathPattern.getOriginalPattern(), httpMethod);
         mappings.computeIfAbsent(pathPattern, k -> new EnumMap<>(HttpMethod.class))
                 .put(httpMethod, new RequestMappingInfo(pathPattern, httpMethod, controller, handlerMethod));
     }
@@ -11,6 +11,8 @@ import sprout.beans.annotation.*;
 import sprout.context.ApplicationContext;
 import sprout.context.BeanDefinitionRegistry;
 import sprout.context.BeanFactory;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
@@ -21,6 +23,7 @@ import java.util.stream.Collectors;
 
 @Component
 public class ClassPathScanner {
+    private static final Logger log = LoggerFactory.getLogger(ClassPathScanner.class);
 
     public Collection<BeanDefinition> scan(ConfigurationBuilder configBuilder, Class<? extends Annotation>... componentAnnotations) {
         configBuilder.addScanners(Scanners.TypesAnnotated, Scanners.SubTypes);
@@ -100,8 +103,9 @@ public class ClassPathScanner {
             }
         }
 
-        // 디버깅 출력
-        definitions.forEach(d -> System.out.println("→ BeanDefinition: Name=" + d.getName() + ", Type=" + d.getType().getSimpleName()));
+        if (log.isDebugEnabled()) {
+            definitions.forEach(d -> log.debug("BeanDefinition: Name={}, Type={}", d.getName(), d.getType().getSimpleName()));
+        }
 
         return definitions;
     }
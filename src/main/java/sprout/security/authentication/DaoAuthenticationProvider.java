@@ -1,6 +1,8 @@
 package sprout.security.authentication;
 
 import sprout.beans.InfrastructureBean;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.security.authentication.exception.AccountExpiredException;
 import sprout.security.authentication.exception.BadCredentialsException;
 import sprout.security.authentication.exception.CredentialExpiredException;
@@ -13,6 +15,7 @@ import sprout.security.core.UserDetailsService;
 import javax.naming.AuthenticationException;
 
 public class DaoAuthenticationProvider implements AuthenticationProvider, InfrastructureBean {
+    private static final Logger log = LoggerFactory.getLogger(DaoAuthenticationProvider.class);
 
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
@@ -37,12 +40,12 @@ public class DaoAuthenticationProvider implements AuthenticationProvider, Infras
         try {
             userDetails = userDetailsService.loadUserByUsername(username);
         } catch (UsernameNotFoundException notFound) {
-            System.out.println("User '" + username + "' not found.");
+            log.debug("User '{}' not found.", username);
             throw new BadCredentialsException("Bad credentials", notFound);
         }
 
         if (!passwordEncoder.matches(rawPassword, userDetails.getPassword())) {
-            System.out.println("Invalid password for user '" + username + "'");
+            log.debug("Invalid password for user '{}'", username);
             throw new BadCredentialsException("Bad credentials");
         }
 
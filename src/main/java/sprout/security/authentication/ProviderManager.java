@@ -2,6 +2,8 @@ package sprout.security.authentication;
 
 import sprout.beans.InfrastructureBean;
 import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.security.authentication.exception.*;
 import sprout.security.core.Authentication;
 
@@ -11,6 +13,8 @@ import java.util.Objects;
 import java.util.Optional;
 
 public class ProviderManager implements AuthenticationManager, InfrastructureBean {
+    private static final Logger log = LoggerFactory.getLogger(ProviderManager.class);
+
     private final AuthenticationEventPublisher eventPublisher;
     private final List<AuthenticationProvider> providers;
     private final AuthenticationManager parent;
@@ -50,7 +54,7 @@ public class ProviderManager implements AuthenticationManager, InfrastructureBea
 
                 // 그 외 인증 실패 예외는 저장해두고 다음 Provider 시도
                 lastException = ex;
-                System.out.println("Authentication failed with provider " + provider.getClass().getSimpleName() + ": " + ex.getMessage());
+                log.debug("Authentication failed with provider {}: {}", provider.getClass().getSimpleName(), ex.getMessage());
             } catch (Exception ex) {
                 lastException = new AuthenticationException("Internal authentication service error: " + ex.getMessage());
                 eventPublisher.publishAuthenticationFailure(lastException, authentication);
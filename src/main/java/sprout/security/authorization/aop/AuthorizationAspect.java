@@ -3,6 +3,8 @@ package sprout.security.authorization.aop;
 import sprout.aop.JoinPoint;
 import sprout.aop.annotation.Aspect;
 import sprout.aop.annotation.Before;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.security.authorization.annotation.PreAuthorize;
 import sprout.security.context.SecurityContextHolder;
 import sprout.security.core.Authentication;
@@ -17,6 +19,7 @@ import java.util.Optional;
 
 @Aspect
 public class AuthorizationAspect {
+    private static final Logger log = LoggerFactory.getLogger(AuthorizationAspect.class);
 
     @Before(annotation = PreAuthorize.class)
     public void preAuthorize(JoinPoint joinPoint) throws AccessDeniedException {
@@ -46,7 +49,7 @@ public class AuthorizationAspect {
                         "' does not have required authority '" + requiredAuthority + "' for method " + method.getName());
             }
         } else {
-            System.err.println("[WARN] @PreAuthorize annotation on method " + method.getName() + " has no value defined. Access will be granted by default.");
+            log.warn("@PreAuthorize annotation on method {} has no value defined. Access will be granted by default.", method.getName());
         }
     }
 }
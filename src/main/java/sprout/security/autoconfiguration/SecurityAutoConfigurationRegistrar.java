@@ -6,6 +6,8 @@ import sprout.beans.InfrastructureBean;
 import sprout.beans.annotation.Component;
 import sprout.beans.processor.BeanDefinitionRegistrar;
 import sprout.config.AppConfig;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.security.authentication.*;
 import sprout.security.authentication.exception.UsernameNotFoundException;
 import sprout.security.authentication.password.BCryptPasswordEncoder;
@@ -25,6 +27,8 @@ import java.util.List;
 
 @Component
 public class SecurityAutoConfigurationRegistrar implements BeanDefinitionRegistrar {
+    private static final Logger log = LoggerFactory.getLogger(SecurityAutoConfigurationRegistrar.class);
+
     @Override
     public Collection<BeanDefinition> registerAdditionalBeanDefinitions(Collection<BeanDefinition> existingDefs) throws NoSuchMethodException {
         List<BeanDefinition> additionalDefs = new ArrayList<>();
@@ -37,7 +41,7 @@ public class SecurityAutoConfigurationRegistrar implements BeanDefinitionRegistr
             }
         }
         if (!hasEnabledSproutSecurity || (enableSproutSecurity != null && enableSproutSecurity.defaultSecurityDisabled())) {
-            System.out.println("No @EnableSproutSecurity found. Registering default security beans.");
+            log.info("No @EnableSproutSecurity found. Registering default security beans.");
 
             if (existingDefs.stream().noneMatch(def -> PasswordEncoder.class.isAssignableFrom(def.getType()))) {
                 Constructor<?> constructor = BCryptPasswordEncoder.class.getConstructor();
@@ -1,11 +1,14 @@
 package sprout.security.context;
 
 import sprout.config.AppConfig;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.security.core.SecurityContext;
 
 import java.util.function.Supplier;
 
 public final class SecurityContextHolder {
+    private static final Logger log = LoggerFactory.getLogger(SecurityContextHolder.class);
 
     private static SecurityContextHolderStrategy strategy;
     private static final String DEFAULT_STRATEGY = "bio";
@@ -16,10 +19,10 @@ public final class SecurityContextHolder {
         String strategyName = appConfig.getStringProperty("sprout.security.strategy", DEFAULT_STRATEGY);
         if ("nio".equals(strategyName)) {
             strategy = new ChannelAwareSecurityContextHolderStrategy();
-            System.out.println("SecurityContextHolder initialized with ChannelAware strategy.");
+            log.info("SecurityContextHolder initialized with ChannelAware strategy.");
         } else {
             strategy = new ThreadLocalSecurityContextHolderStrategy();
-            System.out.println("SecurityContextHolder initialized with ThreadLocal strategy.");
+            log.info("SecurityContextHolder initialized with ThreadLocal strategy.");
         }
 
     }
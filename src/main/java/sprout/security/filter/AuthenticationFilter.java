@@ -1,6 +1,8 @@
 package sprout.security.filter;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import sprout.beans.InfrastructureBean;
 import sprout.beans.annotation.Component;
 import sprout.core.filter.Filter;
@@ -16,22 +18,30 @@ import sprout.security.core.SecurityContext;
 import sprout.security.web.util.matcher.RequestMatcher;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public class AuthenticationFilter implements Filter, InfrastructureBean {
 
     private final List<RequestMatcher> requestMatchers;
     private final AuthenticationManager authenticationManager;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader loginRequestReader;
 
     public AuthenticationFilter(List<RequestMatcher> requestMatchers, AuthenticationManager authenticationManager) {
+        this(requestMatchers, authenticationManager, new ObjectMapper());
+    }
+
+    public AuthenticationFilter(List<RequestMatcher> requestMatchers, AuthenticationManager authenticationManager, ObjectMapper objectMapper) {
         this.requestMatchers = requestMatchers;
         this.authenticationManager = authenticationManager;
-        this.objectMapper = new ObjectMapper();
+        // 로그인 바디는 username/password 두 필드만 필요하므로 Map 대신 전용 타입으로 바로 바인딩
+        this.loginRequestReader = objectMapper.readerFor(LoginRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     }
 
+    private record LoginRequest(String username, String password) {}
+
     @Override
     public void doFilter(HttpRequest request, HttpResponse response, FilterChain chain) throws IOException {
         for (RequestMatcher requestMatcher : requestMatchers) {
@@ -43,11 +53,11 @@ public class AuthenticationFilter implements Filter, InfrastructureBean {
                         return;
                     }
 
-                    Map<String, Object> requestBody = objectMapper.readValue((String) request.getBody(), Map.class);
+                    LoginRequest requestBody = readLoginRequest(request);
 
-                    String username = Optional.ofNullable((String) requestBody.get("username"))
+                    String username = Optional.ofNullable(requestBody.username())
                             .orElseThrow(() -> new LoginException("Username not provided."));
-                    String password = Optional.ofNullable((String) requestBody.get("password"))
+                    String password = Optional.ofNullable(requestBody.password())
                             .orElseThrow(() -> new LoginException("Password not provided."));
 
                     UsernamePasswordAuthenticationToken unauthenticatedToken = new UsernamePasswordAuthenticationToken(
@@ -76,4 +86,18 @@ public class AuthenticationFilter implements Filter, InfrastructureBean {
         }
         chain.doFilter(request, response);
     }
+
+    private LoginRequest readLoginRequest(HttpRequest<?> request) throws IOException {
+        ByteBuffer rawBody = request.getRawBody();
+        LoginRequest loginRequest;
+        if (rawBody != null && rawBody.hasArray()) {
+            loginRequest = loginRequestReader.readValue(rawBody.array(), rawBody.arrayOffset() + rawBody.position(), rawBody.remaining());
+        } else {
+            loginRequest = loginRequestReader.readValue((String) request.getBody());
+        }
+        if (loginRequest == null) {
+            throw new LoginException("Username not provided.");
+        }
+        return loginRequest;
+    }
 }
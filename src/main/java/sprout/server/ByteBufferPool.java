@@ -27,9 +27,11 @@ public class ByteBufferPool implements InfrastructureBean {
     }
 
     // Predefined buffer sizes
+    public static final int FRAME_HEADER_BUFFER_SIZE = 16; // 16B for WebSocket frame headers
     public static final int SMALL_BUFFER_SIZE = 2048;      // 2KB for protocol detection
     public static final int MEDIUM_BUFFER_SIZE = 8192;     // 8KB for read operations
     public static final int LARGE_BUFFER_SIZE = 32768;     // 32KB for large responses
+    public static final int SESSION_READ_BUFFER_SIZE = 65536; // 64KB WebSocket read buffers, held only while a read is in progress
 
     private static final int DEFAULT_MAX_POOL_SIZE = 500;
 
@@ -45,9 +47,11 @@ public class ByteBufferPool implements InfrastructureBean {
         this.pools = new ConcurrentHashMap<>();
 
         // Initialize default pools
+        initializePool(FRAME_HEADER_BUFFER_SIZE, DEFAULT_MAX_POOL_SIZE * 2); // One per queued outbound frame
         initializePool(SMALL_BUFFER_SIZE, DEFAULT_MAX_POOL_SIZE);
         initializePool(MEDIUM_BUFFER_SIZE, DEFAULT_MAX_POOL_SIZE);
         initializePool(LARGE_BUFFER_SIZE, DEFAULT_MAX_POOL_SIZE / 5); // Fewer large buffers
+        initializePool(SESSION_READ_BUFFER_SIZE, DEFAULT_MAX_POOL_SIZE / 10); // Idle sessions return theirs
     }
 
     public void initializePool(int bufferSize, int maxPoolSize) {
@@ -104,7 +108,9 @@ public class ByteBufferPool implements InfrastructureBean {
     }
 
     private int findPoolSize(int requestedSize) {
-        if (requestedSize <= SMALL_BUFFER_SIZE) {
+        if (requestedSize <= FRAME_HEADER_BUFFER_SIZE) {
+            return FRAME_HEADER_BUFFER_SIZE;
+        } else if (requestedSize <= SMALL_BUFFER_SIZE) {
             return SMALL_BUFFER_SIZE;
         } else if (requestedSize <= MEDIUM_BUFFER_SIZE) {
             return MEDIUM_BUFFER_SIZE;
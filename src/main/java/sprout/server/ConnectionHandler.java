@@ -1,5 +1,7 @@
 package sprout.server;
 
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.dispatcher.RequestDispatcher;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.HttpResponse;
@@ -12,6 +14,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 public class ConnectionHandler implements Runnable {
+    private static final Logger log = LoggerFactory.getLogger(ConnectionHandler.class);
+
     private final Socket socket;
     private final RequestDispatcher dispatcher;
     private final HttpRequestParser parser;
@@ -38,7 +42,7 @@ public class ConnectionHandler implements Runnable {
             writeResponse(out, res.getResponseEntity());
 
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to handle connection", e);
         }
     }
 
@@ -0,0 +1,170 @@
+package sprout.server;
+
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 루프 하나가 돌리는 해시 타이머 휠.
+ * <p>
+ * 만료 시각을 tick 단위로 잘라 wheelSize개의 버킷에 넣고, 루프가 {@link #advance(long)}를 부를 때 지난 tick의 버킷만 훑는다.
+ * 등록·취소가 O(1)이라 세션 10만 개의 heartbeat처럼 대부분 취소되거나 다시 예약되는 타이머에 맞는다. 정밀도는 tick 하나.
+ * <p>
+ * {@link #schedule}은 아무 스레드에서나 부를 수 있고(대기 큐를 거친다), {@link #advance}와 작업 실행은 루프 스레드에서만 한다.
+ */
+public class HashedWheelTimer {
+    private static final Logger log = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    public interface Timeout {
+        void cancel();
+
+        boolean isCancelled();
+    }
+
+    private static final class Entry implements Timeout {
+        final Runnable task;
+        final long deadlineTick;
+        long remainingRounds;
+        volatile boolean cancelled;
+
+        Entry(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Entry>[] wheel;
+    private final ConcurrentLinkedQueue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    // 다음에 처리할 tick
+    private long tick;
+    private int size;
+
+    public HashedWheelTimer(long tickMillis, int wheelSize) {
+        this(tickMillis, wheelSize, System.nanoTime());
+    }
+
+    @SuppressWarnings("unchecked")
+    HashedWheelTimer(long tickMillis, int wheelSize, long startNanos) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        // 버킷 인덱스를 & 연산으로 구하도록 2의 거듭제곱으로 올린다
+        int normalized = Integer.highestOneBit(Math.max(1, wheelSize) - 1) << 1;
+        if (normalized <= 0) {
+            normalized = 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = normalized - 1;
+        this.wheel = new List[normalized];
+        for (int i = 0; i < normalized; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.startNanos = startNanos;
+    }
+
+    /** delayMillis 뒤에 루프 스레드에서 task를 실행한다. 늦어도 tick 하나 안에 실행된다. */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        return scheduleAt(task, deadlineNanos);
+    }
+
+    Timeout scheduleAt(Runnable task, long deadlineNanos) {
+        // 올림: 만료 시각보다 일찍 실행되지 않도록
+        long deadlineTick = Math.max(0, (deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+        Entry entry = new Entry(task, deadlineTick);
+        pending.add(entry);
+        return entry;
+    }
+
+    /** nowNanos까지 지난 tick을 처리하고 만료된 작업을 실행한다. 실행한 작업 수를 돌려준다. */
+    public int advance(long nowNanos) {
+        transferPending();
+        long currentTick = (nowNanos - startNanos) / tickNanos;
+        int fired = 0;
+        // 루프가 오래 멈췄어도 휠을 한 바퀴 넘게 돌 필요는 없다
+        long from = Math.max(tick, currentTick - mask);
+        for (long t = from; t <= currentTick; t++) {
+            fired += expire(wheel[(int) (t & mask)], t);
+        }
+        tick = Math.max(tick, currentTick + 1);
+        return fired;
+    }
+
+    /** 다음 tick까지 남은 밀리초. select 대기 시간으로 쓴다 (최소 1) */
+    public long millisUntilNextTick(long nowNanos) {
+        long nextTickNanos = startNanos + tick * tickNanos;
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextTickNanos - nowNanos));
+    }
+
+    /** 예약되어 아직 실행되지 않은 작업 수 (취소했지만 버킷에서 아직 빠지지 않은 것 포함) */
+    public int size() {
+        return size + pending.size();
+    }
+
+    private void transferPending() {
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            if (entry.cancelled) {
+                continue;
+            }
+            // 이미 지난 tick이면 이번 advance에서 바로 실행되도록 현재 tick에 넣는다
+            long target = Math.max(entry.deadlineTick, tick);
+            entry.remainingRounds = (target - tick) / wheel.length;
+            wheel[(int) (target & mask)].add(entry);
+            size++;
+        }
+    }
+
+    private int expire(List<Entry> bucket, long currentTick) {
+        if (bucket.isEmpty()) {
+            return 0;
+        }
+        List<Entry> due = null;
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Entry entry = bucket.get(i);
+            if (entry.cancelled) {
+                size--;
+            } else if (entry.remainingRounds > 0 && entry.deadlineTick > currentTick) {
+                entry.remainingRounds--;
+                bucket.set(kept++, entry);
+            } else {
+                size--;
+                if (due == null) {
+                    due = new ArrayList<>();
+                }
+                due.add(entry);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+        if (due == null) {
+            return 0;
+        }
+        // 작업이 같은 버킷에 다시 예약해도 대기 큐를 거치므로 순회와 겹치지 않는다
+        for (Entry entry : due) {
+            try {
+                entry.task.run();
+            } catch (Throwable t) {
+                log.error("Timer task failed", t);
+            }
+        }
+        return due.size();
+    }
+}
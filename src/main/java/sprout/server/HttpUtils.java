@@ -1,5 +1,6 @@
 package sprout.server;
 
+import sprout.jfr.ResponseEncodeEvent;
 import sprout.mvc.http.ResponseEntity;
 
 import java.io.*;
@@ -11,23 +12,30 @@ public final class HttpUtils {
     private HttpUtils() {}
 
     public static boolean isRequestComplete(ByteBuffer buffer) {
-        // 버퍼가 비어있거나 읽을 데이터가 없으면 false
+        return requestLength(buffer) >= 0;
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 시작하는 첫 요청이 완전하면 그 요청의 바이트 길이를, 아니면 -1을 반환한다.
+     * 파이프라이닝으로 뒤에 붙어 온 요청은 길이에 포함하지 않는다. 버퍼 위치는 바꾸지 않는다.
+     */
+    public static int requestLength(ByteBuffer buffer) {
+        // 버퍼가 비어있거나 읽을 데이터가 없으면 미완성
         if (buffer == null || !buffer.hasRemaining()) {
-            return false;
+            return -1;
         }
 
         // 현재 버퍼 위치 저장 및 작업 후 복원
         int originalPosition = buffer.position();
         try {
-            // 헤더 끝(\r\n\r\n) 찾기
-            int headerEnd = -1;
             byte[] arr = new byte[buffer.remaining()];
             buffer.get(arr);
-            String content = new String(arr, StandardCharsets.UTF_8);
-            headerEnd = content.indexOf("\r\n\r\n");
+            // 바이트 하나가 문자 하나가 되도록 ISO-8859-1로 읽어 문자 위치를 그대로 바이트 위치로 쓴다
+            String content = new String(arr, StandardCharsets.ISO_8859_1);
+            int headerEnd = content.indexOf("\r\n\r\n");
 
             if (headerEnd < 0) {
-                return false; // 헤더 끝이 없으면 요청 미완성
+                return -1; // 헤더 끝이 없으면 요청 미완성
             }
 
             // 헤더 부분 추출
@@ -39,19 +47,17 @@ public final class HttpUtils {
 
             // 헤더 이후 바디 데이터 시작 위치
             int bodyStart = headerEnd + 4;
-            int totalLength = content.length();
 
             if (isChunked) {
                 // 청크드 인코딩 처리
-                String body = content.substring(bodyStart);
-                return isChunkedBodyComplete(body);
+                int bodyLength = chunkedBodyLength(content.substring(bodyStart));
+                return bodyLength < 0 ? -1 : bodyStart + bodyLength;
             } else if (contentLength >= 0) {
                 // Content-Length가 명시된 경우
-                int bodyReceived = totalLength - bodyStart;
-                return bodyReceived >= contentLength;
+                return arr.length - bodyStart >= contentLength ? bodyStart + contentLength : -1;
             } else {
                 // 바디가 없는 경우 (예: GET 요청)
-                return true;
+                return bodyStart;
             }
         } finally {
             // 버퍼 위치 복원
@@ -59,35 +65,35 @@ public final class HttpUtils {
         }
     }
 
-    // 청크드 바디가 완전한지 확인하는 헬퍼 메서드
-    private static boolean isChunkedBodyComplete(String body) {
+    // 청크드 바디가 완전하면 마지막 청크(0\r\n\r\n)까지의 길이, 아니면 -1
+    private static int chunkedBodyLength(String body) {
         int pos = 0;
         while (pos < body.length()) {
             int lineEnd = body.indexOf("\r\n", pos);
             if (lineEnd < 0) {
-                return false; // 청크 크기 라인이 없음
+                return -1; // 청크 크기 라인이 없음
             }
             String lenLine = body.substring(pos, lineEnd);
             int len;
             try {
                 len = Integer.parseInt(lenLine.trim(), 16);
             } catch (NumberFormatException e) {
-                return false; // 잘못된 청크 크기
+                return -1; // 잘못된 청크 크기
             }
 
             if (len == 0) {
                 // 마지막 청크 (0\r\n\r\n)
-                return body.substring(lineEnd).startsWith("\r\n\r\n");
+                return body.startsWith("\r\n\r\n", lineEnd) ? lineEnd + 4 : -1;
             }
 
             // 청크 데이터 확인
             pos = lineEnd + 2; // CRLF 건너뛰기
             if (pos + len + 2 > body.length()) {
-                return false; // 청크 데이터가 충분히 수신되지 않음
+                return -1; // 청크 데이터가 충분히 수신되지 않음
             }
             pos += len + 2; // 청크 데이터 + CRLF
         }
-        return false; // 청크 끝에 도달하지 못함
+        return -1; // 청크 끝에 도달하지 못함
     }
 
     public static String readRawRequest(ByteBuffer initial, InputStream in) throws IOException {
@@ -262,13 +268,29 @@ public final class HttpUtils {
         return body.toString();
     }
 
+    public static byte[] bodyBytes(ResponseEntity<?> res) {
+        Object body = res.getBody();
+        if (body == null) return new byte[0];
+        if (body instanceof byte[] bytes) return bytes;
+        if (body instanceof ByteBuffer buffer) {
+            ByteBuffer src = buffer.duplicate();
+            byte[] bytes = new byte[src.remaining()];
+            src.get(bytes);
+            return bytes;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
     public static ByteBuffer createResponseBuffer(ResponseEntity<?> res) {
         if (res == null) return null;
+        ResponseEncodeEvent event = new ResponseEncodeEvent();
+        event.begin();
 
-        // Body를 바이트로 변환 (UTF-8)
-        byte[] bodyBytes = res.getBody() != null
-            ? res.getBody().toString().getBytes(StandardCharsets.UTF_8)
-            : new byte[0];
+        // Body를 바이트로 변환 (UTF-8, 코덱이 인코딩한 byte[]는 그대로)
+        // 캐시된 응답(direct ByteBuffer)은 힙으로 꺼내지 않고 응답 버퍼로 바로 복사
+        ByteBuffer directBody = res.getBody() instanceof ByteBuffer b ? b.duplicate() : null;
+        byte[] bodyBytes = directBody == null ? bodyBytes(res) : null;
+        int bodyLength = directBody != null ? directBody.remaining() : bodyBytes.length;
 
         // HTTP 헤더 작성
         StringBuilder header = new StringBuilder();
@@ -285,12 +307,14 @@ public final class HttpUtils {
 
         // Content-Length (바이트 단위로 정확히)
         header.append("Content-Length: ")
-              .append(bodyBytes.length)
+              .append(bodyLength)
               .append("\r\n");
 
-        // Connection 헤더: keep-alive 활성화 (HTTP/1.1 기본)
-        header.append("Connection: keep-alive\r\n");
-        header.append("Keep-Alive: timeout=5, max=1000\r\n");
+        // Connection 헤더: keep-alive 활성화 (HTTP/1.1 기본). 응답이 직접 지정했으면(예: close) 그 값을 따른다
+        if (!hasConnectionHeader(res.getHeaders())) {
+            header.append("Connection: keep-alive\r\n");
+            header.append("Keep-Alive: timeout=5, max=1000\r\n");
+        }
 
         // Custom headers
         if (res.getHeaders() != null) {
@@ -309,20 +333,23 @@ public final class HttpUtils {
         byte[] headerBytes = header.toString().getBytes(StandardCharsets.UTF_8);
 
         // 전체 응답 버퍼 생성 (헤더 + 바디)
-        ByteBuffer buffer = ByteBuffer.allocate(headerBytes.length + bodyBytes.length);
+        ByteBuffer buffer = ByteBuffer.allocate(headerBytes.length + bodyLength);
         buffer.put(headerBytes);
-        buffer.put(bodyBytes);
+        putBody(buffer, directBody, bodyBytes);
         buffer.flip();
 
+        commit(event, res, buffer.remaining());
         return buffer;
     }
 
     public static ByteBuffer createResponseBuffer(ResponseEntity<?> res, ByteBufferPool pool) {
         if (res == null) return null;
+        ResponseEncodeEvent event = new ResponseEncodeEvent();
+        event.begin();
 
-        byte[] bodyBytes = res.getBody() != null
-                ? res.getBody().toString().getBytes(StandardCharsets.UTF_8)
-                : new byte[0];
+        ByteBuffer directBody = res.getBody() instanceof ByteBuffer b ? b.duplicate() : null;
+        byte[] bodyBytes = directBody == null ? bodyBytes(res) : null;
+        int bodyLength = directBody != null ? directBody.remaining() : bodyBytes.length;
 
         StringBuilder header = new StringBuilder();
         header.append("HTTP/1.1 ")
@@ -336,11 +363,13 @@ public final class HttpUtils {
                 .append("\r\n");
 
         header.append("Content-Length: ")
-                .append(bodyBytes.length)
+                .append(bodyLength)
                 .append("\r\n");
 
-        header.append("Connection: keep-alive\r\n");
-        header.append("Keep-Alive: timeout=5, max=1000\r\n");
+        if (!hasConnectionHeader(res.getHeaders())) {
+            header.append("Connection: keep-alive\r\n");
+            header.append("Keep-Alive: timeout=5, max=1000\r\n");
+        }
 
         if (res.getHeaders() != null) {
             for (Map.Entry<String, String> entry : res.getHeaders().entrySet()) {
@@ -354,14 +383,40 @@ public final class HttpUtils {
         header.append("\r\n");
 
         byte[] headerBytes = header.toString().getBytes(StandardCharsets.UTF_8);
-        int totalSize = headerBytes.length + bodyBytes.length;
+        int totalSize = headerBytes.length + bodyLength;
 
         // 풀에서 버퍼 대여
         ByteBuffer buffer = pool.acquire(totalSize);
         buffer.put(headerBytes);
-        buffer.put(bodyBytes);
+        putBody(buffer, directBody, bodyBytes);
         buffer.flip();
+        commit(event, res, buffer.remaining());
         return buffer;
     }
 
+    private static void commit(ResponseEncodeEvent event, ResponseEntity<?> res, int bytes) {
+        if (event.shouldCommit()) {
+            event.status = res.getStatusCode().getCode();
+            event.contentType = res.getContentType();
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    private static void putBody(ByteBuffer buffer, ByteBuffer directBody, byte[] bodyBytes) {
+        if (directBody != null) {
+            buffer.put(directBody);
+        } else {
+            buffer.put(bodyBytes);
+        }
+    }
+
+    private static boolean hasConnectionHeader(Map<String, String> headers) {
+        if (headers == null) return false;
+        for (String name : headers.keySet()) {
+            if ("Connection".equalsIgnoreCase(name)) return true;
+        }
+        return false;
+    }
+
 }
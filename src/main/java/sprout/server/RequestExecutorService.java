@@ -3,4 +3,14 @@ package sprout.server;
 public interface RequestExecutorService {
     void execute(Runnable task);
     void shutdown();
+
+    /** 실행을 기다리는 작업 수 (메트릭용). 알 수 없으면 0. */
+    default int getQueuedTaskCount() {
+        return 0;
+    }
+
+    /** 실행 중인 작업 수 (메트릭용). 알 수 없으면 0. */
+    default int getActiveTaskCount() {
+        return 0;
+    }
 }
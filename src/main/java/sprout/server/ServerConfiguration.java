@@ -5,7 +5,11 @@ import sprout.beans.annotation.Configuration;
 import sprout.config.AppConfig;
 import sprout.context.BeanFactory;
 import sprout.context.ContextPropagator;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.ServerMetrics;
 import sprout.mvc.dispatcher.RequestDispatcher;
+import sprout.mvc.http.multipart.MultipartConfig;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.server.builtins.BioHttpProtocolHandler;
 import sprout.server.builtins.NioHttpProtocolHandler;
@@ -17,6 +21,7 @@ import java.util.concurrent.ExecutorService;
 
 @Configuration
 public class ServerConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(ServerConfiguration.class);
 
     @Bean
     public RequestExecutorService executorService(AppConfig appConfig, List<ContextPropagator> contextPropagators) {
@@ -28,13 +33,13 @@ public class ServerConfiguration {
     }
 
     @Bean
-    public AcceptableProtocolHandler httpProtocolHandler(AppConfig appConfig, RequestDispatcher requestDispatcher, HttpRequestParser httpRequestParser, RequestExecutorService executorService, ByteBufferPool byteBufferPool) {
+    public AcceptableProtocolHandler httpProtocolHandler(AppConfig appConfig, RequestDispatcher requestDispatcher, HttpRequestParser httpRequestParser, RequestExecutorService executorService, ByteBufferPool byteBufferPool, ServerMetrics serverMetrics, MultipartConfig multipartConfig) {
         String executionMode = appConfig.getStringProperty("server.execution-mode", "hybrid");
         if (executionMode.equals("hybrid")) {
-            System.out.println("Execution mode is hybrid");
+            log.info("Execution mode is hybrid");
             return new BioHttpProtocolHandler(requestDispatcher, httpRequestParser, executorService);
         }
-        System.out.println("Execution mode is NIO");
-        return new NioHttpProtocolHandler(requestDispatcher, httpRequestParser, executorService, byteBufferPool);
+        log.info("Execution mode is NIO");
+        return new NioHttpProtocolHandler(requestDispatcher, httpRequestParser, executorService, byteBufferPool, serverMetrics, multipartConfig);
     }
 }
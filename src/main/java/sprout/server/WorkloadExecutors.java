@@ -0,0 +1,190 @@
+package sprout.server;
+
+import sprout.beans.DisposableBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+import sprout.context.ContextPropagator;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.Counter;
+import sprout.metrics.LatencyHistogram;
+import sprout.metrics.MetricsRegistry;
+import sprout.mvc.annotation.Workload;
+import sprout.mvc.invoke.HandlerMethod;
+import sprout.mvc.mapping.RequestMappingInfo;
+import sprout.server.builtins.RequestExecutorPoolService;
+import sprout.server.builtins.VirtualRequestExecutorService;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 워크로드 종류별 실행기. {@link Workload}가 붙은 핸들러는 디스패처가 여기서 고른 실행기로 넘겨 실행한다.
+ *
+ * <pre>
+ * server:
+ *   workloads:
+ *     cpu:                      # 기본값
+ *       type: platform
+ *       threads: 0              # 0이면 코어 수
+ *       queue-capacity: 1024
+ *       on-full: reject         # reject(503) | caller-runs
+ *     io:
+ *       type: virtual
+ *     admin:
+ *       type: platform
+ *       threads: 2
+ *       queue-capacity: 16
+ *     reports:                  # 새 이름도 추가할 수 있다
+ *       type: platform
+ *       threads: 4
+ * </pre>
+ * 실행기마다 workload 라벨로 대기·실행 중 작업 수, 큐 대기 시간, 거절 수를 메트릭으로 낸다.
+ */
+@Component
+public class WorkloadExecutors implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(WorkloadExecutors.class);
+
+    /** 큐 대기 시간과 거절 수를 재는 워크로드 실행기. 큐가 차서 거절하면 디스패처가 503으로 응답한다. */
+    public static final class Metered implements RequestExecutorService {
+        private final String name;
+        private final RequestExecutorService delegate;
+        private final LatencyHistogram queueWait;
+        private final Counter rejected;
+
+        Metered(String name, RequestExecutorService delegate, MetricsRegistry registry) {
+            this.name = name;
+            this.delegate = delegate;
+            this.queueWait = registry.histogram("sprout_executor_queue_wait_seconds",
+                    "Time request tasks waited before a workload executor ran them", "workload", name);
+            this.rejected = registry.counter("sprout_executor_rejected_total",
+                    "Request tasks a workload executor refused because its queue was full", "workload", name);
+            registry.gauge("sprout_executor_queued_tasks", "Request tasks waiting to run", delegate::getQueuedTaskCount, "workload", name);
+            registry.gauge("sprout_executor_active_tasks", "Request tasks currently running", delegate::getActiveTaskCount, "workload", name);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            long submitted = System.nanoTime();
+            try {
+                delegate.execute(() -> {
+                    queueWait.record(System.nanoTime() - submitted);
+                    task.run();
+                });
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public int getQueuedTaskCount() {
+            return delegate.getQueuedTaskCount();
+        }
+
+        @Override
+        public int getActiveTaskCount() {
+            return delegate.getActiveTaskCount();
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+    }
+
+    private final Map<String, Metered> executors = new LinkedHashMap<>();
+    // 핸들러별 실행기. 워크로드가 없으면 Optional.empty()
+    private final Map<RequestMappingInfo, Optional<Metered>> byHandler = new ConcurrentHashMap<>();
+
+    public WorkloadExecutors(AppConfig appConfig, List<ContextPropagator> propagators, MetricsRegistry registry) {
+        Map<String, Map<String, Object>> specs = new LinkedHashMap<>();
+        specs.put("cpu", Map.of("type", "platform", "threads", 0, "queue-capacity", 1024));
+        specs.put("io", Map.of("type", "virtual"));
+        specs.put("admin", Map.of("type", "platform", "threads", 2, "queue-capacity", 16));
+        for (Map.Entry<String, Object> entry : appConfig.getMapProperty("server.workloads").entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> spec) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> typed = (Map<String, Object>) spec;
+                specs.put(entry.getKey(), typed);
+            }
+        }
+        specs.forEach((name, spec) -> executors.put(name, new Metered(name, create(name, spec, propagators), registry)));
+    }
+
+    /** 핸들러에 지정된 워크로드 실행기. 지정이 없거나 모르는 이름이면 null (요청을 읽은 실행기에서 그대로 실행) */
+    public RequestExecutorService executorFor(HandlerMethod handlerMethod) {
+        RequestMappingInfo info = handlerMethod.requestMappingInfo();
+        if (info == null || info.handlerMethod() == null) {
+            return null;
+        }
+        return byHandler.computeIfAbsent(info, this::resolve).orElse(null);
+    }
+
+    public RequestExecutorService get(String name) {
+        return executors.get(name);
+    }
+
+    public void shutdown() {
+        for (Metered executor : executors.values()) {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    private Optional<Metered> resolve(RequestMappingInfo info) {
+        Method method = info.handlerMethod();
+        Workload workload = method.getAnnotation(Workload.class);
+        if (workload == null) {
+            workload = method.getDeclaringClass().getAnnotation(Workload.class);
+        }
+        if (workload == null) {
+            return Optional.empty();
+        }
+        Metered executor = executors.get(workload.value());
+        if (executor == null) {
+            log.warn("Unknown workload '{}' on {}#{}; running on the request executor",
+                    workload.value(), method.getDeclaringClass().getSimpleName(), method.getName());
+        }
+        return Optional.ofNullable(executor);
+    }
+
+    private static RequestExecutorService create(String name, Map<String, Object> spec, List<ContextPropagator> propagators) {
+        String type = String.valueOf(spec.getOrDefault("type", "platform"));
+        if (type.equals("virtual")) {
+            return new VirtualRequestExecutorService(propagators);
+        }
+        int threads = intValue(spec.get("threads"), 0);
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        int queueCapacity = intValue(spec.get("queue-capacity"), threads * 100);
+        boolean callerRuns = "caller-runs".equals(String.valueOf(spec.get("on-full")));
+        return new RequestExecutorPoolService(name, threads, queueCapacity,
+                callerRuns ? new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy(), propagators);
+    }
+
+    private static int intValue(Object value, int defaultValue) {
+        if (value instanceof Number number) return number.intValue();
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package sprout.server.argument.builtins;
+
+import sprout.beans.annotation.Component;
+import sprout.server.argument.WebSocketArgumentResolver;
+import sprout.server.argument.annotation.Payload;
+import sprout.server.websocket.InvocationContext;
+import sprout.server.websocket.LifecyclePhase;
+
+import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
+
+/** @Payload ByteBuffer 파라미터에 조립된 메시지 버퍼를 넘긴다. 프레임 하나로 온 메시지는 복사하지 않는다 */
+@Component
+public class ByteBufferPayloadArgumentResolver implements WebSocketArgumentResolver {
+    @Override
+    public boolean supports(Parameter parameter, InvocationContext context) {
+        return parameter.isAnnotationPresent(Payload.class) &&
+                ByteBuffer.class.equals(parameter.getType()) &&
+                context.phase() == LifecyclePhase.MESSAGE &&
+                context.getMessagePayload() != null;
+    }
+
+    @Override
+    public Object resolve(Parameter parameter, InvocationContext context) throws Exception {
+        return context.getMessagePayload().asByteBuffer();
+    }
+}
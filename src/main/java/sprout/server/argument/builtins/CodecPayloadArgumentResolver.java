@@ -0,0 +1,52 @@
+package sprout.server.argument.builtins;
+
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.mvc.http.codec.MessageCodec;
+import sprout.mvc.http.codec.MessageCodecRegistry;
+import sprout.server.argument.WebSocketArgumentResolver;
+import sprout.server.argument.annotation.Payload;
+import sprout.server.websocket.InvocationContext;
+import sprout.server.websocket.LifecyclePhase;
+import sprout.server.websocket.message.builtins.CodecWebSocketMessageDispatcher;
+
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 코덱을 선언한 세션의 바이너리 메시지를 @Payload 파라미터 타입으로 바인딩한다.
+ * (텍스트 메시지는 기존처럼 {@link JsonPayloadArgumentResolver} / {@link StringPayloadArgumentResolver}가 처리)
+ */
+@Component
+@Order(0)
+public class CodecPayloadArgumentResolver implements WebSocketArgumentResolver {
+    private final MessageCodecRegistry codecRegistry;
+    private final Map<Parameter, MessageCodec.BodyReader[]> readers = new ConcurrentHashMap<>();
+
+    public CodecPayloadArgumentResolver(MessageCodecRegistry codecRegistry) {
+        this.codecRegistry = codecRegistry;
+    }
+
+    @Override
+    public boolean supports(Parameter parameter, InvocationContext context) {
+        return parameter.isAnnotationPresent(Payload.class) &&
+                context.phase() == LifecyclePhase.MESSAGE &&
+                context.getMessagePayload() != null &&
+                context.getMessagePayload().isBinary() &&
+                !parameter.getType().equals(byte[].class) &&
+                CodecWebSocketMessageDispatcher.sessionCodec(context.session(), codecRegistry) != null;
+    }
+
+    @Override
+    public Object resolve(Parameter parameter, InvocationContext context) throws Exception {
+        MessageCodec codec = CodecWebSocketMessageDispatcher.sessionCodec(context.session(), codecRegistry);
+        int index = codecRegistry.indexOf(codec);
+        MessageCodec.BodyReader[] cached = readers.computeIfAbsent(parameter, p -> new MessageCodec.BodyReader[codecRegistry.size()]);
+        if (cached[index] == null) {
+            cached[index] = codec.readerFor(parameter.getParameterizedType());
+        }
+        byte[] message = context.getMessagePayload().asBinary();
+        return cached[index].read(message, 0, message.length);
+    }
+}
@@ -8,7 +8,9 @@ import sprout.server.argument.WebSocketArgumentResolver;
 import sprout.server.websocket.LifecyclePhase;
 import sprout.server.websocket.message.MessagePayload;
 
+import java.io.InputStream;
 import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
 
 @Component
 public class JsonPayloadArgumentResolver implements WebSocketArgumentResolver {
@@ -23,7 +25,13 @@ public class JsonPayloadArgumentResolver implements WebSocketArgumentResolver {
         return parameter.isAnnotationPresent(Payload.class) &&
                 context.phase() == LifecyclePhase.MESSAGE &&
                 context.getMessagePayload() != null &&
-                !parameter.getType().equals(String.class);
+                !parameter.getType().equals(String.class) &&
+                !isRawType(parameter.getType());
+    }
+
+    // 원본 바이트로 받는 타입은 다른 Resolver가 처리
+    private static boolean isRawType(Class<?> type) {
+        return type == byte[].class || type == ByteBuffer.class || InputStream.class.isAssignableFrom(type);
     }
 
     @Override
@@ -1,11 +1,14 @@
 package sprout.server.builtins;
 
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.dispatcher.RequestDispatcher;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.HttpResponse;
 import sprout.mvc.http.ResponseEntity;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.server.AcceptableProtocolHandler;
+import sprout.server.HttpUtils;
 import sprout.server.RequestExecutorService;
 
 import java.io.*;
@@ -16,11 +19,19 @@ import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import static sprout.server.HttpUtils.readRawRequest;
 
-
+/**
+ * 연결마다 워커 스레드 하나가 블로킹 소켓으로 요청을 읽고 응답한다 (hybrid 모드).
+ * <p>
+ * 요청 바디는 통째로 문자열로 읽는다. multipart/form-data 스트리밍 업로드, 바디 전 필터 실행, Expect: 100-continue 처리는
+ * {@link NioHttpProtocolHandler}에서만 지원한다.
+ */
 public class BioHttpProtocolHandler implements AcceptableProtocolHandler {
+    private static final Logger log = LoggerFactory.getLogger(BioHttpProtocolHandler.class);
+
     private final RequestDispatcher dispatcher;
     private final HttpRequestParser parser;
     private final RequestExecutorService requestExecutorService;
@@ -51,15 +62,32 @@ public class BioHttpProtocolHandler implements AcceptableProtocolHandler {
                     if (raw.isBlank()) break;
 
                     HttpRequest<?> req = parser.parse(raw);
+                    req.setRemoteAddress(socket.getRemoteSocketAddress());
                     HttpResponse res = new HttpResponse();
 
-                    dispatcher.dispatch(req, res);
-
                     // Connection 헤더 확인
                     String connectionHeader = req.getHeaders().getOrDefault("Connection", "keep-alive");
                     boolean shouldClose = "close".equalsIgnoreCase(connectionHeader);
 
-                    writeResponse(out, res.getResponseEntity(), shouldClose);
+                    // 비동기 응답은 완성한 스레드가 바로 쓴다. 마감 타이머는 핸들러가 이 스레드를 붙잡고 있는 동안에도
+                    // 응답을 완성하므로, dispatch가 반환되기를 기다리지 않고 503이 나간다
+                    CountDownLatch written = new CountDownLatch(1);
+                    res.onAsyncComplete(() -> {
+                        try {
+                            writeResponse(out, res.getResponseEntity(), shouldClose);
+                        } catch (IOException e) {
+                            log.debug("Failed to write async response: {}", e.getMessage());
+                        } finally {
+                            written.countDown();
+                        }
+                    });
+                    dispatcher.dispatch(req, res);
+                    if (res.isAsyncStarted()) {
+                        // 다음 요청을 읽기 전에 응답이 다 쓰였는지 기다린다
+                        written.await();
+                    } else {
+                        writeResponse(out, res.getResponseEntity(), shouldClose);
+                    }
 
                     // Content-Length가 없거나 Connection: close 요청이면 종료
                     if (shouldClose) {
@@ -71,7 +99,7 @@ public class BioHttpProtocolHandler implements AcceptableProtocolHandler {
                 }
 
             } catch (Exception e) {
-                e.printStackTrace();
+                log.error("Failed to handle connection", e);
             } finally {
                 try {
                     socket.close();
@@ -96,10 +124,8 @@ public class BioHttpProtocolHandler implements AcceptableProtocolHandler {
     private void writeResponse(OutputStream out, ResponseEntity<?> res, boolean shouldClose) throws IOException {
         if (res == null) return;
 
-        // Body를 바이트로 변환 (UTF-8)
-        byte[] bodyBytes = res.getBody() != null
-            ? res.getBody().toString().getBytes(StandardCharsets.UTF_8)
-            : new byte[0];
+        // Body를 바이트로 변환 (UTF-8, 코덱이 인코딩한 byte[]는 그대로)
+        byte[] bodyBytes = HttpUtils.bodyBytes(res);
 
         // HTTP 헤더 작성
         StringBuilder header = new StringBuilder();
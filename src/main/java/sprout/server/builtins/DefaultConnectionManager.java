@@ -1,6 +1,10 @@
 package sprout.server.builtins;
 
 import sprout.beans.annotation.Component;
+import sprout.jfr.ConnectionAcceptEvent;
+import sprout.jfr.ProtocolDetectionEvent;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.server.*;
 
 import java.nio.ByteBuffer;
@@ -12,6 +16,7 @@ import java.util.List;
 
 @Component
 public class DefaultConnectionManager implements ConnectionManager {
+    private static final Logger log = LoggerFactory.getLogger(DefaultConnectionManager.class);
 
     private final List<ProtocolDetector> detectors;
     private final List<ProtocolHandler> handlers;
@@ -25,20 +30,61 @@ public class DefaultConnectionManager implements ConnectionManager {
 
     @Override
     public void acceptConnection(SelectionKey selectionKey, Selector selector) throws Exception {
-        ServerSocketChannel serverChannel = (ServerSocketChannel) selectionKey.channel();
-        SocketChannel clientChannel = serverChannel.accept();
-        clientChannel.configureBlocking(false);
+        ConnectionAcceptEvent acceptEvent = new ConnectionAcceptEvent();
+        acceptEvent.begin();
+        SocketChannel clientChannel = null;
+        String detectedProtocol = "UNKNOWN";
+        int bytesRead = 0;
+        try {
+            ServerSocketChannel serverChannel = (ServerSocketChannel) selectionKey.channel();
+            clientChannel = serverChannel.accept();
+            clientChannel.configureBlocking(false);
+
+            ByteBuffer buffer = bufferPool.acquire(ByteBufferPool.SMALL_BUFFER_SIZE);
+            bytesRead = clientChannel.read(buffer);
+
+            if (bytesRead <= 0) {
+                bufferPool.release(buffer);
+                clientChannel.close();
+                return;
+            }
+
+            buffer.flip();
+            detectedProtocol = detectProtocol(buffer);
 
-        ByteBuffer buffer = bufferPool.acquire(ByteBufferPool.SMALL_BUFFER_SIZE);
-        int bytesRead = clientChannel.read(buffer);
+            if ("UNKNOWN".equals(detectedProtocol) || detectedProtocol == null) {
+                log.debug("Unknown protocol detected. Closing socket: {}", clientChannel.socket());
+                bufferPool.release(buffer);
+                clientChannel.close();
+                return;
+            }
+
+            for (ProtocolHandler handler : handlers) {
+                if (handler.supports(detectedProtocol)) {
+                    if (handler instanceof AcceptableProtocolHandler) {
+                        ((AcceptableProtocolHandler) handler).accept(clientChannel, selector, buffer);
+                        return; // 핸들러를 찾았으므로 종료
+                    }
+
+                }
+            }
 
-        if (bytesRead <= 0) {
             bufferPool.release(buffer);
-            clientChannel.close();
-            return;
+        } finally {
+            if (acceptEvent.shouldCommit()) {
+                acceptEvent.remoteAddress = clientChannel != null && clientChannel.socket() != null
+                        ? String.valueOf(clientChannel.socket().getRemoteSocketAddress())
+                        : null;
+                acceptEvent.protocol = detectedProtocol;
+                acceptEvent.initialBytes = Math.max(bytesRead, 0);
+                acceptEvent.commit();
+            }
         }
+    }
 
-        buffer.flip();
+    private String detectProtocol(ByteBuffer buffer) {
+        ProtocolDetectionEvent detectionEvent = new ProtocolDetectionEvent();
+        detectionEvent.begin();
         String detectedProtocol = "UNKNOWN";
 
         for (ProtocolDetector detector : detectors) {
@@ -48,27 +94,15 @@ public class DefaultConnectionManager implements ConnectionManager {
                     break;
                 }
             } catch (Exception e) {
-                System.err.println("Error detecting protocol: " + e.getMessage());
+                log.warn("Error detecting protocol: {}", e.getMessage());
             }
         }
 
-        if ("UNKNOWN".equals(detectedProtocol) || detectedProtocol == null) {
-            System.err.println("Unknown protocol detected. Closing socket: " + clientChannel.socket());
-            bufferPool.release(buffer);
-            clientChannel.close();
-            return;
+        if (detectionEvent.shouldCommit()) {
+            detectionEvent.protocol = detectedProtocol;
+            detectionEvent.bytes = buffer.remaining();
+            detectionEvent.commit();
         }
-
-        for (ProtocolHandler handler : handlers) {
-            if (handler.supports(detectedProtocol)) {
-                if (handler instanceof AcceptableProtocolHandler) {
-                    ((AcceptableProtocolHandler) handler).accept(clientChannel, selector, buffer);
-                    return; // 핸들러를 찾았으므로 종료
-                }
-
-            }
-        }
-
-        bufferPool.release(buffer);
+        return detectedProtocol;
     }
 }
@@ -1,19 +1,32 @@
 package sprout.server.builtins;
 
+import sprout.jfr.SocketWriteEvent;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.ServerMetrics;
 import sprout.mvc.dispatcher.RequestDispatcher;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.http.multipart.MultipartBody;
+import sprout.mvc.http.multipart.MultipartConfig;
+import sprout.mvc.http.multipart.MultipartException;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.server.*;
 
 import java.io.IOException;
+import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 public class HttpConnectionHandler implements ReadableHandler, WritableHandler {
+    private static final Logger log = LoggerFactory.getLogger(HttpConnectionHandler.class);
+    private static final byte[] CONTINUE_RESPONSE = "HTTP/1.1 100 Continue\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
 
     private final SocketChannel channel;
     private final Selector selector;
@@ -21,18 +34,36 @@ public class HttpConnectionHandler implements ReadableHandler, WritableHandler {
     private final HttpRequestParser parser;
     private final RequestExecutorService requestExecutorService;
     private final ByteBufferPool bufferPool;
+    private final ServerMetrics metrics;
+    private final SocketAddress remoteAddress;
+    private final MultipartConfig multipartConfig;
 
     private final ByteBuffer readBuffer;
     private volatile ByteBuffer writeBuffer;
     private HttpConnectionStatus currentState = HttpConnectionStatus.READING;
+    // 바디를 스트리밍으로 받는 중인 업로드 (없으면 null)
+    private volatile MultipartUpload upload;
+    // 오류 응답(413 등)을 보낸 뒤에는 남은 바디를 읽지 않고 연결을 닫는다
+    private volatile boolean closeAfterWrite;
 
     public HttpConnectionHandler(SocketChannel channel, Selector selector, RequestDispatcher dispatcher, HttpRequestParser parser, RequestExecutorService requestExecutorService, ByteBufferPool bufferPool, ByteBuffer initialBuffer) {
+        this(channel, selector, dispatcher, parser, requestExecutorService, bufferPool, initialBuffer, ServerMetrics.NOOP);
+    }
+
+    public HttpConnectionHandler(SocketChannel channel, Selector selector, RequestDispatcher dispatcher, HttpRequestParser parser, RequestExecutorService requestExecutorService, ByteBufferPool bufferPool, ByteBuffer initialBuffer, ServerMetrics metrics) {
+        this(channel, selector, dispatcher, parser, requestExecutorService, bufferPool, initialBuffer, metrics, null);
+    }
+
+    public HttpConnectionHandler(SocketChannel channel, Selector selector, RequestDispatcher dispatcher, HttpRequestParser parser, RequestExecutorService requestExecutorService, ByteBufferPool bufferPool, ByteBuffer initialBuffer, ServerMetrics metrics, MultipartConfig multipartConfig) {
         this.channel = channel;
         this.selector = selector;
         this.dispatcher = dispatcher;
         this.parser = parser;
         this.requestExecutorService = requestExecutorService;
         this.bufferPool = bufferPool;
+        this.metrics = metrics;
+        this.multipartConfig = multipartConfig;
+        this.remoteAddress = channel.socket() != null ? channel.socket().getRemoteSocketAddress() : null;
 
         // 버퍼 풀에서 8KB 버퍼 대여
         this.readBuffer = bufferPool.acquire(ByteBufferPool.MEDIUM_BUFFER_SIZE);
@@ -45,63 +76,209 @@ public class HttpConnectionHandler implements ReadableHandler, WritableHandler {
 
     @Override
     public void read(SelectionKey key) throws Exception {
-        System.out.println("Try to read from " + channel.socket() + " with current state: " + currentState + " and buffer size: " + readBuffer.remaining() + " bytes");
         if (currentState != HttpConnectionStatus.READING) return;
 
-        System.out.println("Read from " + channel.socket() + " with current state: " + currentState + " and buffer size: " + readBuffer.remaining() + " bytes");
         int bytesRead = channel.read(readBuffer);
+        metrics.onRead(bytesRead);
+        if (log.isTraceEnabled()) {
+            log.trace("Read {} bytes from {} (buffer remaining: {})", bytesRead, channel.socket(), readBuffer.remaining());
+        }
         if (bytesRead == -1) {
-            System.out.println("Bytes read is -1. Closing connection...");
+            log.debug("End of stream from {}. Closing connection.", channel);
             closeConnection(key);
             return;
         }
 
         // FIX : '읽기 모드'로 전환
         readBuffer.flip();
+        handleBuffered(key);
+    }
 
-        if (HttpUtils.isRequestComplete(readBuffer)) {
-            System.out.println("Request is Completed!");
+    /**
+     * 읽기 모드의 readBuffer에 쌓인 바이트에서 요청 하나를 꺼내 처리를 시작한다. 모자라면 다음 read를 기다린다.
+     * 파이프라이닝으로 뒤에 붙어 온 요청은 버퍼에 남겨 두었다가, 앞 요청의 응답을 다 쓴 뒤 {@link #write}에서 이어서 처리한다.
+     */
+    private void handleBuffered(SelectionKey key) {
+        if (upload == null && multipartConfig != null) {
+            try {
+                upload = MultipartUpload.detect(readBuffer, parser, multipartConfig);
+            } catch (MultipartException e) {
+                rejectUpload(key, e);
+                return;
+            }
+            if (upload != null) {
+                // 바디를 받기 전에 헤더만으로 필터(레이트 리밋·인증 등)를 돌린다. 거절할 요청의 바디는 디스크에 쓰지 않는다
+                this.currentState = HttpConnectionStatus.PROCESSING;
+                key.interestOps(0);
+                requestExecutorService.execute(() -> admitUpload(key));
+                return;
+            }
+        }
+        if (upload != null) {
+            // 파싱과 디스크 쓰기는 워커에서 한다. 이번 청크를 다 쓸 때까지 읽기 관심을 꺼 두어
+            // 디스크가 느리면 소켓 수신 버퍼가 차고 TCP 흐름 제어로 클라이언트가 늦춰진다
+            this.currentState = HttpConnectionStatus.PROCESSING;
+            key.interestOps(0);
+            requestExecutorService.execute(() -> continueUpload(key));
+            return;
+        }
+
+        int requestLength = HttpUtils.requestLength(readBuffer);
+        if (requestLength >= 0) {
             // 3. 완전한 요청이 왔다면, 처리 상태로 변경
             this.currentState = HttpConnectionStatus.PROCESSING;
             key.interestOps(0); // 이벤트 감지 일단 중지
 
-            // readBuffer에서 요청 전문(raw request)을 추출
-            byte[] requestBytes = new byte[readBuffer.remaining()];
+            // readBuffer에서 첫 요청 전문(raw request)만 추출
+            // readBuffer는 다음 요청에 재사용되므로 요청 전문만 한 번 복사해 둔다 (바디는 이 배열을 그대로 참조)
+            byte[] requestBytes = new byte[requestLength];
             readBuffer.get(requestBytes);
-            String rawRequest = new String(requestBytes, StandardCharsets.UTF_8);
 
-            System.out.println("--- Parsing Request ---");
-            System.out.println(rawRequest);
-            System.out.println("--- End of Request ---");
+            if (log.isTraceEnabled()) {
+                log.trace("Raw request:\n{}", new String(requestBytes, StandardCharsets.UTF_8));
+            }
 
-            // 4. 비즈니스 로직은 스레드 풀에 위임 (기존과 동일)
+            // 4. 비즈니스 로직은 스레드 풀에 위임 (기존과 동일). 요청 마감은 워커 대기 시간까지 포함해 잰다
+            long receivedNanos = System.nanoTime();
             requestExecutorService.execute(() -> {
                 try {
-                    HttpRequest<?> req = parser.parse(rawRequest);
-                    HttpResponse res = new HttpResponse();
-                    dispatcher.dispatch(req, res);
-
-                    // 5. 응답 준비 및 쓰기 상태 전환
-                    this.writeBuffer = HttpUtils.createResponseBuffer(res.getResponseEntity(), bufferPool);
-                    this.currentState = HttpConnectionStatus.WRITING;
-
-                    // 6. Selector에 쓰기 이벤트 감지 요청
-                    key.interestOps(SelectionKey.OP_WRITE);
-                    selector.wakeup();
-
+                    process(key, parser.parse(requestBytes), receivedNanos);
                 } catch (Exception e) {
                     closeConnection(key);
-                    e.printStackTrace();
+                    log.error("Failed to handle request", e);
                 }
             });
+        }
+        // 남은 바이트(파이프라이닝된 다음 요청, 또는 아직 덜 온 요청)는 버퍼 앞으로 당겨 보존
+        readBuffer.compact();
+    }
+
+    private void process(SelectionKey key, HttpRequest<?> req, long receivedNanos) {
+        MultipartBody multipart = req.getMultipart();
+        try {
+            req.setRemoteAddress(remoteAddress);
+            req.setReceivedNanos(receivedNanos);
+            HttpResponse res = new HttpResponse();
+            // 비동기 응답을 완성한 스레드가 응답을 큐에 넣는다. 마감 타이머는 dispatch가 반환되기 전에도 완성할 수 있으므로 먼저 건다
+            res.onAsyncComplete(() -> {
+                if (multipart != null) multipart.deleteTempFiles();
+                queueResponse(key, res);
+            });
+            dispatcher.dispatch(req, res);
 
-            // 버퍼 초기화 (다음 요청을 위해)
-            readBuffer.clear();
-        } else {
-            // 아직 요청이 완전하지 않으면 다음 read 대기
-            readBuffer.compact();
+            if (!res.isAsyncStarted()) {
+                if (multipart != null) multipart.deleteTempFiles();
+                queueResponse(key, res);
+            }
+
+        } catch (Exception e) {
+            if (multipart != null) multipart.deleteTempFiles();
+            closeConnection(key);
+            log.error("Failed to handle request", e);
         }
+    }
 
+    /**
+     * 워커 스레드에서 업로드 요청의 헤더로 필터 체인을 실행한다. 거절되면 그 응답을 보내고 연결을 닫는다 (바디는 읽지 않는다).
+     * 통과하면 Expect: 100-continue를 기다리는 클라이언트에 100 Continue를 보낸 뒤, 아니면 바로 바디를 받기 시작한다.
+     */
+    private void admitUpload(SelectionKey key) {
+        MultipartUpload current = upload;
+        try {
+            HttpRequest<?> req = current.request();
+            req.setRemoteAddress(remoteAddress);
+            HttpResponse res = new HttpResponse();
+            if (!dispatcher.admit(req, res)) {
+                upload = null;
+                current.abort();
+                rejectAdmission(key, res.getResponseEntity());
+                return;
+            }
+            if (current.expectsContinue()) {
+                // 이미 받은 바디 조각은 남겨 두고, 100 Continue를 다 쓴 뒤 write()에서 이어서 받는다.
+                // 풀 크기가 아닌 버퍼라 write()가 release해도 풀로 돌아가지 않는다
+                readBuffer.compact();
+                this.writeBuffer = ByteBuffer.wrap(CONTINUE_RESPONSE);
+                this.currentState = HttpConnectionStatus.WRITING;
+                key.interestOps(SelectionKey.OP_WRITE);
+                selector.wakeup();
+                metrics.onWakeup();
+                return;
+            }
+            continueUpload(key);
+        } catch (Exception e) {
+            upload = null;
+            current.abort();
+            closeConnection(key);
+            log.error("Failed to admit multipart upload", e);
+        }
+    }
+
+    /** 워커 스레드에서 읽기 버퍼에 쌓인 업로드 바디를 파서에 넘긴다. 끝나면 요청을 처리하고, 아니면 다시 읽기를 켠다. */
+    private void continueUpload(SelectionKey key) {
+        MultipartUpload current = upload;
+        try {
+            if (!current.feed(readBuffer)) {
+                readBuffer.compact();
+                this.currentState = HttpConnectionStatus.READING;
+                key.interestOps(SelectionKey.OP_READ);
+                selector.wakeup();
+                metrics.onWakeup();
+                return;
+            }
+            upload = null;
+            readBuffer.compact(); // 업로드 바디 뒤에 파이프라이닝된 요청이 있으면 남겨 둔다
+            process(key, current.complete(), System.nanoTime());
+        } catch (MultipartException e) {
+            upload = null;
+            current.abort();
+            rejectUpload(key, e);
+        } catch (Exception e) {
+            upload = null;
+            current.abort();
+            closeConnection(key);
+            log.error("Failed to receive multipart upload", e);
+        }
+    }
+
+    private void rejectUpload(SelectionKey key, MultipartException e) {
+        log.debug("Rejecting multipart upload from {}: {}", remoteAddress, e.getMessage());
+        this.closeAfterWrite = true;
+        HttpResponse res = new HttpResponse();
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Connection", "close");
+        res.setResponseEntity(new ResponseEntity<>(e.getMessage(), headers, e.getResponseCode(), "text/plain; charset=utf-8"));
+        queueResponse(key, res);
+    }
+
+    // 필터가 거절한 업로드. 바디가 아직 소켓에 남아 있으므로 응답 뒤 연결을 닫는다
+    private void rejectAdmission(SelectionKey key, ResponseEntity<?> rejection) {
+        if (rejection == null) {
+            closeConnection(key);
+            return;
+        }
+        this.closeAfterWrite = true;
+        Map<String, String> headers = rejection.getHeaders() != null ? new HashMap<>(rejection.getHeaders()) : new HashMap<>();
+        headers.put("Connection", "close");
+        HttpResponse res = new HttpResponse();
+        res.setResponseEntity(new ResponseEntity<>(rejection.getBody(), headers, rejection.getStatusCode(), rejection.getContentType()));
+        queueResponse(key, res);
+    }
+
+    private void queueResponse(SelectionKey key, HttpResponse res) {
+        try {
+            // 5. 응답 준비 및 쓰기 상태 전환
+            this.writeBuffer = HttpUtils.createResponseBuffer(res.getResponseEntity(), bufferPool);
+            this.currentState = HttpConnectionStatus.WRITING;
+
+            // 6. Selector에 쓰기 이벤트 감지 요청 (다른 스레드에서 호출되므로 wakeup 필수)
+            key.interestOps(SelectionKey.OP_WRITE);
+            selector.wakeup();
+            metrics.onWakeup();
+        } catch (Exception e) {
+            closeConnection(key);
+            log.error("Failed to prepare response", e);
+        }
     }
 
     private void closeConnection(SelectionKey key) {
@@ -109,7 +286,7 @@ public class HttpConnectionHandler implements ReadableHandler, WritableHandler {
             key.cancel();
             channel.close();
         } catch (IOException e) {
-            e.printStackTrace();
+            log.warn("Failed to close connection", e);
         } finally {
             bufferPool.release(readBuffer);
             if (writeBuffer != null) {
@@ -122,21 +299,41 @@ public class HttpConnectionHandler implements ReadableHandler, WritableHandler {
     public void write(SelectionKey key) throws IOException {
         if (currentState != HttpConnectionStatus.WRITING || writeBuffer == null) return;
 
-        channel.write(writeBuffer);
+        SocketWriteEvent event = new SocketWriteEvent();
+        event.begin();
+        int written = channel.write(writeBuffer);
+        metrics.onWrite(written);
+        if (event.shouldCommit()) {
+            event.protocol = "HTTP/1.1";
+            event.bytesWritten = written;
+            event.bytesRemaining = writeBuffer.remaining();
+            event.commit();
+        }
 
         if (!writeBuffer.hasRemaining()) {
+            if (closeAfterWrite) {
+                closeConnection(key);
+                return;
+            }
             // 버퍼의 모든 데이터를 전송 완료
             this.currentState = HttpConnectionStatus.READING;
 
             bufferPool.release(writeBuffer);
             this.writeBuffer = null;
 
+            // 파이프라이닝으로 이미 받아 둔 다음 요청이 있으면 read 이벤트를 기다리지 않고 바로 처리한다
+            if (readBuffer.position() > 0) {
+                readBuffer.flip();
+                handleBuffered(key);
+                if (currentState != HttpConnectionStatus.READING) {
+                    return;
+                }
+            }
+
             // keep-alive 지원: 다음 요청을 기다리기 위해 READ 모드로 전환
             key.interestOps(SelectionKey.OP_READ);
             selector.wakeup();
-
-            // readBuffer 초기화 (다음 요청 수신 준비)
-            readBuffer.clear();
+            metrics.onWakeup();
         }
         // 버퍼에 데이터가 남아있다면 아무것도 하지 않음
         // 채널이 다시 쓸 준비가 되면 셀렉터가 알려줄 것
@@ -35,8 +35,6 @@ public class HttpProtocolDetector implements ProtocolDetector {
             return "UNKNOWN";
         }
 
-        System.out.println("full header is " + fullHeader);
-
         // WebSocket Upgrade 요청은 UNKNOWN 반환 (WebSocketProtocolDetector가 처리하도록)
         if (fullHeader.contains("Upgrade: websocket") ||
             fullHeader.contains("Upgrade: WebSocket")) {
@@ -0,0 +1,127 @@
+package sprout.server.builtins;
+
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.multipart.MultipartConfig;
+import sprout.mvc.http.multipart.MultipartException;
+import sprout.mvc.http.multipart.MultipartStreamParser;
+import sprout.mvc.http.parser.HttpRequestParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 연결 하나에서 진행 중인 multipart/form-data 업로드. 요청 헤더는 먼저 파싱해 필터 체인에 통과시키고,
+ * 바디는 읽기 버퍼가 찰 때마다 {@link #feed}로 파서에 흘려 보낸다.
+ */
+final class MultipartUpload {
+    private static final byte[] CRLF_CRLF = {'\r', '\n', '\r', '\n'};
+    private static final byte[] MULTIPART = "multipart/form-data".getBytes(StandardCharsets.US_ASCII);
+
+    private final HttpRequest<?> request;
+    private final MultipartStreamParser parser;
+    private long remaining;
+
+    private MultipartUpload(HttpRequest<?> request, MultipartStreamParser parser, long contentLength) {
+        this.request = request;
+        this.parser = parser;
+        this.remaining = contentLength;
+    }
+
+    /**
+     * 읽기 모드의 {@code buffer}에 요청 헤더가 모두 왔고 multipart/form-data 요청이면 헤더만큼 소비하고 업로드를 시작한다.
+     * 아니면 버퍼를 건드리지 않고 null을 반환한다.
+     */
+    static MultipartUpload detect(ByteBuffer buffer, HttpRequestParser parser, MultipartConfig config) {
+        if (!config.isEnabled()) return null;
+        int start = buffer.position();
+        int headEnd = indexOf(buffer, start, buffer.limit(), CRLF_CRLF, false);
+        if (headEnd < 0 || indexOf(buffer, start, headEnd, MULTIPART, true) < 0) {
+            return null;
+        }
+
+        byte[] head = new byte[headEnd + CRLF_CRLF.length - start];
+        buffer.get(start, head);
+        HttpRequest<?> request = parser.parse(head);
+        String boundary = MultipartStreamParser.boundaryOf(request.getHeader("Content-Type"));
+        if (boundary == null) {
+            return null;
+        }
+        String length = request.getHeader("Content-Length");
+        if (length == null) {
+            throw new MultipartException("Multipart upload requires Content-Length", ResponseCode.BAD_REQUEST);
+        }
+        long contentLength;
+        try {
+            contentLength = Long.parseLong(length.trim());
+        } catch (NumberFormatException e) {
+            throw new MultipartException("Invalid Content-Length", ResponseCode.BAD_REQUEST, e);
+        }
+        if (contentLength > config.getMaxRequestSize()) {
+            throw new MultipartException("Request body exceeds " + config.getMaxRequestSize() + " bytes", ResponseCode.PAYLOAD_TOO_LARGE);
+        }
+
+        MultipartStreamParser multipart = new MultipartStreamParser(boundary, config);
+        buffer.position(headEnd + CRLF_CRLF.length);
+        return new MultipartUpload(request, multipart, contentLength);
+    }
+
+    /**
+     * 버퍼에 있는 바디를 Content-Length까지만 파서에 넘긴다. 바디를 끝까지 받았으면 true.
+     * 파서가 경계 판정을 위해 남긴 꼬리 바이트는 버퍼에 남는다.
+     */
+    boolean feed(ByteBuffer buffer) throws IOException {
+        long before = remaining;
+        int take = (int) Math.min(buffer.remaining(), remaining);
+        ByteBuffer view = buffer.duplicate();
+        view.limit(buffer.position() + take);
+        parser.feed(view);
+        int consumed = view.position() - buffer.position();
+        buffer.position(view.position());
+        remaining -= consumed;
+
+        if (parser.isComplete()) {
+            return remaining == 0;
+        }
+        if (take == before) {
+            // 바디를 다 받았는데 닫는 경계가 없다
+            throw new MultipartException("Multipart body ended before the closing boundary", ResponseCode.BAD_REQUEST);
+        }
+        return false;
+    }
+
+    /** 헤더만 파싱한 요청. 바디를 받기 전에 필터를 돌릴 때 쓴다 */
+    HttpRequest<?> request() {
+        return request;
+    }
+
+    /** 클라이언트가 Expect: 100-continue로 바디 전송 전에 허락을 기다리는지 */
+    boolean expectsContinue() {
+        String expect = request.getHeader("Expect");
+        return expect != null && expect.trim().equalsIgnoreCase("100-continue");
+    }
+
+    /** 업로드가 끝난 요청 (바디 파트가 붙어 있다) */
+    HttpRequest<?> complete() {
+        request.setMultipart(parser.finish());
+        return request;
+    }
+
+    void abort() {
+        parser.abort();
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte[] target, boolean ignoreCase) {
+        outer:
+        for (int i = from; i <= to - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                byte b = buffer.get(i + j);
+                if (ignoreCase && b >= 'A' && b <= 'Z') b += 'a' - 'A';
+                if (b != target[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
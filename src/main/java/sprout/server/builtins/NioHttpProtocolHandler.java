@@ -1,6 +1,10 @@
 package sprout.server.builtins;
 
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.ServerMetrics;
 import sprout.mvc.dispatcher.RequestDispatcher;
+import sprout.mvc.http.multipart.MultipartConfig;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.server.AcceptableProtocolHandler;
 import sprout.server.ByteBufferPool;
@@ -12,23 +16,36 @@ import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 
 public class NioHttpProtocolHandler implements AcceptableProtocolHandler {
+    private static final Logger log = LoggerFactory.getLogger(NioHttpProtocolHandler.class);
+
     private final RequestDispatcher dispatcher;
     private final HttpRequestParser parser;
     private final RequestExecutorService requestExecutorService;
     private final ByteBufferPool bufferPool;
-
+    private final ServerMetrics metrics;
+    private final MultipartConfig multipartConfig;
 
     public NioHttpProtocolHandler(RequestDispatcher dispatcher, HttpRequestParser parser, RequestExecutorService requestExecutorService, ByteBufferPool bufferPool) {
+        this(dispatcher, parser, requestExecutorService, bufferPool, ServerMetrics.NOOP);
+    }
+
+    public NioHttpProtocolHandler(RequestDispatcher dispatcher, HttpRequestParser parser, RequestExecutorService requestExecutorService, ByteBufferPool bufferPool, ServerMetrics metrics) {
+        this(dispatcher, parser, requestExecutorService, bufferPool, metrics, null);
+    }
+
+    public NioHttpProtocolHandler(RequestDispatcher dispatcher, HttpRequestParser parser, RequestExecutorService requestExecutorService, ByteBufferPool bufferPool, ServerMetrics metrics, MultipartConfig multipartConfig) {
         this.dispatcher = dispatcher;
         this.parser = parser;
         this.requestExecutorService = requestExecutorService;
         this.bufferPool = bufferPool;
+        this.metrics = metrics;
+        this.multipartConfig = multipartConfig;
     }
 
     @Override
     public void accept(SocketChannel channel, Selector selector, ByteBuffer byteBuffer) throws Exception {
-        System.out.println( "Accepted connection from " + channel.socket());
-        HttpConnectionHandler handler = new HttpConnectionHandler(channel, selector, dispatcher, parser, requestExecutorService, bufferPool, byteBuffer);
+        log.debug("Accepted connection from {}", channel.socket());
+        HttpConnectionHandler handler = new HttpConnectionHandler(channel, selector, dispatcher, parser, requestExecutorService, bufferPool, byteBuffer, metrics, multipartConfig);
         channel.register(selector, SelectionKey.OP_READ, handler);
         handler.read(channel.keyFor(selector));
     }
@@ -1,8 +1,12 @@
 package sprout.server.builtins;
 
 import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.ServerMetrics;
 import sprout.server.*;
 import sprout.server.ReadableHandler;
+import sprout.server.websocket.WebSocketHeartbeat;
 import sprout.server.websocket.WebSocketSession;
 
 import java.io.IOException;
@@ -13,15 +17,29 @@ import java.util.Set;
 
 @Component
 public class NioHybridServerStrategy implements ServerStrategy {
+    private static final Logger log = LoggerFactory.getLogger(NioHybridServerStrategy.class);
 
     private final ConnectionManager connectionManager;
+    private final ServerMetrics metrics;
+    // null이면 heartbeat 없이 select()로 무기한 대기
+    private final WebSocketHeartbeat heartbeat;
     private volatile boolean running = true;
 
     private Selector selector;
     private ServerSocketChannel serverChannel;
 
     public NioHybridServerStrategy(ConnectionManager connectionManager) {
+        this(connectionManager, ServerMetrics.NOOP);
+    }
+
+    public NioHybridServerStrategy(ConnectionManager connectionManager, ServerMetrics metrics) {
+        this(connectionManager, metrics, null);
+    }
+
+    public NioHybridServerStrategy(ConnectionManager connectionManager, ServerMetrics metrics, WebSocketHeartbeat heartbeat) {
         this.connectionManager = connectionManager;
+        this.metrics = metrics;
+        this.heartbeat = heartbeat;
     }
 
     @Override
@@ -42,11 +60,17 @@ public class NioHybridServerStrategy implements ServerStrategy {
     }
 
     private void eventLoop() {
-        System.out.println("NioHybridServerStrategy event loop started");
+        log.info("NioHybridServerStrategy event loop started");
         try {
-            System.out.println(running ? "NioHybridServerStrategy event loop running" : "NioHybridServerStrategy event loop stopped");
             while (running) {
-                selector.select(); // or select(timeout)
+                if (heartbeat != null && heartbeat.isEnabled()) {
+                    // 타이머 휠의 다음 tick까지만 기다린다
+                    selector.select(heartbeat.selectTimeoutMillis(selector));
+                    heartbeat.advance(selector);
+                } else {
+                    selector.select();
+                }
+                metrics.onSelect();
                 for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
                     SelectionKey key = it.next();
                     it.remove();
@@ -55,28 +79,31 @@ public class NioHybridServerStrategy implements ServerStrategy {
 
                     try {
                         if (key.isAcceptable()) {
+                            metrics.onAccept();
                             connectionManager.acceptConnection(key, selector);
                         }
                         Object att = key.attachment();
                         if (key.isReadable() && att instanceof ReadableHandler rh) {
                             rh.read(key);
                         }
-                        if (key.isWritable() && att instanceof WritableHandler wh) {
+                        // 읽기 처리 중 연결이 닫혔으면 키가 취소되어 있다
+                        if (key.isValid() && key.isWritable() && att instanceof WritableHandler wh) {
                             wh.write(key);
                         }
                     } catch (IOException ioe) {
-                        System.err.println("I/O error: " + ioe.getMessage());
+                        log.debug("I/O error: {}", ioe.getMessage());
                         cleanupConnection(key);
                     } catch (Exception e) {
-                        e.printStackTrace();
+                        log.error("Error while handling selection key", e);
                         cleanupConnection(key);
                     }
                 }
             }
         } catch (ClosedSelectorException ignored) {
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("NioHybridServerStrategy event loop terminated", e);
         } finally {
+            if (heartbeat != null) heartbeat.removeLoop(selector);
             try { selector.close(); } catch (Exception ignored) {}
             try { serverChannel.close(); } catch (Exception ignored) {}
         }
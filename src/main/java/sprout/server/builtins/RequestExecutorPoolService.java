@@ -1,12 +1,17 @@
 package sprout.server.builtins;
 
+import sprout.context.ContextPropagator;
+import sprout.context.ContextSnapshot;
 import sprout.server.RequestExecutorService;
 
+import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RequestExecutorPoolService implements RequestExecutorService {
 
-    private final ExecutorService pool;
+    private final ThreadPoolExecutor pool;
+    private final List<ContextPropagator> propagators;
 
     public RequestExecutorPoolService(int threadPoolSize) {
         this.pool = new ThreadPoolExecutor(
@@ -16,11 +21,44 @@ public class RequestExecutorPoolService implements RequestExecutorService {
                 new ArrayBlockingQueue<>(threadPoolSize * 100),
                 new ThreadPoolExecutor.CallerRunsPolicy()
         );
+        this.propagators = List.of();
+    }
+
+    /**
+     * 이름 붙은 고정 크기 풀. 스레드 이름은 {@code sprout-<name>-N}이고, 제출한 스레드의 컨텍스트(보안 등)를 작업에 전파한다.
+     * 큐가 차면 {@code rejection}을 따른다.
+     */
+    public RequestExecutorPoolService(String name, int threads, int queueCapacity,
+                                      RejectedExecutionHandler rejection, List<ContextPropagator> propagators) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "sprout-" + name + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                rejection
+        );
+        this.propagators = propagators;
     }
 
     @Override
     public void execute(Runnable task) {
-        pool.execute(task);
+        pool.execute(propagators.isEmpty() ? task : new ContextSnapshot(propagators).wrap(task));
+    }
+
+    @Override
+    public int getQueuedTaskCount() {
+        return pool.getQueue().size();
+    }
+
+    @Override
+    public int getActiveTaskCount() {
+        return pool.getActiveCount();
     }
 
     @Override
@@ -7,11 +7,15 @@ import sprout.server.RequestExecutorService;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 
 public class VirtualRequestExecutorService implements RequestExecutorService {
 
     private final ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
     private final List<ContextPropagator> propagators;
+    // 가상 스레드는 큐가 없으므로 시작 전 대기 = 제출됐지만 아직 실행되지 않은 작업
+    private final LongAdder pending = new LongAdder();
+    private final LongAdder active = new LongAdder();
 
     public VirtualRequestExecutorService(List<ContextPropagator> propagators) {
         this.propagators = propagators;
@@ -20,7 +24,27 @@ public class VirtualRequestExecutorService implements RequestExecutorService {
     @Override
     public void execute(Runnable task) {
         final ContextSnapshot snapshot = new ContextSnapshot(propagators);
-        pool.execute(snapshot.wrap(task));
+        Runnable wrapped = snapshot.wrap(task);
+        pending.increment();
+        pool.execute(() -> {
+            pending.decrement();
+            active.increment();
+            try {
+                wrapped.run();
+            } finally {
+                active.decrement();
+            }
+        });
+    }
+
+    @Override
+    public int getQueuedTaskCount() {
+        return (int) pending.sum();
+    }
+
+    @Override
+    public int getActiveTaskCount() {
+        return (int) active.sum();
     }
 
     @Override
@@ -1,15 +1,24 @@
 package sprout.server.builtins;
 
 import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.MetricsRegistry;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.server.AcceptableProtocolHandler;
+import sprout.server.ByteBufferPool;
 import sprout.server.ProtocolHandler;
 import sprout.server.ReadableProtocolHandler;
+import sprout.server.RequestExecutorService;
+import sprout.server.WorkloadExecutors;
 import sprout.server.argument.WebSocketArgumentResolver;
 import sprout.server.websocket.*;
 import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
 import sprout.server.websocket.endpoint.WebSocketEndpointRegistry;
+import sprout.server.websocket.extension.DeflaterPool;
+import sprout.server.websocket.extension.PerMessageDeflate;
+import sprout.server.websocket.extension.PerMessageDeflateCodec;
 import sprout.server.websocket.framehandler.FrameHandler;
 import sprout.server.websocket.handler.WebSocketHandshakeHandler;
 import sprout.server.websocket.message.WebSocketMessageDispatcher;
@@ -24,9 +33,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 @Component
 public class WebSocketProtocolHandler implements AcceptableProtocolHandler {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketProtocolHandler.class);
 
     private final WebSocketHandshakeHandler handshakeHandler;
     private final WebSocketContainer webSocketContainer;
@@ -38,6 +49,14 @@ public class WebSocketProtocolHandler implements AcceptableProtocolHandler {
     private final List<WebSocketMessageDispatcher> messageDispatchers;
     private final CloseListener closeListener;
     private final List<FrameHandler> frameHandlers;
+    private final ByteBufferPool bufferPool;
+    private final WebSocketOutboundConfig outboundConfig;
+    private final MetricsRegistry registry;
+    private final DeflaterPool deflaterPool;
+    private final Executor messageExecutor;
+    private final int inboundQueueCapacity;
+    private final int maxMessageSize;
+    private final WebSocketHeartbeat heartbeat;
 
     public WebSocketProtocolHandler(
             WebSocketHandshakeHandler handshakeHandler,
@@ -49,7 +68,14 @@ public class WebSocketProtocolHandler implements AcceptableProtocolHandler {
             List<WebSocketArgumentResolver> webSocketArgumentResolvers,
             List<WebSocketMessageDispatcher> messageDispatchers,
             CloseListener closeListener,
-            List<FrameHandler> frameHandlers
+            List<FrameHandler> frameHandlers,
+            ByteBufferPool bufferPool,
+            WebSocketOutboundConfig outboundConfig,
+            MetricsRegistry registry,
+            DeflaterPool deflaterPool,
+            WorkloadExecutors workloadExecutors,
+            WebSocketInboundConfig inboundConfig,
+            WebSocketHeartbeat heartbeat
     ) {
         this.handshakeHandler = handshakeHandler;
         this.webSocketContainer = webSocketContainer;
@@ -61,6 +87,24 @@ public class WebSocketProtocolHandler implements AcceptableProtocolHandler {
         this.messageDispatchers = messageDispatchers;
         this.closeListener = closeListener;
         this.frameHandlers = frameHandlers;
+        this.bufferPool = bufferPool;
+        this.outboundConfig = outboundConfig;
+        this.registry = registry;
+        this.deflaterPool = deflaterPool;
+        this.messageExecutor = resolveMessageExecutor(workloadExecutors, inboundConfig.getWorkload());
+        this.inboundQueueCapacity = inboundConfig.getQueueCapacity();
+        this.maxMessageSize = inboundConfig.getMaxMessageSize();
+        this.heartbeat = heartbeat;
+    }
+
+    // 메시지 핸들러는 설정한 워크로드 실행기(기본 io, 가상 스레드)에서 세션별로 직렬 실행한다
+    private static Executor resolveMessageExecutor(WorkloadExecutors workloadExecutors, String workload) {
+        RequestExecutorService executor = workloadExecutors.get(workload);
+        if (executor == null) {
+            log.warn("Unknown workload '{}' for server.websocket.inbound.workload; using virtual threads", workload);
+            executor = new VirtualRequestExecutorService(List.of());
+        }
+        return executor::execute;
     }
 
     @Override
@@ -75,14 +119,14 @@ public class WebSocketProtocolHandler implements AcceptableProtocolHandler {
         String rawHttpRequest = readRawHttpRequestContent(channel, byteBuffer);
         HttpRequest<?> request = httpRequestParser.parse(rawHttpRequest);
         if (!request.isValid()) {
-            System.out.println("Empty or invalid HTTP request for websocket handshake. Closing socket.");
+            log.debug("Empty or invalid HTTP request for websocket handshake. Closing socket.");
             channel.close();
             return;
         }
 
         // 2. 웹소켓 엔드포인트 찾기
         String requestPath = request.getPath();
-        System.out.println("WebSocket handshake request received for path: " + requestPath + ". Trying to find matching endpoint.");
+        log.debug("WebSocket handshake request received for path: {}", requestPath);
         WebSocketEndpointInfo endpointInfo = endpointRegistry.getEndpointInfo(requestPath);
 
         if (endpointInfo == null) {
@@ -91,10 +135,11 @@ public class WebSocketProtocolHandler implements AcceptableProtocolHandler {
             return;
         }
 
-        // 3. 핸드셰이크 수행
-        boolean handshakeSuccess = handshakeHandler.performHandshake(request, channel);
+        // 3. 핸드셰이크 수행 (permessage-deflate 합의 포함)
+        PerMessageDeflate deflate = handshakeHandler.negotiateDeflate(request);
+        boolean handshakeSuccess = handshakeHandler.performHandshake(request, channel, deflate);
         if (!handshakeSuccess) {
-            System.out.println("WebSocket handshake failed. Closing socket.");
+            log.debug("WebSocket handshake failed for path: {}. Closing socket.", requestPath);
             channel.close();
             return;
         }
@@ -104,11 +149,17 @@ public class WebSocketProtocolHandler implements AcceptableProtocolHandler {
         Map<String, String> pathVars = endpointInfo.getPathPattern().extractPathVariables(request.getPath());
 
         // DefaultWebSocketSession 생성 시 argumentResolvers와 messageParser 전달
-        WebSocketSession wsSession = new DefaultWebSocketSession(sessionId, channel, selector, request, endpointInfo, frameParser, frameEncoder, pathVars, webSocketArgumentResolvers, messageDispatchers, closeListener, frameHandlers);
-        webSocketContainer.addSession(endpointInfo.getPathPattern().getOriginalPattern(), wsSession);
+        String endpoint = endpointInfo.getPathPattern().getOriginalPattern();
+        OutboundQueue outbound = new OutboundQueue(outboundConfig, bufferPool,
+                registry.counter("sprout_websocket_outbound_dropped_total",
+                        "Outbound WebSocket frames dropped or coalesced because a session was over its high watermark", "endpoint", endpoint));
+        WebSocketSession wsSession = new DefaultWebSocketSession(sessionId, channel, selector, request, endpointInfo, frameParser, frameEncoder, pathVars, webSocketArgumentResolvers, messageDispatchers, closeListener, frameHandlers, bufferPool, outbound,
+                deflate != null ? new PerMessageDeflateCodec(deflate, deflaterPool) : null, messageExecutor, inboundQueueCapacity, maxMessageSize);
+        webSocketContainer.addSession(endpoint, wsSession);
 
         SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
         key.attach(wsSession);
+        heartbeat.register(wsSession, selector);
         wsSession.callOnOpenMethod();
     }
 
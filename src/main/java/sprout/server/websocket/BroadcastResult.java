@@ -0,0 +1,10 @@
+package sprout.server.websocket;
+
+/**
+ * 브로드캐스트 한 번의 결과.
+ *
+ * @param delivered 전송 큐에 프레임이 들어간 세션 수
+ * @param dropped   닫혔거나 닫히는 중이라 프레임을 받지 못한 세션 수
+ */
+public record BroadcastResult(int delivered, int dropped) {
+}
@@ -0,0 +1,170 @@
+package sprout.server.websocket;
+
+import sprout.server.websocket.exception.MessageTooBigException;
+import sprout.server.websocket.exception.WebSocketProtocolException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 읽기 버퍼에서 헤더 필드를 바로 읽는 상태 기계 프레임 디코더.
+ * <p>
+ * 헤더가 중간에 끊기면 읽은 필드를 상태로 남겨 두고 null을 돌려준다 (예외를 쓰지 않는다).
+ * 페이로드가 버퍼에 다 들어오면 제자리에서 언마스킹한 뒤 버퍼의 slice로 넘긴다.
+ * slice는 다음 compact 전까지만 유효하므로 프레임 처리는 read 루프 안에서 끝나야 한다.
+ * 버퍼 용량보다 큰 페이로드만 별도 배열에 모은다.
+ * <p>
+ * 헤더의 길이가 maxPayloadLength를 넘으면 페이로드를 모으기 전에 {@link MessageTooBigException}을 던지고,
+ * 그 프레임의 나머지 바이트는 건너뛴 뒤 다음 프레임(보통 close 응답)부터 다시 읽는다.
+ */
+public class ByteBufferFrameReader implements WebSocketFrameReader {
+
+    private enum State { HEADER, EXTENDED_LENGTH, MASKING_KEY, PAYLOAD, SKIP }
+
+    private final int maxPayloadLength;
+    private State state = State.HEADER;
+    private boolean fin;
+    private boolean rsv1;
+    private int opcode;
+    private boolean masked;
+    private int lengthBytes;
+    private int payloadLength;
+    private int maskingKey;
+    // 버퍼보다 큰 페이로드를 모으는 배열과 채운 길이
+    private byte[] oversized;
+    private int oversizedFilled;
+    // 너무 커서 버리는 프레임의 남은 바이트 (마스킹 키 포함)
+    private long skipRemaining;
+
+    public ByteBufferFrameReader() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public ByteBufferFrameReader(int maxPayloadLength) {
+        this.maxPayloadLength = maxPayloadLength;
+    }
+
+    @Override
+    public WebSocketFrame read(ByteBuffer in) throws WebSocketProtocolException {
+        while (true) {
+            switch (state) {
+                case HEADER -> {
+                    if (in.remaining() < 2) return null;
+                    int b1 = in.get() & 0xFF;
+                    int b2 = in.get() & 0xFF;
+                    fin = (b1 & 0x80) != 0;
+                    rsv1 = (b1 & 0x40) != 0;
+                    opcode = b1 & 0x0F;
+                    masked = (b2 & 0x80) != 0;
+                    int len = b2 & 0x7F;
+                    if (len == 126) {
+                        lengthBytes = 2;
+                        state = State.EXTENDED_LENGTH;
+                    } else if (len == 127) {
+                        lengthBytes = 8;
+                        state = State.EXTENDED_LENGTH;
+                    } else {
+                        payloadLength = len;
+                        lengthRead();
+                    }
+                }
+                case EXTENDED_LENGTH -> {
+                    if (in.remaining() < lengthBytes) return null;
+                    long len = 0;
+                    for (int i = 0; i < lengthBytes; i++) {
+                        len = (len << 8) | (in.get() & 0xFF);
+                    }
+                    if (len < 0 || len > Integer.MAX_VALUE - 8) {
+                        throw new WebSocketProtocolException("Unsupported WebSocket payload length: " + Long.toUnsignedString(len));
+                    }
+                    payloadLength = (int) len;
+                    lengthRead();
+                }
+                case MASKING_KEY -> {
+                    if (in.remaining() < 4) return null;
+                    int key = 0;
+                    for (int i = 0; i < 4; i++) {
+                        key = (key << 8) | (in.get() & 0xFF);
+                    }
+                    maskingKey = key;
+                    state = State.PAYLOAD;
+                }
+                case PAYLOAD -> {
+                    return readPayload(in);
+                }
+                case SKIP -> {
+                    int n = (int) Math.min(in.remaining(), skipRemaining);
+                    in.position(in.position() + n);
+                    skipRemaining -= n;
+                    if (skipRemaining > 0) return null;
+                    state = State.HEADER;
+                }
+            }
+        }
+    }
+
+    private void lengthRead() {
+        if (payloadLength > maxPayloadLength) {
+            skipRemaining = payloadLength + (masked ? 4L : 0L);
+            state = State.SKIP;
+            throw new MessageTooBigException("WebSocket frame payload of " + payloadLength + " bytes exceeds " + maxPayloadLength);
+        }
+        state = masked ? State.MASKING_KEY : State.PAYLOAD;
+    }
+
+    private WebSocketFrame readPayload(ByteBuffer in) {
+        if (oversized == null) {
+            if (in.remaining() >= payloadLength) {
+                int start = in.position();
+                if (masked) {
+                    unmask(in, start, start + payloadLength, maskingKey);
+                }
+                ByteBuffer payload = in.slice(start, payloadLength);
+                in.position(start + payloadLength);
+                return complete(payload);
+            }
+            if (payloadLength <= in.capacity()) {
+                // compact 후 더 읽으면 버퍼에 다 들어온다
+                return null;
+            }
+            oversized = new byte[payloadLength];
+            oversizedFilled = 0;
+        }
+        int n = Math.min(in.remaining(), payloadLength - oversizedFilled);
+        in.get(oversized, oversizedFilled, n);
+        oversizedFilled += n;
+        if (oversizedFilled < payloadLength) {
+            return null;
+        }
+        ByteBuffer payload = ByteBuffer.wrap(oversized);
+        oversized = null;
+        if (masked) {
+            unmask(payload, 0, payloadLength, maskingKey);
+        }
+        return complete(payload);
+    }
+
+    private WebSocketFrame complete(ByteBuffer payload) {
+        state = State.HEADER;
+        return new WebSocketFrame(fin, rsv1, opcode, payload);
+    }
+
+    /**
+     * [from, to) 구간을 제자리에서 언마스킹한다. 8바이트씩 long XOR 하고 나머지만 바이트 단위로 처리한다.
+     * maskingKey는 마스킹 키 4바이트를 big-endian으로 읽은 값.
+     */
+    static void unmask(ByteBuffer buf, int from, int to, int maskingKey) {
+        long mask = ((long) maskingKey << 32) | (maskingKey & 0xFFFFFFFFL);
+        if (buf.order() == ByteOrder.LITTLE_ENDIAN) {
+            mask = Long.reverseBytes(mask);
+        }
+        int i = from;
+        for (; i + 8 <= to; i += 8) {
+            buf.putLong(i, buf.getLong(i) ^ mask);
+        }
+        for (; i < to; i++) {
+            int shift = 24 - ((i - from) & 3) * 8;
+            buf.put(i, (byte) (buf.get(i) ^ (maskingKey >>> shift)));
+        }
+    }
+}
@@ -1,23 +1,100 @@
 package sprout.server.websocket;
 
 import sprout.beans.annotation.Component;
+import sprout.metrics.Counter;
+import sprout.metrics.LatencyHistogram;
+import sprout.metrics.MetricsRegistry;
+import sprout.server.websocket.cluster.ClusterMessage;
+import sprout.server.websocket.cluster.WebSocketClusterBus;
+import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
+import sprout.server.websocket.extension.DeflaterPool;
+import sprout.server.websocket.extension.PerMessageDeflateConfig;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
+/**
+ * 세션 저장소와 브로드캐스트.
+ * <p>
+ * 클러스터 버스가 켜져 있으면 경로·그룹 브로드캐스트를 다른 노드에도 보내고, 다른 노드가 보낸 브로드캐스트를 이 노드의 세션에
+ * 전달한다. 노드 사이에는 인코딩 전의 메시지 바이트만 오가고, 프레임은 노드마다 한 번 인코딩한다. 그룹 멤버십은 노드마다 따로 가진다.
+ * filter를 받는 브로드캐스트는 조건을 다른 노드로 넘길 수 없으므로 이 노드에서만 보낸다.
+ */
 @Component
 public class DefaultWebSocketContainer implements WebSocketContainer, CloseListener{
 
     private final Map<String, Map<String, WebSocketSession>> sessionStore = new ConcurrentHashMap<>();
+    private final Map<String, Set<WebSocketSession>> groups = new ConcurrentHashMap<>();
+    // 세션이 닫힐 때 들어 있던 그룹만 찾아 빼기 위한 역색인 (세션 ID -> 그룹 이름)
+    private final Map<String, Set<String>> groupsBySession = new ConcurrentHashMap<>();
+
+    private final WebSocketFrameEncoder frameEncoder;
+    private final MetricsRegistry registry;
+    private final DeflaterPool deflaterPool;
+    private final WebSocketClusterBus clusterBus;
+    private final LatencyHistogram pathFanOut;
+    private final LatencyHistogram groupFanOut;
+    private final DropCounters pathDropped;
+    private final DropCounters groupDropped;
+
+    public DefaultWebSocketContainer() {
+        this(new DefaultWebSocketFrameEncoder(), new MetricsRegistry());
+    }
+
+    public DefaultWebSocketContainer(WebSocketFrameEncoder frameEncoder, MetricsRegistry registry) {
+        this(frameEncoder, registry, new DeflaterPool(PerMessageDeflateConfig.DEFAULT));
+    }
+
+    public DefaultWebSocketContainer(WebSocketFrameEncoder frameEncoder, MetricsRegistry registry, DeflaterPool deflaterPool) {
+        this(frameEncoder, registry, deflaterPool, WebSocketClusterBus.disabled());
+    }
+
+    public DefaultWebSocketContainer(WebSocketFrameEncoder frameEncoder, MetricsRegistry registry, DeflaterPool deflaterPool, WebSocketClusterBus clusterBus) {
+        this.frameEncoder = frameEncoder;
+        this.registry = registry;
+        this.deflaterPool = deflaterPool;
+        this.clusterBus = clusterBus;
+        this.pathFanOut = registry.histogram("sprout_websocket_broadcast_seconds",
+                "Time to enqueue one broadcast frame to every target session", "target", "path");
+        this.groupFanOut = registry.histogram("sprout_websocket_broadcast_seconds",
+                "Time to enqueue one broadcast frame to every target session", "target", "group");
+        this.pathDropped = new DropCounters(registry, "path");
+        this.groupDropped = new DropCounters(registry, "group");
+        // 필드를 모두 채운 뒤에 구독해야 수신 스레드가 덜 만든 컨테이너를 보지 않는다
+        clusterBus.subscribe(this::onClusterMessage);
+    }
 
     @Override
     public void addSession(String path, WebSocketSession session) {
-        sessionStore.computeIfAbsent(path, k -> new ConcurrentHashMap<>())
+        sessionStore.computeIfAbsent(path, this::registerEndpoint)
                 .put(session.getId(), session);
     }
 
+    // 엔드포인트가 처음 쓰일 때 전송 큐 게이지를 등록한다. 값은 스크레이프할 때 세션을 돌며 계산
+    private Map<String, WebSocketSession> registerEndpoint(String path) {
+        Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+        registry.gauge("sprout_websocket_outbound_queued_bytes", "Bytes waiting in WebSocket session outbound queues", () -> {
+            long total = 0;
+            for (WebSocketSession session : sessions.values()) {
+                total += session.getOutboundQueuedBytes();
+            }
+            return total;
+        }, "endpoint", path);
+        registry.gauge("sprout_websocket_unwritable_sessions", "WebSocket sessions whose outbound queue is above the high watermark", () -> {
+            int count = 0;
+            for (WebSocketSession session : sessions.values()) {
+                if (!session.isWritable()) count++;
+            }
+            return count;
+        }, "endpoint", path);
+        return sessions;
+    }
+
     @Override
     public void removeSession(String path, String sessionId) {
         Map<String, WebSocketSession> sessions = sessionStore.get(path);
@@ -40,8 +117,177 @@ public class DefaultWebSocketContainer implements WebSocketContainer, CloseListe
                 .orElse(null);
     }
 
+    @Override
+    public int getSessionCount() {
+        int count = 0;
+        for (Map<String, WebSocketSession> sessions : sessionStore.values()) {
+            count += sessions.size();
+        }
+        return count;
+    }
+
+    @Override
+    public void joinGroup(String group, WebSocketSession session) {
+        groups.computeIfAbsent(group, k -> ConcurrentHashMap.newKeySet()).add(session);
+        groupsBySession.computeIfAbsent(session.getId(), k -> ConcurrentHashMap.newKeySet()).add(group);
+    }
+
+    @Override
+    public void leaveGroup(String group, WebSocketSession session) {
+        Set<WebSocketSession> members = groups.get(group);
+        if (members != null) {
+            members.remove(session);
+        }
+        Set<String> joined = groupsBySession.get(session.getId());
+        if (joined != null) {
+            joined.remove(group);
+        }
+    }
+
+    @Override
+    public Set<WebSocketSession> getGroup(String group) {
+        return groups.getOrDefault(group, Set.of());
+    }
+
+    @Override
+    public BroadcastResult broadcastText(String path, String message) {
+        return broadcastText(path, message, null);
+    }
+
+    @Override
+    public BroadcastResult broadcastText(String path, String message, Predicate<WebSocketSession> filter) {
+        byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+        if (filter == null) {
+            clusterBus.publish(ClusterMessage.toPath(path, 0x1, payload));
+        }
+        return fanOut(getSessions(path), filter, new SharedFrame(0x1, payload), pathFanOut, pathDropped);
+    }
+
+    @Override
+    public BroadcastResult broadcastBinary(String path, byte[] data) {
+        clusterBus.publish(ClusterMessage.toPath(path, 0x2, data));
+        return fanOut(getSessions(path), null, new SharedFrame(0x2, data), pathFanOut, pathDropped);
+    }
+
+    @Override
+    public BroadcastResult broadcastTextToGroup(String group, String message) {
+        byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+        clusterBus.publish(ClusterMessage.toGroup(group, 0x1, payload));
+        return fanOut(getGroup(group), null, new SharedFrame(0x1, payload), groupFanOut, groupDropped);
+    }
+
+    @Override
+    public BroadcastResult broadcastBinaryToGroup(String group, byte[] data) {
+        clusterBus.publish(ClusterMessage.toGroup(group, 0x2, data));
+        return fanOut(getGroup(group), null, new SharedFrame(0x2, data), groupFanOut, groupDropped);
+    }
+
+    // 다른 노드의 브로드캐스트. 다시 버스로 내보내지 않고 이 노드의 세션에만 전달한다
+    private void onClusterMessage(ClusterMessage message) {
+        SharedFrame frame = new SharedFrame(message.opcode(), message.payload());
+        if (message.target() == ClusterMessage.Target.PATH) {
+            fanOut(getSessions(message.name()), null, frame, pathFanOut, pathDropped);
+        } else {
+            fanOut(getGroup(message.name()), null, frame, groupFanOut, groupDropped);
+        }
+    }
+
     @Override
     public void onSessionClosed(WebSocketSession session) {
-        this.removeSession(session.getRequestPath(), session.getId());
+        this.removeSession(endpointOf(session), session.getId());
+        Set<String> joined = groupsBySession.remove(session.getId());
+        if (joined != null) {
+            for (String group : joined) {
+                Set<WebSocketSession> members = groups.get(group);
+                if (members != null) {
+                    members.remove(session);
+                }
+            }
+        }
+    }
+
+    // 세션은 요청 경로(/chat/42)가 아니라 엔드포인트 패턴(/chat/{room}) 아래에 등록된다
+    private static String endpointOf(WebSocketSession session) {
+        WebSocketEndpointInfo endpointInfo = session.getEndpointInfo();
+        return endpointInfo != null ? endpointInfo.getPathPattern().getOriginalPattern() : session.getRequestPath();
+    }
+
+    /**
+     * 브로드캐스트 한 건의 인코딩된 프레임. 평문 프레임과 permessage-deflate 프레임을 처음 필요할 때 한 번씩만 만든다.
+     * 압축 프레임은 컨텍스트 없이 압축하므로 deflate를 합의한 어느 세션에 보내도 풀 수 있다.
+     */
+    private final class SharedFrame {
+        private final int opcode;
+        private final byte[] payload;
+        private ByteBuffer plain;
+        private ByteBuffer compressed;
+
+        SharedFrame(int opcode, byte[] payload) {
+            this.opcode = opcode;
+            this.payload = payload;
+        }
+
+        ByteBuffer frameFor(WebSocketSession session) {
+            if (session.isDeflateEnabled() && payload.length >= deflaterPool.getConfig().getMinSize()) {
+                if (compressed == null) {
+                    compressed = encode(deflaterPool.compress(ByteBuffer.wrap(payload)), true);
+                }
+                return compressed;
+            }
+            if (plain == null) {
+                plain = encode(ByteBuffer.wrap(payload), false);
+            }
+            return plain;
+        }
+
+        private ByteBuffer encode(ByteBuffer body, boolean rsv1) {
+            int length = body.remaining();
+            ByteBuffer frame = ByteBuffer.allocate(WebSocketFrameEncoder.headerLength(length) + length);
+            frameEncoder.encodeHeader(frame, opcode, true, rsv1, length);
+            frame.put(body).flip();
+            return frame.asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * 보내지 못한 프레임을 이유별로 센다. closed는 이미 닫힌 세션, overflow는 열린 세션이 프레임을 거절한 경우로
+     * 대부분 전송 큐가 가득 차 overflow 정책에 따라 버려진 것이다.
+     */
+    private record DropCounters(Counter closed, Counter overflow) {
+        DropCounters(MetricsRegistry registry, String target) {
+            this(registry.counter("sprout_websocket_broadcast_dropped_total",
+                            "Broadcast frames not delivered to a target session", "target", target, "reason", "closed"),
+                    registry.counter("sprout_websocket_broadcast_dropped_total",
+                            "Broadcast frames not delivered to a target session", "target", target, "reason", "overflow"));
+        }
+    }
+
+    // 세션마다 위치만 따로 가진 duplicate()를 넣으므로 프레임 바이트는 모든 세션이 공유한다
+    private static BroadcastResult fanOut(Collection<WebSocketSession> targets, Predicate<WebSocketSession> filter,
+                                          SharedFrame frame, LatencyHistogram fanOut, DropCounters droppedCounters) {
+        long start = System.nanoTime();
+        int delivered = 0;
+        int closed = 0;
+        int overflow = 0;
+        for (WebSocketSession session : targets) {
+            if (filter != null && !filter.test(session)) {
+                continue;
+            }
+            if (!session.isOpen()) {
+                closed++;
+            } else if (session.sendFrame(frame.frameFor(session).duplicate())) {
+                delivered++;
+            } else {
+                overflow++; // 열린 세션이 거절했다면 전송 큐가 넘쳤거나 막 닫는 중이다
+            }
+        }
+        fanOut.record(System.nanoTime() - start);
+        if (closed > 0) {
+            droppedCounters.closed().add(closed);
+        }
+        if (overflow > 0) {
+            droppedCounters.overflow().add(overflow);
+        }
+        return new BroadcastResult(delivered, closed + overflow);
     }
 }
@@ -2,8 +2,7 @@ package sprout.server.websocket;
 
 import sprout.beans.annotation.Component;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 @Component
@@ -23,69 +22,22 @@ public class DefaultWebSocketFrameEncoder implements WebSocketFrameEncoder{
 
     @Override
     public byte[] encodeBinary(byte[] message) {
-        int payloadLen = message.length;
-        ByteArrayOutputStream frameStream = new ByteArrayOutputStream();
-
-        // 첫 번째 바이트: FIN + opcode (바이너리 0x2)
-        frameStream.write(0x82);
-
-        // 두 번째 바이트 및 확 길이 필드
-        if (payloadLen < 126) {
-            frameStream.write((byte) payloadLen);
-        } else if (payloadLen <= 65535) {
-            frameStream.write(126);
-            frameStream.write((payloadLen >> 8) & 0xFF);
-            frameStream.write(payloadLen & 0xFF);
-        } else {
-            frameStream.write(127);
-            for (int i = 0; i < 8; i++) {
-                frameStream.write((byte) ((long)payloadLen >> (8 * (7 - i)) & 0xFF));
-            }
-        }
-
-        // 페이로드 복사
-        try {
-            frameStream.write(message);
-        } catch (IOException e) {
-            // ByteArrayOutputStream은 IOException을 던지지 않음
-            throw new RuntimeException(e);
-        }
-
-        return frameStream.toByteArray();
+        // FIN + opcode (바이너리 0x2)
+        return encodeFrame(0x2, message);
     }
 
     @Override
     public byte[] encodeText(String message) {
-        byte[] payload = message.getBytes(StandardCharsets.UTF_8);
-        int payloadLen = payload.length;
-
-        ByteArrayOutputStream frameStream = new ByteArrayOutputStream();
-
-        // 첫 번째 바이트: FIN + opcode (텍스트 = 0x1)
-        frameStream.write(0x81);
-
-        // 두 번째 바이트 및 확장 길이 필드
-        if (payloadLen < 126) {
-            frameStream.write((byte) payloadLen);
-        } else if (payloadLen <= 65535) {
-            frameStream.write(126);
-            frameStream.write((payloadLen >> 8) & 0xFF);
-            frameStream.write(payloadLen & 0xFF);
-        } else {
-            frameStream.write(127);
-            for (int i = 0; i < 8; i++) {
-                frameStream.write((byte) ((long)payloadLen >> (8 * (7 - i)) & 0xFF));
-            }
-        }
-
-        // 페이로드 복사
-        try {
-            frameStream.write(payload);
-        } catch (IOException e) {
-            // ByteArrayOutputStream은 IOException을 던지지 않음
-            throw new RuntimeException(e);
-        }
+        // FIN + opcode (텍스트 = 0x1)
+        return encodeFrame(0x1, message.getBytes(StandardCharsets.UTF_8));
+    }
 
-        return frameStream.toByteArray();
+    // 헤더 길이를 먼저 계산해 프레임 배열을 한 번만 할당하고 페이로드는 한 번만 복사
+    private byte[] encodeFrame(int opcode, byte[] payload) {
+        int headerLength = WebSocketFrameEncoder.headerLength(payload.length);
+        byte[] frame = new byte[headerLength + payload.length];
+        encodeHeader(ByteBuffer.wrap(frame), opcode, true, payload.length);
+        System.arraycopy(payload, 0, frame, headerLength, payload.length);
+        return frame;
     }
 }
@@ -18,6 +18,7 @@ public class DefaultWebSocketFrameParser implements WebSocketFrameParser {
         }
 
         boolean fin = (b1 & 0x80) != 0;
+        boolean rsv1 = (b1 & 0x40) != 0;
         int opcode = b1 & 0x0F;
 
         boolean masked = (b2 & 0x80) != 0;
@@ -63,6 +64,16 @@ public class DefaultWebSocketFrameParser implements WebSocketFrameParser {
             payloadInputStream = new MaskingInputStream(payloadInputStream, maskingKey);
         }
 
-        return new WebSocketFrame(fin, opcode, payloadInputStream);
+        return new WebSocketFrame(fin, rsv1, opcode, payloadInputStream, actualPayloadLen);
+    }
+
+    @Override
+    public WebSocketFrameReader newReader() {
+        return new ByteBufferFrameReader();
+    }
+
+    @Override
+    public WebSocketFrameReader newReader(int maxPayloadLength) {
+        return new ByteBufferFrameReader(maxPayloadLength);
     }
 }
@@ -1,11 +1,19 @@
 package sprout.server.websocket;
 
+import sprout.jfr.WebSocketFrameDecodeEvent;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.Counter;
 import sprout.mvc.http.HttpRequest;
+import sprout.server.ByteBufferPool;
 import sprout.server.WritableHandler;
 import sprout.server.argument.WebSocketArgumentResolver;
-import sprout.server.websocket.exception.NotEnoughDataException;
+import sprout.server.websocket.exception.InvalidPayloadDataException;
+import sprout.server.websocket.exception.MessageTooBigException;
 import sprout.server.websocket.exception.WebSocketException;
 import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
+import sprout.server.websocket.exception.WebSocketProtocolException;
+import sprout.server.websocket.extension.PerMessageDeflateCodec;
 import sprout.server.websocket.framehandler.FrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
 import sprout.server.websocket.message.*;
@@ -20,11 +28,17 @@ import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.DataFormatException;
 
+import static java.nio.channels.SelectionKey.OP_READ;
 import static java.nio.channels.SelectionKey.OP_WRITE;
 
 public class DefaultWebSocketSession implements WebSocketSession, WritableHandler {
+    private static final Logger log = LoggerFactory.getLogger(DefaultWebSocketSession.class);
+    private static final int READ_BUFFER_SIZE = ByteBufferPool.SESSION_READ_BUFFER_SIZE;
+
     private final String id;
     private final SocketChannel channel;
     private final Selector selector;
@@ -32,46 +46,103 @@ public class DefaultWebSocketSession implements WebSocketSession, WritableHandle
     private final Map<String, String> pathParameters;
     private final WebSocketEndpointInfo endpointInfo;
     private final WebSocketFrameParser frameParser;
+    private final WebSocketFrameReader frameReader;
     private final WebSocketFrameEncoder frameEncoder;
     private final List<WebSocketArgumentResolver> argumentResolvers;
     private final List<WebSocketMessageDispatcher> messageDispatchers;
     private final CloseListener closeListener;
+    private final ByteBufferPool bufferPool;
 
     private final FrameProcessingContext processingContext;
     private volatile boolean open = true;
     private volatile boolean isClosePending = false;
     private final Map<String, Object> userProperties = new ConcurrentHashMap<>();
-    private final ByteBuffer readBuffer = ByteBuffer.allocate(65536);
-    private final Queue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+    // 읽는 동안만 풀에서 빌린다. 읽다 만 프레임이 없으면 읽기가 끝날 때 돌려주므로 쉬는 세션은 버퍼를 들고 있지 않다
+    private ByteBuffer readBuffer;
+    private volatile long lastActivityNanos = System.nanoTime();
+    private final OutboundQueue outbound;
+    // permessage-deflate를 합의하지 않았으면 null
+    private final PerMessageDeflateCodec deflate;
+    // 지금 받고 있는 데이터 메시지가 압축됐는지 (첫 프레임의 RSV1)
+    private boolean inboundCompressed;
+    // 너무 크거나 UTF-8이 깨진 메시지로 닫는 중이면 이후 데이터 프레임은 버린다
+    private boolean inboundRejected;
+    // 완성된 메시지의 핸들러 호출(onMessage/onClose/onError)을 세션 안에서 순서대로 실행
+    private final SerialExecutor inbound;
 
     private final WebSocketFrameDispatcher frameDispatcher;
 
     public DefaultWebSocketSession(String id, SocketChannel channel, Selector selector, HttpRequest<?> handshakeRequest, WebSocketEndpointInfo endpointInfo, WebSocketFrameParser frameParser, WebSocketFrameEncoder frameEncoder, Map<String, String> pathParameters, List<WebSocketArgumentResolver> webSocketArgumentResolvers, List<WebSocketMessageDispatcher> messageDispatchers, CloseListener closeListener, List<FrameHandler> frameHandlers) throws IOException {
+        this(id, channel, selector, handshakeRequest, endpointInfo, frameParser, frameEncoder, pathParameters, webSocketArgumentResolvers, messageDispatchers, closeListener, frameHandlers, new ByteBufferPool());
+    }
+
+    public DefaultWebSocketSession(String id, SocketChannel channel, Selector selector, HttpRequest<?> handshakeRequest, WebSocketEndpointInfo endpointInfo, WebSocketFrameParser frameParser, WebSocketFrameEncoder frameEncoder, Map<String, String> pathParameters, List<WebSocketArgumentResolver> webSocketArgumentResolvers, List<WebSocketMessageDispatcher> messageDispatchers, CloseListener closeListener, List<FrameHandler> frameHandlers, ByteBufferPool bufferPool) throws IOException {
+        this(id, channel, selector, handshakeRequest, endpointInfo, frameParser, frameEncoder, pathParameters, webSocketArgumentResolvers, messageDispatchers, closeListener, frameHandlers, bufferPool,
+                new OutboundQueue(WebSocketOutboundConfig.DEFAULT, bufferPool, new Counter()));
+    }
+
+    public DefaultWebSocketSession(String id, SocketChannel channel, Selector selector, HttpRequest<?> handshakeRequest, WebSocketEndpointInfo endpointInfo, WebSocketFrameParser frameParser, WebSocketFrameEncoder frameEncoder, Map<String, String> pathParameters, List<WebSocketArgumentResolver> webSocketArgumentResolvers, List<WebSocketMessageDispatcher> messageDispatchers, CloseListener closeListener, List<FrameHandler> frameHandlers, ByteBufferPool bufferPool, OutboundQueue outbound) throws IOException {
+        this(id, channel, selector, handshakeRequest, endpointInfo, frameParser, frameEncoder, pathParameters, webSocketArgumentResolvers, messageDispatchers, closeListener, frameHandlers, bufferPool, outbound, null);
+    }
+
+    public DefaultWebSocketSession(String id, SocketChannel channel, Selector selector, HttpRequest<?> handshakeRequest, WebSocketEndpointInfo endpointInfo, WebSocketFrameParser frameParser, WebSocketFrameEncoder frameEncoder, Map<String, String> pathParameters, List<WebSocketArgumentResolver> webSocketArgumentResolvers, List<WebSocketMessageDispatcher> messageDispatchers, CloseListener closeListener, List<FrameHandler> frameHandlers, ByteBufferPool bufferPool, OutboundQueue outbound, PerMessageDeflateCodec deflate) throws IOException {
+        // 메시지 실행기를 주지 않으면 이벤트 루프에서 바로 실행한다
+        this(id, channel, selector, handshakeRequest, endpointInfo, frameParser, frameEncoder, pathParameters, webSocketArgumentResolvers, messageDispatchers, closeListener, frameHandlers, bufferPool, outbound, deflate, Runnable::run, Integer.MAX_VALUE);
+    }
+
+    public DefaultWebSocketSession(String id, SocketChannel channel, Selector selector, HttpRequest<?> handshakeRequest, WebSocketEndpointInfo endpointInfo, WebSocketFrameParser frameParser, WebSocketFrameEncoder frameEncoder, Map<String, String> pathParameters, List<WebSocketArgumentResolver> webSocketArgumentResolvers, List<WebSocketMessageDispatcher> messageDispatchers, CloseListener closeListener, List<FrameHandler> frameHandlers, ByteBufferPool bufferPool, OutboundQueue outbound, PerMessageDeflateCodec deflate, Executor messageExecutor, int inboundQueueCapacity) throws IOException {
+        this(id, channel, selector, handshakeRequest, endpointInfo, frameParser, frameEncoder, pathParameters, webSocketArgumentResolvers, messageDispatchers, closeListener, frameHandlers, bufferPool, outbound, deflate, messageExecutor, inboundQueueCapacity, Integer.MAX_VALUE);
+    }
+
+    public DefaultWebSocketSession(String id, SocketChannel channel, Selector selector, HttpRequest<?> handshakeRequest, WebSocketEndpointInfo endpointInfo, WebSocketFrameParser frameParser, WebSocketFrameEncoder frameEncoder, Map<String, String> pathParameters, List<WebSocketArgumentResolver> webSocketArgumentResolvers, List<WebSocketMessageDispatcher> messageDispatchers, CloseListener closeListener, List<FrameHandler> frameHandlers, ByteBufferPool bufferPool, OutboundQueue outbound, PerMessageDeflateCodec deflate, Executor messageExecutor, int inboundQueueCapacity, int maxMessageSize) throws IOException {
         this.id = id;
         this.channel = channel;
         this.selector = selector;
         this.handshakeRequest = handshakeRequest;
         this.endpointInfo = endpointInfo;
         this.frameParser = frameParser;
+        this.frameReader = frameParser.newReader(maxMessageSize);
         this.frameEncoder = frameEncoder;
         this.pathParameters = pathParameters;
         this.argumentResolvers = webSocketArgumentResolvers;
         this.messageDispatchers = messageDispatchers;
         this.closeListener = closeListener;
+        this.bufferPool = bufferPool;
+        this.outbound = outbound;
+        this.deflate = deflate;
         this.frameDispatcher = new WebSocketFrameDispatcher(frameHandlers, messageDispatchers);
-        this.processingContext = new FrameProcessingContext();
+        this.processingContext = new FrameProcessingContext(maxMessageSize);
+        this.inbound = new SerialExecutor(messageExecutor, inboundQueueCapacity, new SerialExecutor.Backpressure() {
+            @Override
+            public void suspend() {
+                setReadInterest(false);
+            }
+
+            @Override
+            public void resume() {
+                setReadInterest(true);
+            }
+        });
     }
 
     @Override
     public void close() throws IOException {
+        closeWith(CloseCodes.NORMAL_CLOSURE, "Closing WebSocket session: " + id + ", Close code is: " + CloseCodes.NORMAL_CLOSURE.getCode() + ".");
+    }
+
+    private void closeWith(CloseCode closeCode, String reason) {
         if (open && !isClosePending) {
-            System.out.println("Scheduling close for WebSocket session: " + id);
+            log.debug("Scheduling close for WebSocket session: {} (code: {})", id, closeCode.getCode());
             isClosePending = true; // 종료 요청 표시
-            // 종료 프레임 생성 (opcode 0x8, 정상 종료 코드 1000)
-            String closeReason = "Closing WebSocket session: " + id + ", Close code is: " + CloseCodes.NORMAL_CLOSURE.getCode() + ".";
-            byte[] closePayload = closeReason.getBytes(StandardCharsets.UTF_8);
+            // 종료 프레임 페이로드: 2바이트 종료 코드 + 사유
+            byte[] reasonBytes = reason.getBytes(StandardCharsets.UTF_8);
+            byte[] closePayload = new byte[2 + Math.min(reasonBytes.length, 123)];
+            closePayload[0] = (byte) (closeCode.getCode() >> 8);
+            closePayload[1] = (byte) closeCode.getCode();
+            System.arraycopy(reasonBytes, 0, closePayload, 2, closePayload.length - 2);
             byte[] encoded = frameEncoder.encodeControlFrame(0x8, closePayload);
-            scheduleWrite(ByteBuffer.wrap(encoded));
+            outbound.offerClose(ByteBuffer.wrap(encoded));
+            requestWrite();
         }
     }
 
@@ -82,45 +153,115 @@ public class DefaultWebSocketSession implements WebSocketSession, WritableHandle
 
     @Override
     public void sendText(String message) throws IOException {
-        scheduleWrite(ByteBuffer.wrap(frameEncoder.encodeText(message)));
+        scheduleFrame(0x1, ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)), null);
     }
 
     @Override
-    public void write(SelectionKey key) throws Exception {
-        ByteBuffer buf;
-        while ((buf = pendingWrites.peek()) != null) {
-            channel.write(buf);
-            if (buf.hasRemaining()) return;
-            pendingWrites.poll();
-        }
+    public void sendText(String message, String coalesceKey) throws IOException {
+        scheduleFrame(0x1, ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)), coalesceKey);
+    }
 
-        if (pendingWrites.isEmpty()) {
-            key.interestOps(key.interestOps() & ~OP_WRITE);
+    @Override
+    public void write(SelectionKey key) throws Exception {
+        // 큐 앞쪽의 버퍼를 모아 syscall 한 번으로 쓴다. 소켓 송신 버퍼가 차면 다음 OP_WRITE에서 이어 쓴다
+        outbound.flush(channel);
+
+        if (outbound.isEmpty()) {
+            // 읽기 재개·중지가 다른 스레드에서 OP_READ를 바꾸므로 읽고 다시 쓰지 않고 원자적으로 비트만 바꾼다
+            key.interestOpsAnd(~OP_WRITE);
+            if (!outbound.isEmpty()) {
+                // OP_WRITE를 끄는 사이 다른 스레드가 넣은 프레임이 있으면 다시 켠다
+                key.interestOpsOr(OP_WRITE);
+                return;
+            }
             // 큐가 비었고 종료 요청이 있었다면 채널 닫기
             if (isClosePending && open) {
-                System.out.println("All pending writes completed, closing channel for session: " + id);
+                log.debug("All pending writes completed, closing channel for session: {}", id);
                 open = false;
                 channel.close();
-                if (closeListener != null) {
-                    closeListener.onSessionClosed(this);
-                }
+                releaseResources();
             }
         }
     }
 
+    @Override
+    public void abort(CloseCode closeCode) {
+        if (!open) {
+            return;
+        }
+        log.debug("Aborting WebSocket session: {} (code: {})", id, closeCode.getCode());
+        open = false;
+        isClosePending = true;
+        runHandler(() -> callOnCloseMethod(closeCode));
+        try {
+            channel.close(); // 등록된 SelectionKey도 함께 취소된다
+        } catch (IOException e) {
+            log.debug("Failed to close channel of WebSocket session {}: {}", id, e.getMessage());
+        }
+        outbound.clear();
+        releaseResources();
+    }
+
+    // 채널을 닫은 뒤 루프 스레드에서 한 번만 부른다
+    private void releaseResources() {
+        if (readBuffer != null) {
+            bufferPool.release(readBuffer);
+            readBuffer = null;
+        }
+        if (deflate != null) {
+            deflate.close();
+        }
+        if (closeListener != null) {
+            closeListener.onSessionClosed(this);
+        }
+    }
+
+    @Override
+    public long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
     @Override
     public void sendBinary(byte[] data) throws IOException {
-        scheduleWrite(ByteBuffer.wrap(frameEncoder.encodeBinary(data)));
+        scheduleFrame(0x2, ByteBuffer.wrap(data), null);
     }
 
     @Override
     public void sendPing(byte[] data) throws IOException {
-        scheduleWrite(ByteBuffer.wrap(frameEncoder.encodeControlFrame(0x9, data)));
+        scheduleWrite(ByteBuffer.wrap(frameEncoder.encodeControlFrame(0x9, data)), null);
     }
 
     @Override
     public void sendPong(byte[] data) throws IOException {
-        scheduleWrite(ByteBuffer.wrap(frameEncoder.encodeControlFrame(0xA, data)));
+        scheduleWrite(ByteBuffer.wrap(frameEncoder.encodeControlFrame(0xA, data)), null);
+    }
+
+    @Override
+    public boolean sendFrame(ByteBuffer frame) {
+        return sendFrame(frame, null);
+    }
+
+    @Override
+    public boolean sendFrame(ByteBuffer frame, String coalesceKey) {
+        if (!open || isClosePending) {
+            return false;
+        }
+        return scheduleWrite(frame, coalesceKey);
+    }
+
+    @Override
+    public boolean isWritable() {
+        return outbound.isWritable();
+    }
+
+    @Override
+    public boolean isDeflateEnabled() {
+        return deflate != null;
+    }
+
+    @Override
+    public long getOutboundQueuedBytes() {
+        return outbound.getQueuedBytes();
     }
 
     @Override
@@ -140,41 +281,94 @@ public class DefaultWebSocketSession implements WebSocketSession, WritableHandle
 
     @Override
     public void read(SelectionKey key) throws Exception {
+        if (readBuffer == null) {
+            readBuffer = bufferPool.acquire(READ_BUFFER_SIZE);
+        }
         int bytesRead = channel.read(readBuffer);
+        if (bytesRead > 0) {
+            lastActivityNanos = System.nanoTime(); // pong이 아니어도 받은 게 있으면 살아 있다
+        }
         if (bytesRead == -1) {
-            callOnCloseMethod(CloseCodes.NO_STATUS_CODE);
+            runHandler(() -> callOnCloseMethod(CloseCodes.NO_STATUS_CODE));
             close();
             return;
         }
 
         readBuffer.flip();
 
-        while (readBuffer.remaining() > 0) {
-            // 파싱 전에 현재 위치를 마크 (파싱 실패 시 복구 위함)
-            readBuffer.mark();
+        while (readBuffer.hasRemaining()) {
+            WebSocketFrameDecodeEvent decodeEvent = new WebSocketFrameDecodeEvent();
+            decodeEvent.begin();
+            // 프레임이 덜 들어왔으면 null. 읽다 만 헤더는 리더가 기억하고 남은 바이트는 compact로 보존
+            WebSocketFrame frame;
+            try {
+                frame = frameReader.read(readBuffer);
+            } catch (MessageTooBigException e) {
+                // 리더는 그 프레임의 남은 바이트를 건너뛰도록 넘어가 있으므로 close 응답을 받기 위해 계속 읽는다
+                rejectMessage(CloseCodes.TOO_BIG, "Message too big", e);
+                continue;
+            }
+            if (frame == null) {
+                break;
+            }
+            if (decodeEvent.shouldCommit()) {
+                decodeEvent.path = getRequestPath();
+                decodeEvent.opcode = frame.getOpcode();
+                decodeEvent.fin = frame.isFin();
+                decodeEvent.payloadLength = frame.getPayloadLength();
+                decodeEvent.commit();
+            }
+            processFrame(frame);
+        }
+        if (readBuffer.hasRemaining()) {
+            readBuffer.compact();
+        } else {
+            // 남은 바이트가 없으면 다음 읽기까지 풀에 돌려준다
+            bufferPool.release(readBuffer);
+            readBuffer = null;
+        }
+    }
 
-            // ByteBuffer를 직접 읽는 InputStream 어댑터 사용
-            InputStream frameInputStream = new ByteBufferInputStream(readBuffer);
+    // 헤더는 풀에서 빌린 작은 버퍼에 쓰고, 페이로드는 복사 없이 그대로 뒤에 붙인다
+    private void scheduleFrame(int opcode, ByteBuffer payload, String coalesceKey) {
+        boolean compressed = deflate != null && deflate.shouldCompress(payload.remaining());
+        if (compressed) {
+            payload = deflate.compress(payload);
+        }
+        ByteBuffer header = bufferPool.acquire(WebSocketFrameEncoder.MAX_HEADER_LENGTH);
+        frameEncoder.encodeHeader(header, opcode, true, compressed, payload.remaining());
+        header.flip();
+        handleOffer(outbound.offer(header, payload, coalesceKey));
+    }
 
-            try {
-                WebSocketFrame frame = frameParser.parse(frameInputStream);
-                // 성공적으로 파싱되면, 실제 처리 로직 실행
-                processFrame(frame);
-            } catch (NotEnoughDataException e) {
-                // 버퍼에 아직 완전한 프레임이 없음 -> 다음 read 이벤트를 기다림
-                readBuffer.reset(); // 마크한 위치로 복구
-                break; // while 루프 종료
+    private boolean scheduleWrite(ByteBuffer buf, String coalesceKey) {
+        return handleOffer(outbound.offer(null, buf, coalesceKey));
+    }
+
+    private boolean handleOffer(OutboundQueue.Offer offer) {
+        switch (offer) {
+            case QUEUED -> {
+                requestWrite();
+                return true;
+            }
+            case CLOSE -> {
+                log.warn("Outbound queue of WebSocket session {} exceeded its high watermark; closing with 1008", id);
+                closeWith(CloseCodes.VIOLATED_POLICY, "Slow consumer");
+                return false;
+            }
+            default -> {
+                if (log.isTraceEnabled()) {
+                    log.trace("Dropped outbound frame for slow WebSocket session {}", id);
+                }
+                return false;
             }
         }
-        readBuffer.compact();
     }
 
-    private void scheduleWrite(ByteBuffer buf) {
-        pendingWrites.add(buf);
+    private void requestWrite() {
         SelectionKey key = channel.keyFor(selector);
         if (key != null && key.isValid() && (key.interestOps() & OP_WRITE) == 0) {
-            // | 연산자로 OP_WRITE 플래그를 추가
-            key.interestOps(key.interestOps() | OP_WRITE);
+            key.interestOpsOr(OP_WRITE); // OP_READ 비트는 건드리지 않는다
             selector.wakeup(); // Selector가 select()에서 대기 중일 수 있으므로 깨워주기
         }
     }
@@ -182,42 +376,163 @@ public class DefaultWebSocketSession implements WebSocketSession, WritableHandle
     private void processFrame(WebSocketFrame frame) throws Exception {
         if (WebSocketFrameDecoder.isCloseFrame(frame)) {
             byte[] payload = frame.getPayloadBytes();
-            System.out.printf("[DEBUG] Close frame - Payload length: %d%n", payload.length);
-            if (payload.length >= 2) {
-                int code = ((payload[0] & 0xFF) << 8) | (payload[1] & 0xFF);
-                System.out.printf("[DEBUG] Close code: %d (0x%X)%n", code, code);
+            CloseCode closeCode = WebSocketFrameDecoder.getCloseCode(payload);
+            if (log.isDebugEnabled()) {
+                log.debug("Received Close frame from client {} (payload: {} bytes, code: {})", id, payload.length, closeCode);
             }
-            callOnCloseMethod(WebSocketFrameDecoder.getCloseCode(payload));
+            runHandler(() -> callOnCloseMethod(closeCode));
             return;
         } else if (WebSocketFrameDecoder.isPingFrame(frame)) {
             byte[] payload = frame.getPayloadBytes();
-            System.out.printf("[DEBUG] Received Ping frame from client %s (payload: %d bytes)%n", id, payload.length);
+            if (log.isTraceEnabled()) {
+                log.trace("Received Ping frame from client {} (payload: {} bytes)", id, payload.length);
+            }
             sendPong(payload);
             return;
         } else if (WebSocketFrameDecoder.isPongFrame(frame)) {
             byte[] payload = frame.getPayloadBytes(); // 반드시 스트림을 소비해야 함!
-            System.out.printf("[DEBUG] Received Pong frame from client %s (payload: %d bytes)%n", id, payload.length);
+            if (log.isTraceEnabled()) {
+                log.trace("Received Pong frame from client {} (payload: {} bytes)", id, payload.length);
+            }
             return;
         } else if (WebSocketFrameDecoder.isDataFrame(frame)) {
-            dispatchMessage(frame);
+            if (inboundRejected) {
+                if (frame.getPayloadBuffer() == null) {
+                    frame.getPayloadBytes(); // 스트림 프레임은 소비해야 다음 프레임을 읽는다
+                }
+                return;
+            }
+            WebSocketFrame inflated;
+            try {
+                inflated = inflateIfCompressed(frame);
+            } catch (MessageTooBigException e) {
+                rejectMessage(CloseCodes.TOO_BIG, "Message too big", e);
+                return;
+            } catch (WebSocketProtocolException | DataFormatException e) {
+                log.warn("Invalid compressed frame from WebSocket session {}: {}", id, e.getMessage());
+                runHandler(() -> callOnErrorMethod(e));
+                closeWith(CloseCodes.PROTOCOL_ERROR, "Invalid compressed frame");
+                return;
+            }
+            dispatchMessage(inflated);
         } else {
-            System.err.printf("[ERROR] Unknown WebSocket opcode: 0x%X%n", frame.getOpcode());
+            log.warn("Unknown WebSocket opcode: 0x{}", Integer.toHexString(frame.getOpcode()));
             // 알 수 없는 opcode의 경우에도 payload를 소비해야 함
             frame.getPayloadBytes();
-            callOnErrorMethod(new WebSocketException("Unknown WebSocket opcode: " + frame.getOpcode()));
+            WebSocketException error = new WebSocketException("Unknown WebSocket opcode: " + frame.getOpcode());
+            runHandler(() -> callOnErrorMethod(error));
         }
     }
 
 
+    // 압축된 메시지의 프레임은 풀어서 새 프레임으로 바꾼다. 프레임 핸들러 체인은 압축 여부를 모른다
+    private WebSocketFrame inflateIfCompressed(WebSocketFrame frame) throws Exception {
+        if (frame.getOpcode() != 0x0) {
+            inboundCompressed = frame.isRsv1();
+        } else if (frame.isRsv1()) {
+            throw new WebSocketProtocolException("RSV1 must only be set on the first frame of a message");
+        }
+        if (!inboundCompressed) {
+            return frame;
+        }
+        if (deflate == null) {
+            throw new WebSocketProtocolException("RSV1 set but permessage-deflate was not negotiated");
+        }
+        ByteBuffer payload = frame.getPayloadBuffer() != null ? frame.getPayloadBuffer() : ByteBuffer.wrap(frame.getPayloadBytes());
+        // 풀린 크기로 메시지 한도를 잰다. 한도를 넘는 만큼은 풀지 않는다
+        int maxInflated = processingContext.getMaxMessageSize() - processingContext.getMessageLength();
+        return new WebSocketFrame(frame.isFin(), frame.getOpcode(), deflate.inflate(payload, frame.isFin(), maxInflated));
+    }
+
     public void dispatchMessage(WebSocketFrame frame) throws Exception {
         this.processingContext.setCurrentFrame(frame);
+        MessagePayload payload;
         try {
-            frameDispatcher.dispatch(this.processingContext, this, pathParameters);
+            // 조립은 이벤트 루프에서. 프레임 핸들러가 페이로드를 조립 버퍼로 모두 옮긴다
+            payload = frameDispatcher.assemble(this.processingContext);
+        } catch (MessageTooBigException e) {
+            rejectMessage(CloseCodes.TOO_BIG, "Message too big", e);
+            return;
+        } catch (InvalidPayloadDataException e) {
+            rejectMessage(CloseCodes.NOT_CONSISTENT, "Invalid UTF-8 in text message", e);
+            return;
         } catch (Exception e) {
-            System.err.println("Error dispatching frame: " + e.getMessage());
-            callOnErrorMethod(e); // 에러 핸들러 호출
+            log.warn("Error dispatching frame for session {}", id, e);
+            runHandler(() -> callOnErrorMethod(e)); // 에러 핸들러 호출
             close(); // 치명적 오류 시 연결 종료
+            return;
+        }
+        if (payload == null) {
+            return;
+        }
+        // 읽기 버퍼의 slice는 compact 뒤에 덮이므로, 실행기로 넘기는 프레임은 버퍼에서 떼어 낸다
+        WebSocketFrame detached = detach(frame);
+        runHandler(() -> {
+            try {
+                frameDispatcher.dispatchMessage(detached, payload, this, pathParameters);
+            } catch (Exception e) {
+                log.warn("Error dispatching frame for session {}", id, e);
+                callOnErrorMethod(e);
+                close();
+            }
+        });
+    }
+
+    private void rejectMessage(CloseCode closeCode, String reason, WebSocketException e) {
+        log.warn("Rejecting message from WebSocket session {} with {}: {}", id, closeCode.getCode(), e.getMessage());
+        processingContext.reset(); // 모으던 조각은 버린다
+        inboundRejected = true;
+        runHandler(() -> callOnErrorMethod(e));
+        closeWith(closeCode, reason);
+    }
+
+    private static WebSocketFrame detach(WebSocketFrame frame) {
+        ByteBuffer payload = frame.getPayloadBuffer();
+        if (payload == null) {
+            return frame;
         }
+        ByteBuffer copy = ByteBuffer.allocate(payload.remaining());
+        copy.put(payload.duplicate()).flip();
+        return new WebSocketFrame(frame.isFin(), frame.getOpcode(), copy);
+    }
+
+    // 엔드포인트 핸들러 호출은 이벤트 루프가 아니라 세션의 직렬 실행기에서 한다
+    private void runHandler(HandlerCall call) {
+        try {
+            inbound.execute(() -> {
+                try {
+                    call.run();
+                } catch (Exception e) {
+                    log.warn("WebSocket handler failed for session {}", id, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Message executor rejected a task for WebSocket session {}; closing with 1013", id);
+            closeWith(CloseCodes.TRY_AGAIN_LATER, "Server busy");
+        }
+    }
+
+    // 실행기의 대기 메시지가 가득 차면 이 세션의 소켓 읽기를 멈추고, 비워지면 다시 읽는다
+    private void setReadInterest(boolean enabled) {
+        SelectionKey key = channel.keyFor(selector);
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        if (enabled) {
+            key.interestOpsOr(OP_READ);
+            selector.wakeup();
+        } else {
+            key.interestOpsAnd(~OP_READ);
+        }
+    }
+
+    public int getInboundQueuedMessages() {
+        return inbound.getQueuedTaskCount();
+    }
+
+    @FunctionalInterface
+    private interface HandlerCall {
+        void run() throws Exception;
     }
 
     @Override
@@ -0,0 +1,239 @@
+package sprout.server.websocket;
+
+import sprout.jfr.SocketWriteEvent;
+import sprout.metrics.Counter;
+import sprout.server.ByteBufferPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * 세션 하나의 전송 큐. 아직 소켓에 다 쓰지 못한 프레임의 바이트 수로 상한을 건다.
+ * <p>
+ * high watermark를 넘기면 unwritable이 되고, 넘치는 프레임에는 {@link WebSocketOutboundConfig.OverflowPolicy}를 적용한다.
+ * low watermark 아래로 비워지면 다시 writable이 된다. 큐가 비어 있으면 watermark보다 큰 프레임도 받는다.
+ * <p>
+ * 모든 연산은 이 객체의 모니터 안에서 일어난다. flush도 모니터를 잡은 채 non-blocking write를 하므로
+ * 쓰는 중인 프레임을 다른 스레드가 버리거나 바꾸지 못한다.
+ */
+public class OutboundQueue {
+
+    public enum Offer { QUEUED, DROPPED, CLOSE }
+
+    // 한 번의 gathering write로 내보내는 최대 버퍼 수 (프레임당 헤더 + 페이로드 최대 2개)
+    private static final int WRITE_BATCH_SIZE = 64;
+
+    private static final class Frame {
+        final ByteBuffer header; // 풀에서 빌린 헤더. 인코딩된 프레임을 통째로 넣었으면 null
+        final ByteBuffer payload;
+        final String coalesceKey;
+        final boolean close;
+        final int size;
+
+        Frame(ByteBuffer header, ByteBuffer payload, String coalesceKey, boolean close) {
+            this.header = header;
+            this.payload = payload;
+            this.coalesceKey = coalesceKey;
+            this.close = close;
+            this.size = remaining();
+        }
+
+        int remaining() {
+            return (header != null ? header.remaining() : 0) + payload.remaining();
+        }
+
+        boolean started() {
+            return remaining() < size;
+        }
+
+        // 반쯤 쓴 프레임을 빼면 스트림이 깨지고, 종료 프레임을 빼면 상대가 close 핸드셰이크를 받지 못한다
+        boolean pinned() {
+            return close || started();
+        }
+    }
+
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private final ByteBuffer[] batch = new ByteBuffer[WRITE_BATCH_SIZE];
+    private final long highWatermark;
+    private final long lowWatermark;
+    private final WebSocketOutboundConfig.OverflowPolicy overflowPolicy;
+    private final ByteBufferPool bufferPool;
+    private final Counter dropped;
+    private long queuedBytes;
+    private volatile boolean writable = true;
+
+    public OutboundQueue(WebSocketOutboundConfig config, ByteBufferPool bufferPool, Counter dropped) {
+        this.highWatermark = config.getHighWatermark();
+        this.lowWatermark = config.getLowWatermark();
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.bufferPool = bufferPool;
+        this.dropped = dropped;
+    }
+
+    /**
+     * @param header      풀에서 빌린 헤더 버퍼. 전송하거나 버린 뒤 풀로 돌려준다. 없으면 null
+     * @param coalesceKey coalesce 정책에서 같은 키의 대기 프레임을 대체할 때 쓰는 키. 없으면 null
+     * @return CLOSE면 대기 중인 프레임은 이미 버려졌고, 호출자가 1008로 닫아야 한다
+     */
+    public synchronized Offer offer(ByteBuffer header, ByteBuffer payload, String coalesceKey) {
+        Frame frame = new Frame(header, payload, coalesceKey, false);
+        if (!frames.isEmpty() && queuedBytes + frame.size > highWatermark) {
+            writable = false;
+            switch (overflowPolicy) {
+                case DROP_NEWEST -> {
+                    discard(frame);
+                    return Offer.DROPPED;
+                }
+                case DROP_OLDEST -> {
+                    dropOldest(frame.size);
+                    if (!frames.isEmpty() && queuedBytes + frame.size > highWatermark) {
+                        // 쓰기 시작한 프레임과 종료 프레임만 남아 더 비울 수 없다
+                        discard(frame);
+                        return Offer.DROPPED;
+                    }
+                }
+                case COALESCE -> {
+                    if (coalesceKey == null || !removeQueued(coalesceKey)) {
+                        discard(frame);
+                        return Offer.DROPPED;
+                    }
+                }
+                case CLOSE -> {
+                    discard(frame);
+                    discardUnstarted();
+                    return Offer.CLOSE;
+                }
+            }
+        }
+        enqueue(frame);
+        return Offer.QUEUED;
+    }
+
+    /** 종료 프레임. watermark와 관계없이 맨 뒤에 넣고, overflow 정책이 큐를 비울 때도 버리지 않는다. */
+    public synchronized void offerClose(ByteBuffer closeFrame) {
+        enqueue(new Frame(null, closeFrame, null, true));
+    }
+
+    /**
+     * 큐 앞쪽 버퍼를 모아 gathering write로 보낸다. 소켓 송신 버퍼가 차면 멈춘다.
+     * @return 이번에 쓴 바이트 수
+     */
+    public synchronized long flush(GatheringByteChannel channel) throws IOException {
+        long total = 0;
+        while (!frames.isEmpty()) {
+            int count = 0;
+            for (Frame frame : frames) {
+                if (count + 2 > WRITE_BATCH_SIZE) break;
+                if (frame.header != null) batch[count++] = frame.header;
+                batch[count++] = frame.payload;
+            }
+            SocketWriteEvent event = new SocketWriteEvent();
+            event.begin();
+            long written = channel.write(batch, 0, count);
+            boolean batchDrained = !batch[count - 1].hasRemaining();
+            Arrays.fill(batch, 0, count, null);
+            total += written;
+            releaseFlushed();
+            if (event.shouldCommit()) {
+                event.protocol = "WebSocket";
+                event.bytesWritten = (int) written;
+                event.bytesRemaining = (int) Math.min(queuedBytes, Integer.MAX_VALUE);
+                event.commit();
+            }
+            if (!batchDrained) break;
+        }
+        if (!writable && queuedBytes <= lowWatermark) {
+            writable = true;
+        }
+        return total;
+    }
+
+    /** 세션이 닫힐 때 남은 프레임을 버리고 헤더 버퍼를 풀로 돌려준다 */
+    public synchronized void clear() {
+        Frame frame;
+        while ((frame = frames.poll()) != null) {
+            bufferPool.release(frame.header);
+        }
+        queuedBytes = 0;
+        writable = true;
+    }
+
+    public synchronized boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    public synchronized long getQueuedBytes() {
+        return queuedBytes;
+    }
+
+    public synchronized int getQueuedFrames() {
+        return frames.size();
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    private void enqueue(Frame frame) {
+        frames.add(frame);
+        queuedBytes += frame.size;
+        if (queuedBytes >= highWatermark) {
+            writable = false;
+        }
+    }
+
+    private void releaseFlushed() {
+        Frame frame;
+        while ((frame = frames.peek()) != null && frame.remaining() == 0) {
+            frames.poll();
+            queuedBytes -= frame.size;
+            bufferPool.release(frame.header);
+        }
+    }
+
+    private void dropOldest(int incoming) {
+        Iterator<Frame> it = frames.iterator();
+        while (it.hasNext() && queuedBytes + incoming > highWatermark) {
+            Frame frame = it.next();
+            if (frame.pinned()) continue;
+            it.remove();
+            queuedBytes -= frame.size;
+            discard(frame);
+        }
+    }
+
+    private boolean removeQueued(String coalesceKey) {
+        Iterator<Frame> it = frames.iterator();
+        while (it.hasNext()) {
+            Frame frame = it.next();
+            if (!frame.pinned() && Objects.equals(coalesceKey, frame.coalesceKey)) {
+                it.remove();
+                queuedBytes -= frame.size;
+                discard(frame);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void discardUnstarted() {
+        Iterator<Frame> it = frames.iterator();
+        while (it.hasNext()) {
+            Frame frame = it.next();
+            if (frame.pinned()) continue;
+            it.remove();
+            queuedBytes -= frame.size;
+            discard(frame);
+        }
+    }
+
+    private void discard(Frame frame) {
+        dropped.increment();
+        bufferPool.release(frame.header);
+    }
+}
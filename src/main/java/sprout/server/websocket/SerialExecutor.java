@@ -0,0 +1,92 @@
+package sprout.server.websocket;
+
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * 세션 하나의 메시지 핸들러를 순서대로 실행하는 실행기.
+ * <p>
+ * 큐에 작업이 있는 동안만 공유 실행기(가상 스레드)에 drain 작업 하나를 올려 두므로, 같은 세션의 메시지는 순서대로,
+ * 다른 세션의 메시지는 병렬로 실행된다. 대기 작업이 capacity에 닿으면 {@link Backpressure#suspend()}로 소켓 읽기를 멈추고,
+ * 절반 아래로 비워지면 {@link Backpressure#resume()}으로 다시 읽는다. 이미 읽어 둔 버퍼의 프레임은 계속 디코딩하므로
+ * 실제 대기 수는 capacity를 읽기 버퍼 하나만큼 넘을 수 있다.
+ */
+public class SerialExecutor implements Executor {
+    private static final Logger log = LoggerFactory.getLogger(SerialExecutor.class);
+
+    public interface Backpressure {
+        void suspend();
+        void resume();
+    }
+
+    private final Executor delegate;
+    private final int capacity;
+    private final Backpressure backpressure;
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private boolean running;
+    private boolean suspended;
+
+    public SerialExecutor(Executor delegate, int capacity, Backpressure backpressure) {
+        this.delegate = delegate;
+        this.capacity = Math.max(1, capacity);
+        this.backpressure = backpressure;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        boolean start;
+        synchronized (this) {
+            tasks.add(task);
+            if (!suspended && tasks.size() >= capacity) {
+                suspended = true;
+                backpressure.suspend();
+            }
+            start = !running;
+            running = true;
+        }
+        if (start) {
+            try {
+                delegate.execute(this::drain);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    running = false;
+                }
+                throw e;
+            }
+        }
+    }
+
+    public synchronized int getQueuedTaskCount() {
+        return tasks.size();
+    }
+
+    public synchronized boolean isSuspended() {
+        return suspended;
+    }
+
+    private void drain() {
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    running = false;
+                    return;
+                }
+                if (suspended && tasks.size() <= capacity / 2) {
+                    suspended = false;
+                    backpressure.resume();
+                }
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                // 한 메시지의 실패가 뒤의 메시지 처리를 막지 않도록 여기서 끊는다
+                log.error("WebSocket message task failed", t);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package sprout.server.websocket;
+
+import sprout.server.websocket.exception.NotEnoughDataException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link WebSocketFrameParser#parse(java.io.InputStream)}만 구현한 파서를 위한 어댑터.
+ * 프레임이 불완전하면 {@link NotEnoughDataException}을 받아 mark 위치로 되돌린다.
+ */
+class StreamFrameReader implements WebSocketFrameReader {
+    private final WebSocketFrameParser parser;
+
+    StreamFrameReader(WebSocketFrameParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public WebSocketFrame read(ByteBuffer buffer) throws Exception {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        buffer.mark();
+        try {
+            return parser.parse(new ByteBufferInputStream(buffer));
+        } catch (NotEnoughDataException e) {
+            buffer.reset();
+            return null;
+        }
+    }
+}
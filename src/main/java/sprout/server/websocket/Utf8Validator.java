@@ -0,0 +1,71 @@
+package sprout.server.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 조각으로 나뉘어 들어오는 텍스트 메시지의 UTF-8 검사기.
+ * <p>
+ * 문자 하나가 프레임 경계에서 잘려도 되도록 남은 continuation 바이트 수와 다음 바이트의 허용 범위를 상태로 들고 간다.
+ * overlong 인코딩, 서로게이트(U+D800~DFFF), U+10FFFF 초과를 모두 거른다 (RFC 3629). 디코딩은 하지 않는다.
+ */
+public class Utf8Validator {
+    private static final long ASCII_MASK = 0x8080808080808080L;
+
+    // 지금 문자에서 더 받아야 하는 continuation 바이트 수
+    private int remaining;
+    // 다음 continuation 바이트의 허용 범위. 첫 continuation만 선두 바이트에 따라 좁아진다
+    private int lower = 0x80;
+    private int upper = 0xBF;
+
+    /** 버퍼의 position부터 limit까지를 검사한다. 버퍼 위치는 바꾸지 않는다. 잘못된 바이트를 만나면 false */
+    public boolean update(ByteBuffer buf) {
+        int i = buf.position();
+        int limit = buf.limit();
+        while (i < limit) {
+            if (remaining == 0) {
+                // 대부분의 텍스트는 ASCII이므로 8바이트씩 건너뛴다
+                if (i + 8 <= limit && (buf.getLong(i) & ASCII_MASK) == 0) {
+                    i += 8;
+                    continue;
+                }
+                int b = buf.get(i++) & 0xFF;
+                if (b < 0x80) {
+                    continue;
+                }
+                if (b >= 0xC2 && b <= 0xDF) {
+                    remaining = 1;
+                } else if (b >= 0xE0 && b <= 0xEF) {
+                    remaining = 2;
+                    lower = b == 0xE0 ? 0xA0 : 0x80; // overlong
+                    upper = b == 0xED ? 0x9F : 0xBF; // 서로게이트
+                } else if (b >= 0xF0 && b <= 0xF4) {
+                    remaining = 3;
+                    lower = b == 0xF0 ? 0x90 : 0x80; // overlong
+                    upper = b == 0xF4 ? 0x8F : 0xBF; // U+10FFFF 초과
+                } else {
+                    return false;
+                }
+            } else {
+                int b = buf.get(i++) & 0xFF;
+                if (b < lower || b > upper) {
+                    return false;
+                }
+                remaining--;
+                lower = 0x80;
+                upper = 0xBF;
+            }
+        }
+        return true;
+    }
+
+    /** 마지막으로 받은 바이트에서 문자가 끝났는지. 메시지의 마지막 프레임 뒤에 확인한다 */
+    public boolean isComplete() {
+        return remaining == 0;
+    }
+
+    public void reset() {
+        remaining = 0;
+        lower = 0x80;
+        upper = 0xBF;
+    }
+}
@@ -1,10 +1,36 @@
 package sprout.server.websocket;
 
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public interface WebSocketContainer {
     void addSession(String path, WebSocketSession session);
     void removeSession(String path, String sessionId);
     Collection<WebSocketSession> getSessions(String path);
     WebSocketSession getSession(String sessionId);
+
+    /** 현재 열려 있는 전체 세션 수 */
+    int getSessionCount();
+
+    /** 세션을 이름 있는 그룹(방)에 넣는다. 세션이 닫히면 모든 그룹에서 빠진다. */
+    void joinGroup(String group, WebSocketSession session);
+    void leaveGroup(String group, WebSocketSession session);
+    Set<WebSocketSession> getGroup(String group);
+
+    /**
+     * 엔드포인트 경로의 모든 세션에 텍스트를 보낸다. 프레임은 한 번만 인코딩해
+     * 읽기 전용 버퍼를 세션마다 duplicate()로 나눠 넣는다.
+     */
+    BroadcastResult broadcastText(String path, String message);
+
+    /** filter를 통과한 세션에만 보낸다 */
+    BroadcastResult broadcastText(String path, String message, Predicate<WebSocketSession> filter);
+
+    /** 엔드포인트 경로의 모든 세션에 바이너리를 보낸다 */
+    BroadcastResult broadcastBinary(String path, byte[] data);
+
+    BroadcastResult broadcastTextToGroup(String group, String message);
+
+    BroadcastResult broadcastBinaryToGroup(String group, byte[] data);
 }
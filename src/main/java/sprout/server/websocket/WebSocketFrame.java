@@ -3,32 +3,86 @@ package sprout.server.websocket;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 public class WebSocketFrame {
     private final boolean fin;
+    // permessage-deflate: 메시지 첫 프레임에 켜져 있으면 압축된 메시지
+    private final boolean rsv1;
     private final int opcode;
     // private final byte[] payload;
-    private final InputStream payloadStream;
+    private InputStream payloadStream;
+    private final ByteBuffer payloadBuffer;
+    private final long payloadLength;
 
     public WebSocketFrame(boolean fin, int opcode, InputStream payloadStream) { // <-- 생성자 변경
+        this(fin, opcode, payloadStream, -1);
+    }
+
+    public WebSocketFrame(boolean fin, int opcode, InputStream payloadStream, long payloadLength) {
+        this(fin, false, opcode, payloadStream, payloadLength);
+    }
+
+    public WebSocketFrame(boolean fin, boolean rsv1, int opcode, InputStream payloadStream, long payloadLength) {
         this.fin = fin;
+        this.rsv1 = rsv1;
         this.opcode = opcode;
         this.payloadStream = payloadStream; // LimitedInputStream 인스턴스가 들어올 것
+        this.payloadBuffer = null;
+        this.payloadLength = payloadLength;
+    }
+
+    /** 언마스킹이 끝난 페이로드 버퍼(읽기 버퍼의 slice)를 그대로 들고 있는 프레임 */
+    public WebSocketFrame(boolean fin, int opcode, ByteBuffer payloadBuffer) {
+        this(fin, false, opcode, payloadBuffer);
+    }
+
+    public WebSocketFrame(boolean fin, boolean rsv1, int opcode, ByteBuffer payloadBuffer) {
+        this.fin = fin;
+        this.rsv1 = rsv1;
+        this.opcode = opcode;
+        this.payloadBuffer = payloadBuffer;
+        this.payloadLength = payloadBuffer.remaining();
     }
 
     public boolean isFin() {
         return fin;
     }
 
+    public boolean isRsv1() {
+        return rsv1;
+    }
+
     public int getOpcode() {
         return opcode;
     }
 
-    public InputStream getPayloadStream() { return payloadStream; }
+    public InputStream getPayloadStream() {
+        if (payloadStream == null && payloadBuffer != null) {
+            // 버퍼 프레임은 스트림이 필요할 때만 만든다 (버퍼 위치를 함께 소비)
+            payloadStream = new ByteBufferInputStream(payloadBuffer);
+        }
+        return payloadStream;
+    }
+
+    /** 버퍼로 디코딩된 프레임의 페이로드. 스트림으로 만들어진 프레임이면 null */
+    public ByteBuffer getPayloadBuffer() {
+        return payloadBuffer;
+    }
+
+    /** 헤더에 적힌 페이로드 길이. 알 수 없으면 -1 */
+    public long getPayloadLength() {
+        return payloadLength;
+    }
 
     // 필요하다면, 스트림을 읽어 전체 페이로드를 바이트 배열로 반환하는 헬퍼 메서드
     public byte[] getPayloadBytes() throws IOException {
+        if (payloadBuffer != null) {
+            byte[] bytes = new byte[payloadBuffer.remaining()];
+            payloadBuffer.get(bytes);
+            return bytes;
+        }
         if (payloadStream == null) return new byte[0];
         // InputStream을 byte[]로 읽는 유틸리티 사용 (예: IOUtils.toByteArray(payloadStream))
         // 이 메서드는 스트림의 모든 데이터를 메모리에 올리므로, 대용량 메시지에는 적합하지 않음
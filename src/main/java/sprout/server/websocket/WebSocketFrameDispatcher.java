@@ -1,5 +1,8 @@
 package sprout.server.websocket;
 
+import sprout.jfr.WebSocketDispatchEvent;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.server.websocket.framehandler.FrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
 import sprout.server.websocket.message.MessagePayload;
@@ -11,6 +14,8 @@ import java.util.List;
 import java.util.Map;
 
 public class WebSocketFrameDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketFrameDispatcher.class);
+
     private final FrameHandler handlerChain;
     private final List<WebSocketMessageDispatcher> messageDispatchers;
 
@@ -31,38 +36,60 @@ public class WebSocketFrameDispatcher {
     }
 
     public void dispatch(FrameProcessingContext state, WebSocketSession webSocketSession, Map<String, String> pathParameters) throws Exception {
-        // 핸들러 체인에 프레임 처리 위임
-        boolean messageCompleted = handlerChain.handle(state);
+        WebSocketFrame frame = state.getFrame();
+        MessagePayload payload = assemble(state);
+        if (payload != null) {
+            dispatchMessage(frame, payload, webSocketSession, pathParameters);
+        }
+    }
+
+    /**
+     * 프레임 하나를 핸들러 체인에 넘긴다. 메시지가 완성되면 페이로드를 꺼내고 조립 상태를 비운 뒤 돌려주고, 아니면 null.
+     * 이벤트 루프에서 호출한다.
+     */
+    public MessagePayload assemble(FrameProcessingContext state) throws Exception {
+        if (!handlerChain.handle(state)) {
+            return null;
+        }
+        MessagePayload payload = state.createPayload();
+        state.reset(); // 버퍼 및 분할 메시지 상태 초기화
+        return payload;
+    }
 
-        if (messageCompleted) {
-            // 메시지가 완성되면, 실제 비즈니스 로직을 처리할 디스패처에게 위임
-            MessagePayload payload = state.createPayload();
-            InvocationContext contextWithPayload = new DefaultInvocationContext(webSocketSession, pathParameters, payload, state.getFrame());
+    /** 완성된 메시지를 비즈니스 로직을 처리할 디스패처에게 넘긴다. 세션의 메시지 실행기에서 호출한다. */
+    public void dispatchMessage(WebSocketFrame frame, MessagePayload payload, WebSocketSession webSocketSession, Map<String, String> pathParameters) throws Exception {
+        InvocationContext contextWithPayload = new DefaultInvocationContext(webSocketSession, pathParameters, payload, frame);
 
-            DispatchResult result = null;
-            try {
-                for (WebSocketMessageDispatcher dispatcher : messageDispatchers) {
-                    if (dispatcher.supports(state.getFrame(), contextWithPayload)) {
-                        result = dispatcher.dispatch(state.getFrame(), contextWithPayload);
-                        if (result.isHandled()) {
-                            break;
-                        }
+        WebSocketDispatchEvent event = new WebSocketDispatchEvent();
+        event.begin();
+        DispatchResult result = null;
+        try {
+            for (WebSocketMessageDispatcher dispatcher : messageDispatchers) {
+                if (dispatcher.supports(frame, contextWithPayload)) {
+                    result = dispatcher.dispatch(frame, contextWithPayload);
+                    if (result.isHandled()) {
+                        break;
                     }
                 }
-            } finally {
-                // 스트림 닫기 및 상태 초기화
-                if (result == null || result.shouldCloseStream()) {
-                    InputStream stream = contextWithPayload.getFrame().getPayloadStream();
-                    if (stream != null) {
-                        try { stream.close(); } catch (IOException e) { System.err.println("Failed to close payload input stream: " + e.getMessage()); }
-                    }
+            }
+        } finally {
+            // 스트림 닫기
+            if (result == null || result.shouldCloseStream()) {
+                InputStream stream = frame.getPayloadStream();
+                if (stream != null) {
+                    try { stream.close(); } catch (IOException e) { log.warn("Failed to close payload input stream", e); }
                 }
-                state.reset(); // 버퍼 및 분할 메시지 상태 초기화
             }
-
-            if (result == null || !result.isHandled()) {
-                System.err.println("No suitable WebSocketMessageDispatcher found for frame: " + state.getFrame().getOpcode() + " (FIN: " + state.getFrame().isFin() + ")");
+            if (event.shouldCommit()) {
+                event.path = webSocketSession.getRequestPath();
+                event.opcode = frame.getOpcode();
+                event.handled = result != null && result.isHandled();
+                event.commit();
             }
         }
+
+        if (result == null || !result.isHandled()) {
+            log.warn("No suitable WebSocketMessageDispatcher found for frame: {} (FIN: {})", frame.getOpcode(), frame.isFin());
+        }
     }
 }
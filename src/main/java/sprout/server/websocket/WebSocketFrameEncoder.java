@@ -2,8 +2,42 @@ package sprout.server.websocket;
 
 import sprout.server.websocket.endpoint.Encoder;
 
+import java.nio.ByteBuffer;
+
 public interface WebSocketFrameEncoder extends Encoder {
+    /** 서버 프레임 헤더의 최대 길이 (2 + 확장 길이 8, 마스킹 키 없음) */
+    int MAX_HEADER_LENGTH = 10;
+
     byte[] encodeControlFrame(int opcode, byte[] payload);
     byte[] encodeBinary(byte[] message);
     byte[] encodeText(String message);
+
+    /**
+     * 프레임 헤더만 dst에 쓴다. 페이로드는 호출자가 별도 버퍼로 이어 보낸다 (gathering write).
+     * 서버 프레임이므로 마스킹 키는 쓰지 않는다.
+     */
+    default void encodeHeader(ByteBuffer dst, int opcode, boolean fin, long payloadLength) {
+        encodeHeader(dst, opcode, fin, false, payloadLength);
+    }
+
+    /** rsv1은 permessage-deflate로 압축한 메시지의 첫 프레임에만 켠다 */
+    default void encodeHeader(ByteBuffer dst, int opcode, boolean fin, boolean rsv1, long payloadLength) {
+        dst.put((byte) ((fin ? 0x80 : 0) | (rsv1 ? 0x40 : 0) | opcode));
+        if (payloadLength < 126) {
+            dst.put((byte) payloadLength);
+        } else if (payloadLength <= 65535) {
+            dst.put((byte) 126);
+            dst.put((byte) (payloadLength >> 8));
+            dst.put((byte) payloadLength);
+        } else {
+            dst.put((byte) 127);
+            for (int i = 7; i >= 0; i--) {
+                dst.put((byte) (payloadLength >> (8 * i)));
+            }
+        }
+    }
+
+    static int headerLength(long payloadLength) {
+        return payloadLength < 126 ? 2 : payloadLength <= 65535 ? 4 : 10;
+    }
 }
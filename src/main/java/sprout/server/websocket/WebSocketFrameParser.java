@@ -4,4 +4,17 @@ import java.io.InputStream;
 
 public interface WebSocketFrameParser {
     WebSocketFrame parse(InputStream in) throws Exception;
+
+    /**
+     * 세션마다 하나씩 만드는 증분 디코더. 기본 구현은 {@link #parse(InputStream)}를 감싸
+     * NotEnoughDataException이 나면 mark 위치로 되돌린다.
+     */
+    default WebSocketFrameReader newReader() {
+        return new StreamFrameReader(this);
+    }
+
+    /** 페이로드가 maxPayloadLength를 넘는 프레임을 모으기 전에 거절하는 디코더. 기본 구현은 제한을 두지 않는다. */
+    default WebSocketFrameReader newReader(int maxPayloadLength) {
+        return newReader();
+    }
 }
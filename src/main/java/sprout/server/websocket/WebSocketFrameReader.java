@@ -0,0 +1,13 @@
+package sprout.server.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 세션 하나가 쓰는 증분 프레임 디코더. 이전 호출에서 읽다 만 헤더 상태를 기억한다.
+ * <p>
+ * {@link #read(ByteBuffer)}가 null을 돌려주면 아직 완성된 프레임이 없다는 뜻이다.
+ * 호출자는 버퍼에 남은 바이트를 보존(compact)한 채 채널에서 더 읽고 다시 호출한다.
+ */
+public interface WebSocketFrameReader {
+    WebSocketFrame read(ByteBuffer buffer) throws Exception;
+}
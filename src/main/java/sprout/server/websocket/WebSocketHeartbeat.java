@@ -0,0 +1,129 @@
+package sprout.server.websocket;
+
+import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.Counter;
+import sprout.metrics.MetricsRegistry;
+import sprout.server.HashedWheelTimer;
+
+import java.nio.channels.Selector;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 쪽 WebSocket heartbeat.
+ * <p>
+ * 이벤트 루프(Selector)마다 {@link HashedWheelTimer} 하나를 두고, 세션마다 interval 뒤의 점검을 예약한다.
+ * 점검 시점에 interval 동안 받은 바이트가 있으면 마지막 수신 시각 기준으로 다시 예약만 하고, 없으면 ping을 보낸다.
+ * interval * (max-missed + 1) 동안 아무것도 받지 못한 세션은 반쯤 열린 TCP 연결로 보고 close 핸드셰이크 없이 끊는다.
+ * <p>
+ * 점검은 루프 스레드에서 돌므로 세션의 읽기 상태와 경쟁하지 않는다. 루프는 {@link #selectTimeoutMillis}만큼만 select하고
+ * 깨어날 때마다 {@link #advance}를 부른다.
+ */
+@Component
+public class WebSocketHeartbeat {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketHeartbeat.class);
+    private static final byte[] EMPTY = new byte[0];
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final WebSocketHeartbeatConfig config;
+    private final long intervalNanos;
+    private final long deadAfterNanos;
+    private final Map<Selector, HashedWheelTimer> wheels = new ConcurrentHashMap<>();
+    private final Counter pings;
+    private final Counter evicted;
+
+    public WebSocketHeartbeat(WebSocketHeartbeatConfig config, MetricsRegistry registry) {
+        this.config = config;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getIntervalMillis());
+        this.deadAfterNanos = intervalNanos * (config.getMaxMissed() + 1L);
+        this.pings = registry.counter("sprout_websocket_heartbeat_pings_total",
+                "Pings sent to WebSocket sessions that were idle for a heartbeat interval");
+        this.evicted = registry.counter("sprout_websocket_sessions_evicted_total",
+                "WebSocket sessions closed because they stopped answering heartbeats", "reason", "heartbeat");
+        if (config.isEnabled()) {
+            registry.gauge("sprout_websocket_heartbeat_timers", "Heartbeat checks scheduled on the timer wheels", () -> {
+                long total = 0;
+                for (HashedWheelTimer wheel : wheels.values()) {
+                    total += wheel.size();
+                }
+                return total;
+            });
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /** 핸드셰이크가 끝난 세션을 그 세션이 등록된 루프의 휠에 올린다 */
+    public void register(WebSocketSession session, Selector selector) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        HashedWheelTimer wheel = wheelFor(selector);
+        wheel.schedule(new SessionCheck(session, wheel), config.getIntervalMillis());
+    }
+
+    /** 다음 점검까지 select가 기다릴 최대 시간. heartbeat를 쓰지 않으면 0 (무기한) */
+    public long selectTimeoutMillis(Selector selector) {
+        if (!config.isEnabled()) {
+            return 0;
+        }
+        return wheelFor(selector).millisUntilNextTick(System.nanoTime());
+    }
+
+    /** 루프 스레드에서 select가 돌아올 때마다 부른다. 만료된 점검을 실행한다 */
+    public void advance(Selector selector) {
+        HashedWheelTimer wheel = wheels.get(selector);
+        if (wheel != null) {
+            wheel.advance(System.nanoTime());
+        }
+    }
+
+    /** 루프가 끝날 때 그 루프의 휠을 버린다 */
+    public void removeLoop(Selector selector) {
+        wheels.remove(selector);
+    }
+
+    private HashedWheelTimer wheelFor(Selector selector) {
+        return wheels.computeIfAbsent(selector, s -> new HashedWheelTimer(config.getTickMillis(), config.getWheelSize()));
+    }
+
+    private final class SessionCheck implements Runnable {
+        private final WebSocketSession session;
+        private final HashedWheelTimer wheel;
+
+        SessionCheck(WebSocketSession session, HashedWheelTimer wheel) {
+            this.session = session;
+            this.wheel = wheel;
+        }
+
+        @Override
+        public void run() {
+            if (!session.isOpen()) {
+                return; // 닫힌 세션은 다시 예약하지 않으므로 휠에서 저절로 빠진다
+            }
+            long idle = Math.max(0, System.nanoTime() - session.getLastActivityNanos());
+            if (idle >= deadAfterNanos) {
+                log.debug("WebSocket session {} missed {} heartbeats; evicting", session.getId(), config.getMaxMissed());
+                evicted.increment();
+                session.abort(CloseCodes.CLOSED_ABNORMALLY);
+                return;
+            }
+            if (idle >= intervalNanos) {
+                try {
+                    session.sendPing(EMPTY);
+                    pings.increment();
+                } catch (Exception e) {
+                    log.debug("Failed to send heartbeat ping to WebSocket session {}: {}", session.getId(), e.getMessage());
+                }
+            }
+            // 마지막 수신 시각에서 interval의 다음 배수 시점에 다시 본다. 받은 게 있으면 그만큼 밀리고, 없으면 ping 간격이 된다
+            long untilNextNanos = intervalNanos - idle % intervalNanos;
+            wheel.schedule(this, (untilNextNanos + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI);
+        }
+    }
+}
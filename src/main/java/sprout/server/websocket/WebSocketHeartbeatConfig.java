@@ -0,0 +1,73 @@
+package sprout.server.websocket;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+
+/**
+ * 서버 쪽 heartbeat 설정.
+ * <pre>
+ * server:
+ *   websocket:
+ *     heartbeat:
+ *       enabled: true
+ *       interval-ms: 30000   # 이만큼 아무것도 받지 못하면 ping을 보낸다
+ *       max-missed: 2        # 응답 없는 ping이 이만큼 쌓이면(= interval * (max-missed + 1) 동안 무소식) 연결을 끊는다
+ *       tick-ms: 1000        # 타이머 휠 한 칸. heartbeat 시각의 정밀도
+ *       wheel-size: 512      # 휠 칸 수 (2의 거듭제곱으로 올림)
+ * </pre>
+ * pong뿐 아니라 클라이언트에서 온 모든 바이트를 살아 있다는 신호로 본다.
+ */
+@Component
+public class WebSocketHeartbeatConfig implements InfrastructureBean {
+
+    public static final WebSocketHeartbeatConfig DEFAULT = new WebSocketHeartbeatConfig(true, 30_000, 2, 1000, 512);
+
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final int maxMissed;
+    private final long tickMillis;
+    private final int wheelSize;
+
+    public WebSocketHeartbeatConfig(AppConfig appConfig) {
+        this(Boolean.parseBoolean(appConfig.getStringProperty("server.websocket.heartbeat.enabled", "true")),
+             appConfig.getIntProperty("server.websocket.heartbeat.interval-ms", 30_000),
+             appConfig.getIntProperty("server.websocket.heartbeat.max-missed", 2),
+             appConfig.getIntProperty("server.websocket.heartbeat.tick-ms", 1000),
+             appConfig.getIntProperty("server.websocket.heartbeat.wheel-size", 512));
+    }
+
+    public WebSocketHeartbeatConfig(boolean enabled, long intervalMillis, int maxMissed, long tickMillis, int wheelSize) {
+        if (intervalMillis <= 0 || tickMillis <= 0) {
+            throw new IllegalArgumentException("server.websocket.heartbeat interval-ms and tick-ms must be positive");
+        }
+        if (maxMissed < 1) {
+            throw new IllegalArgumentException("server.websocket.heartbeat.max-missed must be at least 1: " + maxMissed);
+        }
+        this.enabled = enabled;
+        this.intervalMillis = intervalMillis;
+        this.maxMissed = maxMissed;
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public int getMaxMissed() {
+        return maxMissed;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+}
@@ -0,0 +1,59 @@
+package sprout.server.websocket;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+
+/**
+ * 수신 메시지 처리 설정.
+ * <pre>
+ * server:
+ *   websocket:
+ *     inbound:
+ *       workload: io          # 메시지 핸들러를 실행할 워크로드 실행기 (server.workloads). 기본 io는 가상 스레드
+ *       queue-capacity: 64    # 세션별 대기 메시지 수. 닿으면 그 세션의 소켓 읽기를 멈춘다
+ *       max-message-size: 1048576  # 조립(압축 해제 포함)한 메시지의 최대 바이트. 넘으면 1009로 닫는다
+ * </pre>
+ * 프레임 디코딩과 조립은 이벤트 루프에서, 완성된 메시지의 핸들러 호출은 세션별 {@link SerialExecutor}에서 한다.
+ */
+@Component
+public class WebSocketInboundConfig implements InfrastructureBean {
+
+    private final String workload;
+    private final int queueCapacity;
+    private final int maxMessageSize;
+
+    public WebSocketInboundConfig(AppConfig appConfig) {
+        this(appConfig.getStringProperty("server.websocket.inbound.workload", "io"),
+             appConfig.getIntProperty("server.websocket.inbound.queue-capacity", 64),
+             appConfig.getIntProperty("server.websocket.inbound.max-message-size", 1024 * 1024));
+    }
+
+    public WebSocketInboundConfig(String workload, int queueCapacity) {
+        this(workload, queueCapacity, 1024 * 1024);
+    }
+
+    public WebSocketInboundConfig(String workload, int queueCapacity, int maxMessageSize) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("server.websocket.inbound.queue-capacity must be positive: " + queueCapacity);
+        }
+        if (maxMessageSize <= 0) {
+            throw new IllegalArgumentException("server.websocket.inbound.max-message-size must be positive: " + maxMessageSize);
+        }
+        this.workload = workload;
+        this.queueCapacity = queueCapacity;
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    public String getWorkload() {
+        return workload;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+}
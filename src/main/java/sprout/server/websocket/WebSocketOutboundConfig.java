@@ -0,0 +1,66 @@
+package sprout.server.websocket;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+
+import java.util.Locale;
+
+/**
+ * 세션별 전송 큐 제한.
+ * <pre>
+ * server:
+ *   websocket:
+ *     outbound:
+ *       high-watermark: 1MB     # 아직 못 보낸 바이트가 이만큼 쌓이면 unwritable + 넘치는 프레임에 정책 적용
+ *       low-watermark: 256KB    # 이 아래로 비워지면 다시 writable
+ *       overflow: drop-newest   # drop-newest | drop-oldest | coalesce | close
+ * </pre>
+ * coalesce는 같은 키로 보낸, 아직 쓰기 시작하지 않은 프레임을 새 프레임으로 바꾼다. 키가 없으면 drop-newest와 같다.
+ * close는 대기 중인 프레임을 버리고 1008(VIOLATED_POLICY)로 연결을 닫는다.
+ */
+@Component
+public class WebSocketOutboundConfig implements InfrastructureBean {
+
+    public enum OverflowPolicy {
+        DROP_NEWEST, DROP_OLDEST, COALESCE, CLOSE;
+
+        static OverflowPolicy parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    public static final WebSocketOutboundConfig DEFAULT =
+            new WebSocketOutboundConfig(1024 * 1024, 256 * 1024, OverflowPolicy.DROP_NEWEST);
+
+    private final long highWatermark;
+    private final long lowWatermark;
+    private final OverflowPolicy overflowPolicy;
+
+    public WebSocketOutboundConfig(AppConfig appConfig) {
+        this(appConfig.getSizeProperty("server.websocket.outbound.high-watermark", "1MB"),
+             appConfig.getSizeProperty("server.websocket.outbound.low-watermark", "256KB"),
+             OverflowPolicy.parse(appConfig.getStringProperty("server.websocket.outbound.overflow", "drop-newest")));
+    }
+
+    public WebSocketOutboundConfig(long highWatermark, long lowWatermark, OverflowPolicy overflowPolicy) {
+        if (lowWatermark > highWatermark) {
+            throw new IllegalArgumentException("low-watermark (" + lowWatermark + ") must not exceed high-watermark (" + highWatermark + ")");
+        }
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public long getHighWatermark() {
+        return highWatermark;
+    }
+
+    public long getLowWatermark() {
+        return lowWatermark;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+}
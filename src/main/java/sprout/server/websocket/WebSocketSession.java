@@ -6,6 +6,7 @@ import sprout.server.ReadableHandler;
 import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -15,10 +16,43 @@ public interface WebSocketSession extends ReadableHandler {
     HttpRequest<?> getHandshakeRequest();
 
     void sendText(String message) throws IOException;
+
+    /**
+     * 전송 큐가 넘쳐 coalesce 정책이 적용되면, 같은 키로 보내 아직 쓰지 않은 메시지를 이 메시지로 바꾼다.
+     * 시세처럼 최신 값만 의미 있는 메시지에 쓴다.
+     */
+    void sendText(String message, String coalesceKey) throws IOException;
     void close() throws IOException;
+
+    /**
+     * close 핸드셰이크 없이 연결을 바로 끊는다. 응답하지 않는 상대에게 close 프레임을 보내 봐야 소용없을 때 쓴다.
+     * closeCode는 onClose 핸들러에만 전달되고 전송되지 않는다.
+     */
+    void abort(CloseCode closeCode);
+
+    /** 클라이언트에서 마지막으로 바이트를 받은 시각 ({@link System#nanoTime()} 기준). 아직 받은 적이 없으면 세션을 만든 시각 */
+    long getLastActivityNanos();
+    // 배열은 복사하지 않고 전송 큐에 들어가므로 전송이 끝날 때까지 내용을 바꾸지 않는다
     void sendBinary(byte[] data) throws IOException;
     void sendPing(byte[] data) throws IOException;
     void sendPong(byte[] data) throws IOException;
+
+    /**
+     * 이미 인코딩된 프레임을 그대로 전송 큐에 넣는다. 브로드캐스트처럼 여러 세션이 같은 바이트를
+     * 공유할 때 쓰며, 버퍼는 세션마다 duplicate()로 넘긴다. 닫히는 중이라 넣지 못했으면 false.
+     */
+    boolean sendFrame(ByteBuffer frame);
+
+    boolean sendFrame(ByteBuffer frame, String coalesceKey);
+
+    /** 전송 큐가 high watermark를 넘어 low watermark 아래로 비워지기 전이면 false. 보내기 전에 확인해 생산 속도를 늦출 수 있다. */
+    boolean isWritable();
+
+    /** permessage-deflate를 합의했으면 true. 브로드캐스트는 이 세션에 압축한 프레임을 보낸다 */
+    boolean isDeflateEnabled();
+
+    /** 아직 소켓에 쓰지 못하고 전송 큐에 남은 바이트 수 */
+    long getOutboundQueuedBytes();
     boolean isOpen();
     Map<String, Object> getUserProperties();
 
@@ -0,0 +1,24 @@
+package sprout.server.websocket.cluster;
+
+/**
+ * 다른 노드로 전달할 브로드캐스트 한 건.
+ *
+ * @param target  {@link Target#PATH}면 name은 엔드포인트 경로, {@link Target#GROUP}이면 그룹 이름
+ * @param name    받는 쪽 노드에서 세션을 고를 경로 또는 그룹
+ * @param opcode  0x1(텍스트) 또는 0x2(바이너리)
+ * @param payload 프레임으로 인코딩하기 전의 메시지 바이트. 받는 노드가 한 번 인코딩해 자기 세션들에 나눠 준다
+ */
+public record ClusterMessage(Target target, String name, int opcode, byte[] payload) {
+
+    public enum Target {
+        PATH, GROUP
+    }
+
+    public static ClusterMessage toPath(String path, int opcode, byte[] payload) {
+        return new ClusterMessage(Target.PATH, path, opcode, payload);
+    }
+
+    public static ClusterMessage toGroup(String group, int opcode, byte[] payload) {
+        return new ClusterMessage(Target.GROUP, group, opcode, payload);
+    }
+}
@@ -0,0 +1,21 @@
+package sprout.server.websocket.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 사이에 브로드캐스트 배치를 실어 나르는 전송 계층 SPI.
+ * <p>
+ * 배치는 {@link WebSocketClusterBus}가 만든 불투명한 바이트 배열이다. 전송은 배치를 모든 노드(보낸 노드 포함)에
+ * 그대로 전달하기만 하면 되고, 자기 배치를 되받는 것은 버스가 걸러낸다. 전달은 최대 한 번(at-most-once)이면 충분하다.
+ */
+public interface ClusterTransport extends AutoCloseable {
+
+    /** 수신을 시작한다. receiver는 전송의 수신 스레드에서 호출된다. */
+    void start(Consumer<byte[]> receiver);
+
+    /** 배치 하나를 모든 노드에 보낸다. 버스의 flush 스레드 하나에서만 호출된다. */
+    void publish(byte[] batch);
+
+    @Override
+    void close();
+}
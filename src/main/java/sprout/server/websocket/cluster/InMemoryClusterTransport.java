@@ -0,0 +1,53 @@
+package sprout.server.websocket.cluster;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 노드끼리 배치를 주고받는 전송. 테스트와 한 프로세스에 여러 컨텍스트를 띄우는 경우에 쓴다.
+ * <p>
+ * 같은 {@link Hub}에 붙은 모든 노드(보낸 노드 포함)에 보낸 스레드에서 바로 전달한다. Redis pub/sub처럼 자기 배치도 되돌아온다.
+ */
+public class InMemoryClusterTransport implements ClusterTransport {
+
+    /** 배치를 나눠 받는 노드 묶음. Redis 채널 하나에 해당한다. */
+    public static final class Hub {
+        private final List<Consumer<byte[]>> receivers = new CopyOnWriteArrayList<>();
+    }
+
+    // transport: memory로 띄운 컨텍스트들이 함께 쓰는 허브
+    private static final Hub SHARED = new Hub();
+
+    private final Hub hub;
+    private volatile Consumer<byte[]> receiver;
+
+    public InMemoryClusterTransport() {
+        this(SHARED);
+    }
+
+    public InMemoryClusterTransport(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        hub.receivers.add(receiver);
+    }
+
+    @Override
+    public void publish(byte[] batch) {
+        for (Consumer<byte[]> r : hub.receivers) {
+            r.accept(batch);
+        }
+    }
+
+    @Override
+    public void close() {
+        Consumer<byte[]> r = receiver;
+        if (r != null) {
+            hub.receivers.remove(r);
+        }
+    }
+}
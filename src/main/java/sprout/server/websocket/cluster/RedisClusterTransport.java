@@ -0,0 +1,108 @@
+package sprout.server.websocket.cluster;
+
+import redis.clients.jedis.BinaryJedisPubSub;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisException;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 채널 하나로 배치를 주고받는 전송.
+ * <p>
+ * 발행은 풀에서 빌린 연결로, 구독은 전용 스레드가 잡고 있는 연결 하나로 한다. 구독 연결이 끊기면 잠시 쉬었다가 다시 구독하며,
+ * 그 사이에 발행된 배치는 받지 못한다 (pub/sub은 최대 한 번 전달).
+ */
+public class RedisClusterTransport implements ClusterTransport {
+    private static final Logger log = LoggerFactory.getLogger(RedisClusterTransport.class);
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final HostAndPort address;
+    private final JedisClientConfig clientConfig;
+    private final byte[] channel;
+    private final JedisPool publisherPool;
+    private volatile boolean running;
+    // 지금 구독 중인 연결의 핸들. close가 unsubscribe로 구독 스레드를 깨운다
+    private volatile BinaryJedisPubSub subscription;
+    private Thread subscriber;
+
+    public RedisClusterTransport(WebSocketClusterConfig config) {
+        this(config.getRedisHost(), config.getRedisPort(), config.getRedisPassword(), config.getChannel());
+    }
+
+    public RedisClusterTransport(String host, int port, String password, String channel) {
+        this.address = new HostAndPort(host, port);
+        this.clientConfig = DefaultJedisClientConfig.builder().password(password).build();
+        this.channel = channel.getBytes(StandardCharsets.UTF_8);
+        this.publisherPool = new JedisPool(address, clientConfig);
+    }
+
+    @Override
+    public synchronized void start(Consumer<byte[]> receiver) {
+        running = true;
+        subscriber = new Thread(() -> subscribeLoop(receiver), "sprout-ws-cluster-redis");
+        subscriber.setDaemon(true);
+        subscriber.start();
+    }
+
+    private void subscribeLoop(Consumer<byte[]> receiver) {
+        while (running) {
+            // 끊긴 연결에 묶였던 핸들은 다시 쓰지 않는다
+            BinaryJedisPubSub pubSub = new BinaryJedisPubSub() {
+                @Override
+                public void onMessage(byte[] channel, byte[] message) {
+                    try {
+                        receiver.accept(message);
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to handle WebSocket cluster batch: {}", e.getMessage());
+                    }
+                }
+            };
+            subscription = pubSub;
+            try (Jedis jedis = new Jedis(address, clientConfig)) {
+                jedis.subscribe(pubSub, channel); // unsubscribe되거나 연결이 끊길 때까지 돌아오지 않는다
+            } catch (JedisException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("WebSocket cluster subscription to Redis lost; retrying in {} ms: {}", RECONNECT_DELAY_MILLIS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void publish(byte[] batch) {
+        try (Jedis jedis = publisherPool.getResource()) {
+            jedis.publish(channel, batch);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        BinaryJedisPubSub pubSub = subscription;
+        if (pubSub != null && pubSub.isSubscribed()) {
+            try {
+                pubSub.unsubscribe();
+            } catch (JedisException e) {
+                log.debug("Failed to unsubscribe WebSocket cluster channel: {}", e.getMessage());
+            }
+        }
+        if (subscriber != null) {
+            subscriber.interrupt();
+        }
+        publisherPool.close();
+    }
+}
@@ -0,0 +1,264 @@
+package sprout.server.websocket.cluster;
+
+import sprout.beans.DisposableBean;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.Counter;
+import sprout.metrics.MetricsRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 사이의 브로드캐스트 버스.
+ * <p>
+ * {@link #publish}한 메시지는 바로 보내지 않고 배치에 인코딩해 두었다가, 배치의 첫 메시지로부터 flush-interval-ms가 지나거나
+ * 배치가 batch-max-messages / batch-max-bytes에 닿으면 {@link ClusterTransport}로 한 번에 보낸다. 다 찬 배치는 잘라 낸 순서대로
+ * 큐에 쌓고 flush 스레드 하나가 큐에서 꺼내 발행하므로, 한 노드가 보낸 메시지는 다른 노드에 보낸 순서대로 도착한다.
+ * <p>
+ * 컨텍스트가 닫힐 때 남은 배치를 보내고 전송을 닫는다.
+ * <p>
+ * 배치 머리에 보낸 노드의 ID를 적어, 전송이 되돌려 준 자기 배치는 메시지를 풀지도 않고 버린다.
+ * <pre>
+ * 배치   = version(1) nodeId(UTF) 메시지*
+ * 메시지 = target(1) name(UTF) opcode(1) length(4) payload
+ * </pre>
+ */
+public class WebSocketClusterBus implements AutoCloseable, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketClusterBus.class);
+    private static final byte VERSION = 1;
+    private static final ClusterMessage.Target[] TARGETS = ClusterMessage.Target.values();
+
+    private final String nodeId;
+    // null이면 이 노드 안에서만 브로드캐스트한다
+    private final ClusterTransport transport;
+    private final long flushIntervalMillis;
+    private final int batchMaxMessages;
+    private final int batchMaxBytes;
+    private final ScheduledThreadPoolExecutor flusher;
+
+    private final Object lock = new Object();
+    // 잘라 냈지만 아직 발행하지 않은 배치. 잘라 낸 순서대로 flush 스레드만 꺼낸다
+    private final ArrayDeque<ReadyBatch> ready = new ArrayDeque<>();
+    private ByteArrayOutputStream batch;
+    private DataOutputStream batchOut;
+    private int batchMessages;
+    private volatile boolean closed;
+
+    private final Counter published;
+    private final Counter receivedMessages;
+    private final Counter batches;
+    private final Counter echoes;
+    private final Counter dropped;
+
+    /** 다른 노드로 아무것도 보내지 않는 버스 */
+    public static WebSocketClusterBus disabled() {
+        return new WebSocketClusterBus(WebSocketClusterConfig.DEFAULT, null, new MetricsRegistry());
+    }
+
+    public WebSocketClusterBus(WebSocketClusterConfig config, ClusterTransport transport, MetricsRegistry registry) {
+        this.nodeId = config.getNodeId();
+        this.transport = transport;
+        this.flushIntervalMillis = config.getFlushIntervalMillis();
+        this.batchMaxMessages = config.getBatchMaxMessages();
+        this.batchMaxBytes = config.getBatchMaxBytes();
+        if (transport != null) {
+            this.flusher = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "sprout-ws-cluster-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.flusher = null;
+        }
+        this.published = registry.counter("sprout_websocket_cluster_messages_total",
+                "Broadcasts exchanged with other nodes", "direction", "out");
+        this.receivedMessages = registry.counter("sprout_websocket_cluster_messages_total",
+                "Broadcasts exchanged with other nodes", "direction", "in");
+        this.batches = registry.counter("sprout_websocket_cluster_batches_total",
+                "Broadcast batches published to the cluster transport");
+        this.echoes = registry.counter("sprout_websocket_cluster_echoes_total",
+                "Batches published by this node and discarded when the transport delivered them back");
+        this.dropped = registry.counter("sprout_websocket_cluster_dropped_total",
+                "Broadcasts not published because the cluster transport failed");
+    }
+
+    public boolean isEnabled() {
+        return transport != null;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /** 다른 노드가 보낸 메시지를 listener로 받기 시작한다. listener는 전송의 수신 스레드에서 호출된다. */
+    public void subscribe(Consumer<ClusterMessage> listener) {
+        if (transport == null) {
+            return;
+        }
+        transport.start(received -> receive(received, listener));
+    }
+
+    /** 메시지를 배치에 넣는다. payload는 여기서 배치로 복사되므로 호출한 쪽이 이후에 고쳐도 된다. */
+    public void publish(ClusterMessage message) {
+        if (transport == null || closed) {
+            return;
+        }
+        synchronized (lock) {
+            boolean first = batchMessages == 0;
+            if (first) {
+                startBatch();
+            }
+            writeMessage(message);
+            batchMessages++;
+            try {
+                if (batchMessages >= batchMaxMessages || batch.size() >= batchMaxBytes) {
+                    cutBatch();
+                    flusher.execute(this::sendReady);
+                } else if (first) {
+                    flusher.schedule(this::flushPending, flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                log.debug("WebSocket cluster bus is closing; broadcast not published to other nodes");
+            }
+        }
+    }
+
+    /** 모아 둔 배치를 지금 보내고, 그때까지 예약된 발행이 끝날 때까지 기다린다. */
+    public void flush() {
+        if (transport == null || closed) {
+            return;
+        }
+        try {
+            flusher.submit(this::flushPending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Failed to flush WebSocket cluster batch: {}", e.getCause().getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (transport == null || closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        flusher.shutdown();
+        transport.close();
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    // 모으던 배치를 잘라 큐 뒤에 붙인 뒤 큐를 비운다. 가득 차서 이미 잘렸으면 모으던 배치가 없다
+    private void flushPending() {
+        synchronized (lock) {
+            if (batchMessages > 0) {
+                cutBatch();
+            }
+        }
+        sendReady();
+    }
+
+    private void cutBatch() {
+        ready.add(new ReadyBatch(batch.toByteArray(), batchMessages));
+        batchMessages = 0;
+    }
+
+    // flush 스레드에서만 호출되므로 잘라 낸 순서대로 발행된다
+    private void sendReady() {
+        while (true) {
+            ReadyBatch next;
+            synchronized (lock) {
+                next = ready.poll();
+            }
+            if (next == null) {
+                return;
+            }
+            send(next);
+        }
+    }
+
+    private void send(ReadyBatch ready) {
+        try {
+            transport.publish(ready.bytes());
+            batches.increment();
+            published.add(ready.messages());
+        } catch (RuntimeException e) {
+            dropped.add(ready.messages());
+            log.warn("Failed to publish {} WebSocket broadcasts to the cluster: {}", ready.messages(), e.getMessage());
+        }
+    }
+
+    private record ReadyBatch(byte[] bytes, int messages) {
+    }
+
+    private void startBatch() {
+        batch = new ByteArrayOutputStream(Math.min(batchMaxBytes, 4096));
+        batchOut = new DataOutputStream(batch);
+        try {
+            batchOut.writeByte(VERSION);
+            batchOut.writeUTF(nodeId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeMessage(ClusterMessage message) {
+        try {
+            batchOut.writeByte(message.target().ordinal());
+            batchOut.writeUTF(message.name());
+            batchOut.writeByte(message.opcode());
+            batchOut.writeInt(message.payload().length);
+            batchOut.write(message.payload());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void receive(byte[] received, Consumer<ClusterMessage> listener) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(received));
+        try {
+            if (in.readByte() != VERSION) {
+                log.warn("Ignoring WebSocket cluster batch with unknown version");
+                return;
+            }
+            if (nodeId.equals(in.readUTF())) {
+                echoes.increment();
+                return;
+            }
+            while (in.available() > 0) {
+                ClusterMessage.Target target = TARGETS[in.readByte()];
+                String name = in.readUTF();
+                int opcode = in.readByte();
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                receivedMessages.increment();
+                try {
+                    listener.accept(new ClusterMessage(target, name, opcode, payload));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to deliver WebSocket cluster broadcast to {}: {}", name, e.getMessage());
+                }
+            }
+        } catch (EOFException | ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+            log.warn("Ignoring truncated or malformed WebSocket cluster batch");
+        } catch (IOException e) {
+            log.warn("Failed to read WebSocket cluster batch: {}", e.getMessage());
+        }
+    }
+}
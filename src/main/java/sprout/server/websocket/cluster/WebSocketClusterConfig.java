@@ -0,0 +1,111 @@
+package sprout.server.websocket.cluster;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+
+import java.util.UUID;
+
+/**
+ * 인스턴스 사이 WebSocket 브로드캐스트 설정.
+ * <pre>
+ * server:
+ *   websocket:
+ *     cluster:
+ *       transport: none        # none(이 노드만) | memory(같은 JVM 안의 노드끼리) | redis
+ *       node-id: ws-1          # 자기가 보낸 배치를 되받았을 때 걸러내는 데 쓴다. 없으면 기동할 때마다 새로 만든다
+ *       channel: sprout:websocket
+ *       flush-interval-ms: 2   # 첫 메시지가 배치에 들어간 뒤 이만큼 모았다가 보낸다
+ *       batch-max-messages: 256
+ *       batch-max-bytes: 65536 # 둘 중 하나에 닿으면 기다리지 않고 바로 보낸다
+ *       redis:
+ *         host: localhost
+ *         port: 6379
+ *         password:
+ * </pre>
+ * 애플리케이션이 {@link ClusterTransport} 빈을 직접 등록하면 transport 설정 대신 그 빈을 쓴다.
+ */
+@Component
+public class WebSocketClusterConfig implements InfrastructureBean {
+
+    public static final WebSocketClusterConfig DEFAULT = new WebSocketClusterConfig("none", null, "sprout:websocket",
+            2, 256, 64 * 1024, "localhost", 6379, null);
+
+    private final String transport;
+    private final String nodeId;
+    private final String channel;
+    private final long flushIntervalMillis;
+    private final int batchMaxMessages;
+    private final int batchMaxBytes;
+    private final String redisHost;
+    private final int redisPort;
+    private final String redisPassword;
+
+    public WebSocketClusterConfig(AppConfig appConfig) {
+        this(appConfig.getStringProperty("server.websocket.cluster.transport", "none"),
+             appConfig.getStringProperty("server.websocket.cluster.node-id", null),
+             appConfig.getStringProperty("server.websocket.cluster.channel", "sprout:websocket"),
+             appConfig.getIntProperty("server.websocket.cluster.flush-interval-ms", 2),
+             appConfig.getIntProperty("server.websocket.cluster.batch-max-messages", 256),
+             appConfig.getIntProperty("server.websocket.cluster.batch-max-bytes", 64 * 1024),
+             appConfig.getStringProperty("server.websocket.cluster.redis.host", "localhost"),
+             appConfig.getIntProperty("server.websocket.cluster.redis.port", 6379),
+             appConfig.getStringProperty("server.websocket.cluster.redis.password", null));
+    }
+
+    public WebSocketClusterConfig(String transport, String nodeId, String channel, long flushIntervalMillis,
+                                  int batchMaxMessages, int batchMaxBytes, String redisHost, int redisPort, String redisPassword) {
+        if (!transport.equals("none") && !transport.equals("memory") && !transport.equals("redis")) {
+            throw new IllegalArgumentException("server.websocket.cluster.transport must be none, memory or redis: " + transport);
+        }
+        if (flushIntervalMillis <= 0 || batchMaxMessages <= 0 || batchMaxBytes <= 0) {
+            throw new IllegalArgumentException("server.websocket.cluster flush-interval-ms and batch limits must be positive");
+        }
+        this.transport = transport;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.channel = channel;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchMaxMessages = batchMaxMessages;
+        this.batchMaxBytes = batchMaxBytes;
+        this.redisHost = redisHost;
+        this.redisPort = redisPort;
+        this.redisPassword = redisPassword == null || redisPassword.isEmpty() ? null : redisPassword;
+    }
+
+    public String getTransport() {
+        return transport;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public int getBatchMaxMessages() {
+        return batchMaxMessages;
+    }
+
+    public int getBatchMaxBytes() {
+        return batchMaxBytes;
+    }
+
+    public String getRedisHost() {
+        return redisHost;
+    }
+
+    public int getRedisPort() {
+        return redisPort;
+    }
+
+    /** 비밀번호를 설정하지 않았으면 null */
+    public String getRedisPassword() {
+        return redisPassword;
+    }
+}
@@ -0,0 +1,34 @@
+package sprout.server.websocket.cluster;
+
+import sprout.beans.annotation.Bean;
+import sprout.beans.annotation.Configuration;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
+import sprout.metrics.MetricsRegistry;
+
+import java.util.List;
+
+@Configuration
+public class WebSocketClusterConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketClusterConfiguration.class);
+
+    @Bean
+    public WebSocketClusterBus webSocketClusterBus(WebSocketClusterConfig config, MetricsRegistry registry, List<ClusterTransport> transports) {
+        // 애플리케이션이 등록한 전송이 있으면 설정보다 우선한다
+        ClusterTransport transport = transports.isEmpty() ? createTransport(config) : transports.get(0);
+        WebSocketClusterBus bus = new WebSocketClusterBus(config, transport, registry);
+        if (bus.isEnabled()) {
+            // 종료는 컨텍스트가 닫힐 때 DisposableBean으로 한다
+            log.info("WebSocket cluster broadcasts enabled via {} as node {}", transport.getClass().getSimpleName(), bus.getNodeId());
+        }
+        return bus;
+    }
+
+    private static ClusterTransport createTransport(WebSocketClusterConfig config) {
+        return switch (config.getTransport()) {
+            case "memory" -> new InMemoryClusterTransport();
+            case "redis" -> new RedisClusterTransport(config);
+            default -> null;
+        };
+    }
+}
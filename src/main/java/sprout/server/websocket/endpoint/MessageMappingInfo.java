@@ -0,0 +1,61 @@
+package sprout.server.websocket.endpoint;
+
+import sprout.server.argument.annotation.Payload;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * @MessageMapping 메서드 하나의 호출 정보. 엔드포인트를 등록할 때 한 번 만든다.
+ * <p>
+ * 파라미터 배열, @Payload 파라미터의 위치와 타입, InputStream을 받는지를 미리 계산해 두어 메시지마다 리플렉션으로 다시 훑지 않는다.
+ */
+public class MessageMappingInfo {
+    private final Method method;
+    private final Parameter[] parameters;
+    private final int payloadIndex;
+    private final Type payloadType;
+    private final boolean streamsPayload;
+
+    public MessageMappingInfo(Method method) {
+        this.method = method;
+        this.parameters = method.getParameters();
+        int index = -1;
+        boolean streams = false;
+        for (int i = 0; i < parameters.length; i++) {
+            if (index < 0 && parameters[i].isAnnotationPresent(Payload.class)) {
+                index = i;
+            }
+            if (InputStream.class.isAssignableFrom(parameters[i].getType())) {
+                streams = true;
+            }
+        }
+        this.payloadIndex = index;
+        this.payloadType = index >= 0 ? parameters[index].getParameterizedType() : null;
+        this.streamsPayload = streams;
+    }
+
+    public Method getMethod() { return method; }
+    public Parameter[] getParameters() { return parameters; }
+    /** @Payload 파라미터 위치. 없으면 -1 */
+    public int getPayloadIndex() { return payloadIndex; }
+    public Type getPayloadType() { return payloadType; }
+    /** 핸들러가 메시지 스트림을 직접 받는지. 받으면 디스패처가 스트림을 대신 비우지 않는다 */
+    public boolean streamsPayload() { return streamsPayload; }
+
+    /**
+     * 디스패처가 메시지를 파싱하면서 바로 바인딩할 @Payload 파라미터가 있는지.
+     * String은 지금처럼 메시지 원문 전체를, InputStream·ByteBuffer·byte[]는 원본 바이트를 받으므로 ArgumentResolver에 맡긴다.
+     */
+    public boolean hasBindablePayload() {
+        if (payloadIndex < 0) {
+            return false;
+        }
+        Class<?> type = parameters[payloadIndex].getType();
+        return type != String.class && type != byte[].class && type != ByteBuffer.class
+                && !InputStream.class.isAssignableFrom(type);
+    }
+}
@@ -14,6 +14,7 @@ public class WebSocketEndpointInfo {
     private final Method onCloseMethod;
     private final Method onErrorMethod;
     private final Map<String, Method> messageMappings;
+    private final Map<String, MessageMappingInfo> messageMappingInfos;
 
     public WebSocketEndpointInfo(PathPattern pathPattern, Object handlerBean,
                                  Method onOpenMethod, Method onCloseMethod, Method onErrorMethod,
@@ -24,6 +25,10 @@ public class WebSocketEndpointInfo {
         this.onCloseMethod = onCloseMethod;
         this.onErrorMethod = onErrorMethod;
         this.messageMappings = Collections.unmodifiableMap(new HashMap<>(messageMappings)); // 불변 맵
+        // 메시지마다 파라미터를 다시 훑지 않도록 등록할 때 호출 정보를 만들어 둔다
+        Map<String, MessageMappingInfo> infos = new HashMap<>();
+        messageMappings.forEach((path, method) -> infos.put(path, new MessageMappingInfo(method)));
+        this.messageMappingInfos = Collections.unmodifiableMap(infos);
     }
 
     public PathPattern getPathPattern() { return pathPattern; }
@@ -37,4 +42,8 @@ public class WebSocketEndpointInfo {
         return messageMappings.get(messagePath);
     }
 
+    public MessageMappingInfo getMessageMapping(String messagePath) {
+        return messageMappingInfos.get(messagePath);
+    }
+
 }
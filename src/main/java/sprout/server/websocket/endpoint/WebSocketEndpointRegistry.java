@@ -1,6 +1,8 @@
 package sprout.server.websocket.endpoint;
 
 import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.mapping.PathPattern;
 
 import java.lang.reflect.Method;
@@ -10,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class WebSocketEndpointRegistry {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketEndpointRegistry.class);
 
     private final Map<PathPattern, WebSocketEndpointInfo> endpointMappings = new ConcurrentHashMap<>();
 
@@ -31,12 +34,12 @@ public class WebSocketEndpointRegistry {
         Objects.requireNonNull(handlerBean, "WebSocket handler bean cannot be null.");
 
         if (endpointMappings.containsKey(pathPattern)) {
-            System.err.println("Warning: Duplicate WebSocket endpoint path registered: " + pathPattern.getOriginalPattern());
+            log.warn("Duplicate WebSocket endpoint path registered: {}", pathPattern.getOriginalPattern());
         }
 
         WebSocketEndpointInfo info = new WebSocketEndpointInfo(pathPattern, handlerBean, onOpenMethod, onCloseMethod, onErrorMethod, messageMappings);
         endpointMappings.put(pathPattern, info);
-        System.out.println("Registered WebSocket endpoint: " + pathPattern.getOriginalPattern());
+        log.info("Registered WebSocket endpoint: {}", pathPattern.getOriginalPattern());
     }
 
 
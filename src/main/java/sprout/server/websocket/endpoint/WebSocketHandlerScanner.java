@@ -2,6 +2,8 @@ package sprout.server.websocket.endpoint;
 
 import sprout.beans.annotation.Component;
 import sprout.context.BeanFactory;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.mapping.PathPattern;
 import sprout.mvc.mapping.PathPatternResolver;
 import sprout.server.websocket.annotation.*;
@@ -13,6 +15,8 @@ import java.util.Map;
 
 @Component
 public class WebSocketHandlerScanner {
+    private static final Logger log = LoggerFactory.getLogger(WebSocketHandlerScanner.class);
+
     private final WebSocketEndpointRegistry endpointRegistry;
     private final PathPatternResolver pathPatternResolver;
 
@@ -23,12 +27,12 @@ public class WebSocketHandlerScanner {
 
     public void scanWebSocketHandlers(BeanFactory context) {
         Collection<Object> beans = context.getAllBeans();
-        System.out.println(beans.size() + " beans found for WebSocket scan.");
+        log.debug("{} beans found for WebSocket scan.", beans.size());
 
         for (Object bean : beans) {
             Class<?> beanClass = bean.getClass();
             if (beanClass.isAnnotationPresent(WebSocketHandler.class)) {
-                System.out.println("Found @WebSocketHandler: " + beanClass.getName());
+                log.debug("Found @WebSocketHandler: {}", beanClass.getName());
 
                 WebSocketHandler webSocketHandlerAnn = beanClass.getAnnotation(WebSocketHandler.class);
                 String classLevelPath = webSocketHandlerAnn.value(); // @WebSocketHandler의 value()는 엔드포인트 경로
@@ -0,0 +1,8 @@
+package sprout.server.websocket.exception;
+
+/** 텍스트 메시지가 올바른 UTF-8이 아니다. 세션은 1007로 닫힌다 */
+public class InvalidPayloadDataException extends WebSocketProtocolException {
+    public InvalidPayloadDataException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package sprout.server.websocket.exception;
+
+/** 받은 메시지가 server.websocket.inbound.max-message-size를 넘었다. 세션은 1009로 닫힌다 */
+public class MessageTooBigException extends WebSocketProtocolException {
+    public MessageTooBigException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,80 @@
+package sprout.server.websocket.extension;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * permessage-deflate용 raw(nowrap) Deflater/Inflater 풀.
+ * 네이티브 zlib 상태(압축 쪽 수백 KB)를 세션마다 들고 있지 않도록, 컨텍스트를 이어 쓰지 않는 쪽은 메시지 하나 동안만 빌린다.
+ * 풀이 가득 차면 돌려받은 인스턴스는 end()로 바로 해제한다.
+ */
+@Component
+public class DeflaterPool implements InfrastructureBean {
+
+    private final PerMessageDeflateConfig config;
+    private final ArrayBlockingQueue<Deflater> deflaters;
+    private final ArrayBlockingQueue<Inflater> inflaters;
+
+    public DeflaterPool(PerMessageDeflateConfig config) {
+        this.config = config;
+        this.deflaters = new ArrayBlockingQueue<>(Math.max(1, config.getPoolSize()));
+        this.inflaters = new ArrayBlockingQueue<>(Math.max(1, config.getPoolSize()));
+    }
+
+    public PerMessageDeflateConfig getConfig() {
+        return config;
+    }
+
+    public Deflater acquireDeflater() {
+        Deflater deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(config.getLevel(), true);
+    }
+
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    public Inflater acquireInflater() {
+        Inflater inflater = inflaters.poll();
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    public void release(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 메시지 하나를 빈 컨텍스트에서 압축한다. SYNC_FLUSH가 끝에 붙이는 00 00 FF FF는 떼어낸다 (RFC 7692 7.2.1).
+     * 결과는 어느 세션에 보내도 풀 수 있으므로 브로드캐스트에서 한 번만 만들어 공유한다.
+     */
+    public ByteBuffer compress(ByteBuffer payload) {
+        Deflater deflater = acquireDeflater();
+        try {
+            deflater.setInput(payload.duplicate());
+            byte[] out = new byte[Math.max(64, payload.remaining() / 2 + 16)];
+            int length = 0;
+            while (true) {
+                length += deflater.deflate(out, length, out.length - length, Deflater.SYNC_FLUSH);
+                if (length < out.length) {
+                    break; // 출력 공간이 남았으면 flush까지 끝난 것
+                }
+                out = Arrays.copyOf(out, out.length * 2);
+            }
+            return ByteBuffer.wrap(out, 0, length - 4).slice();
+        } finally {
+            release(deflater);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package sprout.server.websocket.extension;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 핸드셰이크에서 합의한 permessage-deflate 파라미터. 서버 쪽은 항상 server_no_context_takeover다.
+ *
+ * @param clientNoContextTakeover 클라이언트가 메시지마다 압축 컨텍스트를 버린다 (서버 Inflater를 메시지 단위로 풀에서 빌릴 수 있다)
+ * @param clientMaxWindowBits     응답에 넣은 client_max_window_bits. 넣지 않았으면 0
+ */
+public record PerMessageDeflate(boolean clientNoContextTakeover, int clientMaxWindowBits) {
+
+    public static final String EXTENSION_NAME = "permessage-deflate";
+
+    /**
+     * 클라이언트가 보낸 제안 하나를 받아들일 수 있으면 합의한 파라미터를, 아니면 null을 돌려준다.
+     * java.util.zip은 압축 윈도를 32KB(15비트)보다 줄일 수 없으므로 server_max_window_bits가 15 미만인 제안은 거절한다.
+     */
+    public static PerMessageDeflate accept(String offer, PerMessageDeflateConfig config) {
+        String[] parts = offer.split(";");
+        if (!EXTENSION_NAME.equalsIgnoreCase(parts[0].trim())) {
+            return null;
+        }
+        boolean clientNoContextTakeover = config.isClientNoContextTakeover();
+        int offeredClientWindowBits = -1; // -1: 제안 없음, 0: 값 없이 제안
+        Set<String> seen = new HashSet<>();
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.isEmpty()) continue;
+            int eq = param.indexOf('=');
+            String name = (eq < 0 ? param : param.substring(0, eq)).trim().toLowerCase(Locale.ROOT);
+            String value = eq < 0 ? null : unquote(param.substring(eq + 1).trim());
+            if (!seen.add(name)) {
+                return null; // 같은 파라미터가 두 번 오면 잘못된 제안
+            }
+            switch (name) {
+                case "server_no_context_takeover" -> {
+                    if (value != null) return null;
+                }
+                case "client_no_context_takeover" -> {
+                    if (value != null) return null;
+                    clientNoContextTakeover = true;
+                }
+                case "server_max_window_bits" -> {
+                    if (windowBits(value) != 15) return null;
+                }
+                case "client_max_window_bits" -> {
+                    if (value == null) {
+                        offeredClientWindowBits = 0;
+                    } else {
+                        offeredClientWindowBits = windowBits(value);
+                        if (offeredClientWindowBits < 0) return null;
+                    }
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+        int clientMaxWindowBits = 0;
+        if (offeredClientWindowBits >= 0 && config.getClientMaxWindowBits() < 15) {
+            clientMaxWindowBits = offeredClientWindowBits == 0
+                    ? config.getClientMaxWindowBits()
+                    : Math.min(offeredClientWindowBits, config.getClientMaxWindowBits());
+        }
+        return new PerMessageDeflate(clientNoContextTakeover, clientMaxWindowBits);
+    }
+
+    /** Sec-WebSocket-Extensions 응답 헤더 값 */
+    public String toResponseHeader() {
+        StringBuilder sb = new StringBuilder(EXTENSION_NAME).append("; server_no_context_takeover");
+        if (clientNoContextTakeover) {
+            sb.append("; client_no_context_takeover");
+        }
+        if (clientMaxWindowBits > 0) {
+            sb.append("; client_max_window_bits=").append(clientMaxWindowBits);
+        }
+        return sb.toString();
+    }
+
+    // 8~15가 아니면 -1
+    private static int windowBits(String value) {
+        if (value == null) return -1;
+        try {
+            int bits = Integer.parseInt(value);
+            return bits >= 8 && bits <= 15 ? bits : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
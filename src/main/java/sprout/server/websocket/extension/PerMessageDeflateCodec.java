@@ -0,0 +1,103 @@
+package sprout.server.websocket.extension;
+
+import sprout.server.websocket.exception.MessageTooBigException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 세션 하나의 permessage-deflate 상태.
+ * <p>
+ * 받는 쪽: 압축된 메시지의 프레임 페이로드를 순서대로 넣으면 조각별로 풀어 돌려준다.
+ * 분할 메시지도 조각마다 풀린 바이트를 그대로 프레임 핸들러 체인에 넘길 수 있다.
+ * 클라이언트가 컨텍스트를 이어 쓰면 Inflater를 세션 동안 들고 있고, 아니면 메시지 하나 동안만 풀에서 빌린다.
+ * <p>
+ * 보내는 쪽: 서버는 항상 컨텍스트 없이 압축하므로 {@link DeflaterPool#compress}를 그대로 쓴다.
+ */
+public class PerMessageDeflateCodec {
+
+    // 압축 쪽이 떼어낸 SYNC_FLUSH 꼬리. 메시지 끝에서 다시 넣어 준다 (RFC 7692 7.2.2)
+    private static final byte[] TAIL = {0x00, 0x00, (byte) 0xFF, (byte) 0xFF};
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+    // 큰 메시지를 푼 뒤 이보다 큰 작업 버퍼는 놓아 준다
+    private static final int RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final PerMessageDeflate parameters;
+    private final DeflaterPool pool;
+    private Inflater inflater;
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+    public PerMessageDeflateCodec(PerMessageDeflate parameters, DeflaterPool pool) {
+        this.parameters = parameters;
+        this.pool = pool;
+    }
+
+    public PerMessageDeflate getParameters() {
+        return parameters;
+    }
+
+    public boolean shouldCompress(int payloadLength) {
+        return payloadLength >= pool.getConfig().getMinSize();
+    }
+
+    public ByteBuffer compress(ByteBuffer payload) {
+        return pool.compress(payload);
+    }
+
+    /**
+     * 압축된 메시지의 프레임 페이로드 하나를 푼다. fin이면 메시지 끝으로 보고 꼬리를 넣어 남은 출력을 모두 꺼낸다.
+     */
+    public ByteBuffer inflate(ByteBuffer fragment, boolean fin) throws DataFormatException {
+        return inflate(fragment, fin, Integer.MAX_VALUE);
+    }
+
+    /**
+     * maxLength바이트보다 많이 풀리면 끝까지 풀지 않고 {@link MessageTooBigException}을 던진다.
+     * 작은 프레임이 아주 크게 풀리는 압축 폭탄을 메모리에 올리기 전에 막는다.
+     */
+    public synchronized ByteBuffer inflate(ByteBuffer fragment, boolean fin, int maxLength) throws DataFormatException {
+        if (inflater == null) {
+            inflater = pool.acquireInflater();
+        }
+        int length = feed(fragment, 0, maxLength);
+        if (fin) {
+            length = feed(ByteBuffer.wrap(TAIL), length, maxLength);
+            if (parameters.clientNoContextTakeover() || inflater.finished()) {
+                // 컨텍스트를 버리는 클라이언트거나, BFINAL 블록으로 스트림을 끝냈으면 다음 메시지는 새 스트림
+                pool.release(inflater);
+                inflater = null;
+            }
+        }
+        byte[] inflated = Arrays.copyOf(buffer, length);
+        if (buffer.length > RETAINED_BUFFER_SIZE) {
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+        return ByteBuffer.wrap(inflated);
+    }
+
+    /** 세션이 닫힐 때 들고 있던 Inflater를 풀로 돌려준다 */
+    public synchronized void close() {
+        if (inflater != null) {
+            pool.release(inflater);
+            inflater = null;
+        }
+    }
+
+    private int feed(ByteBuffer input, int length, int maxLength) throws DataFormatException {
+        inflater.setInput(input);
+        int n;
+        do {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            n = inflater.inflate(buffer, length, buffer.length - length);
+            length += n;
+            if (length > maxLength) {
+                throw new MessageTooBigException("Inflated WebSocket message exceeds " + maxLength + " bytes");
+            }
+        } while (n > 0 || (!inflater.needsInput() && !inflater.finished()));
+        return length;
+    }
+}
@@ -0,0 +1,85 @@
+package sprout.server.websocket.extension;
+
+import sprout.beans.InfrastructureBean;
+import sprout.beans.annotation.Component;
+import sprout.config.AppConfig;
+
+import java.util.zip.Deflater;
+
+/**
+ * permessage-deflate(RFC 7692) 설정.
+ * <pre>
+ * server:
+ *   websocket:
+ *     deflate:
+ *       enabled: true
+ *       min-size: 256B                    # 이보다 작은 메시지는 압축하지 않고 보낸다
+ *       level: 6                          # 1(빠름) ~ 9(작음)
+ *       client-no-context-takeover: false # true면 클라이언트도 메시지마다 컨텍스트를 버리게 해 서버 Inflater를 풀에서 빌려 쓴다
+ *       client-max-window-bits: 15        # 클라이언트가 제안했을 때만 응답에 넣는다 (15면 생략)
+ *       pool-size: 64                     # 풀에 보관하는 Deflater/Inflater 최대 개수 (각각)
+ * </pre>
+ * 서버 쪽은 항상 server_no_context_takeover로 합의한다. 전송 큐가 프레임을 버리거나 합치고 브로드캐스트가 압축한 프레임을
+ * 여러 세션이 공유하므로, 서버가 보내는 메시지는 각각 따로 풀 수 있어야 하기 때문이다.
+ */
+@Component
+public class PerMessageDeflateConfig implements InfrastructureBean {
+
+    public static final PerMessageDeflateConfig DEFAULT = new PerMessageDeflateConfig(true, 256, 6, false, 15, 64);
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int level;
+    private final boolean clientNoContextTakeover;
+    private final int clientMaxWindowBits;
+    private final int poolSize;
+
+    public PerMessageDeflateConfig(AppConfig appConfig) {
+        this(Boolean.parseBoolean(appConfig.getStringProperty("server.websocket.deflate.enabled", "true")),
+             (int) appConfig.getSizeProperty("server.websocket.deflate.min-size", "256B"),
+             appConfig.getIntProperty("server.websocket.deflate.level", 6),
+             Boolean.parseBoolean(appConfig.getStringProperty("server.websocket.deflate.client-no-context-takeover", "false")),
+             appConfig.getIntProperty("server.websocket.deflate.client-max-window-bits", 15),
+             appConfig.getIntProperty("server.websocket.deflate.pool-size", 64));
+    }
+
+    public PerMessageDeflateConfig(boolean enabled, int minSize, int level, boolean clientNoContextTakeover,
+                                   int clientMaxWindowBits, int poolSize) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("deflate level must be between 0 and 9: " + level);
+        }
+        if (clientMaxWindowBits < 8 || clientMaxWindowBits > 15) {
+            throw new IllegalArgumentException("client-max-window-bits must be between 8 and 15: " + clientMaxWindowBits);
+        }
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.level = level;
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        this.clientMaxWindowBits = clientMaxWindowBits;
+        this.poolSize = poolSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isClientNoContextTakeover() {
+        return clientNoContextTakeover;
+    }
+
+    public int getClientMaxWindowBits() {
+        return clientMaxWindowBits;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+}
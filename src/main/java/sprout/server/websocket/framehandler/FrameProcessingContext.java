@@ -1,20 +1,35 @@
 package sprout.server.websocket.framehandler;
 
+import sprout.server.websocket.Utf8Validator;
 import sprout.server.websocket.WebSocketFrame;
-import sprout.server.websocket.message.DefaultMessagePayload;
+import sprout.server.websocket.exception.InvalidPayloadDataException;
+import sprout.server.websocket.exception.MessageTooBigException;
+import sprout.server.websocket.message.ByteBufferMessagePayload;
 import sprout.server.websocket.message.MessagePayload;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 public class FrameProcessingContext {
     private WebSocketFrame currentFrame; // 현재 처리 중인 프레임
-    private final StringBuilder textBuffer;
-    private final ByteArrayOutputStream binaryBuffer;
+    private final int maxMessageSize;
+    // 조립 중인 메시지의 조각들. 프레임마다 읽기 버퍼에서 한 번만 떼어 오고, 메시지가 끝나면 그대로 페이로드가 된다
+    private final List<ByteBuffer> fragments = new ArrayList<>();
+    // 문자가 프레임 경계에서 잘려도 이어서 검사한다
+    private final Utf8Validator utf8 = new Utf8Validator();
+    private int messageLength;
+    private boolean textMessage;
     private int fragmentedOpcode;
 
     public FrameProcessingContext() {
-        this.textBuffer = new StringBuilder();
-        this.binaryBuffer = new ByteArrayOutputStream();
+        this(Integer.MAX_VALUE);
+    }
+
+    public FrameProcessingContext(int maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
         this.fragmentedOpcode = -1;
     }
 
@@ -27,9 +42,10 @@ public class FrameProcessingContext {
     }
 
     public WebSocketFrame getFrame() { return currentFrame; }
-    public StringBuilder getTextBuffer() { return textBuffer; }
-    public ByteArrayOutputStream getBinaryBuffer() { return binaryBuffer; }
     public int getFragmentedOpcode() { return fragmentedOpcode; }
+    public int getMaxMessageSize() { return maxMessageSize; }
+    /** 지금까지 모은 메시지 바이트 수 */
+    public int getMessageLength() { return messageLength; }
 
     public boolean isFragmented() {
         return fragmentedOpcode != -1;
@@ -39,16 +55,58 @@ public class FrameProcessingContext {
         this.fragmentedOpcode = opcode;
     }
 
+    /**
+     * 현재 프레임의 페이로드를 메시지 조각으로 붙인다.
+     * 메시지가 max-message-size를 넘으면 {@link MessageTooBigException}, 텍스트 메시지가 UTF-8이 아니면
+     * {@link InvalidPayloadDataException}을 던진다. 마지막이 아닌 프레임의 스트림은 여기서 닫는다 (마지막 프레임은 디스패처가 닫는다).
+     */
+    public void appendPayload() throws IOException {
+        WebSocketFrame frame = currentFrame;
+        textMessage = (isFragmented() ? fragmentedOpcode : frame.getOpcode()) == 0x1;
+        ByteBuffer fragment = detachPayload(frame);
+        if (textMessage && (!utf8.update(fragment) || (frame.isFin() && !utf8.isComplete()))) {
+            throw new InvalidPayloadDataException("Text message is not valid UTF-8");
+        }
+        if (fragment.hasRemaining()) {
+            fragments.add(fragment);
+            messageLength += fragment.remaining();
+        }
+    }
+
+    // 읽기 버퍼의 slice는 다음 compact에서 덮이므로 메시지가 가질 버퍼로 한 번 복사한다
+    private ByteBuffer detachPayload(WebSocketFrame frame) throws IOException {
+        ByteBuffer source = frame.getPayloadBuffer();
+        if (source != null) {
+            checkSize(source.remaining());
+            ByteBuffer copy = ByteBuffer.allocate(source.remaining());
+            copy.put(source).flip();
+            return copy;
+        }
+        InputStream in = frame.getPayloadStream();
+        byte[] bytes = in.readAllBytes();
+        if (!frame.isFin()) {
+            in.close();
+        }
+        checkSize(bytes.length);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private void checkSize(int fragmentLength) {
+        if (fragmentLength > maxMessageSize - messageLength) {
+            throw new MessageTooBigException("WebSocket message exceeds " + maxMessageSize + " bytes");
+        }
+    }
+
     public void reset() {
-        this.textBuffer.setLength(0); // new StringBuilder() 대신 내용만 비움
-        this.binaryBuffer.reset();    // new ByteArrayOutputStream() 대신 내용만 비움
+        this.fragments.clear(); // 조각 배열은 이미 페이로드로 넘어갔으므로 목록만 비움
+        this.utf8.reset();
+        this.messageLength = 0;
+        this.textMessage = false;
         this.fragmentedOpcode = -1;
         this.currentFrame = null;
     }
 
     public MessagePayload createPayload() {
-        String text = textBuffer.length() > 0 ? textBuffer.toString() : null;
-        byte[] binary = binaryBuffer.size() > 0 ? binaryBuffer.toByteArray() : null;
-        return new DefaultMessagePayload(text, binary);
+        return new ByteBufferMessagePayload(textMessage, fragments.toArray(new ByteBuffer[0]), messageLength);
     }
 }
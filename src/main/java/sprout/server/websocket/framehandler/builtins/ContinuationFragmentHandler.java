@@ -2,8 +2,9 @@ package sprout.server.websocket.framehandler.builtins;
 
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.server.websocket.WebSocketFrame;
-import sprout.server.websocket.WebSocketUtils;
 import sprout.server.websocket.exception.WebSocketProtocolException;
 import sprout.server.websocket.framehandler.AbstractFrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
@@ -11,19 +12,15 @@ import sprout.server.websocket.framehandler.FrameProcessingContext;
 @Component
 @Order(30)
 public class ContinuationFragmentHandler extends AbstractFrameHandler {
+    private static final Logger log = LoggerFactory.getLogger(ContinuationFragmentHandler.class);
 
     @Override
     protected boolean process(FrameProcessingContext state) throws Exception {
         if (!state.isFragmented()) {
             throw new WebSocketProtocolException("Protocol Error: Received continuation frame with no preceding fragmented message.");
         }
-        if (state.getFragmentedOpcode() == 0x1) {
-            System.out.println("Received fragmented text continuation frame. Buffering...");
-            WebSocketUtils.consumeTextFragment(state.getFrame().getPayloadStream(), state.getTextBuffer());
-        } else {
-            System.out.println("Received fragmented binary continuation frame. Buffering...");
-            WebSocketUtils.consumeBinaryFragment(state.getFrame().getPayloadStream(), state.getBinaryBuffer());
-        }
+        log.trace("Received fragmented continuation frame. Buffering...");
+        state.appendPayload();
         return false;
     }
 
@@ -3,7 +3,6 @@ package sprout.server.websocket.framehandler.builtins;
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
 import sprout.server.websocket.WebSocketFrame;
-import sprout.server.websocket.WebSocketUtils;
 import sprout.server.websocket.exception.WebSocketProtocolException;
 import sprout.server.websocket.framehandler.AbstractFrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
@@ -16,11 +15,7 @@ public class FinalContinuationFrameHandler extends AbstractFrameHandler {
         if (!state.isFragmented()) {
             throw new WebSocketProtocolException("Protocol Error: Received final continuation frame with no preceding message.");
         }
-        if (state.getFragmentedOpcode() == 0x1) {
-            WebSocketUtils.readTextToBuffer(state.getFrame().getPayloadStream(), state.getTextBuffer());
-        } else {
-            WebSocketUtils.readBinaryToBuffer(state.getFrame().getPayloadStream(), state.getBinaryBuffer());
-        }
+        state.appendPayload();
         return true;
     }
 
@@ -3,7 +3,6 @@ package sprout.server.websocket.framehandler.builtins;
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
 import sprout.server.websocket.WebSocketFrame;
-import sprout.server.websocket.WebSocketUtils;
 import sprout.server.websocket.exception.WebSocketProtocolException;
 import sprout.server.websocket.framehandler.AbstractFrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
@@ -16,7 +15,7 @@ public class FinalTextFrameHandler extends AbstractFrameHandler {
         if (state.isFragmented()) {
             throw new WebSocketProtocolException("Protocol Error: Received a single text frame while in a fragmented message sequence.");
         }
-        WebSocketUtils.readTextToBuffer(state.getFrame().getPayloadStream(), state.getTextBuffer());
+        state.appendPayload();
         return true;
     }
 
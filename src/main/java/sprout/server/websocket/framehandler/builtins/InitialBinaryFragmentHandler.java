@@ -2,8 +2,9 @@ package sprout.server.websocket.framehandler.builtins;
 
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.server.websocket.WebSocketFrame;
-import sprout.server.websocket.WebSocketUtils;
 import sprout.server.websocket.exception.WebSocketProtocolException;
 import sprout.server.websocket.framehandler.AbstractFrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
@@ -13,6 +14,8 @@ import java.io.IOException;
 @Component
 @Order(20)
 public class InitialBinaryFragmentHandler extends AbstractFrameHandler {
+    private static final Logger log = LoggerFactory.getLogger(InitialBinaryFragmentHandler.class);
+
     @Override
     public boolean canHandle(FrameProcessingContext state) throws Exception {
         WebSocketFrame frame = state.getFrame();
@@ -24,9 +27,9 @@ public class InitialBinaryFragmentHandler extends AbstractFrameHandler {
         if (state.isFragmented()) {
             throw new WebSocketProtocolException("Protocol Error: Received a new initial binary frame before the previous message was finished.");
         }
-        System.out.println("Received first fragmented binary frame. Buffering...");
+        log.trace("Received first fragmented binary frame. Buffering...");
         state.startFragmentedMessage(0x2);
-        WebSocketUtils.consumeBinaryFragment(state.getFrame().getPayloadStream(), state.getBinaryBuffer());
+        state.appendPayload();
         return false;
     }
 }
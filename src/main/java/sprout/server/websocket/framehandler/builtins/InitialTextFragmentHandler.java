@@ -2,8 +2,9 @@ package sprout.server.websocket.framehandler.builtins;
 
 import sprout.beans.annotation.Component;
 import sprout.beans.annotation.Order;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.server.websocket.WebSocketFrame;
-import sprout.server.websocket.WebSocketUtils;
 import sprout.server.websocket.exception.WebSocketProtocolException;
 import sprout.server.websocket.framehandler.AbstractFrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
@@ -13,6 +14,8 @@ import java.io.IOException;
 @Component
 @Order(10)
 public class InitialTextFragmentHandler extends AbstractFrameHandler {
+    private static final Logger log = LoggerFactory.getLogger(InitialTextFragmentHandler.class);
+
     @Override
     public boolean canHandle(FrameProcessingContext state) throws Exception {
         WebSocketFrame frame = state.getFrame();
@@ -24,9 +27,9 @@ public class InitialTextFragmentHandler extends AbstractFrameHandler {
         if (state.isFragmented()) {
             throw new WebSocketProtocolException("Protocol Error: Received a new initial text frame before the previous message was finished.");
         }
-        System.out.println("Received first fragmented text frame. Buffering...");
+        log.trace("Received first fragmented text frame. Buffering...");
         state.startFragmentedMessage(0x1);
-        WebSocketUtils.consumeTextFragment(state.getFrame().getPayloadStream(), state.getTextBuffer());
+        state.appendPayload();
         return false;
     }
 }
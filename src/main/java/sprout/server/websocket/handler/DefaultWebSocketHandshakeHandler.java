@@ -1,7 +1,11 @@
 package sprout.server.websocket.handler;
 
 import sprout.beans.annotation.Component;
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.mvc.http.HttpRequest;
+import sprout.server.websocket.extension.PerMessageDeflate;
+import sprout.server.websocket.extension.PerMessageDeflateConfig;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -14,10 +18,43 @@ import java.util.Map;
 
 @Component
 public class DefaultWebSocketHandshakeHandler implements WebSocketHandshakeHandler{
+    private static final Logger log = LoggerFactory.getLogger(DefaultWebSocketHandshakeHandler.class);
+
     private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
 
+    private final PerMessageDeflateConfig deflateConfig;
+
+    public DefaultWebSocketHandshakeHandler() {
+        this(PerMessageDeflateConfig.DEFAULT);
+    }
+
+    public DefaultWebSocketHandshakeHandler(PerMessageDeflateConfig deflateConfig) {
+        this.deflateConfig = deflateConfig;
+    }
+
+    @Override
+    public PerMessageDeflate negotiateDeflate(HttpRequest<?> request) {
+        String offers = request.getHeaders().get("Sec-WebSocket-Extensions");
+        if (offers == null || !deflateConfig.isEnabled()) {
+            return null;
+        }
+        // 선호 순서대로 온 제안 중 처음으로 받아들일 수 있는 것
+        for (String offer : offers.split(",")) {
+            PerMessageDeflate accepted = PerMessageDeflate.accept(offer, deflateConfig);
+            if (accepted != null) {
+                return accepted;
+            }
+        }
+        return null;
+    }
+
     @Override
     public boolean performHandshake(HttpRequest<?> request, SocketChannel channel) throws IOException {
+        return performHandshake(request, channel, null);
+    }
+
+    @Override
+    public boolean performHandshake(HttpRequest<?> request, SocketChannel channel, PerMessageDeflate deflate) throws IOException {
         // 1. 필수 헤더 검증
         Map<String, String> headers = request.getHeaders();
         String upgradeHeader = headers.get("Upgrade");
@@ -25,7 +62,7 @@ public class DefaultWebSocketHandshakeHandler implements WebSocketHandshakeHandl
         String secWebSocketKey = headers.get("Sec-WebSocket-Key");
         String secWebSocketVersion = headers.get("Sec-WebSocket-Version");
 
-        System.out.println(upgradeHeader + ", " + connectionHeader + ", " + secWebSocketKey + ", " + secWebSocketVersion + " : " + request.getPath());
+        log.debug("Handshake request for {} (Upgrade: {}, Connection: {}, Sec-WebSocket-Version: {})", request.getPath(), upgradeHeader, connectionHeader, secWebSocketVersion);
 
         // Connection 헤더는 "Upgrade"를 포함해야 함 (쉼표로 구분된 여러 값 가능)
         boolean hasUpgradeConnection = connectionHeader != null &&
@@ -44,7 +81,7 @@ public class DefaultWebSocketHandshakeHandler implements WebSocketHandshakeHandl
         try {
             secWebSocketAccept = generateSecWebSocketAccept(secWebSocketKey);
         } catch (NoSuchAlgorithmException e) {
-            System.err.println("SHA-1 algorithm not found for WebSocket handshake: " + e.getMessage());
+            log.error("SHA-1 algorithm not found for WebSocket handshake", e);
             sendHandshakeErrorResponse(channel, 500, "Internal Server Error", "Server error during handshake.");
             return false;
         }
@@ -54,6 +91,7 @@ public class DefaultWebSocketHandshakeHandler implements WebSocketHandshakeHandl
                          "Upgrade: websocket\r\n" +
                          "Connection: Upgrade\r\n" +
                          "Sec-WebSocket-Accept: " + secWebSocketAccept + "\r\n" +
+                         (deflate != null ? "Sec-WebSocket-Extensions: " + deflate.toResponseHeader() + "\r\n" : "") +
                          "\r\n";
 
         ByteBuffer buffer = ByteBuffer.wrap(response.getBytes(StandardCharsets.UTF_8));
@@ -61,7 +99,7 @@ public class DefaultWebSocketHandshakeHandler implements WebSocketHandshakeHandl
             channel.write(buffer);
         }
 
-        System.out.println("WebSocket handshake successful for path: " + request.getPath());
+        log.debug("WebSocket handshake successful for path: {}", request.getPath());
         return true;
     }
 
@@ -1,10 +1,21 @@
 package sprout.server.websocket.handler;
 
 import sprout.mvc.http.HttpRequest;
+import sprout.server.websocket.extension.PerMessageDeflate;
 
 import java.io.IOException;
 import java.nio.channels.SocketChannel;
 
 public interface WebSocketHandshakeHandler {
     boolean performHandshake(HttpRequest<?> request, SocketChannel channel) throws IOException;
+
+    /** 클라이언트가 제안한 permessage-deflate 중 받아들인 파라미터. 제안이 없거나 모두 거절했으면 null */
+    default PerMessageDeflate negotiateDeflate(HttpRequest<?> request) {
+        return null;
+    }
+
+    /** deflate가 null이 아니면 101 응답에 Sec-WebSocket-Extensions 헤더를 넣는다 */
+    default boolean performHandshake(HttpRequest<?> request, SocketChannel channel, PerMessageDeflate deflate) throws IOException {
+        return performHandshake(request, channel);
+    }
 }
@@ -1,19 +1,22 @@
 package sprout.server.websocket.message;
 
+import sprout.logging.Logger;
+import sprout.logging.LoggerFactory;
 import sprout.server.argument.WebSocketArgumentResolver;
 import sprout.server.websocket.DispatchResult;
 import sprout.server.websocket.InvocationContext;
 import sprout.server.websocket.WebSocketFrame;
 import sprout.server.websocket.WebSocketSession;
+import sprout.server.websocket.endpoint.MessageMappingInfo;
 import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
 
-import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.List;
 import java.util.Objects;
 
 public abstract class AbstractWebSocketMessageDispatcher implements WebSocketMessageDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(AbstractWebSocketMessageDispatcher.class);
 
     private final List<WebSocketArgumentResolver> argumentResolvers;
 
@@ -28,44 +31,54 @@ public abstract class AbstractWebSocketMessageDispatcher implements WebSocketMes
         // 1. 하위 클래스에서 메시지 파싱 및 정보 준비
         DispatchInfo dispatchInfo = prepareDispatchInfo(context);
         if (dispatchInfo == null || dispatchInfo.destination() == null) {
-            System.err.println("WebSocket message has no destination path. Skipping dispatch.");
+            log.warn("WebSocket message has no destination path. Skipping dispatch.");
             return new DispatchResult(false, true); // 스트림은 이미 소비되었을 수 있음
         }
 
         // 2. 엔드포인트 정보 가져오기
         WebSocketEndpointInfo endpointInfo = context.session().getEndpointInfo();
         if (endpointInfo == null) {
-            System.err.println("EndpointInfo not available in context. Cannot dispatch message.");
+            log.warn("EndpointInfo not available in context. Cannot dispatch message.");
             return new DispatchResult(false, true);
         }
 
-        // 3. 목적지에 맞는 핸들러 메서드 찾기
-        Method messageMappingMethod = endpointInfo.getMessageMappingMethod(dispatchInfo.destination());
-        if (messageMappingMethod == null) {
-            System.err.println("No @MessageMapping found for path: " + dispatchInfo.destination());
+        // 3. 목적지에 맞는 핸들러 메서드 찾기 (파싱하면서 이미 찾았으면 그대로 쓴다)
+        MessageMappingInfo messageMapping = dispatchInfo.boundTo() != null
+                ? dispatchInfo.boundTo()
+                : findMessageMapping(endpointInfo, dispatchInfo.destination());
+        if (messageMapping == null) {
+            log.warn("No @MessageMapping found for path: {}", dispatchInfo.destination());
             return new DispatchResult(false, true);
         }
 
         // 4. 메서드 인자 해석 및 호출
-        Object[] args = resolveArgs(messageMappingMethod, context);
-        messageMappingMethod.invoke(endpointInfo.getHandlerBean(), args);
+        Object[] args = resolveArgs(messageMapping, dispatchInfo, context);
+        messageMapping.getMethod().invoke(endpointInfo.getHandlerBean(), args);
 
         // 5. 결과 반환
-        return new DispatchResult(true, !wasStreamPassedToHandler(messageMappingMethod));
+        return new DispatchResult(true, !messageMapping.streamsPayload());
     }
 
-    private boolean wasStreamPassedToHandler(Method handlerMethod) {
-        if (handlerMethod == null) return false;
-        for (Parameter param : handlerMethod.getParameters()) {
-            if (InputStream.class.isAssignableFrom(param.getType())) return true;
+    private MessageMappingInfo findMessageMapping(WebSocketEndpointInfo endpointInfo, String destination) {
+        MessageMappingInfo messageMapping = endpointInfo.getMessageMapping(destination);
+        if (messageMapping != null) {
+            return messageMapping;
         }
-        return false;
+        // 호출 정보를 미리 만들어 두지 않은 EndpointInfo라면 메서드에서 바로 만든다
+        Method method = endpointInfo.getMessageMappingMethod(destination);
+        return method != null ? new MessageMappingInfo(method) : null;
     }
 
-    private Object[] resolveArgs(Method method, InvocationContext context) throws Exception {
-        Parameter[] parameters = method.getParameters();
+    private Object[] resolveArgs(MessageMappingInfo messageMapping, DispatchInfo dispatchInfo, InvocationContext context) throws Exception {
+        Parameter[] parameters = messageMapping.getParameters();
         Object[] args = new Object[parameters.length];
+        // 파싱하면서 @Payload 타입으로 바로 읽었으면 그 값을 넣고, 나머지 파라미터만 리졸버로 푼다
+        int boundIndex = dispatchInfo.boundTo() == messageMapping ? messageMapping.getPayloadIndex() : -1;
         for (int i = 0; i < parameters.length; i++) {
+            if (i == boundIndex) {
+                args[i] = dispatchInfo.payload();
+                continue;
+            }
             boolean resolved = false;
             for (WebSocketArgumentResolver resolver : argumentResolvers) {
                 if (resolver.supports(parameters[i], context)) {
@@ -81,5 +94,13 @@ public abstract class AbstractWebSocketMessageDispatcher implements WebSocketMes
         return args;
     }
 
-    public record DispatchInfo(String destination, Object payload) {}
+    /**
+     * 하위 클래스가 메시지에서 꺼낸 목적지와 페이로드.
+     * boundTo가 있으면 파싱 중에 그 메서드로 라우팅했고, payload는 이미 그 메서드의 @Payload 타입으로 읽은 값이다.
+     */
+    public record DispatchInfo(String destination, Object payload, MessageMappingInfo boundTo) {
+        public DispatchInfo(String destination, Object payload) {
+            this(destination, payload, null);
+        }
+    }
 }
\ No newline at end of file
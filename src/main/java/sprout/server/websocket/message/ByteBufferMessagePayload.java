@@ -0,0 +1,98 @@
+package sprout.server.websocket.message;
+
+import sprout.server.websocket.ByteBufferInputStream;
+
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 프레임 조각 버퍼들을 그대로 들고 있는 메시지 페이로드.
+ * <p>
+ * 조각을 하나로 합치지 않고 넘겨받으므로 ByteBuffer·InputStream으로 받는 핸들러에는 복사 없이 전달된다.
+ * 문자열과 바이트 배열은 처음 요청할 때 한 번만 만든다. 텍스트 메시지는 조립하면서 UTF-8 검사를 마쳤다.
+ */
+public class ByteBufferMessagePayload implements MessagePayload {
+    private final boolean text;
+    private final ByteBuffer[] fragments;
+    private final int length;
+    private String textCache;
+    private byte[] binaryCache;
+
+    public ByteBufferMessagePayload(boolean text, ByteBuffer[] fragments, int length) {
+        this.text = text;
+        this.fragments = fragments;
+        this.length = length;
+    }
+
+    @Override
+    public boolean isText() {
+        return text && length > 0;
+    }
+
+    @Override
+    public boolean isBinary() {
+        return !text && length > 0;
+    }
+
+    @Override
+    public synchronized String asText() {
+        if (length == 0) {
+            return null;
+        }
+        if (textCache == null) {
+            ByteBuffer single = fragments.length == 1 ? fragments[0] : null;
+            textCache = single != null && single.hasArray()
+                    ? new String(single.array(), single.arrayOffset() + single.position(), single.remaining(), StandardCharsets.UTF_8)
+                    : new String(asBinary(), StandardCharsets.UTF_8);
+        }
+        return textCache;
+    }
+
+    @Override
+    public synchronized byte[] asBinary() {
+        if (length == 0) {
+            return null;
+        }
+        if (binaryCache == null) {
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            for (ByteBuffer fragment : fragments) {
+                int n = fragment.remaining();
+                fragment.get(fragment.position(), bytes, offset, n);
+                offset += n;
+            }
+            binaryCache = bytes;
+        }
+        return binaryCache;
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        if (fragments.length == 1) {
+            return fragments[0].duplicate();
+        }
+        return length == 0 ? ByteBuffer.allocate(0) : ByteBuffer.wrap(asBinary());
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        if (fragments.length == 1) {
+            return new ByteBufferInputStream(fragments[0].duplicate());
+        }
+        List<InputStream> streams = new ArrayList<>(fragments.length);
+        for (ByteBuffer fragment : fragments) {
+            streams.add(new ByteBufferInputStream(fragment.duplicate()));
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    /** 메시지를 이루는 조각 수 */
+    public int getFragmentCount() {
+        return fragments.length;
+    }
+}
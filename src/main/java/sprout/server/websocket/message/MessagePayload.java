@@ -1,8 +1,23 @@
 package sprout.server.websocket.message;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 public interface MessagePayload {
     boolean isText();
     boolean isBinary();
     String asText();
     byte[] asBinary();
+
+    /** 메시지 바이트. 버퍼로 조립된 페이로드는 복사 없이 돌려준다 */
+    default ByteBuffer asByteBuffer() {
+        byte[] bytes = asBinary();
+        return bytes != null ? ByteBuffer.wrap(bytes) : ByteBuffer.allocate(0);
+    }
+
+    default InputStream asInputStream() {
+        byte[] bytes = asBinary();
+        return new ByteArrayInputStream(bytes != null ? bytes : new byte[0]);
+    }
 }
@@ -0,0 +1,65 @@
+package sprout.server.websocket.message.builtins;
+
+import sprout.beans.annotation.Component;
+import sprout.beans.annotation.Order;
+import sprout.mvc.http.codec.MessageCodec;
+import sprout.mvc.http.codec.MessageCodecRegistry;
+import sprout.server.argument.WebSocketArgumentResolver;
+import sprout.server.websocket.InvocationContext;
+import sprout.server.websocket.WebSocketFrame;
+import sprout.server.websocket.WebSocketSession;
+import sprout.server.websocket.message.AbstractWebSocketMessageDispatcher;
+import sprout.server.websocket.message.ParsedMessage;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 핸드셰이크 요청의 Content-Type으로 코덱(CBOR, Smile, MessagePack 등)을 선언한 세션의 바이너리 메시지를
+ * {@link MessageCodecRegistry}의 코덱으로 디코딩해 라우팅한다.
+ * 코덱을 선언하지 않은 세션의 바이너리 프레임은 {@link RawBinaryWebSocketMessageDispatcher}가 그대로 처리한다.
+ */
+@Component
+@Order(0)
+public class CodecWebSocketMessageDispatcher extends AbstractWebSocketMessageDispatcher {
+    static final String SESSION_CODEC_KEY = CodecWebSocketMessageDispatcher.class.getName() + ".codec";
+
+    private final MessageCodecRegistry codecRegistry;
+    // 코덱별 ParsedMessage 리더 (인덱스는 레지스트리의 코덱 순서)
+    private final MessageCodec.BodyReader[] envelopeReaders;
+
+    public CodecWebSocketMessageDispatcher(MessageCodecRegistry codecRegistry, List<WebSocketArgumentResolver> argumentResolvers) {
+        super(argumentResolvers);
+        this.codecRegistry = codecRegistry;
+        this.envelopeReaders = new MessageCodec.BodyReader[codecRegistry.size()];
+        for (int i = 0; i < envelopeReaders.length; i++) {
+            envelopeReaders[i] = codecRegistry.getCodecs().get(i).readerFor(ParsedMessage.class);
+        }
+    }
+
+    @Override
+    public boolean supports(WebSocketFrame frame, InvocationContext context) {
+        return (frame.getOpcode() == 0x2 || frame.getOpcode() == 0x0)
+                && context.getMessagePayload().isBinary()
+                && sessionCodec(context.session(), codecRegistry) != null;
+    }
+
+    @Override
+    protected DispatchInfo prepareDispatchInfo(InvocationContext context) throws Exception {
+        MessageCodec codec = sessionCodec(context.session(), codecRegistry);
+        byte[] message = context.getMessagePayload().asBinary();
+        ParsedMessage parsedMessage = (ParsedMessage) envelopeReaders[codecRegistry.indexOf(codec)].read(message, 0, message.length);
+
+        return new DispatchInfo(parsedMessage.getDestination(), parsedMessage.getPayload());
+    }
+
+    /**
+     * 세션이 핸드셰이크에서 선언한 코덱. 세션 속성에 한 번만 계산해 두므로 메시지마다 헤더를 다시 보지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public static MessageCodec sessionCodec(WebSocketSession session, MessageCodecRegistry codecRegistry) {
+        Object codec = session.getUserProperties().computeIfAbsent(SESSION_CODEC_KEY,
+                key -> Optional.ofNullable(codecRegistry.declaredCodec(session.getHandshakeRequest())));
+        return ((Optional<MessageCodec>) codec).orElse(null);
+    }
+}
@@ -1,19 +1,44 @@
 package sprout.server.websocket.message.builtins;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import sprout.beans.annotation.Component;
 import sprout.server.argument.WebSocketArgumentResolver;
 import sprout.server.websocket.InvocationContext;
 import sprout.server.websocket.WebSocketFrame;
 import sprout.server.websocket.WebSocketFrameDecoder;
+import sprout.server.websocket.WebSocketSession;
+import sprout.server.websocket.endpoint.MessageMappingInfo;
+import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
 import sprout.server.websocket.message.AbstractWebSocketMessageDispatcher;
+import sprout.server.websocket.message.ByteBufferMessagePayload;
+import sprout.server.websocket.message.MessagePayload;
 import sprout.server.websocket.message.ParsedMessage;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * {"destination": "...", "payload": ...} 형태의 텍스트 메시지를 처리한다.
+ * <p>
+ * 메시지를 스트리밍 파서로 한 번만 읽는다. 파서는 문자열로 디코딩하지 않고 메시지 바이트 위에 바로 만든다. destination을 먼저 읽어 @MessageMapping 메서드를 찾고, payload 토큰은
+ * 그 메서드의 @Payload 타입으로 곧바로 바인딩한다. payload가 destination보다 앞에 오면 토큰만 버퍼에 담았다가 라우팅 뒤에 읽는다.
+ */
 @Component
 public class JsonWebSocketMessageDispatcher extends AbstractWebSocketMessageDispatcher {
+    private static final String DESTINATION_FIELD = "destination";
+    private static final String PAYLOAD_FIELD = "payload";
+
     private final ObjectMapper objectMapper;
+    // @MessageMapping 메서드별 @Payload 타입 리더. ObjectReader는 불변이라 스레드 사이에 공유한다
+    private final Map<MessageMappingInfo, ObjectReader> payloadReaders = new ConcurrentHashMap<>();
 
     public JsonWebSocketMessageDispatcher(ObjectMapper objectMapper, List<WebSocketArgumentResolver> argumentResolvers) {
         super(argumentResolvers); // 부모 클래스에 의존성 전달
@@ -28,9 +53,69 @@ public class JsonWebSocketMessageDispatcher extends AbstractWebSocketMessageDisp
 
     @Override
     protected DispatchInfo prepareDispatchInfo(InvocationContext context) throws Exception {
-        String messageContent = context.getMessagePayload().asText();
-        ParsedMessage parsedMessage = objectMapper.readValue(messageContent, ParsedMessage.class);
+        WebSocketSession session = context.session();
+        WebSocketEndpointInfo endpointInfo = session != null ? session.getEndpointInfo() : null;
+
+        String destination = null;
+        MessageMappingInfo messageMapping = null;
+        Object payload = null;
+        TokenBuffer pendingPayload = null;
+
+        try (JsonParser parser = createParser(context.getMessagePayload())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, ParsedMessage.class, "WebSocket JSON message must be an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (DESTINATION_FIELD.equals(field)) {
+                    destination = parser.getValueAsString();
+                    parser.skipChildren();
+                    messageMapping = endpointInfo != null && destination != null ? endpointInfo.getMessageMapping(destination) : null;
+                } else if (PAYLOAD_FIELD.equals(field)) {
+                    if (destination != null) {
+                        payload = readPayload(parser, messageMapping);
+                    } else {
+                        // 아직 어느 메서드로 갈지 모르므로 토큰만 담아 둔다
+                        pendingPayload = new TokenBuffer(parser);
+                        pendingPayload.copyCurrentStructure(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (pendingPayload != null) {
+            try (JsonParser buffered = pendingPayload.asParserOnFirstToken()) {
+                payload = readPayload(buffered, messageMapping);
+            }
+        }
+
+        boolean bound = messageMapping != null && messageMapping.hasBindablePayload();
+        return new DispatchInfo(destination, payload, bound ? messageMapping : null);
+    }
+
+    // 조각 하나짜리 힙 버퍼는 배열을 그대로 읽고, 여러 조각이면 합치지 않고 스트림으로 이어 읽는다
+    private JsonParser createParser(MessagePayload messagePayload) throws IOException {
+        if (!(messagePayload instanceof ByteBufferMessagePayload fragmented && fragmented.getFragmentCount() > 1)) {
+            ByteBuffer bytes = messagePayload.asByteBuffer();
+            if (bytes.hasArray()) {
+                return objectMapper.createParser(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            }
+        }
+        return objectMapper.createParser(messagePayload.asInputStream());
+    }
 
-        return new DispatchInfo(parsedMessage.getDestination(), parsedMessage.getPayload());
+    private Object readPayload(JsonParser parser, MessageMappingInfo messageMapping) throws IOException {
+        if (messageMapping != null && messageMapping.hasBindablePayload()) {
+            return payloadReaders.computeIfAbsent(messageMapping,
+                    m -> objectMapper.readerFor(objectMapper.constructType(m.getPayloadType()))).readValue(parser);
+        }
+        // 바인딩할 타입이 없으면 값은 리졸버가 원문에서 다시 읽으므로 스칼라만 문자열로 남긴다
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
     }
-}
\ No newline at end of file
+}
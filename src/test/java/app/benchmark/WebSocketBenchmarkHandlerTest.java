@@ -7,15 +7,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sprout.server.websocket.ByteBufferFrameReader;
 import sprout.server.websocket.CloseCode;
 import sprout.server.websocket.CloseCodes;
+import sprout.server.websocket.DefaultWebSocketContainer;
 import sprout.server.websocket.WebSocketSession;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -29,10 +33,12 @@ class WebSocketBenchmarkHandlerTest {
     private WebSocketSession mockSession2;
 
     private WebSocketBenchmarkHandler handler;
+    private DefaultWebSocketContainer container;
 
     @BeforeEach
     void setUp() {
-        handler = new WebSocketBenchmarkHandler();
+        container = new DefaultWebSocketContainer();
+        handler = new WebSocketBenchmarkHandler(container);
         WebSocketBenchmarkHandler.resetStats();
 
         when(mockSession1.getId()).thenReturn("session-1");
@@ -41,6 +47,13 @@ class WebSocketBenchmarkHandlerTest {
         when(mockSession2.isOpen()).thenReturn(true);
         when(mockSession1.getUserProperties()).thenReturn(new HashMap<>());
         when(mockSession2.getUserProperties()).thenReturn(new HashMap<>());
+        when(mockSession1.sendFrame(any())).thenReturn(true);
+        when(mockSession2.sendFrame(any())).thenReturn(true);
+    }
+
+    // 브로드캐스트는 인코딩된 프레임을 보내므로 헤더를 걷어내고 텍스트만 꺼낸다
+    private static String textOf(ByteBuffer frame) throws Exception {
+        return new ByteBufferFrameReader().read(frame.duplicate()).getTextPayload();
     }
 
     @Test
@@ -95,18 +108,22 @@ class WebSocketBenchmarkHandlerTest {
 
     @Test
     @DisplayName("Broadcast 메시지는 모든 세션에 전송된다")
-    void handleBroadcast_shouldSendToAllSessions() throws IOException {
+    void handleBroadcast_shouldSendToAllSessions() throws Exception {
         // given
         handler.onOpen(mockSession1);
         handler.onOpen(mockSession2);
+        container.addSession(WebSocketBenchmarkHandler.PATH, mockSession1);
+        container.addSession(WebSocketBenchmarkHandler.PATH, mockSession2);
         String testMessage = "Broadcast Test";
 
         // when
         handler.handleBroadcast(mockSession1, testMessage);
 
         // then
-        verify(mockSession1).sendText(anyString());
-        verify(mockSession2).sendText(anyString());
+        ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(mockSession1).sendFrame(captor.capture());
+        verify(mockSession2).sendFrame(any());
+        assertThat(textOf(captor.getValue())).contains("\"destination\":\"/broadcast\"").contains(testMessage);
 
         String stats = WebSocketBenchmarkHandler.getStats();
         assertThat(stats).contains("Received: 1");
@@ -115,9 +132,10 @@ class WebSocketBenchmarkHandlerTest {
 
     @Test
     @DisplayName("Chat 메시지는 username을 포함하여 전송된다")
-    void handleChat_shouldIncludeUsername() throws IOException {
+    void handleChat_shouldIncludeUsername() throws Exception {
         // given
         handler.onOpen(mockSession1);
+        container.addSession(WebSocketBenchmarkHandler.PATH, mockSession1);
         Map<String, Object> userProps = new HashMap<>();
         when(mockSession1.getUserProperties()).thenReturn(userProps);
         String testMessage = "Chat message";
@@ -126,10 +144,10 @@ class WebSocketBenchmarkHandlerTest {
         handler.handleChat(mockSession1, testMessage);
 
         // then
-        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(mockSession1).sendText(captor.capture());
+        ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(mockSession1).sendFrame(captor.capture());
 
-        String sentMessage = captor.getValue();
+        String sentMessage = textOf(captor.getValue());
         assertThat(sentMessage).contains("\"destination\":\"/chat\"");
         assertThat(sentMessage).contains("User-"); // auto-generated username
         assertThat(sentMessage).contains(testMessage);
@@ -163,14 +181,17 @@ class WebSocketBenchmarkHandlerTest {
         // given
         handler.onOpen(mockSession1);
         handler.onOpen(mockSession2);
+        container.addSession(WebSocketBenchmarkHandler.PATH, mockSession1);
+        container.addSession(WebSocketBenchmarkHandler.PATH, mockSession2);
         when(mockSession2.isOpen()).thenReturn(false); // session2는 닫힘
 
         // when
         handler.handleBroadcast(mockSession1, "test");
 
         // then
-        verify(mockSession1).sendText(anyString());
-        verify(mockSession2, never()).sendText(anyString()); // 닫힌 세션에는 전송 안 함
+        verify(mockSession1).sendFrame(any());
+        verify(mockSession2, never()).sendFrame(any()); // 닫힌 세션에는 전송 안 함
+        assertThat(WebSocketBenchmarkHandler.getStats()).contains("Sent: 1");
     }
 
     @Test
@@ -4,12 +4,14 @@ import org.junit.jupiter.api.*;
 import org.mockito.Mockito;
 import sprout.beans.BeanDefinition;
 import sprout.beans.ConstructorBeanDefinition;
+import sprout.beans.DisposableBean;
 import sprout.beans.MethodBeanDefinition;
 import sprout.beans.processor.BeanPostProcessor;
 import sprout.context.CtorMeta;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -185,4 +187,18 @@ class DefaultListableBeanFactoryTest {
         assertFalse(factory.containsBean("x"));
         assertTrue(factory.getAllBeans().isEmpty());
     }
+
+    @Test
+    @DisplayName("destroySingletons()는 DisposableBean을 등록 역순으로 정리하고, 실패해도 나머지를 계속 정리")
+    void destroySingletons_reverseOrder() {
+        List<String> destroyed = new ArrayList<>();
+        factory.registerRuntimeBean("first", (DisposableBean) () -> destroyed.add("first"));
+        factory.registerRuntimeBean("failing", (DisposableBean) () -> { throw new IllegalStateException("boom"); });
+        factory.registerRuntimeBean("plain", new A());
+        factory.registerRuntimeBean("second", (DisposableBean) () -> destroyed.add("second"));
+
+        factory.destroySingletons();
+
+        assertEquals(List.of("second", "first"), destroyed);
+    }
 }
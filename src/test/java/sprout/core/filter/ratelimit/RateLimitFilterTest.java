@@ -0,0 +1,207 @@
+package sprout.core.filter.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import sprout.core.filter.FilterChain;
+import sprout.metrics.MetricsRegistry;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.mapping.PathPattern;
+import sprout.security.authentication.UsernamePasswordAuthenticationToken;
+import sprout.security.context.SecurityContextHolder;
+import sprout.security.context.SecurityContextHolderStrategy;
+import sprout.security.context.SecurityContextImpl;
+import sprout.security.core.DefaultUserDetails;
+import sprout.server.HttpUtils;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RateLimitFilterTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    private RateLimitFilter filter(RateLimitPolicy... policies) {
+        return new RateLimitFilter(List.of(policies), 1000, () -> 0L, registry);
+    }
+
+    private static HttpRequest<?> request(String path, String client, Map<String, String> headers) {
+        HttpRequest<?> request = new HttpRequest<>(HttpMethod.GET, path, null, Map.of(), headers);
+        request.setRemoteAddress(new InetSocketAddress(client, 40000));
+        return request;
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 체인을 타지 않고 429와 Retry-After로 응답해야 한다")
+    void rejectsWith429BeforeChain() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitPolicy(new PathPattern("/api/**"), 1, 0.5,
+                RateLimitPolicy.KeySource.ADDRESS, null));
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request("/api/orders", "10.0.0.1", Map.of()), new HttpResponse(), chain);
+        HttpResponse rejected = new HttpResponse();
+        filter.doFilter(request("/api/orders", "10.0.0.1", Map.of()), rejected, chain);
+
+        verify(chain, times(1)).doFilter(any(), any());
+        ResponseEntity<?> entity = rejected.getResponseEntity();
+        assertThat(entity.getStatusCode()).isEqualTo(ResponseCode.TOO_MANY_REQUESTS);
+        assertThat(entity.getHeaders()).containsEntry("Retry-After", "2");
+        String encoded = StandardCharsets.UTF_8.decode(HttpUtils.createResponseBuffer(entity)).toString();
+        assertThat(encoded).startsWith("HTTP/1.1 429 Too Many Requests\r\n").endsWith("\r\n\r\nToo Many Requests");
+        assertThat(registry.counter("http_server_rate_limited_total", "", "route", "/api/**").get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거절 응답을 여러 번 보내도 공유 바디가 소모되지 않아야 한다")
+    void rejectionBodyIsReusable() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitPolicy(new PathPattern("/api/**"), 1, 1,
+                RateLimitPolicy.KeySource.ADDRESS, null));
+        FilterChain chain = mock(FilterChain.class);
+        filter.doFilter(request("/api/a", "10.0.0.1", Map.of()), new HttpResponse(), chain);
+
+        for (int i = 0; i < 3; i++) {
+            HttpResponse response = new HttpResponse();
+            filter.doFilter(request("/api/a", "10.0.0.1", Map.of()), response, chain);
+            ByteBuffer body = (ByteBuffer) response.getResponseEntity().getBody();
+            assertThat(StandardCharsets.UTF_8.decode(body).toString()).isEqualTo("Too Many Requests");
+        }
+    }
+
+    @Test
+    @DisplayName("헤더 키는 값마다 따로 세고, 헤더가 없으면 주소로 센다")
+    void headerKeyFallsBackToAddress() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitPolicy(new PathPattern("/api/**"), 1, 1,
+                RateLimitPolicy.KeySource.HEADER, "X-Api-Key"));
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request("/api/a", "10.0.0.1", Map.of("X-Api-Key", "tenant-a")), new HttpResponse(), chain);
+        filter.doFilter(request("/api/a", "10.0.0.1", Map.of("X-Api-Key", "tenant-b")), new HttpResponse(), chain);
+        filter.doFilter(request("/api/a", "10.0.0.1", Map.of()), new HttpResponse(), chain);
+        verify(chain, times(3)).doFilter(any(), any());
+
+        HttpResponse response = new HttpResponse();
+        filter.doFilter(request("/api/a", "10.0.0.1", Map.of("x-api-key", "tenant-a")), response, chain);
+        assertThat(response.getResponseEntity().getStatusCode()).isEqualTo(ResponseCode.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("가장 구체적인 패턴의 정책 하나만 적용하고, 대상이 아닌 경로는 그대로 통과해야 한다")
+    void mostSpecificRouteWins() throws Exception {
+        RateLimitFilter filter = filter(
+                new RateLimitPolicy(new PathPattern("/api/**"), 1, 1, RateLimitPolicy.KeySource.ADDRESS, null),
+                new RateLimitPolicy(new PathPattern("/api/search"), 100, 100, RateLimitPolicy.KeySource.ADDRESS, null));
+        FilterChain chain = mock(FilterChain.class);
+
+        for (int i = 0; i < 10; i++) {
+            filter.doFilter(request("/api/search", "10.0.0.1", Map.of()), new HttpResponse(), chain);
+            filter.doFilter(request("/health", "10.0.0.1", Map.of()), new HttpResponse(), chain);
+        }
+        verify(chain, times(20)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("클라이언트 주소를 알 수 없으면 제한하지 않아야 한다")
+    void unknownClientPassesThrough() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitPolicy(new PathPattern("/**"), 1, 1,
+                RateLimitPolicy.KeySource.ADDRESS, null));
+        FilterChain chain = mock(FilterChain.class);
+        HttpRequest<?> request = new HttpRequest<>(HttpMethod.GET, "/a", null, Map.of(), Map.of());
+
+        filter.doFilter(request, new HttpResponse(), chain);
+        filter.doFilter(request, new HttpResponse(), chain);
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("헤더만으로 먼저 통과한 업로드는 바디를 받은 뒤 다시 필터를 지날 때 토큰을 또 쓰지 않는다")
+    void preAdmittedRequestIsNotChargedTwice() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitPolicy(new PathPattern("/upload"), 1, 1,
+                RateLimitPolicy.KeySource.ADDRESS, null));
+        FilterChain chain = mock(FilterChain.class);
+        HttpRequest<?> upload = request("/upload", "10.0.0.1", Map.of());
+
+        filter.doFilter(upload, new HttpResponse(), chain);
+        upload.setPreAdmitted(true);
+        filter.doFilter(upload, new HttpResponse(), chain);
+
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("principal 키: 인증되지 않은 요청은 Authorization 헤더를 바꿔 보내도 주소로 묶여 제한된다")
+    void principalKeyIgnoresUnverifiedAuthorizationHeader() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitPolicy(new PathPattern("/api/**"), 2, 1,
+                RateLimitPolicy.KeySource.PRINCIPAL, null));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(filter);
+        FilterChain chain = mock(FilterChain.class);
+
+        try (MockedStatic<SecurityContextHolder> ignored = mockStatic(SecurityContextHolder.class)) {
+            int admitted = 0;
+            for (int i = 0; i < 5; i++) {
+                HttpRequest<?> request = request("/api/a", "10.0.0.1", Map.of("Authorization", "Bearer forged-" + i));
+                HttpResponse response = new HttpResponse();
+                filter.doFilter(request, response, chain);
+                if (interceptor.preHandle(request, response, null)) {
+                    admitted++;
+                } else {
+                    assertThat(response.getResponseEntity().getStatusCode()).isEqualTo(ResponseCode.TOO_MANY_REQUESTS);
+                }
+            }
+
+            // 필터 단계는 principal 정책을 건너뛰고, 인터셉터 단계에서 주소 하나로 센다
+            verify(chain, times(5)).doFilter(any(), any());
+            assertThat(admitted).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("principal 키: 인증된 사용자는 같은 주소에서도 사용자별로 따로 센다")
+    void principalKeyUsesAuthenticatedUser() {
+        RateLimitFilter filter = filter(new RateLimitPolicy(new PathPattern("/api/**"), 1, 1,
+                RateLimitPolicy.KeySource.PRINCIPAL, null));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(filter);
+
+        try (MockedStatic<SecurityContextHolder> holder = mockStatic(SecurityContextHolder.class)) {
+            holder.when(SecurityContextHolder::getContextHolderStrategy).thenReturn(mock(SecurityContextHolderStrategy.class));
+
+            holder.when(SecurityContextHolder::getContext).thenReturn(authenticated("alice"));
+            assertThat(interceptor.preHandle(request("/api/a", "10.0.0.1", Map.of()), new HttpResponse(), null)).isTrue();
+            holder.when(SecurityContextHolder::getContext).thenReturn(authenticated("bob"));
+            assertThat(interceptor.preHandle(request("/api/a", "10.0.0.1", Map.of()), new HttpResponse(), null)).isTrue();
+            holder.when(SecurityContextHolder::getContext).thenReturn(authenticated("alice"));
+            assertThat(interceptor.preHandle(request("/api/a", "10.0.0.1", Map.of()), new HttpResponse(), null)).isFalse();
+        }
+    }
+
+    private static SecurityContextImpl authenticated(String username) {
+        DefaultUserDetails user = new DefaultUserDetails(username, "secret", List.of());
+        return new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("설정 항목을 정책으로 변환해야 한다")
+    void parsesConfiguredRoute() {
+        RateLimitPolicy policy = RateLimitPolicy.from(Map.of("path", "/api/**", "capacity", 20,
+                "refill-per-second", "2.5", "key", "header:X-Api-Key"));
+
+        assertThat(policy.capacity()).isEqualTo(20);
+        assertThat(policy.refillPerSecond()).isEqualTo(2.5);
+        assertThat(policy.keySource()).isEqualTo(RateLimitPolicy.KeySource.HEADER);
+        assertThat(policy.headerName()).isEqualTo("X-Api-Key");
+        assertThat(RateLimitPolicy.from(Map.of("path", "/x")).keySource()).isEqualTo(RateLimitPolicy.KeySource.ADDRESS);
+    }
+}
@@ -0,0 +1,111 @@
+package sprout.core.filter.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTableTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    @DisplayName("용량만큼 허용한 뒤 거절하고, 시간이 지나면 충전 속도대로 다시 허용해야 한다")
+    void burstThenRefill() {
+        TokenBucketTable table = new TokenBucketTable(3, 10, 1000, nanos::get);
+
+        assertThat(table.tryAcquire("a")).isTrue();
+        assertThat(table.tryAcquire("a")).isTrue();
+        assertThat(table.tryAcquire("a")).isTrue();
+        assertThat(table.tryAcquire("a")).isFalse();
+
+        advanceMillis(100); // 초당 10개 → 100ms에 1개
+        assertThat(table.tryAcquire("a")).isTrue();
+        assertThat(table.tryAcquire("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 독립적이어야 한다")
+    void keysAreIndependent() {
+        TokenBucketTable table = new TokenBucketTable(1, 1, 1000, nanos::get);
+
+        assertThat(table.tryAcquire("a")).isTrue();
+        assertThat(table.tryAcquire("a")).isFalse();
+        assertThat(table.tryAcquire("b")).isTrue();
+    }
+
+    @Test
+    @DisplayName("짧은 간격의 요청이 이어져도 소수점 이하 충전분이 누적되어야 한다")
+    void fractionalRefillAccumulates() {
+        TokenBucketTable table = new TokenBucketTable(1, 0.5, 1000, nanos::get);
+        assertThat(table.tryAcquire("a")).isTrue();
+
+        int granted = 0;
+        for (int i = 0; i < 4100; i++) { // 1ms 간격으로 약 4초
+            advanceMillis(1);
+            if (table.tryAcquire("a")) granted++;
+        }
+        assertThat(granted).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 정리되어 키 수가 상한을 넘지 않아야 한다")
+    void idleBucketsAreEvicted() {
+        TokenBucketTable table = new TokenBucketTable(2, 100, 64, nanos::get);
+        for (int i = 0; i < 10_000; i++) {
+            table.tryAcquire("client-" + i);
+            if (i % 100 == 0) advanceMillis(50);
+        }
+        assertThat(table.size()).isLessThanOrEqualTo(64 + Runtime.getRuntime().availableProcessors() * 4);
+
+        // 정리된 키는 가득 찬 버킷으로 다시 시작한다
+        assertThat(table.availableTokens("client-0")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 용량보다 많이 허용하지 않아야 한다")
+    void concurrentAcquireNeverOverGrants() throws Exception {
+        TokenBucketTable table = new TokenBucketTable(1000, 1, 1000, nanos::get);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (table.tryAcquire("hot")) granted.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted.get()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("표현할 수 없는 용량이나 0 이하의 충전 속도는 거부해야 한다")
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new TokenBucketTable(TokenBucketTable.MAX_CAPACITY + 1, 1, 10, nanos::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketTable(10, 0, 10, nanos::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
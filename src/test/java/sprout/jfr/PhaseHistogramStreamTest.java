@@ -0,0 +1,54 @@
+package sprout.jfr;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.metrics.LatencyHistogram;
+import sprout.metrics.MetricsRegistry;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhaseHistogramStreamTest {
+
+    @Test
+    @DisplayName("스트림이 켜져 있으면 커밋된 단계 이벤트가 히스토그램에 쌓여야 한다")
+    void recordsCommittedEvents() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        try (PhaseHistogramStream stream = new PhaseHistogramStream(registry)) {
+            stream.start();
+
+            long deadline = System.currentTimeMillis() + 15_000;
+            while (System.currentTimeMillis() < deadline && count(stream, "RequestDecode") < 3) {
+                for (int i = 0; i < 3; i++) {
+                    RequestDecodeEvent event = new RequestDecodeEvent();
+                    event.begin();
+                    event.method = "GET";
+                    event.path = "/jfr";
+                    event.bytes = 42;
+                    event.commit();
+                }
+                Thread.sleep(200);
+            }
+
+            assertThat(count(stream, "RequestDecode")).isGreaterThanOrEqualTo(3);
+            assertThat(stream.snapshot().keySet()).contains("ConnectionAccept", "HandlerInvocation", "WebSocketDispatch", "BeanCreation");
+        }
+
+        assertThat(registry.scrape()).contains("sprout_phase_duration_seconds_count{phase=\"RequestDecode\"}");
+    }
+
+    @Test
+    @DisplayName("이벤트 이름은 sprout. 접두사를 가져야 한다")
+    void eventNamesArePrefixed() {
+        for (Class<? extends jdk.jfr.Event> eventClass : SproutEvents.ALL) {
+            assertThat(SproutEvents.nameOf(eventClass)).startsWith(SproutEvents.PREFIX);
+        }
+    }
+
+    private static long count(PhaseHistogramStream stream, String phase) {
+        Map<String, LatencyHistogram.Snapshot> snapshot = stream.snapshot();
+        return snapshot.get(phase).getCount();
+    }
+}
@@ -0,0 +1,82 @@
+package sprout.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.logging.appender.AsyncLogAppender;
+import sprout.logging.appender.ConsoleLogAppender;
+import sprout.logging.appender.DropPolicy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggerFactoryTest {
+
+    private final List<LogEvent> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 동기 어펜더로 바꿔서 바로 검증한다 (이전 어펜더는 닫히므로 끝나면 새 기본 어펜더를 되돌려 놓음)
+        LoggerFactory.setAppender(events::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LoggerFactory.setAppender(new AsyncLogAppender(new ConsoleLogAppender(), LoggerFactory.DEFAULT_BUFFER_SIZE, DropPolicy.KEEP_WARN));
+        LoggerFactory.setLevel("test.levels", LogLevel.INFO);
+        LoggerFactory.setLevel("test.levels.ws", LogLevel.INFO);
+    }
+
+    @Test
+    @DisplayName("비활성 레벨 호출은 이벤트를 만들지 않아야 한다")
+    void disabledLevel_doesNotDispatch() {
+        Logger logger = LoggerFactory.getLogger("test.disabled.Foo");
+
+        logger.debug("hidden {}", 1);
+        logger.info("shown {}", 2);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getMessage()).isEqualTo("shown 2");
+        assertThat(events.get(0).getLevel()).isEqualTo(LogLevel.INFO);
+    }
+
+    @Test
+    @DisplayName("가장 긴 패키지 접두어의 레벨이 적용되고, 이미 만든 로거에도 즉시 반영되어야 한다")
+    void levels_resolveByLongestPrefix() {
+        Logger http = LoggerFactory.getLogger("test.levels.http.Handler");
+        Logger ws = LoggerFactory.getLogger("test.levels.ws.Session");
+
+        LoggerFactory.setLevel("test.levels", LogLevel.WARN);
+        LoggerFactory.setLevel("test.levels.ws", LogLevel.TRACE);
+
+        assertThat(http.getLevel()).isEqualTo(LogLevel.WARN);
+        assertThat(http.isInfoEnabled()).isFalse();
+        assertThat(ws.isTraceEnabled()).isTrue();
+        assertThat(LoggerFactory.getLogger("test.other.Foo").getLevel()).isEqualTo(LogLevel.INFO);
+    }
+
+    @Test
+    @DisplayName("마지막 인자가 Throwable이면 예외로 분리되어야 한다")
+    void lastThrowableArgument_isAttached() {
+        Logger logger = LoggerFactory.getLogger("test.throwable.Foo");
+        IllegalStateException error = new IllegalStateException("boom");
+
+        logger.error("Failed for {} {}", "GET", "/users", error);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getMessage()).isEqualTo("Failed for GET /users");
+        assertThat(events.get(0).getThrowable()).isSameAs(error);
+        assertThat(events.get(0).getLoggerName()).isEqualTo("test.throwable.Foo");
+    }
+
+    @Test
+    @DisplayName("플레이스홀더보다 인자가 적으면 남은 {}는 그대로 둬야 한다")
+    void format_keepsUnmatchedPlaceholders() {
+        assertThat(LogEvent.format("a={} b={}", new Object[]{1})).isEqualTo("a=1 b={}");
+        assertThat(LogEvent.format("no args", new Object[0])).isEqualTo("no args");
+        assertThat(LogEvent.format("{}{}", new Object[]{"x", null})).isEqualTo("xnull");
+    }
+}
@@ -0,0 +1,141 @@
+package sprout.logging.appender;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.logging.LogAppender;
+import sprout.logging.LogEvent;
+import sprout.logging.LogLevel;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncLogAppenderTest {
+
+    /** 래치가 열릴 때까지 첫 이벤트에서 멈추는 어펜더 */
+    private static class BlockingAppender implements LogAppender {
+        final List<LogEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void append(LogEvent event) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+    }
+
+    private static LogEvent event(LogLevel level, String message) {
+        return new LogEvent(System.currentTimeMillis(), level, "test", "main", message, new Object[0], null);
+    }
+
+    @Test
+    @DisplayName("이벤트는 어펜더 스레드에서 순서대로 출력되어야 한다")
+    void append_deliversInOrderOnWorkerThread() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        AsyncLogAppender appender = new AsyncLogAppender(e -> {
+            threads.add(Thread.currentThread().getName());
+            messages.add(e.getMessage());
+        }, 128, DropPolicy.KEEP_WARN);
+
+        for (int i = 0; i < 100; i++) {
+            appender.append(event(LogLevel.INFO, "m" + i));
+        }
+        appender.flush();
+        appender.close();
+
+        assertThat(messages).hasSize(100);
+        assertThat(messages.get(0)).isEqualTo("m0");
+        assertThat(messages.get(99)).isEqualTo("m99");
+        assertThat(threads).containsOnly("sprout-log-appender");
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST: 버퍼가 가득 차면 새 이벤트를 버리고 버린 개수를 WARN으로 알려야 한다")
+    void dropNewest_dropsWhenFull() throws Exception {
+        BlockingAppender delegate = new BlockingAppender();
+        AsyncLogAppender appender = new AsyncLogAppender(delegate, 4, DropPolicy.DROP_NEWEST);
+        int capacity = appender.getCapacity();
+
+        appender.append(event(LogLevel.INFO, "first"));
+        assertThat(delegate.started.await(1, TimeUnit.SECONDS)).isTrue(); // 소비자가 첫 이벤트에서 멈춤
+        for (int i = 0; i < capacity + 3; i++) {
+            appender.append(event(LogLevel.ERROR, "e" + i));
+        }
+
+        assertThat(appender.getDroppedCount()).isEqualTo(3);
+
+        delegate.release.countDown();
+        appender.close();
+
+        assertThat(delegate.events).hasSize(1 + capacity + 1);
+        LogEvent report = delegate.events.get(delegate.events.size() - 1);
+        assertThat(report.getLevel()).isEqualTo(LogLevel.WARN);
+        assertThat(report.getMessage()).contains("3 event(s) dropped");
+    }
+
+    @Test
+    @DisplayName("KEEP_WARN: 버퍼가 가득 차면 INFO는 버리고 WARN은 자리가 날 때까지 기다려야 한다")
+    void keepWarn_waitsForWarn() throws Exception {
+        BlockingAppender delegate = new BlockingAppender();
+        AsyncLogAppender appender = new AsyncLogAppender(delegate, 4, DropPolicy.KEEP_WARN);
+        int capacity = appender.getCapacity();
+
+        appender.append(event(LogLevel.INFO, "first"));
+        assertThat(delegate.started.await(1, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < capacity; i++) {
+            appender.append(event(LogLevel.INFO, "i" + i));
+        }
+        appender.append(event(LogLevel.INFO, "dropped"));
+        assertThat(appender.getDroppedCount()).isEqualTo(1);
+
+        AtomicBoolean warnAppended = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            appender.append(event(LogLevel.WARN, "kept"));
+            warnAppended.set(true);
+        });
+        producer.start();
+        producer.join(100);
+        assertThat(warnAppended).isFalse();
+
+        delegate.release.countDown();
+        producer.join(1000);
+        assertThat(warnAppended).isTrue();
+        appender.close();
+
+        List<String> messages = delegate.events.stream().map(LogEvent::getMessage).toList();
+        assertThat(messages).contains("kept").doesNotContain("dropped");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣어도 유실이나 중복 없이 모두 출력되어야 한다")
+    void concurrentProducers_noLossWithoutOverflow() throws Exception {
+        List<LogEvent> received = new CopyOnWriteArrayList<>();
+        AsyncLogAppender appender = new AsyncLogAppender(received::add, 1 << 14, DropPolicy.KEEP_WARN);
+
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            int id = t;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) appender.append(event(LogLevel.INFO, id + ":" + i));
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) producer.join();
+        appender.close();
+
+        assertThat(appender.getDroppedCount()).isZero();
+        assertThat(received.stream().map(LogEvent::getMessage).distinct().count()).isEqualTo(8000);
+        assertThat(received).hasSize(8000);
+    }
+}
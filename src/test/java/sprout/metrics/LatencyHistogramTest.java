@@ -0,0 +1,63 @@
+package sprout.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("모든 값은 자신을 포함하는 버킷에 들어가고 상대 오차는 12.5% 이내여야 한다")
+    void bucketContainsValue() {
+        long[] samples = {0, 1, 7, 8, 9, 15, 16, 17, 100, 1_000, 123_456, 1_000_000, 987_654_321L, 1L << 42};
+        for (long v : samples) {
+            int index = LatencyHistogram.indexOf(v);
+            long upper = LatencyHistogram.upperBoundOf(index);
+            long lower = index == 0 ? 0 : LatencyHistogram.upperBoundOf(index - 1) + 1;
+            assertThat(v).isBetween(lower, upper);
+            assertThat((double) (upper - lower)).isLessThanOrEqualTo(Math.max(0, v) * 0.125);
+        }
+    }
+
+    @Test
+    @DisplayName("범위를 넘는 값은 마지막 버킷에 들어가야 한다")
+    void overflowGoesToLastBucket() {
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+        assertThat(LatencyHistogram.indexOf((1L << 43) + 5)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    @DisplayName("백분위 값은 실제 분포에 가깝고 최댓값을 넘지 않아야 한다")
+    void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000); // 1µs ~ 1ms
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMax()).isEqualTo(1_000_000);
+        assertThat(snapshot.getSum()).isEqualTo(500_500_000L);
+        assertThat(snapshot.valueAtPercentile(50)).isBetween(500_000L, 562_500L);
+        assertThat(snapshot.valueAtPercentile(99)).isBetween(990_000L, 1_000_000L);
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("경계에 완전히 포함되는 버킷만 누적 개수에 세야 한다")
+    void countAtOrBelow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+        histogram.record(5);
+        histogram.record(1_000);
+        histogram.record(-3); // 음수는 0으로
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.countAtOrBelow(0)).isEqualTo(1);
+        assertThat(snapshot.countAtOrBelow(5)).isEqualTo(3);
+        assertThat(snapshot.countAtOrBelow(10_000)).isEqualTo(4);
+    }
+}
@@ -0,0 +1,78 @@
+package sprout.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsDispatchHookTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final MetricsDispatchHook hook = new MetricsDispatchHook(registry);
+
+    @Test
+    @DisplayName("매칭된 라우트 패턴과 상태 코드별로 집계해야 한다")
+    void recordsByRouteAndStatus() {
+        dispatch(HttpMethod.GET, "/users/1", "/users/{id}", ResponseCode.SUCCESS);
+        dispatch(HttpMethod.GET, "/users/2", "/users/{id}", ResponseCode.SUCCESS);
+        dispatch(HttpMethod.GET, "/users/3", "/users/{id}", ResponseCode.NOT_FOUND);
+
+        assertThat(registry.counter(MetricsDispatchHook.REQUESTS, "",
+                "method", "GET", "route", "/users/{id}", "status", "200").get()).isEqualTo(2);
+        assertThat(registry.counter(MetricsDispatchHook.REQUESTS, "",
+                "method", "GET", "route", "/users/{id}", "status", "404").get()).isEqualTo(1);
+        assertThat(registry.histogram(MetricsDispatchHook.DURATION, "",
+                "method", "GET", "route", "/users/{id}").getCount()).isEqualTo(3);
+        assertThat(registry.scrape()).contains("http_server_requests_in_flight 0\n");
+    }
+
+    @Test
+    @DisplayName("핸들러가 없는 요청은 unmatched 하나로 모아야 한다")
+    void unmatchedRoutesAreCollapsed() {
+        dispatch(HttpMethod.GET, "/nope/1", null, ResponseCode.NOT_FOUND);
+        dispatch(HttpMethod.GET, "/nope/2", null, ResponseCode.NOT_FOUND);
+
+        assertThat(registry.counter(MetricsDispatchHook.REQUESTS, "",
+                "method", "GET", "route", MetricsDispatchHook.UNMATCHED, "status", "404").get()).isEqualTo(2);
+        assertThat(registry.scrape()).doesNotContain("/nope/");
+    }
+
+    @Test
+    @DisplayName("비동기 응답은 완성된 시점에 기록해야 한다")
+    void asyncRecordedOnCompletion() {
+        HttpRequest<?> request = new HttpRequest<>(HttpMethod.POST, "/jobs", null, Map.of(), Map.of());
+        request.setRoutePattern("/jobs");
+        HttpResponse response = new HttpResponse();
+
+        hook.beforeDispatch(request, response);
+        response.startAsync();
+        hook.afterDispatch(request, response);
+
+        Counter accepted = registry.counter(MetricsDispatchHook.REQUESTS, "",
+                "method", "POST", "route", "/jobs", "status", "503");
+        assertThat(accepted.get()).isZero();
+        assertThat(registry.scrape()).contains("http_server_requests_in_flight 1\n");
+
+        response.setResponseEntity(new ResponseEntity<>("busy", null, ResponseCode.SERVICE_UNAVAILABLE));
+        response.completeAsync();
+
+        assertThat(accepted.get()).isEqualTo(1);
+        assertThat(registry.scrape()).contains("http_server_requests_in_flight 0\n");
+    }
+
+    private void dispatch(HttpMethod method, String path, String pattern, ResponseCode status) {
+        HttpRequest<?> request = new HttpRequest<>(method, path, null, Map.of(), Map.of());
+        HttpResponse response = new HttpResponse();
+        hook.beforeDispatch(request, response);
+        request.setRoutePattern(pattern);
+        response.setResponseEntity(new ResponseEntity<>("body", null, status));
+        hook.afterDispatch(request, response);
+    }
+}
@@ -0,0 +1,79 @@
+package sprout.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    @DisplayName("같은 이름과 라벨은 같은 카운터를 돌려줘야 한다")
+    void sameSeriesReturnsSameCounter() {
+        Counter a = registry.counter("requests_total", "Requests", "route", "/a");
+        Counter b = registry.counter("requests_total", "Requests", "route", "/a");
+        Counter c = registry.counter("requests_total", "Requests", "route", "/b");
+
+        assertThat(a).isSameAs(b);
+        assertThat(a).isNotSameAs(c);
+    }
+
+    @Test
+    @DisplayName("같은 이름을 다른 타입으로 등록하면 예외가 발생해야 한다")
+    void typeMismatch() {
+        registry.counter("thing", "Thing");
+
+        assertThatThrownBy(() -> registry.histogram("thing", "Thing"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("카운터와 게이지를 Prometheus 텍스트 포맷으로 내보내야 한다")
+    void countersAndGauges() {
+        registry.counter("b_total", "B counter", "path", "/x\"y").add(3);
+        registry.gauge("a_value", "A gauge", () -> 1.5);
+        registry.counter("c_total", "Supplied counter", () -> 42L);
+
+        String text = registry.scrape();
+
+        assertThat(text).isEqualTo(
+                "# HELP a_value A gauge\n" +
+                "# TYPE a_value gauge\n" +
+                "a_value 1.5\n" +
+                "# HELP b_total B counter\n" +
+                "# TYPE b_total counter\n" +
+                "b_total{path=\"/x\\\"y\"} 3\n" +
+                "# HELP c_total Supplied counter\n" +
+                "# TYPE c_total counter\n" +
+                "c_total 42\n");
+    }
+
+    @Test
+    @DisplayName("히스토그램은 초 단위 누적 버킷과 _sum, _count로 내보내야 한다")
+    void histogram() {
+        LatencyHistogram histogram = registry.histogram("latency_seconds", "Latency", "route", "/r");
+        histogram.record(50_000);      // 50µs
+        histogram.record(2_000_000);   // 2ms
+        histogram.record(20_000_000_000L); // 20s
+
+        String text = registry.scrape();
+
+        assertThat(text).contains("# TYPE latency_seconds histogram\n");
+        assertThat(text).contains("latency_seconds_bucket{route=\"/r\",le=\"0.0001\"} 1\n");
+        assertThat(text).contains("latency_seconds_bucket{route=\"/r\",le=\"0.0025\"} 2\n");
+        assertThat(text).contains("latency_seconds_bucket{route=\"/r\",le=\"10\"} 2\n");
+        assertThat(text).contains("latency_seconds_bucket{route=\"/r\",le=\"+Inf\"} 3\n");
+        assertThat(text).contains("latency_seconds_sum{route=\"/r\"} 20.00205\n");
+        assertThat(text).contains("latency_seconds_count{route=\"/r\"} 3\n");
+    }
+
+    @Test
+    @DisplayName("라벨은 키/값 쌍이어야 한다")
+    void oddLabels() {
+        assertThatThrownBy(() -> registry.counter("x_total", "X", "route"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -8,11 +8,17 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import sprout.mvc.annotation.RequestBody;
 import sprout.mvc.exception.BadRequestException;
+import sprout.mvc.exception.ExceptionMessage;
+import sprout.mvc.http.HttpMethod;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.codec.MessageCodecRegistry;
+import sprout.mvc.http.codec.builtins.JsonMessageCodec;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -81,8 +87,8 @@ class RequestBodyArgumentResolverTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        // resolver는 내부적으로 ObjectMapper를 생성하므로, 여기서는 직접 주입하지 않습니다.
-        resolver = new RequestBodyArgumentResolver();
+        resolver = new RequestBodyArgumentResolver(
+                new MessageCodecRegistry(List.of(new JsonMessageCodec(new ObjectMapper()))));
         objectMapperForTest = new ObjectMapper(); // 테스트 데이터를 JSON 문자열로 변환하는 용도
     }
 
@@ -272,4 +278,49 @@ class RequestBodyArgumentResolverTest {
         assertThat(resultList.get(0)).containsEntry("item", "apple").containsEntry("price", 100);
         assertThat(resultList.get(1)).containsEntry("item", "banana").containsEntry("price", 200);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("원본 바이트 바디가 있으면 문자열 변환 없이 바로 바인딩해야 한다")
+    void resolve_RawBody_BindsWithoutStringBody() throws Exception {
+        byte[] raw = "POST /users HTTP/1.1\r\n\r\n{\"username\":\"raw\",\"age\":7}".getBytes(StandardCharsets.UTF_8);
+        int bodyStart = "POST /users HTTP/1.1\r\n\r\n".length();
+        ByteBuffer body = ByteBuffer.wrap(raw, bodyStart, raw.length - bodyStart).slice();
+        HttpRequest<String> request = HttpRequest.ofRawBody(HttpMethod.POST, "/users", body, Map.of(), Map.of());
+
+        Method method = TestController.class.getMethod("handleUser", User.class);
+        Parameter parameter = method.getParameters()[0];
+
+        Object resolvedValue = resolver.resolve(parameter, request, Collections.emptyMap());
+
+        assertThat(resolvedValue).isEqualTo(new User("raw", 7, null));
+    }
+
+    @Test
+    @DisplayName("원본 바이트 바디가 공백뿐이면 null을 반환해야 한다")
+    void resolve_BlankRawBody_ReturnsNull() throws Exception {
+        ByteBuffer body = ByteBuffer.wrap(" \r\n\t".getBytes(StandardCharsets.UTF_8));
+        HttpRequest<String> request = HttpRequest.ofRawBody(HttpMethod.POST, "/users", body, Map.of(), Map.of());
+
+        Method method = TestController.class.getMethod("handleUser", User.class);
+        Parameter parameter = method.getParameters()[0];
+
+        assertThat(resolver.resolve(parameter, request, Collections.emptyMap())).isNull();
+    }
+
+    @Test
+    @DisplayName("바인딩 실패 시 스택 트레이스 없는 고정 메시지의 BadRequestException을 던져야 한다")
+    void resolve_MalformedRawBody_ThrowsLightweightBadRequest() throws Exception {
+        ByteBuffer body = ByteBuffer.wrap("{\"age\":".getBytes(StandardCharsets.UTF_8));
+        HttpRequest<String> request = HttpRequest.ofRawBody(HttpMethod.POST, "/users", body, Map.of(), Map.of());
+
+        Method method = TestController.class.getMethod("handleUser", User.class);
+        Parameter parameter = method.getParameters()[0];
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                resolver.resolve(parameter, request, Collections.emptyMap())
+        );
+        assertThat(ex.getMessage()).isEqualTo(ExceptionMessage.MALFORMED_REQUEST_BODY);
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getCause()).isNotNull();
+    }
+}
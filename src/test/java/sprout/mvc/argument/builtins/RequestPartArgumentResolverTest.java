@@ -0,0 +1,113 @@
+package sprout.mvc.argument.builtins;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import sprout.mvc.annotation.RequestPart;
+import sprout.mvc.exception.BadRequestException;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.multipart.MultipartBody;
+import sprout.mvc.http.multipart.MultipartFile;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestPartArgumentResolverTest {
+
+    private RequestPartArgumentResolver resolver;
+
+    @Mock
+    private HttpRequest<?> mockRequest;
+
+    @Mock
+    private MultipartBody multipart;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        resolver = new RequestPartArgumentResolver();
+    }
+
+    // 테스트용 더미 컨트롤러
+    private static class TestController {
+        public void upload(@RequestPart("file") MultipartFile file, @RequestPart("count") int count) {}
+        public void uploadMany(@RequestPart("files") List<MultipartFile> files) {}
+        public void optional(@RequestPart(value = "memo", required = false) String memo) {}
+        public void whole(@RequestPart MultipartBody body) {}
+        public void noAnnotation(MultipartFile file) {}
+    }
+
+    private static Parameter parameter(String methodName, int index) {
+        for (Method method : TestController.class.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                return method.getParameters()[index];
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+
+    @Test
+    @DisplayName("RequestPart 어노테이션이 있는 파라미터만 지원해야 한다")
+    void supports() {
+        assertThat(resolver.supports(parameter("upload", 0))).isTrue();
+        assertThat(resolver.supports(parameter("noAnnotation", 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일 파트와 텍스트 필드를 대상 타입으로 바인딩해야 한다")
+    void resolve_FileAndField() throws Exception {
+        MultipartFile file = mock(MultipartFile.class);
+        when(mockRequest.getMultipart()).thenReturn(multipart);
+        when(multipart.getFile("file")).thenReturn(file);
+        when(multipart.getField("count")).thenReturn("3");
+
+        assertThat(resolver.resolve(parameter("upload", 0), mockRequest, Collections.emptyMap())).isSameAs(file);
+        assertThat(resolver.resolve(parameter("upload", 1), mockRequest, Collections.emptyMap())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("List<MultipartFile> 파라미터에는 같은 이름의 파일을 모두 넘겨야 한다")
+    void resolve_FileList() throws Exception {
+        List<MultipartFile> files = List.of(mock(MultipartFile.class), mock(MultipartFile.class));
+        when(mockRequest.getMultipart()).thenReturn(multipart);
+        when(multipart.getFiles("files")).thenReturn(files);
+
+        assertThat(resolver.resolve(parameter("uploadMany", 0), mockRequest, Collections.emptyMap())).isEqualTo(files);
+    }
+
+    @Test
+    @DisplayName("MultipartBody 파라미터에는 바디 전체를 넘겨야 한다")
+    void resolve_WholeBody() throws Exception {
+        when(mockRequest.getMultipart()).thenReturn(multipart);
+
+        assertThat(resolver.resolve(parameter("whole", 0), mockRequest, Collections.emptyMap())).isSameAs(multipart);
+    }
+
+    @Test
+    @DisplayName("필수 파트가 없으면 BadRequestException을 던져야 한다")
+    void resolve_MissingRequiredPart_Throws() {
+        when(mockRequest.getMultipart()).thenReturn(multipart);
+
+        assertThrows(BadRequestException.class, () ->
+                resolver.resolve(parameter("upload", 0), mockRequest, Collections.emptyMap()));
+    }
+
+    @Test
+    @DisplayName("multipart 요청이 아니면 필수 파트는 실패하고 선택 파트는 null이어야 한다")
+    void resolve_NotMultipart() throws Exception {
+        when(mockRequest.getMultipart()).thenReturn(null);
+
+        assertThrows(BadRequestException.class, () ->
+                resolver.resolve(parameter("upload", 0), mockRequest, Collections.emptyMap()));
+        assertThat(resolver.resolve(parameter("optional", 0), mockRequest, Collections.emptyMap())).isNull();
+    }
+}
@@ -0,0 +1,188 @@
+package sprout.mvc.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.mvc.annotation.CacheResponse;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.invoke.HandlerMethod;
+import sprout.mvc.mapping.PathPattern;
+import sprout.mvc.mapping.RequestMappingInfo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    static class ItemController {
+        @CacheResponse(ttlSeconds = 10, queryParams = {"page"})
+        public String list() { return "items"; }
+
+        public String uncached() { return "items"; }
+
+        public String configured() { return "items"; }
+    }
+
+    AtomicLong now = new AtomicLong(1_000);
+    ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCachePolicy configured = new ResponseCachePolicy(5_000, new String[0], new String[0]);
+        cache = new ResponseCache(1024, 512, Map.of("/configured", configured), now::get);
+    }
+
+    private static HandlerMethod handler(String path, String methodName) throws Exception {
+        return new HandlerMethod(new RequestMappingInfo(new PathPattern(path), HttpMethod.GET,
+                new ItemController(), ItemController.class.getMethod(methodName)));
+    }
+
+    private static HttpRequest<String> get(String path, Map<String, String> query, Map<String, String> headers) {
+        return new HttpRequest<>(HttpMethod.GET, path, null, query, headers);
+    }
+
+    private static HttpResponse responseWith(String body) {
+        HttpResponse res = new HttpResponse();
+        res.setResponseEntity(new ResponseEntity<>(body, new HashMap<>(), ResponseCode.SUCCESS));
+        return res;
+    }
+
+    private static String bodyOf(HttpResponse res) {
+        ByteBuffer body = ((ByteBuffer) res.getResponseEntity().getBody()).duplicate();
+        byte[] bytes = new byte[body.remaining()];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("@CacheResponse 또는 설정된 라우트의 GET만 캐시 대상")
+    void policyFor_annotationOrConfiguredRoute() throws Exception {
+        HttpRequest<String> req = get("/items", Map.of(), Map.of());
+
+        assertThat(cache.policyFor(handler("/items", "list"), req).ttlMillis()).isEqualTo(10_000);
+        assertThat(cache.policyFor(handler("/configured", "configured"), req).ttlMillis()).isEqualTo(5_000);
+        assertThat(cache.policyFor(handler("/other", "uncached"), req)).isNull();
+        assertThat(cache.policyFor(handler("/items", "list"),
+                new HttpRequest<>(HttpMethod.POST, "/items", null, Map.of(), Map.of()))).isNull();
+    }
+
+    @Test
+    @DisplayName("키는 지정한 쿼리 파라미터와 Vary 헤더만 반영")
+    void keyFor_selectedQueryAndVary() throws Exception {
+        ResponseCachePolicy policy = cache.policyFor(handler("/items", "list"), get("/items", Map.of(), Map.of()));
+
+        String key = cache.keyFor(get("/items", Map.of("page", "2", "trace", "x"), Map.of("accept", "application/cbor")), policy);
+
+        assertThat(key).isEqualTo("GET 6:/items?page=1:2|Accept=16:application/cbor");
+    }
+
+    @Test
+    @DisplayName("값에 구분자가 들어 있어도 다른 요청과 키가 겹치지 않고, 빈 값과 없는 값도 구분한다")
+    void keyFor_escapesComponents() throws Exception {
+        ResponseCachePolicy policy = new ResponseCachePolicy(10_000, new String[]{"a", "b"}, new String[]{"X-Tenant"});
+
+        String injected = cache.keyFor(get("/items", Map.of("a", "1&b=2"), Map.of()), policy);
+        String plain = cache.keyFor(get("/items", Map.of("a", "1", "b", "2"), Map.of()), policy);
+        String headerInjected = cache.keyFor(get("/items", Map.of("a", "1"), Map.of("X-Tenant", "x|X-Tenant=y")), policy);
+        String empty = cache.keyFor(get("/items", Map.of("a", ""), Map.of()), policy);
+        String missing = cache.keyFor(get("/items", Map.of(), Map.of()), policy);
+
+        assertThat(injected).isNotEqualTo(plain);
+        assertThat(headerInjected).isNotEqualTo(cache.keyFor(get("/items", Map.of("a", "1"), Map.of("X-Tenant", "x")), policy));
+        assertThat(empty).isNotEqualTo(missing);
+    }
+
+    @Test
+    @DisplayName("저장 후 히트는 direct buffer 바디와 강한 ETag로 응답")
+    void storeThenServe() throws Exception {
+        ResponseCachePolicy policy = cache.policyFor(handler("/items", "list"), get("/items", Map.of(), Map.of()));
+        HttpRequest<String> req = get("/items", Map.of(), Map.of());
+        HttpResponse first = responseWith("[1,2,3]");
+
+        cache.store("k", policy, req, first);
+        HttpResponse second = new HttpResponse();
+        boolean hit = cache.serve("k", req, second);
+
+        assertThat(hit).isTrue();
+        assertThat(second.getResponseEntity().getBody()).isInstanceOf(ByteBuffer.class);
+        assertThat(((ByteBuffer) second.getResponseEntity().getBody()).isDirect()).isTrue();
+        assertThat(bodyOf(second)).isEqualTo("[1,2,3]");
+        String etag = second.getResponseEntity().getHeaders().get("ETag");
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(first.getResponseEntity().getHeaders()).containsEntry("ETag", etag);
+        assertThat(cache.getUsedBytes()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 일치하면 바디 없는 304")
+    void ifNoneMatch_returns304() throws Exception {
+        ResponseCachePolicy policy = cache.policyFor(handler("/items", "list"), get("/items", Map.of(), Map.of()));
+        HttpResponse first = responseWith("[1,2,3]");
+        cache.store("k", policy, get("/items", Map.of(), Map.of()), first);
+        String etag = first.getResponseEntity().getHeaders().get("ETag");
+
+        HttpResponse res = new HttpResponse();
+        cache.serve("k", get("/items", Map.of(), Map.of("If-None-Match", "\"other\", W/" + etag)), res);
+
+        assertThat(res.getResponseEntity().getStatusCode()).isEqualTo(ResponseCode.NOT_MODIFIED);
+        assertThat(res.getResponseEntity().getBody()).isNull();
+        assertThat(res.getResponseEntity().getHeaders()).containsEntry("ETag", etag);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 미스")
+    void expiredEntry_isMiss() throws Exception {
+        ResponseCachePolicy policy = cache.policyFor(handler("/items", "list"), get("/items", Map.of(), Map.of()));
+        cache.store("k", policy, get("/items", Map.of(), Map.of()), responseWith("[1]"));
+
+        now.addAndGet(10_000);
+
+        assertThat(cache.serve("k", get("/items", Map.of(), Map.of()), new HttpResponse())).isFalse();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 오래된 항목부터 제거, 항목 크기 제한을 넘으면 저장하지 않음")
+    void capacityBounded() throws Exception {
+        ResponseCache small = new ResponseCache(10, 8, Map.of(), now::get);
+        ResponseCachePolicy policy = new ResponseCachePolicy(60_000, new String[0], new String[0]);
+        HttpRequest<String> req = get("/items", Map.of(), Map.of());
+
+        small.store("a", policy, req, responseWith("123456"));
+        small.store("b", policy, req, responseWith("abcdef"));
+        small.store("c", policy, req, responseWith("123456789"));
+
+        assertThat(small.serve("a", req, new HttpResponse())).isFalse();
+        assertThat(small.serve("b", req, new HttpResponse())).isTrue();
+        assertThat(small.serve("c", req, new HttpResponse())).isFalse();
+        assertThat(small.getUsedBytes()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("200이 아닌 응답은 저장하지 않고, evict는 같은 경로의 항목을 모두 제거")
+    void nonSuccessNotStored_andEvictByPath() throws Exception {
+        ResponseCachePolicy policy = new ResponseCachePolicy(60_000, new String[0], new String[0]);
+        HttpResponse notFound = new HttpResponse();
+        notFound.setResponseEntity(new ResponseEntity<>("nope", new HashMap<>(), ResponseCode.NOT_FOUND));
+
+        cache.store("missing", policy, get("/items", Map.of(), Map.of()), notFound);
+        cache.store("p1", policy, get("/items", Map.of(), Map.of()), responseWith("1"));
+        cache.store("p2", policy, get("/items", Map.of(), Map.of()), responseWith("2"));
+        cache.store("o", policy, get("/other", Map.of(), Map.of()), responseWith("3"));
+
+        assertThat(cache.size()).isEqualTo(3);
+        cache.evict("/items");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.serve("o", get("/other", Map.of(), Map.of()), new HttpResponse())).isTrue();
+        assertThat(cache.getUsedBytes()).isEqualTo(1);
+    }
+}
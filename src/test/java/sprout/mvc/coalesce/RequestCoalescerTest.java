@@ -0,0 +1,162 @@
+package sprout.mvc.coalesce;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.mvc.annotation.CoalesceRequests;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.invoke.HandlerMethod;
+import sprout.mvc.mapping.PathPattern;
+import sprout.mvc.mapping.RequestMappingInfo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+
+    static class ReportController {
+        @CoalesceRequests(queryParams = {"region"}, maxWaiters = 2)
+        public String report() { return "report"; }
+
+        public String plain() { return "plain"; }
+
+        public String configured() { return "configured"; }
+    }
+
+    private final CoalescingPolicy configured = new CoalescingPolicy(new String[0], new String[0], false, 10);
+    private final RequestCoalescer coalescer = new RequestCoalescer(Map.of("/configured", configured));
+
+    private static HandlerMethod handler(String path, String methodName) throws Exception {
+        return new HandlerMethod(new RequestMappingInfo(new PathPattern(path), HttpMethod.GET,
+                new ReportController(), ReportController.class.getMethod(methodName)));
+    }
+
+    private static HttpRequest<String> get(String path, Map<String, String> query, Map<String, String> headers) {
+        return new HttpRequest<>(HttpMethod.GET, path, null, query, headers);
+    }
+
+    private static String bodyOf(ResponseEntity<?> entity) {
+        ByteBuffer body = ((ByteBuffer) entity.getBody()).duplicate();
+        return StandardCharsets.UTF_8.decode(body).toString();
+    }
+
+    @Test
+    @DisplayName("@CoalesceRequests 또는 설정된 라우트의 GET만 합치기 대상")
+    void policyFor_annotationOrConfiguredRoute() throws Exception {
+        HttpRequest<String> req = get("/reports", Map.of(), Map.of());
+
+        assertThat(coalescer.policyFor(handler("/reports", "report"), req).maxWaiters()).isEqualTo(2);
+        assertThat(coalescer.policyFor(handler("/configured", "configured"), req)).isSameAs(configured);
+        assertThat(coalescer.policyFor(handler("/plain", "plain"), req)).isNull();
+        assertThat(coalescer.policyFor(handler("/reports", "report"),
+                new HttpRequest<>(HttpMethod.POST, "/reports", null, Map.of(), Map.of()))).isNull();
+    }
+
+    @Test
+    @DisplayName("키는 지정한 쿼리 파라미터와 Vary 헤더만 반영")
+    void keyFor_selectedQueryAndVary() throws Exception {
+        CoalescingPolicy policy = coalescer.policyFor(handler("/reports", "report"), get("/reports", Map.of(), Map.of()));
+
+        String a = coalescer.keyFor(get("/reports", Map.of("region", "kr", "ts", "1"), Map.of("Accept", "application/json")), policy);
+        String b = coalescer.keyFor(get("/reports", Map.of("region", "kr", "ts", "2"), Map.of("accept", "application/json")), policy);
+        String c = coalescer.keyFor(get("/reports", Map.of("region", "us"), Map.of("Accept", "application/json")), policy);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a).isNotEqualTo(c);
+    }
+
+    @Test
+    @DisplayName("값에 구분자가 있거나 비어 있어도 다른 요청과 키가 겹치지 않음")
+    void keyFor_escapesComponents() {
+        CoalescingPolicy policy = new CoalescingPolicy(new String[]{"a", "b"}, new String[]{"X-Tenant"}, false, 10);
+
+        String injected = coalescer.keyFor(get("/items", Map.of("a", "1&b=2", "b", ""), Map.of()), policy);
+        String plain = coalescer.keyFor(get("/items", Map.of("a", "1", "b", "2&b="), Map.of()), policy);
+        String headerInjected = coalescer.keyFor(get("/items", Map.of("a", "1"), Map.of("X-Tenant", "x|X-Tenant=y")), policy);
+        String empty = coalescer.keyFor(get("/items", Map.of("a", ""), Map.of()), policy);
+        String missing = coalescer.keyFor(get("/items", Map.of(), Map.of()), policy);
+
+        assertThat(injected).isNotEqualTo(plain);
+        assertThat(headerInjected).isNotEqualTo(coalescer.keyFor(get("/items", Map.of("a", "1"), Map.of("X-Tenant", "x")), policy));
+        assertThat(empty).isNotEqualTo(missing);
+    }
+
+    @Test
+    @DisplayName("첫 요청은 리더, 진행 중에 들어온 요청은 대기하고 한도를 넘으면 거절")
+    void join_leaderFollowersAndLimit() throws Exception {
+        CoalescingPolicy policy = coalescer.policyFor(handler("/reports", "report"), get("/reports", Map.of(), Map.of()));
+
+        assertThat(coalescer.join("k", policy).role()).isEqualTo(RequestCoalescer.Role.LEADER);
+        assertThat(coalescer.join("k", policy).role()).isEqualTo(RequestCoalescer.Role.FOLLOWER);
+        assertThat(coalescer.join("k", policy).role()).isEqualTo(RequestCoalescer.Role.FOLLOWER);
+        assertThat(coalescer.join("k", policy).role()).isEqualTo(RequestCoalescer.Role.REJECTED);
+        assertThat(coalescer.join("other", policy).role()).isEqualTo(RequestCoalescer.Role.LEADER);
+    }
+
+    @Test
+    @DisplayName("리더의 응답은 한 번 인코딩되어 모든 대기 요청에 전달되고, Set-Cookie는 빠진다")
+    void complete_sharesEncodedResponse() {
+        RequestCoalescer.Participation leader = coalescer.join("k", configured);
+        List<ResponseEntity<?>> received = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            coalescer.join("k", configured).flight().whenComplete((entity, failure) -> received.add(entity));
+        }
+        assertThat(received).isEmpty();
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-Report", "1");
+        headers.put("Set-Cookie", "session=leader");
+        HttpResponse response = new HttpResponse();
+        response.setResponseEntity(new ResponseEntity<>("{\"total\":3}", headers, ResponseCode.SUCCESS));
+        coalescer.complete(leader.flight(), response, null);
+
+        assertThat(received).hasSize(3);
+        for (ResponseEntity<?> entity : received) {
+            assertThat(bodyOf(entity)).isEqualTo("{\"total\":3}");
+            assertThat(entity.getStatusCode()).isEqualTo(ResponseCode.SUCCESS);
+            assertThat(entity.getHeaders()).containsEntry("X-Report", "1").doesNotContainKey("Set-Cookie");
+        }
+        assertThat(coalescer.inFlight()).isZero();
+        assertThat(coalescer.join("k", configured).role()).isEqualTo(RequestCoalescer.Role.LEADER);
+    }
+
+    @Test
+    @DisplayName("리더가 예외로 끝나면 모든 대기 요청에 같은 예외가 전달된다")
+    void complete_propagatesFailure() {
+        RequestCoalescer.Participation leader = coalescer.join("k", configured);
+        AtomicReference<Exception> first = new AtomicReference<>();
+        AtomicReference<Exception> second = new AtomicReference<>();
+        coalescer.join("k", configured).flight().whenComplete((entity, failure) -> first.set(failure));
+        coalescer.join("k", configured).flight().whenComplete((entity, failure) -> second.set(failure));
+
+        IllegalStateException boom = new IllegalStateException("boom");
+        coalescer.complete(leader.flight(), new HttpResponse(), boom);
+
+        assertThat(first.get()).isSameAs(boom);
+        assertThat(second.get()).isSameAs(boom);
+    }
+
+    @Test
+    @DisplayName("리더가 끝난 뒤에 붙은 요청도 즉시 결과를 받는다")
+    void lateFollowerGetsResultImmediately() {
+        RequestCoalescer.Participation leader = coalescer.join("k", configured);
+        RequestCoalescer.Flight flight = leader.flight();
+        HttpResponse response = new HttpResponse();
+        response.setResponseEntity(new ResponseEntity<>("done", new HashMap<>(), ResponseCode.SUCCESS));
+        coalescer.complete(flight, response, null);
+
+        AtomicReference<ResponseEntity<?>> received = new AtomicReference<>();
+        flight.whenComplete((entity, failure) -> received.set(entity));
+        assertThat(bodyOf(received.get())).isEqualTo("done");
+    }
+}
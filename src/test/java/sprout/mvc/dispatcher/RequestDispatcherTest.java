@@ -1,23 +1,44 @@
 package sprout.mvc.dispatcher;
 
 import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import sprout.core.deadline.Deadline;
+import sprout.core.deadline.DeadlineExceededException;
+import sprout.core.filter.Filter;
 import sprout.core.filter.FilterChain;
 import sprout.core.interceptor.Interceptor;
 import sprout.core.interceptor.InterceptorChain;
+import sprout.metrics.MetricsDispatchHook;
+import sprout.metrics.MetricsRegistry;
 import sprout.mvc.advice.ResponseAdvice;
+import sprout.mvc.cache.ResponseCache;
+import sprout.mvc.cache.ResponseCachePolicy;
+import sprout.mvc.coalesce.CoalescingPolicy;
+import sprout.mvc.coalesce.RequestCoalescer;
 import sprout.mvc.exception.ExceptionResolver;
 import sprout.mvc.http.*;
 import sprout.mvc.invoke.HandlerMethod;
 import sprout.mvc.invoke.HandlerMethodInvoker;
 import sprout.mvc.mapping.HandlerMapping;
+import sprout.server.RequestExecutorService;
+import sprout.server.WorkloadExecutors;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +52,9 @@ class RequestDispatcherTest {
     @Mock ExceptionResolver exceptionResolver;
     @Mock Interceptor interceptor;
     @Mock DispatchHook hook;
+    @Mock ResponseCache responseCache;
+    @Mock RequestCoalescer requestCoalescer;
+    @Mock WorkloadExecutors workloadExecutors;
     @Mock HttpRequest<?> req;
     @Mock HttpResponse    res;
 
@@ -59,7 +83,28 @@ class RequestDispatcherTest {
                 List.of(),               // Filter 없음 (필요 시 개별 테스트서 mock)
                 List.of(interceptor),    // 인터셉터 1개
                 List.of(exceptionResolver),
-                List.of(hook)            // Hook 1개
+                List.of(hook),           // Hook 1개
+                responseCache,           // 기본 stub: 캐시 대상 아님 (policyFor → null)
+                requestCoalescer,        // 기본 stub: 합치기 대상 아님 (policyFor → null)
+                new AsyncTimeoutPolicy(200),
+                new DeadlinePolicy(0, Map.of()),  // 기본: 마감 없음
+                workloadExecutors                 // 기본 stub: 워크로드 지정 없음 (executorFor → null)
+        );
+    }
+
+    private RequestDispatcher dispatcherWithDeadline(long deadlineMillis) {
+        return new RequestDispatcher(
+                mapping, invoker,
+                List.of(responseResolver),
+                List.of(), List.of(),
+                List.of(interceptor),
+                List.of(exceptionResolver),
+                List.of(hook),
+                responseCache,
+                requestCoalescer,
+                new AsyncTimeoutPolicy(200),
+                new DeadlinePolicy(deadlineMillis, Map.of()),
+                workloadExecutors
         );
     }
 
@@ -149,4 +194,364 @@ class RequestDispatcherTest {
         // afterCompletion 에는 예외 객체가 전달
         verify(interceptor).afterCompletion(eq(req), eq(res), eq(hm), any(IllegalStateException.class));
     }
+
+    /* ---------- 5. 응답 캐시 ---------- */
+
+    @Test
+    @DisplayName("캐시 히트면 핸들러를 호출하지 않고 postHandle·afterCompletion 은 실행")
+    void cacheHit_skipsInvoker() throws Exception {
+        ResponseCachePolicy policy = new ResponseCachePolicy(60_000, new String[0], new String[]{"Accept"});
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req,res,hm)).thenReturn(true);
+        when(responseCache.policyFor(hm, req)).thenReturn(policy);
+        when(responseCache.keyFor(req, policy)).thenReturn("GET /test|Accept=");
+        when(responseCache.serve("GET /test|Accept=", req, res)).thenReturn(true);
+
+        dispatcher.dispatch(req, res);
+
+        verifyNoInteractions(invoker, responseResolver);
+        verify(responseCache, never()).store(any(), any(), any(), any());
+        verify(interceptor).postHandle(req,res,hm,null); // 목 응답이라 캐시된 엔티티 자리가 null
+        verify(interceptor).afterCompletion(req,res,hm,null);
+    }
+
+    @Test
+    @DisplayName("캐시 미스면 핸들러 응답을 설정한 뒤 캐시에 저장")
+    void cacheMiss_storesAfterResolving() throws Exception {
+        ResponseCachePolicy policy = new ResponseCachePolicy(60_000, new String[0], new String[0]);
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req,res,hm)).thenReturn(true);
+        when(responseCache.policyFor(hm, req)).thenReturn(policy);
+        when(responseCache.keyFor(req, policy)).thenReturn("GET /test");
+        when(invoker.invoke(any(), eq(req))).thenReturn("Hello");
+        when(responseResolver.supports("Hello")).thenReturn(true);
+        ResponseEntity<String> ok = new ResponseEntity<>("OK", new HashMap<>(), ResponseCode.SUCCESS);
+        doReturn(ok).when(responseResolver).resolve(any(), any());
+
+        dispatcher.dispatch(req, res);
+
+        InOrder order = inOrder(invoker, res, responseCache);
+        order.verify(invoker).invoke(any(), eq(req));
+        order.verify(res).setResponseEntity(ok);
+        order.verify(responseCache).store("GET /test", policy, req, res);
+    }
+
+    @Test
+    @DisplayName("진행 중인 실행을 기다린 요청은 핸들러 없이 공유 응답을 받고 postHandle·afterCompletion 을 실행")
+    @SuppressWarnings("unchecked")
+    void coalescedFollower_receivesSharedResponseWithPostHandle() throws Exception {
+        HttpResponse asyncRes = new HttpResponse();
+        CoalescingPolicy policy = new CoalescingPolicy(new String[0], new String[0], false, 10);
+        RequestCoalescer.Flight flight = mock(RequestCoalescer.Flight.class);
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        when(requestCoalescer.policyFor(hm, req)).thenReturn(policy);
+        when(requestCoalescer.keyFor(req, policy)).thenReturn("GET /test");
+        when(requestCoalescer.join("GET /test", policy))
+                .thenReturn(new RequestCoalescer.Participation(RequestCoalescer.Role.FOLLOWER, flight));
+
+        dispatcher.dispatch(req, asyncRes);
+
+        assertThat(asyncRes.isAsyncStarted()).isTrue();
+        verify(interceptor, never()).postHandle(any(), any(), any(), any());
+        ArgumentCaptor<BiConsumer<ResponseEntity<?>, Exception>> callback = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(flight).whenComplete(callback.capture());
+
+        ResponseEntity<String> shared = new ResponseEntity<>("OK", new HashMap<>(), ResponseCode.SUCCESS);
+        callback.getValue().accept(shared, null);
+
+        verifyNoInteractions(invoker);
+        assertThat(asyncRes.getResponseEntity()).isSameAs(shared);
+        InOrder order = inOrder(interceptor);
+        order.verify(interceptor).postHandle(req, asyncRes, hm, shared);
+        order.verify(interceptor).afterCompletion(req, asyncRes, hm, null);
+    }
+
+    /* ---------- 6. 비동기 반환 (CompletionStage) ---------- */
+
+    @Test
+    @DisplayName("CompletionStage 반환 시 dispatch는 바로 반환되고, 완료 시 리졸버 → afterCompletion → 리스너 순으로 실행")
+    void completionStage_resolvedOnCompletion() throws Exception {
+        HttpResponse asyncRes = new HttpResponse();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        when(invoker.invoke(any(), eq(req))).thenReturn(future);
+        when(responseResolver.supports("Hello")).thenReturn(true);
+        ResponseEntity<String> ok = new ResponseEntity<>("OK", new HashMap<>(), ResponseCode.SUCCESS);
+        doReturn(ok).when(responseResolver).resolve(any(), any());
+        Runnable listener = mock(Runnable.class);
+
+        dispatcher.dispatch(req, asyncRes);
+        asyncRes.onAsyncComplete(listener);
+
+        assertThat(asyncRes.isAsyncStarted()).isTrue();
+        assertThat(asyncRes.isCommitted()).isFalse();
+        verify(interceptor, never()).afterCompletion(any(), any(), any(), any());
+
+        future.complete("Hello");
+
+        InOrder order = inOrder(interceptor, responseResolver, listener);
+        order.verify(interceptor).postHandle(req, asyncRes, hm, "Hello");
+        order.verify(responseResolver).resolve("Hello", req);
+        order.verify(interceptor).afterCompletion(req, asyncRes, hm, null);
+        order.verify(listener).run();
+        assertThat(asyncRes.getResponseEntity()).isSameAs(ok);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 완료되지 않으면 503, 원래 future는 취소")
+    void completionStage_timeoutReturns503() throws Exception {
+        HttpResponse asyncRes = new HttpResponse();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        when(invoker.invoke(any(), eq(req))).thenReturn(future);
+        CountDownLatch done = new CountDownLatch(1);
+
+        dispatcher.dispatch(req, asyncRes);
+        asyncRes.onAsyncComplete(done::countDown);
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(asyncRes.getResponseEntity().getStatusCode()).isEqualTo(ResponseCode.SERVICE_UNAVAILABLE);
+        assertThat(future.isCancelled()).isTrue();
+        verify(interceptor).afterCompletion(req, asyncRes, hm, null);
+    }
+
+    @Test
+    @DisplayName("예외로 완료되면 원인 예외를 ExceptionResolver 로 처리")
+    void completionStage_exceptionalCompletion() throws Exception {
+        HttpResponse asyncRes = new HttpResponse();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        when(invoker.invoke(any(), eq(req))).thenReturn(future);
+        ResponseEntity<String> errEnt = new ResponseEntity<>("E", new HashMap<>(), ResponseCode.BAD_REQUEST);
+        when(exceptionResolver.resolveException(eq(req), eq(asyncRes), eq(hm), any(IllegalArgumentException.class)))
+                .thenReturn(errEnt);
+
+        dispatcher.dispatch(req, asyncRes);
+        future.completeExceptionally(new IllegalArgumentException("bad"));
+
+        assertThat(asyncRes.getResponseEntity()).isSameAs(errEnt);
+        verify(interceptor).afterCompletion(eq(req), eq(asyncRes), eq(hm), any(IllegalArgumentException.class));
+    }
+
+    /* ---------- 7. 요청 마감 ---------- */
+
+    @Test
+    @DisplayName("마감이 지나면 핸들러가 끝나기 전에 503으로 응답하고 핸들러 스레드를 인터럽트")
+    void deadline_expiresWhileHandlerRuns() throws Exception {
+        RequestDispatcher deadlineDispatcher = dispatcherWithDeadline(100);
+        HttpResponse asyncRes = new HttpResponse();
+        when(req.getReceivedNanos()).thenReturn(System.nanoTime());
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        ResponseEntity<String> unavailable = new ResponseEntity<>("busy", new HashMap<>(), ResponseCode.SERVICE_UNAVAILABLE);
+        AtomicReference<String> resolverThread = new AtomicReference<>();
+        when(exceptionResolver.resolveException(eq(req), eq(asyncRes), eq(hm), any(DeadlineExceededException.class)))
+                .thenAnswer(inv -> {
+                    resolverThread.set(Thread.currentThread().getName());
+                    return unavailable;
+                });
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(invoker.invoke(any(), eq(req))).thenAnswer(inv -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                release.await();
+            }
+            return "late";
+        });
+        CountDownLatch responded = new CountDownLatch(1);
+        asyncRes.onAsyncComplete(responded::countDown);
+        AtomicBoolean interruptLeaked = new AtomicBoolean();
+
+        Thread worker = new Thread(() -> {
+            try {
+                deadlineDispatcher.dispatch(req, asyncRes);
+            } catch (IOException ignored) {
+            }
+            interruptLeaked.set(Thread.currentThread().isInterrupted());
+        });
+        worker.start();
+
+        // 핸들러가 아직 반환하지 않았어도 응답은 완성된다
+        assertThat(responded.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(asyncRes.getResponseEntity()).isSameAs(unavailable);
+        verify(interceptor).afterCompletion(eq(req), eq(asyncRes), eq(hm), any(DeadlineExceededException.class));
+        // 타이머 스레드는 예약만 하고, 리졸버·afterCompletion은 완료 스레드에서 돈다
+        assertThat(resolverThread.get()).startsWith("sprout-deadline-completion-");
+
+        release.countDown();
+        worker.join(2_000);
+        // 늦게 끝난 핸들러의 결과는 버린다
+        verify(responseResolver, never()).resolve(any(), any());
+        assertThat(asyncRes.getResponseEntity()).isSameAs(unavailable);
+        assertThat(interruptLeaked.get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마감 전에 끝나면 평소처럼 응답하고, 핸들러 안에서 현재 마감을 볼 수 있다")
+    void deadline_handlerFinishesInTime() throws Exception {
+        RequestDispatcher deadlineDispatcher = dispatcherWithDeadline(5_000);
+        HttpResponse asyncRes = new HttpResponse();
+        when(req.getReceivedNanos()).thenReturn(System.nanoTime());
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+        when(invoker.invoke(any(), eq(req))).thenAnswer(inv -> {
+            seen.set(Deadline.current());
+            return "Hello";
+        });
+        when(responseResolver.supports("Hello")).thenReturn(true);
+        ResponseEntity<String> ok = new ResponseEntity<>("OK", new HashMap<>(), ResponseCode.SUCCESS);
+        doReturn(ok).when(responseResolver).resolve(any(), any());
+        Runnable listener = mock(Runnable.class);
+
+        deadlineDispatcher.dispatch(req, asyncRes);
+        asyncRes.onAsyncComplete(listener);
+
+        assertThat(asyncRes.getResponseEntity()).isSameAs(ok);
+        verify(listener).run();
+        verify(interceptor).afterCompletion(req, asyncRes, hm, null);
+        assertThat(seen.get()).isNotNull();
+        assertThat(seen.get().remainingMillis()).isGreaterThan(0);
+        assertThat(Deadline.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("워커를 기다리는 사이 마감이 지났으면 핸들러를 호출하지 않는다")
+    void deadline_alreadyExpiredBeforeHandler() throws Exception {
+        RequestDispatcher deadlineDispatcher = dispatcherWithDeadline(50);
+        when(req.getReceivedNanos()).thenReturn(System.nanoTime() - TimeUnit.SECONDS.toNanos(1));
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, res, hm)).thenReturn(true);
+        when(exceptionResolver.resolveException(eq(req), eq(res), eq(hm), any(DeadlineExceededException.class)))
+                .thenReturn(new ResponseEntity<>("busy", new HashMap<>(), ResponseCode.SERVICE_UNAVAILABLE));
+
+        deadlineDispatcher.dispatch(req, res);
+
+        verify(invoker, never()).invoke(any(), any());
+        verify(res).setResponseEntity(argThat(e -> e.getStatusCode() == ResponseCode.SERVICE_UNAVAILABLE));
+    }
+
+    /* ---------- 8. 워크로드 실행기 ---------- */
+
+    @Test
+    @DisplayName("워크로드가 지정된 핸들러는 해당 실행기에서 호출되고, 그 스레드에서 응답이 완성된다")
+    void workload_handlerRunsOnWorkloadExecutor() throws Exception {
+        List<Runnable> submitted = new ArrayList<>();
+        RequestExecutorService cpu = mock(RequestExecutorService.class);
+        doAnswer(inv -> submitted.add(inv.getArgument(0))).when(cpu).execute(any());
+        when(workloadExecutors.executorFor(hm)).thenReturn(cpu);
+        HttpResponse asyncRes = new HttpResponse();
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        when(invoker.invoke(any(), eq(req))).thenReturn("Hello");
+        when(responseResolver.supports("Hello")).thenReturn(true);
+        ResponseEntity<String> ok = new ResponseEntity<>("OK", new HashMap<>(), ResponseCode.SUCCESS);
+        doReturn(ok).when(responseResolver).resolve(any(), any());
+        Runnable listener = mock(Runnable.class);
+
+        dispatcher.dispatch(req, asyncRes);
+        asyncRes.onAsyncComplete(listener);
+
+        // 넘기기만 하고 아직 호출하지 않았다
+        assertThat(asyncRes.isAsyncStarted()).isTrue();
+        verify(invoker, never()).invoke(any(), any());
+        assertThat(submitted).hasSize(1);
+
+        submitted.get(0).run();
+
+        InOrder order = inOrder(invoker, responseResolver, interceptor, listener);
+        order.verify(invoker).invoke(any(), eq(req));
+        order.verify(responseResolver).resolve("Hello", req);
+        order.verify(interceptor).afterCompletion(req, asyncRes, hm, null);
+        order.verify(listener).run();
+        assertThat(asyncRes.getResponseEntity()).isSameAs(ok);
+    }
+
+    @Test
+    @DisplayName("워크로드 실행기가 가득 차 거절하면 503으로 바로 응답")
+    void workload_rejectedReturns503() throws Exception {
+        RequestExecutorService admin = mock(RequestExecutorService.class);
+        doThrow(new RejectedExecutionException("full")).when(admin).execute(any());
+        when(workloadExecutors.executorFor(hm)).thenReturn(admin);
+        HttpResponse asyncRes = new HttpResponse();
+        when(mapping.findHandler(anyString(), any())).thenReturn(hm);
+        when(interceptor.preHandle(req, asyncRes, hm)).thenReturn(true);
+        Runnable listener = mock(Runnable.class);
+
+        dispatcher.dispatch(req, asyncRes);
+        asyncRes.onAsyncComplete(listener);
+
+        verify(invoker, never()).invoke(any(), any());
+        assertThat(asyncRes.getResponseEntity().getStatusCode()).isEqualTo(ResponseCode.SERVICE_UNAVAILABLE);
+        verify(interceptor).afterCompletion(eq(req), eq(asyncRes), eq(hm), any(RejectedExecutionException.class));
+        verify(listener).run();
+    }
+
+    @Test
+    @DisplayName("admit: 헤더만으로 필터를 돌리고, 핸들러는 부르지 않은 채 통과 여부만 알려준다")
+    void admit_runsFiltersWithoutHandler() throws IOException {
+        Filter pass = (request, response, chain) -> chain.doFilter(request, response);
+        Filter reject = (request, response, chain) ->
+                response.setResponseEntity(new ResponseEntity<>("Unauthorized", null, ResponseCode.UNAUTHORIZED));
+        HttpRequest<?> passing = new HttpRequest<>(HttpMethod.POST, "/upload", null, Map.of(), Map.of());
+        HttpRequest<?> rejected = new HttpRequest<>(HttpMethod.POST, "/upload", null, Map.of(), Map.of());
+        HttpResponse rejection = new HttpResponse();
+
+        assertThat(dispatcherWithFilters(pass).admit(passing, new HttpResponse())).isTrue();
+        assertThat(dispatcherWithFilters(pass, reject).admit(rejected, rejection)).isFalse();
+
+        assertThat(passing.isPreAdmitted()).isTrue();
+        assertThat(rejected.isPreAdmitted()).isFalse();
+        assertThat(rejection.getResponseEntity().getStatusCode()).isEqualTo(ResponseCode.UNAUTHORIZED);
+        verify(mapping, never()).findHandler(anyString(), any());
+        verify(hook, never()).beforeDispatch(any(), any());
+        verify(hook, never()).afterDispatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("admit을 거친 업로드도 바디를 받은 뒤 dispatch에서 한 번만 메트릭에 집계된다")
+    void admitThenDispatch_recordsOneMetricsSample() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Filter pass = (request, response, chain) -> chain.doFilter(request, response);
+        RequestDispatcher metered = dispatcher(List.of(pass), new MetricsDispatchHook(registry));
+        HttpRequest<?> upload = new HttpRequest<>(HttpMethod.POST, "/upload", null, Map.of(), Map.of());
+
+        assertThat(metered.admit(upload, new HttpResponse())).isTrue();
+        metered.dispatch(upload, new HttpResponse());
+
+        assertThat(registry.counter("http_server_requests_total", "",
+                "method", "POST", "route", "unmatched", "status", "404").get()).isEqualTo(1);
+        assertThat(registry.counter("http_server_requests_total", "",
+                "method", "POST", "route", "unmatched", "status", "500").get()).isZero();
+        assertThat(registry.histogram("http_server_request_duration_seconds", "",
+                "method", "POST", "route", "unmatched").getCount()).isEqualTo(1);
+    }
+
+    private RequestDispatcher dispatcherWithFilters(Filter... filters) {
+        return dispatcher(List.of(filters), hook);
+    }
+
+    private RequestDispatcher dispatcher(List<Filter> filters, DispatchHook dispatchHook) {
+        return new RequestDispatcher(
+                mapping, invoker,
+                List.of(responseResolver),
+                List.of(), filters,
+                List.of(interceptor),
+                List.of(exceptionResolver),
+                List.of(dispatchHook),
+                responseCache,
+                requestCoalescer,
+                new AsyncTimeoutPolicy(200),
+                new DeadlinePolicy(0, Map.of()),
+                workloadExecutors
+        );
+    }
 }
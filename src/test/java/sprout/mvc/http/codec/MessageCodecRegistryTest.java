@@ -0,0 +1,122 @@
+package sprout.mvc.http.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.codec.builtins.CborMessageCodec;
+import sprout.mvc.http.codec.builtins.JsonMessageCodec;
+import sprout.mvc.http.codec.builtins.MessagePackMessageCodec;
+import sprout.mvc.http.codec.builtins.SmileMessageCodec;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MessageCodecRegistryTest {
+
+    public static class Point {
+        public int x;
+        public int y;
+    }
+
+    JsonMessageCodec json;
+    CborMessageCodec cbor;
+    SmileMessageCodec smile;
+    MessagePackMessageCodec msgpack;
+    MessageCodecRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        json = new JsonMessageCodec(new ObjectMapper());
+        cbor = new CborMessageCodec();
+        smile = new SmileMessageCodec();
+        msgpack = new MessagePackMessageCodec();
+        registry = new MessageCodecRegistry(List.of(json, cbor, smile, msgpack));
+    }
+
+    @Test
+    @DisplayName("Accept 헤더가 없거나 */* 이면 기본 코덱(JSON)")
+    void negotiate_defaultsToFirstCodec() {
+        assertThat(registry.negotiate(null)).isSameAs(json);
+        assertThat(registry.negotiate("")).isSameAs(json);
+        assertThat(registry.negotiate("*/*")).isSameAs(json);
+    }
+
+    @Test
+    @DisplayName("q 값이 가장 높은 미디어 타입의 코덱을 선택")
+    void negotiate_picksHighestQuality() {
+        assertThat(registry.negotiate("application/json;q=0.5, application/cbor")).isSameAs(cbor);
+        assertThat(registry.negotiate("application/cbor;q=0.2, application/x-msgpack;q=0.9")).isSameAs(msgpack);
+        assertThat(registry.negotiate("text/html, application/x-jackson-smile;q=0.8")).isSameAs(smile);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 타입만 요청되면 기본 코덱으로 응답")
+    void negotiate_unknownFallsBackToDefault() {
+        assertThat(registry.negotiate("application/xml")).isSameAs(json);
+        assertThat(registry.negotiate("application/cbor;q=0")).isSameAs(json);
+    }
+
+    @Test
+    @DisplayName("Content-Type 파라미터와 대소문자를 무시하고 코덱을 찾음")
+    void forContentType_ignoresParametersAndCase() {
+        assertThat(registry.forContentType("Application/CBOR; charset=binary")).isSameAs(cbor);
+        assertThat(registry.forContentType("application/json; charset=UTF-8")).isSameAs(json);
+        assertThat(registry.forContentType("text/plain")).isSameAs(json);
+    }
+
+    @Test
+    @DisplayName("요청 헤더 이름은 대소문자를 구분하지 않음")
+    void forRequest_headerNameCaseInsensitive() {
+        HttpRequest<String> request = new HttpRequest<>(HttpMethod.POST, "/points", null, Map.of(),
+                Map.of("content-type", "application/msgpack", "accept", "application/x-jackson-smile"));
+
+        assertThat(registry.forRequestBody(request)).isSameAs(msgpack);
+        assertThat(registry.forResponseBody(request)).isSameAs(smile);
+        assertThat(registry.declaredCodec(request)).isSameAs(msgpack);
+    }
+
+    @Test
+    @DisplayName("Content-Type이 없으면 선언된 코덱도 없음")
+    void declaredCodec_nullWhenMissing() {
+        HttpRequest<String> request = new HttpRequest<>(HttpMethod.GET, "/ws", null, Map.of(), Map.of());
+
+        assertThat(registry.declaredCodec(request)).isNull();
+    }
+
+    @Test
+    @DisplayName("협상 결과 캐시는 상한을 넘지 않음")
+    void negotiationCache_isBounded() {
+        for (int i = 0; i < MessageCodecRegistry.MAX_CACHED_ENTRIES * 2; i++) {
+            assertThat(registry.negotiate("application/x-unknown-" + i)).isSameAs(json);
+        }
+        assertThat(registry.negotiate("application/cbor")).isSameAs(cbor);
+    }
+
+    @Test
+    @DisplayName("바이너리 코덱은 인코딩한 바이트를 같은 타입으로 복원")
+    void binaryCodec_roundTrip() throws Exception {
+        Point point = new Point();
+        point.x = 3;
+        point.y = 4;
+
+        for (MessageCodec codec : List.of(cbor, smile, msgpack)) {
+            byte[] encoded = codec.encode(point);
+            Point decoded = (Point) codec.readerFor(Point.class).read(encoded, 0, encoded.length);
+
+            assertThat(decoded.x).isEqualTo(3);
+            assertThat(decoded.y).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("코덱이 하나도 없으면 생성 실패")
+    void emptyCodecs_throws() {
+        assertThrows(IllegalStateException.class, () -> new MessageCodecRegistry(List.of()));
+    }
+}
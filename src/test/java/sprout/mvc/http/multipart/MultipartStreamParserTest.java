@@ -0,0 +1,169 @@
+package sprout.mvc.http.multipart;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.mvc.http.ResponseCode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultipartStreamParserTest {
+
+    private static final String BOUNDARY = "----sproutBoundary7MA4YWxk";
+
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("multipart-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private MultipartConfig config(long maxFileSize, int maxFieldSize, int maxParts) {
+        return new MultipartConfig(true, maxFileSize, Long.MAX_VALUE, maxFieldSize, maxParts, tempDir);
+    }
+
+    private static byte[] fileContent() {
+        // 경계 문자열의 앞부분과 CRLF를 섞어 부분 일치가 자주 일어나게 한다
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 300; i++) {
+            out.writeBytes(("line " + i + "\r\n--" + BOUNDARY.substring(0, i % BOUNDARY.length()) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(i);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] body(byte[] file) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(("preamble\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+                + "안녕 sprout\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"upload\"; filename=\"data.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(file);
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\nepilogue").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static MultipartBody parseInChunks(MultipartStreamParser parser, byte[] body, int chunkSize) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(chunkSize + 256);
+        int offset = 0;
+        while (offset < body.length) {
+            int n = Math.min(chunkSize, body.length - offset);
+            buffer.put(body, offset, n);
+            offset += n;
+            buffer.flip();
+            parser.feed(buffer);
+            buffer.compact();
+        }
+        return parser.finish();
+    }
+
+    @Test
+    @DisplayName("필드와 파일 파트를 파싱하고 파일은 임시 파일로 기록한다")
+    void parsesFieldsAndFiles() throws IOException {
+        byte[] file = fileContent();
+        MultipartStreamParser parser = new MultipartStreamParser(BOUNDARY, config(1 << 20, 1024, 10));
+
+        MultipartBody body = parseInChunks(parser, body(file), 8192);
+
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(body.getField("title")).isEqualTo("안녕 sprout");
+        MultipartFile upload = body.getFile("upload");
+        assertThat(upload.getOriginalFilename()).isEqualTo("data.bin");
+        assertThat(upload.getContentType()).isEqualTo("application/octet-stream");
+        assertThat(upload.getSize()).isEqualTo(file.length);
+        assertThat(Files.readAllBytes(upload.getPath())).isEqualTo(file);
+
+        body.deleteTempFiles();
+        assertThat(Files.exists(upload.getPath())).isFalse();
+    }
+
+    @Test
+    @DisplayName("바디가 어느 지점에서 잘려 들어와도 같은 결과를 만든다")
+    void chunkBoundariesDoNotMatter() throws IOException {
+        byte[] file = fileContent();
+        byte[] raw = body(file);
+        for (int chunk : new int[]{1, 2, 3, 7, 13, BOUNDARY.length() + 3, 61, 1000}) {
+            MultipartStreamParser parser = new MultipartStreamParser(BOUNDARY, config(1 << 20, 1024, 10));
+            MultipartBody body = parseInChunks(parser, raw, chunk);
+
+            assertThat(body.getField("title")).isEqualTo("안녕 sprout");
+            assertThat(Files.readAllBytes(body.getFile("upload").getPath())).isEqualTo(file);
+            body.deleteTempFiles();
+        }
+    }
+
+    @Test
+    @DisplayName("파일 크기 제한을 넘으면 413으로 실패하고 임시 파일을 남기지 않는다")
+    void rejectsOversizedFile() throws IOException {
+        MultipartStreamParser parser = new MultipartStreamParser(BOUNDARY, config(100, 1024, 10));
+
+        MultipartException e = assertThrows(MultipartException.class, () -> parseInChunks(parser, body(fileContent()), 512));
+        parser.abort();
+
+        assertThat(e.getResponseCode()).isEqualTo(ResponseCode.PAYLOAD_TOO_LARGE);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.count()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("필드 크기 제한을 넘으면 413으로 실패한다")
+    void rejectsOversizedField() {
+        MultipartStreamParser parser = new MultipartStreamParser(BOUNDARY, config(1 << 20, 4, 10));
+
+        MultipartException e = assertThrows(MultipartException.class, () -> parseInChunks(parser, body(fileContent()), 512));
+
+        assertThat(e.getResponseCode()).isEqualTo(ResponseCode.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("파트 개수 제한을 넘으면 413으로 실패한다")
+    void rejectsTooManyParts() {
+        MultipartStreamParser parser = new MultipartStreamParser(BOUNDARY, config(1 << 20, 1024, 1));
+
+        MultipartException e = assertThrows(MultipartException.class, () -> parseInChunks(parser, body(fileContent()), 512));
+
+        assertThat(e.getResponseCode()).isEqualTo(ResponseCode.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("닫는 경계 없이 끝난 바디는 400으로 실패한다")
+    void rejectsTruncatedBody() {
+        byte[] raw = body(fileContent());
+        byte[] truncated = Arrays.copyOf(raw, raw.length - 40);
+        MultipartStreamParser parser = new MultipartStreamParser(BOUNDARY, config(1 << 20, 1024, 10));
+
+        MultipartException e = assertThrows(MultipartException.class, () -> parseInChunks(parser, truncated, 512));
+        parser.abort();
+
+        assertThat(e.getResponseCode()).isEqualTo(ResponseCode.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Content-Type에서 boundary 파라미터를 꺼낸다")
+    void extractsBoundary() {
+        assertThat(MultipartStreamParser.boundaryOf("multipart/form-data; boundary=abc123")).isEqualTo("abc123");
+        assertThat(MultipartStreamParser.boundaryOf("multipart/form-data; charset=utf-8; boundary=\"q b\"")).isEqualTo("q b");
+        assertThat(MultipartStreamParser.boundaryOf("application/json")).isNull();
+    }
+}
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import sprout.mvc.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -118,4 +122,41 @@ class HttpHeaderParserTest {
         assertEquals("", headers.get("X-Custom-Header"), "헤더 값은 빈 문자열이어야 합니다.");
         assertEquals("example.com", headers.get("Host"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("헤더 이름은 대소문자를 구분하지 않고 조회되어야 한다.")
+    void parse_shouldLookupCaseInsensitively() {
+        // given
+        String rawHeaders = "Content-Type: application/json\r\nX-Request-Id: abc";
+
+        // when
+        Map<String, String> headers = parser.parse(rawHeaders);
+
+        // then
+        assertEquals("application/json", headers.get("content-type"));
+        assertEquals("application/json", headers.get("CONTENT-TYPE"));
+        assertTrue(headers.containsKey("x-request-id"));
+        assertEquals(2, headers.size());
+        assertTrue(headers.keySet().contains("Content-Type"), "원래 표기가 유지되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("같은 이름의 헤더가 여러 번 오면 모든 값을 순서대로 보관해야 한다.")
+    void parse_shouldKeepRepeatedHeaders() {
+        // given
+        byte[] raw = "GET / HTTP/1.1\r\nAccept: text/html\r\naccept: application/json\r\nHost: a\r\n"
+                .getBytes(StandardCharsets.UTF_8);
+        int from = "GET / HTTP/1.1\r\n".length();
+
+        // when
+        HttpHeaders headers = parser.parse(raw, from, raw.length);
+
+        // then
+        assertEquals(List.of("text/html", "application/json"), headers.getAll("Accept"));
+        assertEquals("text/html", headers.getFirst("ACCEPT"));
+        assertEquals("application/json", headers.get("Accept"), "Map 뷰는 마지막 값을 돌려줘야 합니다.");
+        assertEquals(2, headers.size());
+        assertEquals(List.of(), headers.getAll("Cookie"));
+        assertNull(headers.getFirst("Cookie"));
+    }
+}
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import sprout.mvc.http.HttpHeaders;
 import sprout.mvc.http.HttpMethod;
 import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.QueryParameters;
 import sprout.mvc.http.parser.RequestLine;
 import sprout.mvc.http.parser.RequestLine;
 
@@ -17,7 +19,12 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -217,4 +224,58 @@ class HttpRequestParserTest {
         assertTrue(httpRequest.getQueryParams().isEmpty());
         assertThat(httpRequest.getBody()).isEqualTo(""); // 바디는 빈 문자열로 처리됨
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("바이트 배열을 파싱하면 바디는 복사 없이 원본 배열을 가리키는 슬라이스여야 한다")
+    void parse_rawBytes_keepsBodyAsSlice() {
+        // given
+        String jsonBody = "{\"name\":\"테스트\"}";
+        byte[] raw = ("POST /users HTTP/1.1\r\n" +
+                "Content-Type: application/json\r\n" +
+                "\r\n" +
+                jsonBody).getBytes(java.nio.charset.StandardCharsets.UTF_8);
+
+        RequestLine mockRequestLine = new RequestLine(HttpMethod.POST, "/users", "/users");
+        when(mockRequestLineParser.parse(anyString())).thenReturn(mockRequestLine);
+        when(mockHeaderParser.parse(any(byte[].class), anyInt(), anyInt()))
+                .thenAnswer(inv -> HttpHeaders.parse(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)));
+
+        // when
+        HttpRequest<String> httpRequest = httpRequestParser.parse(raw);
+
+        // then
+        java.nio.ByteBuffer rawBody = httpRequest.getRawBody();
+        assertThat(rawBody.hasArray()).isTrue();
+        assertThat(rawBody.array()).isSameAs(raw);
+        assertThat(httpRequest.getBody()).isEqualTo(jsonBody);
+        assertThat(httpRequest.getHeader("content-type")).isEqualTo("application/json");
+        verify(mockRequestLineParser).parse("POST /users HTTP/1.1");
+        verify(mockQueryStringParser, never()).parse(any(byte[].class), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("바이트 배열 파싱 시 쿼리는 요청 대상의 '?' 뒤 구간 오프셋으로, 헤더는 요청라인 다음 구간으로 넘겨야 한다")
+    void parse_rawBytes_passesQueryAndHeaderOffsets() {
+        // given
+        byte[] raw = ("GET /search?q=a&q=b HTTP/1.1\r\n" +
+                "Accept: text/plain\r\n" +
+                "\r\n").getBytes(java.nio.charset.StandardCharsets.UTF_8);
+
+        RequestLine mockRequestLine = new RequestLine(HttpMethod.GET, "/search?q=a&q=b", "/search");
+        when(mockRequestLineParser.parse(anyString())).thenReturn(mockRequestLine);
+        when(mockQueryStringParser.parse(any(byte[].class), anyInt(), anyInt()))
+                .thenAnswer(inv -> QueryParameters.parse(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)));
+        when(mockHeaderParser.parse(any(byte[].class), anyInt(), anyInt()))
+                .thenAnswer(inv -> HttpHeaders.parse(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2)));
+
+        // when
+        HttpRequest<String> httpRequest = httpRequestParser.parse(raw);
+
+        // then
+        verify(mockQueryStringParser).parse(same(raw), eq(12), eq(19));
+        verify(mockHeaderParser).parse(same(raw), eq(30), eq(48));
+        assertThat(httpRequest.getQueryParamValues("q")).containsExactly("a", "b");
+        assertThat(httpRequest.getQueryParams().get("q")).isEqualTo("b");
+        assertThat(httpRequest.getHeader("ACCEPT")).isEqualTo("text/plain");
+    }
+}
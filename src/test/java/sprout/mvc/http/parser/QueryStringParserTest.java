@@ -2,9 +2,12 @@ package sprout.mvc.http.parser;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import sprout.mvc.http.QueryParameters;
+
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -139,4 +142,29 @@ class QueryStringParserTest {
         assertEquals(1, result.size());
         assertEquals("value with space", result.get("param"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 키가 반복되면 모든 값을 순서대로 조회할 수 있어야 한다.")
+    void parse_repeatedKeys_keepsAllValues() {
+        byte[] raw = "tag=a&tag=b%20c&Tag=d&empty".getBytes(StandardCharsets.UTF_8);
+        QueryParameters result = parser.parse(raw, 0, raw.length);
+
+        assertEquals(List.of("a", "b c"), result.getAll("tag"));
+        assertEquals("a", result.getFirst("tag"));
+        assertEquals("b c", result.get("tag"));
+        assertEquals(List.of("d"), result.getAll("Tag"), "쿼리 키는 대소문자를 구분해야 합니다.");
+        assertEquals("", result.get("empty"));
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    @DisplayName("인코딩된 키도 디코딩된 이름으로 조회되어야 한다.")
+    void parse_encodedKey() {
+        byte[] raw = "user%5Bname%5D=kim&first+name=lee".getBytes(StandardCharsets.UTF_8);
+        QueryParameters result = parser.parse(raw, 0, raw.length);
+
+        assertEquals("kim", result.get("user[name]"));
+        assertEquals("lee", result.get("first name"));
+        assertTrue(result.containsKey("first name"));
+    }
+}
@@ -0,0 +1,83 @@
+package sprout.mvc.http.resolvers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.http.ResponseCode;
+import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.http.codec.MessageCodecRegistry;
+import sprout.mvc.http.codec.builtins.CborMessageCodec;
+import sprout.mvc.http.codec.builtins.JsonMessageCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectBodyResponseResolverTest {
+
+    public record Greeting(String message) {}
+
+    ObjectBodyResponseResolver objectResolver;
+    ResponseEntityResolver entityResolver;
+
+    @BeforeEach
+    void setUp() {
+        MessageCodecRegistry registry = new MessageCodecRegistry(
+                List.of(new JsonMessageCodec(new ObjectMapper()), new CborMessageCodec()));
+        objectResolver = new ObjectBodyResponseResolver(registry);
+        entityResolver = new ResponseEntityResolver(registry);
+    }
+
+    private static HttpRequest<String> request(HttpMethod method, String accept) {
+        Map<String, String> headers = accept == null ? Map.of() : Map.of("Accept", accept);
+        return new HttpRequest<>(method, "/greetings", null, Map.of(), headers);
+    }
+
+    @Test
+    @DisplayName("Accept가 없으면 JSON으로 인코딩")
+    void objectBody_defaultsToJson() {
+        ResponseEntity<?> res = objectResolver.resolve(new Greeting("hi"), request(HttpMethod.GET, null));
+
+        assertThat(res.getStatusCode()).isEqualTo(ResponseCode.SUCCESS);
+        assertThat(res.getContentType()).isEqualTo("application/json");
+        assertThat(new String((byte[]) res.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"hi\"}");
+    }
+
+    @Test
+    @DisplayName("POST + Accept: application/cbor → 201, CBOR 바이트")
+    void objectBody_negotiatesCbor() {
+        ResponseEntity<?> res = objectResolver.resolve(new Greeting("hi"), request(HttpMethod.POST, "application/cbor"));
+
+        assertThat(res.getStatusCode()).isEqualTo(ResponseCode.CREATED);
+        assertThat(res.getContentType()).isEqualTo("application/cbor");
+        assertThat((byte[]) res.getBody()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("ResponseEntity의 객체 바디도 협상된 코덱으로 인코딩하고 상태/헤더는 유지")
+    void responseEntity_objectBodyEncoded() {
+        ResponseEntity<Greeting> entity = ResponseEntity.ok(new Greeting("hi"));
+        entity.addHeader("X-Trace", "1");
+
+        ResponseEntity<?> res = entityResolver.resolve(entity, request(HttpMethod.GET, "application/cbor"));
+
+        assertThat(res.getContentType()).isEqualTo("application/cbor");
+        assertThat(res.getBody()).isInstanceOf(byte[].class);
+        assertThat(res.getHeaders()).containsEntry("X-Trace", "1");
+    }
+
+    @Test
+    @DisplayName("문자열 바디나 직접 지정한 Content-Type은 건드리지 않음")
+    void responseEntity_passThrough() {
+        ResponseEntity<String> text = ResponseEntity.ok("plain");
+        ResponseEntity<Greeting> html = new ResponseEntity<>(new Greeting("hi"), Map.of(), ResponseCode.SUCCESS, "text/html");
+
+        assertThat(entityResolver.resolve(text, request(HttpMethod.GET, "application/cbor"))).isSameAs(text);
+        assertThat(entityResolver.resolve(html, request(HttpMethod.GET, "application/cbor"))).isSameAs(html);
+    }
+}
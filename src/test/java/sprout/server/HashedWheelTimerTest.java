@@ -0,0 +1,82 @@
+package sprout.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedWheelTimerTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("만료 시각이 지난 tick에서만 실행되고, 그 전 tick에서는 실행되지 않는다")
+    void advance_firesOnlyAfterDeadline() {
+        HashedWheelTimer timer = new HashedWheelTimer(10, 8, 0);
+        List<String> fired = new ArrayList<>();
+        timer.scheduleAt(() -> fired.add("a"), 25 * MS);
+
+        timer.advance(20 * MS);
+        assertThat(fired).isEmpty();
+
+        timer.advance(30 * MS);
+        assertThat(fired).containsExactly("a");
+        assertThat(timer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 작업은 바퀴 수를 세어 제 시각에 실행된다")
+    void advance_countsRoundsForLongDelays() {
+        HashedWheelTimer timer = new HashedWheelTimer(10, 4, 0);
+        List<Long> fired = new ArrayList<>();
+        timer.scheduleAt(() -> fired.add(1L), 10 * MS);
+        timer.scheduleAt(() -> fired.add(9L), 90 * MS); // 4칸 휠에서 같은 버킷, 두 바퀴 뒤
+
+        for (long t = 0; t <= 80; t += 10) {
+            timer.advance(t * MS);
+        }
+        assertThat(fired).containsExactly(1L);
+
+        timer.advance(90 * MS);
+        assertThat(fired).containsExactly(1L, 9L);
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않고, 루프가 오래 멈춰도 밀린 작업을 한 번에 실행한다")
+    void cancel_andCatchUpAfterStall() {
+        HashedWheelTimer timer = new HashedWheelTimer(10, 4, 0);
+        List<String> fired = new ArrayList<>();
+        HashedWheelTimer.Timeout cancelled = timer.scheduleAt(() -> fired.add("cancelled"), 20 * MS);
+        timer.scheduleAt(() -> fired.add("late"), 30 * MS);
+        timer.scheduleAt(() -> fired.add("later"), 200 * MS);
+        cancelled.cancel();
+
+        timer.advance(500 * MS);
+
+        assertThat(fired).containsExactlyInAnyOrder("late", "later");
+        assertThat(timer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업이 자기 자신을 다시 예약해도 같은 advance에서 또 실행되지 않는다")
+    void reschedule_fromTask() {
+        HashedWheelTimer timer = new HashedWheelTimer(10, 8, 0);
+        List<Long> fired = new ArrayList<>();
+        Runnable[] task = new Runnable[1];
+        task[0] = () -> {
+            fired.add((long) fired.size());
+            timer.scheduleAt(task[0], (fired.size() + 1) * 10 * MS);
+        };
+        timer.scheduleAt(task[0], 10 * MS);
+
+        timer.advance(10 * MS);
+        assertThat(fired).hasSize(1);
+        timer.advance(20 * MS);
+        assertThat(fired).hasSize(2);
+        assertThat(timer.millisUntilNextTick(25 * MS)).isEqualTo(5);
+    }
+}
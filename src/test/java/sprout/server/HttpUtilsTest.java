@@ -82,6 +82,40 @@ class HttpUtilsTest {
         }
     }
 
+    // ---------- requestLength ----------
+    @Nested
+    @DisplayName("requestLength()")
+    class RequestLengthTests {
+
+        @Test
+        @DisplayName("파이프라이닝된 뒤 요청은 빼고 첫 요청의 길이만 돌려주며 버퍼 위치는 그대로 둔다")
+        void pipelined_returnsFirstRequestOnly() {
+            String first = "POST /a HTTP/1.1\r\nHost: x\r\nContent-Length: 3\r\n\r\nabc";
+            String second = "GET /b HTTP/1.1\r\nHost: x\r\n\r\n";
+            ByteBuffer buffer = bb(first + second);
+
+            assertThat(HttpUtils.requestLength(buffer)).isEqualTo(first.length());
+            assertThat(buffer.position()).isZero();
+        }
+
+        @Test
+        @DisplayName("chunked 요청 뒤에 다음 요청이 붙어 있어도 마지막 청크까지만 센다")
+        void chunked_followedByNextRequest() {
+            String first = "POST /a HTTP/1.1\r\nHost: x\r\nTransfer-Encoding: chunked\r\n\r\n"
+                    + "3\r\nabc\r\n0\r\n\r\n";
+            String second = "GET /b HTTP/1.1\r\nHost: x\r\n\r\n";
+
+            assertThat(HttpUtils.requestLength(bb(first + second))).isEqualTo(first.length());
+        }
+
+        @Test
+        @DisplayName("헤더나 바디가 덜 왔으면 -1")
+        void incomplete_returnsMinusOne() {
+            assertThat(HttpUtils.requestLength(bb("GET / HTTP/1.1\r\nHost: x\r\n"))).isEqualTo(-1);
+            assertThat(HttpUtils.requestLength(bb("POST / HTTP/1.1\r\nContent-Length: 5\r\n\r\nab"))).isEqualTo(-1);
+        }
+    }
+
     // ---------- readRawRequest ----------
     @Nested
     @DisplayName("readRawRequest()")
@@ -154,6 +188,22 @@ class HttpUtilsTest {
             assertThat(out).contains("X-Test: 1");
             assertThat(out).endsWith("Hello");
         }
+
+        @Test
+        @DisplayName("byte[] 바디 -> toString 없이 그대로 기록")
+        void byteArrayBody_writtenAsIs() {
+            byte[] body = {(byte) 0xA1, 0x61, 0x61, 0x01};
+            ResponseEntity<byte[]> res = new ResponseEntity<>(body, Map.of(), ResponseCode.SUCCESS, "application/cbor");
+
+            ByteBuffer buf = HttpUtils.createResponseBuffer(res);
+            byte[] all = new byte[buf.remaining()];
+            buf.get(all);
+            String head = new String(all, 0, all.length - body.length, StandardCharsets.UTF_8);
+
+            assertThat(head).contains("Content-Type: application/cbor");
+            assertThat(head).contains("Content-Length: 4");
+            assertThat(java.util.Arrays.copyOfRange(all, all.length - body.length, all.length)).isEqualTo(body);
+        }
     }
 
 }
@@ -0,0 +1,59 @@
+package sprout.server.argument.builtins;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sprout.server.argument.annotation.Payload;
+import sprout.server.websocket.InvocationContext;
+import sprout.server.websocket.LifecyclePhase;
+import sprout.server.websocket.message.ByteBufferMessagePayload;
+
+import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ByteBufferPayloadArgumentResolverTest {
+
+    @Mock private InvocationContext mockContext;
+
+    private final ByteBufferPayloadArgumentResolver resolver = new ByteBufferPayloadArgumentResolver();
+
+    private static class DummyHandler {
+        void handleBuffer(@Payload ByteBuffer buffer) {}
+        void handleBytes(@Payload byte[] bytes) {}
+    }
+
+    @Test
+    @DisplayName("프레임 하나로 온 메시지는 조각 버퍼를 복사하지 않고 넘겨야 한다.")
+    void resolve_shouldShareSingleFragment() throws Exception {
+        // given
+        Parameter param = DummyHandler.class.getDeclaredMethod("handleBuffer", ByteBuffer.class).getParameters()[0];
+        byte[] data = {1, 2, 3};
+        when(mockContext.phase()).thenReturn(LifecyclePhase.MESSAGE);
+        when(mockContext.getMessagePayload()).thenReturn(new ByteBufferMessagePayload(false, new ByteBuffer[]{ByteBuffer.wrap(data)}, 3));
+
+        // when
+        boolean supported = resolver.supports(param, mockContext);
+        ByteBuffer result = (ByteBuffer) resolver.resolve(param, mockContext);
+
+        // then
+        assertTrue(supported);
+        assertSame(data, result.array());
+        assertEquals(3, result.remaining());
+    }
+
+    @Test
+    @DisplayName("ByteBuffer가 아닌 파라미터는 지원하지 않아야 한다.")
+    void supports_shouldReturnFalse_forOtherTypes() throws NoSuchMethodException {
+        // given
+        Parameter param = DummyHandler.class.getDeclaredMethod("handleBytes", byte[].class).getParameters()[0];
+
+        // when & then
+        assertFalse(resolver.supports(param, mockContext));
+    }
+}
@@ -10,9 +10,12 @@ import sprout.server.argument.annotation.Payload;
 import sprout.server.websocket.InvocationContext;
 import sprout.server.websocket.LifecyclePhase;
 import sprout.server.websocket.WebSocketFrame;
+import sprout.server.websocket.message.ByteBufferMessagePayload;
+import sprout.server.websocket.message.MessagePayload;
 
 import java.io.InputStream;
 import java.lang.reflect.Parameter;
+import java.nio.ByteBuffer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.lenient;
@@ -77,4 +80,23 @@ class InputStreamPayloadArgumentResolverTest {
         // then
         assertSame(mockInputStream, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조립된 메시지가 있으면 그 조각 버퍼들을 이어 읽는 스트림을 반환해야 한다.")
+    void resolve_shouldStreamAssembledFragments() throws Exception {
+        // given
+        Parameter param = DummyHandler.class.getDeclaredMethod("handleStream", InputStream.class).getParameters()[0];
+        MessagePayload payload = new ByteBufferMessagePayload(false,
+                new ByteBuffer[]{ByteBuffer.wrap(new byte[]{1, 2}), ByteBuffer.wrap(new byte[]{3})}, 3);
+        when(mockContext.phase()).thenReturn(LifecyclePhase.MESSAGE);
+        when(mockContext.getMessagePayload()).thenReturn(payload);
+
+        // when
+        boolean supported = resolver.supports(param, mockContext);
+        InputStream result = (InputStream) resolver.resolve(param, mockContext);
+
+        // then
+        assertTrue(supported);
+        assertArrayEquals(new byte[]{1, 2, 3}, result.readAllBytes());
+    }
+}
@@ -7,10 +7,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.mockito.stubbing.Answer;
+import sprout.metrics.ServerMetrics;
 import sprout.mvc.dispatcher.RequestDispatcher;
+import sprout.mvc.http.HttpMethod;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
 import sprout.mvc.http.ResponseEntity;
+import sprout.mvc.http.multipart.MultipartConfig;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.server.ByteBufferPool;
 import sprout.server.HttpConnectionStatus;
@@ -23,6 +27,9 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.channels.SelectionKey.*;
@@ -78,7 +85,7 @@ class HttpConnectionHandlerTest {
 
         // HttpUtils 정적 모킹
         try (MockedStatic<HttpUtils> ms = mockStatic(HttpUtils.class)) {
-            ms.when(() -> HttpUtils.isRequestComplete(any(ByteBuffer.class))).thenReturn(true);
+            ms.when(() -> HttpUtils.requestLength(any(ByteBuffer.class))).thenCallRealMethod();
             ms.when(() -> HttpUtils.createResponseBuffer(any()))
                     .thenReturn(ByteBuffer.wrap("HTTP/1.1 200 OK\r\n\r\nOK".getBytes(StandardCharsets.UTF_8)));
 
@@ -94,7 +101,7 @@ class HttpConnectionHandlerTest {
             // 비즈니스 로직 실행
             Runnable task = taskCaptor.getValue();
             // parser/dispatcher 스텁
-            when(parser.parse(rawReq)).thenReturn(mock(HttpRequest.class));
+            when(parser.parse(any(byte[].class))).thenReturn(mock(HttpRequest.class));
             doAnswer(inv -> {
                 HttpResponse res = inv.getArgument(1);
                 res.setResponseEntity(ResponseEntity.ok("OK"));
@@ -186,7 +193,7 @@ class HttpConnectionHandlerTest {
         when(channel.read(any(ByteBuffer.class))).thenReturn(0);
 
         try (MockedStatic<HttpUtils> ms = mockStatic(HttpUtils.class)) {
-            ms.when(() -> HttpUtils.isRequestComplete(any(ByteBuffer.class))).thenReturn(true);
+            ms.when(() -> HttpUtils.requestLength(any(ByteBuffer.class))).thenCallRealMethod();
             ms.when(() -> HttpUtils.createResponseBuffer(any()))
                     .thenReturn(ByteBuffer.wrap("HTTP/1.1 200 OK\r\n\r\nOK".getBytes(StandardCharsets.UTF_8)));
 
@@ -198,7 +205,7 @@ class HttpConnectionHandlerTest {
             // executor에 제출됨
             Runnable task = taskCaptor.getValue();
 
-            when(parser.parse(anyString())).thenReturn(mock(HttpRequest.class));
+            when(parser.parse(any(byte[].class))).thenReturn(mock(HttpRequest.class));
             doAnswer(inv -> {
                 HttpResponse res = inv.getArgument(1);
                 res.setResponseEntity(ResponseEntity.ok("OK"));
@@ -212,8 +219,139 @@ class HttpConnectionHandlerTest {
         }
     }
 
+    @Test
+    @DisplayName("파이프라이닝: 한 번에 읽힌 두 요청을 응답 순서대로 모두 처리한다")
+    void pipelinedRequests_areProcessedAfterPreviousResponse() throws Exception {
+        String first = "GET /a HTTP/1.1\r\nHost: x\r\n\r\n";
+        String second = "GET /b HTTP/1.1\r\nHost: x\r\n\r\n";
+        when(channel.read(any(ByteBuffer.class))).thenAnswer(putBytes(first + second));
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(inv -> {
+            ByteBuffer buf = inv.getArgument(0);
+            int remaining = buf.remaining();
+            buf.position(buf.limit());
+            return remaining;
+        });
+
+        try (MockedStatic<HttpUtils> ms = mockStatic(HttpUtils.class)) {
+            ms.when(() -> HttpUtils.requestLength(any(ByteBuffer.class))).thenCallRealMethod();
+            ms.when(() -> HttpUtils.createResponseBuffer(any()))
+                    .thenAnswer(inv -> ByteBuffer.wrap("HTTP/1.1 200 OK\r\n\r\nOK".getBytes(StandardCharsets.UTF_8)));
+
+            ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+            doNothing().when(executor).execute(taskCaptor.capture());
+            ArgumentCaptor<byte[]> parsed = ArgumentCaptor.forClass(byte[].class);
+            when(parser.parse(parsed.capture())).thenReturn(mock(HttpRequest.class));
+            doAnswer(inv -> {
+                HttpResponse res = inv.getArgument(1);
+                res.setResponseEntity(ResponseEntity.ok("OK"));
+                return null;
+            }).when(dispatcher).dispatch(any(), any());
+
+            handler.read(key);
+            taskCaptor.getValue().run();
+            handler.write(key); // 첫 응답을 다 쓰면 버퍼에 남은 두 번째 요청을 read 없이 이어서 처리
+
+            verify(executor, times(2)).execute(any());
+            taskCaptor.getValue().run();
+
+            assertThat(parsed.getAllValues().stream().map(b -> new String(b, StandardCharsets.UTF_8)))
+                    .containsExactly(first, second);
+            verify(channel, times(1)).read(any(ByteBuffer.class));
+        }
+    }
+
+    @Test
+    @DisplayName("업로드: 필터가 헤더 단계에서 거절하면 바디를 받지 않고 거절 응답을 보낸 뒤 연결을 닫는다")
+    void upload_rejectedByFilters_beforeBody() throws Exception {
+        handler = multipartHandler();
+        when(channel.read(any(ByteBuffer.class))).thenAnswer(putBytes(uploadHead(null) + "--b\r\n"));
+        when(parser.parse(any(byte[].class))).thenReturn(uploadRequest(null));
+        when(dispatcher.admit(any(), any())).thenAnswer(inv -> {
+            HttpResponse res = inv.getArgument(1);
+            res.setResponseEntity(new ResponseEntity<>("Too Many Requests", new HashMap<>(), ResponseCode.TOO_MANY_REQUESTS));
+            return false;
+        });
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(inv -> {
+            ByteBuffer buf = inv.getArgument(0);
+            int remaining = buf.remaining();
+            buf.position(buf.limit());
+            return remaining;
+        });
+
+        try (MockedStatic<HttpUtils> ms = mockStatic(HttpUtils.class)) {
+            ArgumentCaptor<ResponseEntity> sent = ArgumentCaptor.forClass(ResponseEntity.class);
+            ms.when(() -> HttpUtils.createResponseBuffer(sent.capture(), any()))
+                    .thenAnswer(inv -> ByteBuffer.wrap("HTTP/1.1 429 Too Many Requests\r\n\r\n".getBytes(StandardCharsets.UTF_8)));
+            ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+            doNothing().when(executor).execute(taskCaptor.capture());
+
+            handler.read(key);
+            assertThat(opsHolder.get()).isEqualTo(0); // 필터 결과가 나올 때까지 바디를 읽지 않는다
+            taskCaptor.getValue().run();
+
+            assertThat(sent.getValue().getStatusCode()).isEqualTo(ResponseCode.TOO_MANY_REQUESTS);
+            assertThat(sent.getValue().getHeaders()).containsEntry("Connection", "close");
+            verify(executor, times(1)).execute(any());
+            verify(dispatcher, never()).dispatch(any(), any());
+
+            handler.write(key);
+            verify(channel).close();
+        }
+    }
+
+    @Test
+    @DisplayName("업로드: Expect: 100-continue는 필터를 통과한 뒤에만 100 Continue로 답하고 바디를 받기 시작한다")
+    void upload_expectContinue_answeredAfterAdmission() throws Exception {
+        handler = multipartHandler();
+        when(channel.read(any(ByteBuffer.class))).thenAnswer(putBytes(uploadHead("100-continue")));
+        when(parser.parse(any(byte[].class))).thenReturn(uploadRequest("100-continue"));
+        when(dispatcher.admit(any(), any())).thenReturn(true);
+        ByteBuffer[] written = new ByteBuffer[1];
+        when(channel.write(any(ByteBuffer.class))).thenAnswer(inv -> {
+            ByteBuffer buf = inv.getArgument(0);
+            written[0] = buf.duplicate();
+            int remaining = buf.remaining();
+            buf.position(buf.limit());
+            return remaining;
+        });
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(executor).execute(taskCaptor.capture());
+
+        handler.read(key);
+        verify(dispatcher, never()).admit(any(), any());
+        taskCaptor.getValue().run();
+
+        verify(dispatcher).admit(any(), any());
+        assertThat(opsHolder.get()).isEqualTo(OP_WRITE);
+        handler.write(key);
+
+        assertThat(StandardCharsets.US_ASCII.decode(written[0]).toString()).isEqualTo("HTTP/1.1 100 Continue\r\n\r\n");
+        assertThat(opsHolder.get()).isEqualTo(OP_READ); // 이제 바디를 읽는다
+        verify(channel, never()).close();
+    }
+
     // ===== Helpers =====
 
+    private HttpConnectionHandler multipartHandler() {
+        MultipartConfig config = new MultipartConfig(true, 1 << 20, 1 << 20, 1024, 8, Path.of(System.getProperty("java.io.tmpdir")));
+        return new HttpConnectionHandler(channel, selector, dispatcher, parser, executor, byteBufferPool, null,
+                ServerMetrics.NOOP, config);
+    }
+
+    private static String uploadHead(String expect) {
+        return "POST /upload HTTP/1.1\r\nHost: x\r\n"
+                + "Content-Type: multipart/form-data; boundary=b\r\nContent-Length: 1000\r\n"
+                + (expect != null ? "Expect: " + expect + "\r\n" : "") + "\r\n";
+    }
+
+    private static HttpRequest<String> uploadRequest(String expect) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "multipart/form-data; boundary=b");
+        headers.put("Content-Length", "1000");
+        if (expect != null) headers.put("Expect", expect);
+        return new HttpRequest<>(HttpMethod.POST, "/upload", null, Map.of(), headers);
+    }
+
     private void prepStateToWriting(String response) throws Exception {
         Field state = HttpConnectionHandler.class.getDeclaredField("currentState");
         state.setAccessible(true);
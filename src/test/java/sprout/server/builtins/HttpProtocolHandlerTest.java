@@ -12,6 +12,7 @@ import sprout.mvc.dispatcher.RequestDispatcher;
 import sprout.mvc.http.HttpMethod;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.HttpResponse;
+import sprout.mvc.http.ResponseCode;
 import sprout.mvc.http.ResponseEntity;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.server.RequestExecutorService;
@@ -24,6 +25,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -126,4 +128,33 @@ class HttpProtocolHandlerTest {
         // 응답이 쓰이지 않았는지 확인
         assertEquals(0, outputStream.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("마감 타이머가 완성한 비동기 응답은 핸들러가 반환하기 전에 바로 쓰이고, 한 번만 쓰인다")
+    void asyncResponse_isWrittenBeforeDispatchReturns() throws Exception {
+        String fullRequest = "GET /slow HTTP/1.1\r\nHost: example.com\r\n\r\n";
+        ByteBuffer initialBuffer = ByteBuffer.wrap(fullRequest.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(mockSocket.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[0]));
+        when(mockSocket.getOutputStream()).thenReturn(outputStream);
+
+        HttpRequest<?> request = new HttpRequest<>(HttpMethod.GET, "/slow", null, new HashMap<>(), new HashMap<>());
+        doReturn(request).when(mockParser).parse(fullRequest);
+        AtomicBoolean writtenWhileHandlerRuns = new AtomicBoolean();
+        doAnswer(invocation -> {
+            HttpResponse res = invocation.getArgument(1);
+            // 핸들러가 아직 실행 중일 때 마감 완료 스레드가 503으로 응답을 완성하는 상황
+            res.startAsync();
+            res.setResponseEntity(new ResponseEntity<>("Service Unavailable", null, ResponseCode.SERVICE_UNAVAILABLE));
+            res.completeAsync();
+            writtenWhileHandlerRuns.set(outputStream.toString(StandardCharsets.UTF_8).startsWith("HTTP/1.1 503"));
+            return null;
+        }).when(mockDispatcher).dispatch(eq(request), any(HttpResponse.class));
+
+        httpProtocolHandler.accept(mockChannel, null, initialBuffer);
+
+        assertTrue(writtenWhileHandlerRuns.get());
+        String actualResponse = outputStream.toString(StandardCharsets.UTF_8);
+        assertEquals(actualResponse.indexOf("HTTP/1.1"), actualResponse.lastIndexOf("HTTP/1.1"));
+    }
+}
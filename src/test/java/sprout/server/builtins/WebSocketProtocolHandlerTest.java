@@ -8,10 +8,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sprout.metrics.MetricsRegistry;
 import sprout.mvc.http.HttpMethod;
 import sprout.mvc.http.HttpRequest;
 import sprout.mvc.http.parser.HttpRequestParser;
 import sprout.mvc.mapping.PathPattern;
+import sprout.server.ByteBufferPool;
+import sprout.server.WorkloadExecutors;
 import sprout.server.argument.WebSocketArgumentResolver;
 import sprout.server.websocket.*;
 import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
@@ -48,6 +51,12 @@ class WebSocketProtocolHandlerTest {
     @Mock private List<WebSocketArgumentResolver> mockArgumentResolvers;
     @Mock private List<WebSocketMessageDispatcher> mockMessageDispatchers;
     @Mock private CloseListener mockCloseListener;
+    @Mock private ByteBufferPool mockBufferPool;
+    @Mock private WebSocketOutboundConfig mockOutboundConfig;
+    @Mock private MetricsRegistry mockMetricsRegistry;
+    @Mock private WorkloadExecutors mockWorkloadExecutors;
+    @Mock private WebSocketInboundConfig mockInboundConfig;
+    @Mock private WebSocketHeartbeat mockHeartbeat;
 
     @Mock private SocketChannel mockChannel;
     @Mock private Selector mockSelector;
@@ -93,7 +102,7 @@ class WebSocketProtocolHandlerTest {
         // given: 의존성 Mock 동작 설정 (성공 경로)
         doReturn(mockRequest).when(mockHttpRequestParser).parse(anyString());
         when(mockEndpointRegistry.getEndpointInfo("/chat")).thenReturn(mockEndpointInfo);
-        when(mockHandshakeHandler.performHandshake(any(), any())).thenReturn(true);
+        when(mockHandshakeHandler.performHandshake(any(), any(), any())).thenReturn(true);
 
         // when: 핸들러 실행
         webSocketProtocolHandler.accept(mockChannel, mockSelector, ByteBuffer.allocate(0));
@@ -101,7 +110,7 @@ class WebSocketProtocolHandlerTest {
         // then: 주요 메서드 호출 검증
         verify(mockHttpRequestParser).parse(anyString());
         verify(mockEndpointRegistry).getEndpointInfo("/chat");
-        verify(mockHandshakeHandler).performHandshake(any(), any());
+        verify(mockHandshakeHandler).performHandshake(any(), any(), any());
 
         // then: 세션 생성 및 등록 검증
         ArgumentCaptor<WebSocketSession> sessionCaptor = ArgumentCaptor.forClass(WebSocketSession.class);
@@ -155,7 +164,7 @@ class WebSocketProtocolHandlerTest {
         // given: 핸드셰이크 핸들러가 false를 반환하도록 설정
         doReturn(mockRequest).when(mockHttpRequestParser).parse(anyString());
         when(mockEndpointRegistry.getEndpointInfo("/chat")).thenReturn(mockEndpointInfo);
-        when(mockHandshakeHandler.performHandshake(any(), any())).thenReturn(false);
+        when(mockHandshakeHandler.performHandshake(any(), any(), any())).thenReturn(false);
 
         // when
         webSocketProtocolHandler.accept(mockChannel, mockSelector, ByteBuffer.allocate(0));
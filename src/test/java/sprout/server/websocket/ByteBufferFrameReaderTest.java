@@ -0,0 +1,189 @@
+package sprout.server.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.server.websocket.exception.MessageTooBigException;
+import sprout.server.websocket.exception.WebSocketProtocolException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteBufferFrameReaderTest {
+
+    private static final byte[] MASK = {0x1a, 0x2b, 0x3c, 0x4d};
+
+    private final ByteBufferFrameReader reader = new ByteBufferFrameReader();
+
+    private static byte[] clientFrame(int firstByte, byte[] payload, byte[] mask) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(firstByte);
+        int maskBit = mask != null ? 0x80 : 0;
+        if (payload.length <= 125) {
+            out.write(maskBit | payload.length);
+        } else if (payload.length <= 0xFFFF) {
+            out.write(maskBit | 126);
+            out.write(payload.length >> 8);
+            out.write(payload.length);
+        } else {
+            out.write(maskBit | 127);
+            for (int i = 7; i >= 0; i--) {
+                out.write((int) ((long) payload.length >> (8 * i)));
+            }
+        }
+        if (mask != null) {
+            out.writeBytes(mask);
+            for (int i = 0; i < payload.length; i++) {
+                out.write(payload[i] ^ mask[i & 3]);
+            }
+        } else {
+            out.writeBytes(payload);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("마스킹되지 않은 짧은 프레임을 읽는다")
+    void readsUnmaskedFrame() throws Exception {
+        byte[] payload = "Hello".getBytes(StandardCharsets.UTF_8);
+        WebSocketFrame frame = reader.read(ByteBuffer.wrap(clientFrame(0x81, payload, null)));
+
+        assertThat(frame.isFin()).isTrue();
+        assertThat(frame.getOpcode()).isEqualTo(0x1);
+        assertThat(frame.getPayloadLength()).isEqualTo(5);
+        assertThat(frame.getPayloadBytes()).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("8바이트 단위로 나누어떨어지지 않는 마스킹 페이로드도 정확히 언마스킹한다")
+    void unmasksPayloadWithTail() throws Exception {
+        byte[] payload = "M".repeat(300).concat("xyz").getBytes(StandardCharsets.UTF_8);
+        WebSocketFrame frame = reader.read(ByteBuffer.wrap(clientFrame(0x82, payload, MASK)));
+
+        assertThat(frame.getOpcode()).isEqualTo(0x2);
+        assertThat(frame.getPayloadStream().readAllBytes()).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("페이로드는 읽기 버퍼를 복사하지 않은 slice로 전달된다")
+    void payloadIsSliceOfReadBuffer() throws Exception {
+        byte[] bytes = clientFrame(0x81, "slice".getBytes(StandardCharsets.UTF_8), MASK);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        WebSocketFrame frame = reader.read(buffer);
+
+        assertThat(frame.getPayloadBuffer().hasArray()).isTrue();
+        assertThat(frame.getPayloadBuffer().array()).isSameAs(bytes);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 바이트씩 들어와도 예외 없이 null을 돌려주다가 마지막 바이트에서 프레임을 완성한다")
+    void resumesAcrossPartialReads() throws Exception {
+        byte[] payload = "resumable".repeat(20).getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = clientFrame(0x81, payload, MASK);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        WebSocketFrame frame = null;
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(bytes[i]).flip();
+            frame = reader.read(buffer);
+            buffer.compact();
+            if (i < bytes.length - 1) {
+                assertThat(frame).isNull();
+            }
+        }
+
+        assertThat(frame).isNotNull();
+        assertThat(frame.getPayloadBytes()).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("한 버퍼에 들어온 여러 프레임을 차례로 읽는다")
+    void readsConsecutiveFrames() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put(clientFrame(0x01, "Hel".getBytes(StandardCharsets.UTF_8), MASK));
+        buffer.put(clientFrame(0x89, new byte[0], MASK));
+        buffer.put(clientFrame(0x80, "lo".getBytes(StandardCharsets.UTF_8), MASK));
+        buffer.flip();
+
+        WebSocketFrame first = reader.read(buffer);
+        WebSocketFrame ping = reader.read(buffer);
+        WebSocketFrame last = reader.read(buffer);
+
+        assertThat(first.isFin()).isFalse();
+        assertThat(first.getTextPayload()).isEqualTo("Hel");
+        assertThat(ping.getOpcode()).isEqualTo(0x9);
+        assertThat(ping.getPayloadLength()).isZero();
+        assertThat(last.isFin()).isTrue();
+        assertThat(last.getTextPayload()).isEqualTo("lo");
+        assertThat(reader.read(buffer)).isNull();
+    }
+
+    @Test
+    @DisplayName("읽기 버퍼보다 큰 페이로드는 별도 배열에 모아 완성한다")
+    void accumulatesPayloadLargerThanBuffer() throws Exception {
+        byte[] payload = new byte[70_000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        byte[] bytes = clientFrame(0x82, payload, MASK);
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        WebSocketFrame frame = null;
+        int off = 0;
+        while (frame == null) {
+            int n = Math.min(buffer.remaining(), bytes.length - off);
+            buffer.put(bytes, off, n).flip();
+            off += n;
+            frame = reader.read(buffer);
+            buffer.compact();
+        }
+
+        assertThat(off).isEqualTo(bytes.length);
+        assertThat(frame.getPayloadBytes()).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("지원할 수 없는 64비트 길이는 프로토콜 오류로 거절한다")
+    void rejectsHugeLength() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0x82, 127, (byte) 0x80, 0, 0, 0, 0, 0, 0, 0});
+
+        assertThatThrownBy(() -> reader.read(buffer)).isInstanceOf(WebSocketProtocolException.class);
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 프레임은 모으지 않고 거절한 뒤, 그 페이로드를 건너뛰고 다음 프레임을 읽는다")
+    void rejectsOversizedFrameAndSkipsItsPayload() throws Exception {
+        ByteBufferFrameReader limited = new ByteBufferFrameReader(8);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put(clientFrame(0x82, new byte[20], MASK));
+        buffer.put(clientFrame(0x88, new byte[]{0x03, (byte) 0xE8}, MASK));
+        buffer.flip();
+
+        assertThatThrownBy(() -> limited.read(buffer)).isInstanceOf(MessageTooBigException.class);
+        WebSocketFrame close = limited.read(buffer);
+
+        assertThat(close.getOpcode()).isEqualTo(0x8);
+        assertThat(close.getPayloadBytes()).containsExactly(0x03, 0xE8);
+    }
+
+    @Test
+    @DisplayName("little-endian 버퍼에서도 long 단위 언마스킹 결과가 같다")
+    void unmaskHonoursByteOrder() {
+        byte[] plain = "0123456789abcdefXYZ".getBytes(StandardCharsets.US_ASCII);
+        byte[] masked = new byte[plain.length];
+        for (int i = 0; i < plain.length; i++) {
+            masked[i] = (byte) (plain[i] ^ MASK[i & 3]);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(masked).order(ByteOrder.LITTLE_ENDIAN);
+
+        ByteBufferFrameReader.unmask(buffer, 0, masked.length, ByteBuffer.wrap(MASK).getInt());
+
+        assertThat(masked).isEqualTo(plain);
+    }
+}
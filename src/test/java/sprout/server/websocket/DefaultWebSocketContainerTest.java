@@ -8,10 +8,39 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.mockito.ArgumentCaptor;
+
+import sprout.metrics.Counter;
+import sprout.metrics.MetricsRegistry;
+import sprout.mvc.http.HttpMethod;
+import sprout.mvc.http.HttpRequest;
+import sprout.mvc.mapping.PathPattern;
+import sprout.server.websocket.cluster.ClusterMessage;
+import sprout.server.websocket.cluster.InMemoryClusterTransport;
+import sprout.server.websocket.cluster.WebSocketClusterBus;
+import sprout.server.websocket.cluster.WebSocketClusterConfig;
+import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
+import sprout.server.websocket.extension.DeflaterPool;
+import sprout.server.websocket.extension.PerMessageDeflate;
+import sprout.server.websocket.extension.PerMessageDeflateCodec;
+import sprout.server.websocket.extension.PerMessageDeflateConfig;
+import sprout.server.websocket.framehandler.FrameHandler;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -116,4 +145,239 @@ class DefaultWebSocketContainerTest {
         assertNotNull(sessions, "반환된 컬렉션은 null이 아니어야 합니다.");
         assertTrue(sessions.isEmpty(), "세션이 없는 경우 빈 컬렉션을 반환해야 합니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("브로드캐스트는 프레임을 한 번만 인코딩하고 세션마다 같은 바이트의 duplicate를 넣는다.")
+    void broadcastText_sharesOneEncodedFrame() {
+        // given
+        container.addSession("/chat", session1);
+        container.addSession("/chat", session2);
+        for (WebSocketSession session : new WebSocketSession[]{session1, session2}) {
+            when(session.isOpen()).thenReturn(true);
+            when(session.sendFrame(any())).thenReturn(true);
+        }
+
+        // when
+        BroadcastResult result = container.broadcastText("/chat", "hi");
+
+        // then
+        ArgumentCaptor<ByteBuffer> first = ArgumentCaptor.forClass(ByteBuffer.class);
+        ArgumentCaptor<ByteBuffer> second = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(session1).sendFrame(first.capture());
+        verify(session2).sendFrame(second.capture());
+        assertNotSame(first.getValue(), second.getValue());
+        assertTrue(first.getValue().isReadOnly());
+        first.getValue().get(); // 한 세션이 읽어도 다른 세션의 위치는 그대로
+        assertEquals(4, second.getValue().remaining());
+        assertEquals(new BroadcastResult(2, 0), result);
+    }
+
+    @Test
+    @DisplayName("닫힌 세션은 건너뛰고 drop으로 센다. filter를 통과하지 못한 세션은 세지 않는다.")
+    void broadcastText_countsDroppedAndAppliesFilter() {
+        // given
+        container.addSession("/chat", session1);
+        container.addSession("/chat", session2);
+        container.addSession("/chat", session3);
+        when(session1.isOpen()).thenReturn(true);
+        when(session1.sendFrame(any())).thenReturn(true);
+        when(session2.isOpen()).thenReturn(false);
+
+        // when
+        BroadcastResult result = container.broadcastText("/chat", "hi", s -> s != session3);
+
+        // then
+        assertEquals(new BroadcastResult(1, 1), result);
+        verify(session2, never()).sendFrame(any());
+        verify(session3, never()).sendFrame(any());
+    }
+
+    @Test
+    @DisplayName("보내지 못한 프레임은 닫힌 세션과 전송 큐 overflow를 나눠 센다")
+    void broadcastBinary_countsDroppedByReason() {
+        // given
+        MetricsRegistry registry = new MetricsRegistry();
+        DefaultWebSocketContainer metered = new DefaultWebSocketContainer(new DefaultWebSocketFrameEncoder(), registry);
+        metered.addSession("/feed", session1);
+        metered.addSession("/feed", session2);
+        metered.addSession("/feed", session3);
+        when(session1.isOpen()).thenReturn(true);
+        when(session1.sendFrame(any())).thenReturn(true);
+        when(session2.isOpen()).thenReturn(false);
+        when(session3.isOpen()).thenReturn(true);
+        when(session3.sendFrame(any())).thenReturn(false);
+
+        // when
+        BroadcastResult result = metered.broadcastBinary("/feed", new byte[]{1, 2, 3});
+
+        // then
+        assertEquals(new BroadcastResult(1, 2), result);
+        assertEquals(1, dropped(registry, "closed").get());
+        assertEquals(1, dropped(registry, "overflow").get());
+        ArgumentCaptor<ByteBuffer> frame = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(session1).sendFrame(frame.capture());
+        assertEquals(0x82, frame.getValue().get(0) & 0xFF); // FIN + binary
+    }
+
+    private static Counter dropped(MetricsRegistry registry, String reason) {
+        return registry.counter("sprout_websocket_broadcast_dropped_total", "", "target", "path", "reason", reason);
+    }
+
+    @Test
+    @DisplayName("그룹에 들어간 세션에만 보내고, 세션이 닫히면 모든 그룹에서 빠진다.")
+    void groups_broadcastAndCleanupOnClose() {
+        // given
+        container.addSession("/chat", session1);
+        container.addSession("/chat", session2);
+        container.joinGroup("room-a", session1);
+        container.joinGroup("room-b", session1);
+        container.joinGroup("room-b", session2);
+        when(session1.isOpen()).thenReturn(true);
+        when(session1.sendFrame(any())).thenReturn(true);
+        lenient().when(session1.getRequestPath()).thenReturn("/chat");
+
+        // when
+        BroadcastResult result = container.broadcastTextToGroup("room-a", "hi");
+        container.onSessionClosed(session1);
+
+        // then
+        assertEquals(new BroadcastResult(1, 0), result);
+        verify(session2, never()).sendFrame(any());
+        assertTrue(container.getGroup("room-a").isEmpty());
+        assertEquals(1, container.getGroup("room-b").size());
+        assertTrue(container.getGroup("room-b").contains(session2));
+    }
+
+    @Test
+    @DisplayName("템플릿 경로 엔드포인트의 세션도 하트비트로 끊기면 엔드포인트 패턴에서 빠진다.")
+    void abortedSession_onTemplatedEndpoint_isRemoved() throws Exception {
+        // given
+        WebSocketEndpointInfo endpointInfo = new WebSocketEndpointInfo(new PathPattern("/chat/{room}"), new Object(),
+                null, null, null, Map.of());
+        HttpRequest<?> handshake = new HttpRequest<>(HttpMethod.GET, "/chat/42", null, Map.of(), Map.of());
+        DefaultWebSocketSession session = new DefaultWebSocketSession("ws-42", mock(SocketChannel.class), mock(Selector.class),
+                handshake, endpointInfo, new DefaultWebSocketFrameParser(), new DefaultWebSocketFrameEncoder(),
+                Map.of("room", "42"), List.of(), List.of(), container, List.of(mock(FrameHandler.class)));
+        container.addSession("/chat/{room}", session);
+
+        // when
+        session.abort(CloseCodes.CLOSED_ABNORMALLY); // 하트비트가 응답 없는 세션을 끊을 때 부르는 경로
+
+        // then
+        assertFalse(container.getSessions("/chat/{room}").contains(session));
+        assertNull(container.getSession("ws-42"));
+        assertEquals(0, container.getSessionCount());
+    }
+
+    @Test
+    @DisplayName("deflate를 합의한 세션에는 한 번만 압축한 RSV1 프레임을, 나머지에는 평문 프레임을 보낸다.")
+    void broadcastText_sharesCompressedFrameWithDeflateSessions() throws Exception {
+        // given
+        String message = "{\"price\":101.25}".repeat(40);
+        container.addSession("/quotes", session1);
+        container.addSession("/quotes", session2);
+        container.addSession("/quotes", session3);
+        for (WebSocketSession session : List.of(session1, session2, session3)) {
+            when(session.isOpen()).thenReturn(true);
+            when(session.sendFrame(any())).thenReturn(true);
+        }
+        when(session1.isDeflateEnabled()).thenReturn(true);
+        when(session2.isDeflateEnabled()).thenReturn(true);
+
+        // when
+        container.broadcastText("/quotes", message);
+
+        // then
+        ArgumentCaptor<ByteBuffer> first = ArgumentCaptor.forClass(ByteBuffer.class);
+        ArgumentCaptor<ByteBuffer> second = ArgumentCaptor.forClass(ByteBuffer.class);
+        ArgumentCaptor<ByteBuffer> plain = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(session1).sendFrame(first.capture());
+        verify(session2).sendFrame(second.capture());
+        verify(session3).sendFrame(plain.capture());
+        assertEquals(first.getValue(), second.getValue());
+        assertEquals(0xC1, first.getValue().get(0) & 0xFF); // FIN + RSV1 + text
+        assertEquals(0x81, plain.getValue().get(0) & 0xFF);
+        assertTrue(first.getValue().remaining() < plain.getValue().remaining());
+
+        WebSocketFrame frame = new ByteBufferFrameReader().read(first.getValue().duplicate());
+        PerMessageDeflateCodec codec = new PerMessageDeflateCodec(new PerMessageDeflate(false, 0),
+                new DeflaterPool(PerMessageDeflateConfig.DEFAULT));
+        assertEquals(message, StandardCharsets.UTF_8.decode(codec.inflate(frame.getPayloadBuffer(), true)).toString());
+    }
+
+    @Test
+    @DisplayName("클러스터 버스가 켜져 있으면 다른 노드의 경로·그룹 브로드캐스트를 이 노드의 세션에 전달한다.")
+    void clusterBroadcast_reachesSessionsOnOtherNode() {
+        // given
+        InMemoryClusterTransport.Hub hub = new InMemoryClusterTransport.Hub();
+        WebSocketClusterBus busA = clusterBus(hub, "node-a");
+        WebSocketClusterBus busB = clusterBus(hub, "node-b");
+        DefaultWebSocketContainer nodeA = clusterContainer(busA);
+        DefaultWebSocketContainer nodeB = clusterContainer(busB);
+        nodeA.addSession("/chat", session1);
+        nodeB.addSession("/chat", session2);
+        nodeB.joinGroup("room-a", session3);
+        for (WebSocketSession session : List.of(session1, session2, session3)) {
+            when(session.isOpen()).thenReturn(true);
+            when(session.sendFrame(any())).thenReturn(true);
+        }
+
+        try {
+            // when
+            BroadcastResult result = nodeA.broadcastText("/chat", "hi");
+            nodeA.broadcastBinaryToGroup("room-a", new byte[]{1, 2});
+            busA.flush();
+
+            // then
+            assertEquals(new BroadcastResult(1, 0), result); // 결과는 이 노드의 세션만 센다
+            ArgumentCaptor<ByteBuffer> local = ArgumentCaptor.forClass(ByteBuffer.class);
+            ArgumentCaptor<ByteBuffer> remote = ArgumentCaptor.forClass(ByteBuffer.class);
+            ArgumentCaptor<ByteBuffer> group = ArgumentCaptor.forClass(ByteBuffer.class);
+            verify(session1).sendFrame(local.capture());
+            verify(session2).sendFrame(remote.capture());
+            verify(session3).sendFrame(group.capture());
+            assertEquals(local.getValue(), remote.getValue());
+            assertEquals(0x82, group.getValue().get(0) & 0xFF);
+        } finally {
+            busA.close();
+            busB.close();
+        }
+    }
+
+    @Test
+    @DisplayName("filter를 받는 브로드캐스트는 다른 노드로 보내지 않는다.")
+    void filteredBroadcast_staysOnLocalNode() {
+        // given
+        InMemoryClusterTransport.Hub hub = new InMemoryClusterTransport.Hub();
+        WebSocketClusterBus busA = clusterBus(hub, "node-a");
+        WebSocketClusterBus observer = clusterBus(hub, "node-b");
+        List<ClusterMessage> received = new CopyOnWriteArrayList<>();
+        observer.subscribe(received::add);
+        DefaultWebSocketContainer nodeA = clusterContainer(busA);
+
+        try {
+            // when
+            nodeA.broadcastText("/chat", "only here", s -> true);
+            nodeA.broadcastText("/chat", "everywhere");
+            busA.flush();
+
+            // then
+            assertEquals(1, received.size());
+            assertEquals("everywhere", new String(received.get(0).payload(), StandardCharsets.UTF_8));
+        } finally {
+            busA.close();
+            observer.close();
+        }
+    }
+
+    private static WebSocketClusterBus clusterBus(InMemoryClusterTransport.Hub hub, String nodeId) {
+        WebSocketClusterConfig config = new WebSocketClusterConfig("memory", nodeId, "test", 60_000, 256, 64 * 1024,
+                "localhost", 6379, null);
+        return new WebSocketClusterBus(config, new InMemoryClusterTransport(hub), new MetricsRegistry());
+    }
+
+    private static DefaultWebSocketContainer clusterContainer(WebSocketClusterBus bus) {
+        return new DefaultWebSocketContainer(new DefaultWebSocketFrameEncoder(), new MetricsRegistry(),
+                new DeflaterPool(PerMessageDeflateConfig.DEFAULT), bus);
+    }
+}
@@ -3,6 +3,7 @@ package sprout.server.websocket;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -82,4 +83,19 @@ class DefaultWebSocketFrameEncoderTest {
         assertArrayEquals(payload, Arrays.copyOfRange(frame, 10, frame.length));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("헤더만 인코딩하면 encodeBinary 결과의 앞부분과 같다")
+    void encodeHeader_MatchesFullFrame() {
+        for (int len : new int[]{0, 125, 126, 65535, 65536}) {
+            byte[] payload = new byte[len];
+            byte[] frame = encoder.encodeBinary(payload);
+            ByteBuffer header = ByteBuffer.allocate(WebSocketFrameEncoder.MAX_HEADER_LENGTH);
+
+            encoder.encodeHeader(header, 0x2, true, len);
+
+            assertEquals(WebSocketFrameEncoder.headerLength(len), header.position());
+            assertArrayEquals(Arrays.copyOfRange(frame, 0, header.position()), Arrays.copyOf(header.array(), header.position()));
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import sprout.mvc.http.HttpRequest;
+import sprout.server.ByteBufferPool;
 import sprout.server.argument.WebSocketArgumentResolver;
 import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
 import sprout.server.websocket.exception.WebSocketProtocolException;
@@ -152,6 +153,39 @@ class DefaultWebSocketSessionReadLogicTest {
         verify(md, times(1)).dispatch(any(), any());
     }
 
+    @Test
+    @DisplayName("읽은 바이트를 모두 처리하면 읽기 버퍼를 풀에 돌려주고, 읽다 만 프레임이 있으면 들고 있는다")
+    void read_returnsDrainedReadBufferToPool() throws Exception {
+        ByteBufferPool pool = new ByteBufferPool();
+        DefaultWebSocketSession pooled = new DefaultWebSocketSession(
+                "pooled", channel, selector, handshakeRequest, endpointInfo,
+                new DefaultWebSocketFrameParser(), encoder, Map.of(),
+                resolvers, dispatchers, closeListener,
+                Collections.singletonList(handler), pool);
+        long before = pooled.getLastActivityNanos();
+        // 마스킹된 빈 ping 프레임 하나
+        byte[] ping = {(byte) 0x89, (byte) 0x80, 1, 2, 3, 4};
+        when(channel.read(any(ByteBuffer.class))).thenAnswer(inv -> {
+            inv.getArgument(0, ByteBuffer.class).put(ping);
+            return ping.length;
+        });
+
+        pooled.read(key);
+
+        ByteBufferPool.PoolStats stats = pool.getStats(ByteBufferPool.SESSION_READ_BUFFER_SIZE);
+        assertThat(stats.releaseCount).isEqualTo(1);
+        assertThat(pooled.getLastActivityNanos()).isGreaterThan(before);
+
+        // 헤더 첫 바이트만 들어오면 버퍼를 놓지 않는다
+        when(channel.read(any(ByteBuffer.class))).thenAnswer(inv -> {
+            inv.getArgument(0, ByteBuffer.class).put(ping, 0, 1);
+            return 1;
+        });
+        pooled.read(key);
+
+        assertThat(pool.getStats(ByteBufferPool.SESSION_READ_BUFFER_SIZE).acquireCount).isEqualTo(2);
+        assertThat(pool.getStats(ByteBufferPool.SESSION_READ_BUFFER_SIZE).releaseCount).isEqualTo(1);
+    }
 
     private void stubInterestOpsState(int init) {
         opsHolder.set(init);
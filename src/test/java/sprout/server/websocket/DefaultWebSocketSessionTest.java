@@ -7,13 +7,16 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import sprout.metrics.Counter;
 import sprout.mvc.http.HttpRequest;
+import sprout.server.ByteBufferPool;
 import sprout.server.argument.WebSocketArgumentResolver;
 import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
 import sprout.server.websocket.framehandler.FrameHandler;
 import sprout.server.websocket.framehandler.FrameProcessingContext;
 import sprout.server.websocket.message.WebSocketMessageDispatcher;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
@@ -21,6 +24,7 @@ import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.channels.SelectionKey.OP_READ;
@@ -93,7 +97,7 @@ class DefaultWebSocketSessionWriteLogicTest {
     @DisplayName("sendText -> 큐 enqueue, OP_WRITE 등록, selector.wakeup 호출")
     void sendText_registersWrite() throws IOException {
         session.sendText("hello");
-        verify(channel, never()).write(any(ByteBuffer.class));
+        verify(channel, never()).write(any(ByteBuffer[].class), anyInt(), anyInt());
         assertThat(currentOps()).isEqualTo(OP_READ | OP_WRITE);
         verify(selector).wakeup();
     }
@@ -102,7 +106,7 @@ class DefaultWebSocketSessionWriteLogicTest {
     @DisplayName("write - 모두 썼을 때 OP_WRITE 제거")
     void write_drainsQueue_and_unsetWriteFlag() throws Exception {
         session.sendText("hello");
-        when(channel.write(any(ByteBuffer.class))).thenAnswer(this::drainBuffer);
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(this::drainBuffers);
         session.write(key);
         assertThat(currentOps()).isEqualTo(OP_READ);
     }
@@ -111,11 +115,11 @@ class DefaultWebSocketSessionWriteLogicTest {
     @DisplayName("write - 부분만 썼을 때 OP_WRITE 유지")
     void write_partialWrite_keepsWriteFlag() throws Exception {
         session.sendText("hello");
-        when(channel.write(any(ByteBuffer.class))).thenAnswer(inv -> {
-            ByteBuffer b = inv.getArgument(0);
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(inv -> {
+            ByteBuffer b = inv.getArgument(0, ByteBuffer[].class)[0];
             int half = Math.max(1, b.remaining() / 2);
             b.position(b.position() + half);
-            return half;
+            return (long) half;
         });
         session.write(key);
         assertThat(currentOps() & OP_WRITE).isEqualTo(OP_WRITE);
@@ -129,7 +133,7 @@ class DefaultWebSocketSessionWriteLogicTest {
         when(frameEncoder.encodeControlFrame(eq(0x8), any(byte[].class))).thenReturn(closeBytes);
         session.close();
         assertThat(session.isClosePending()).isTrue();
-        when(channel.write(any(ByteBuffer.class))).thenAnswer(this::drainBuffer);
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(this::drainBuffers);
         session.write(key);
         verify(channel).close();
         verify(closeListener).onSessionClosed(session);
@@ -149,7 +153,7 @@ class DefaultWebSocketSessionWriteLogicTest {
     @DisplayName("sendBinary도 동일하게 큐에 적재되고 write로 비워진다")
     void sendBinary_behavesLikeText() throws Exception {
         session.sendBinary(new byte[]{1,2,3});
-        when(channel.write(any(ByteBuffer.class))).thenAnswer(this::drainBuffer);
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(this::drainBuffers);
         session.write(key);
         assertThat(currentOps()).isEqualTo(OP_READ);
     }
@@ -158,7 +162,7 @@ class DefaultWebSocketSessionWriteLogicTest {
     @DisplayName("ping은 control frame으로 인코딩되어 전송된다")
     void sendPing_controlFrame() throws Exception {
         session.sendPing(new byte[]{9,9});
-        when(channel.write(any(ByteBuffer.class))).thenAnswer(this::drainBuffer);
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(this::drainBuffers);
         session.write(key);
         verify(frameEncoder).encodeControlFrame(eq(0x9), any(byte[].class));
     }
@@ -167,11 +171,149 @@ class DefaultWebSocketSessionWriteLogicTest {
     @DisplayName("pong은 control frame으로 인코딩되어 전송된다")
     void sendPong_controlFrame() throws Exception {
         session.sendPong(new byte[]{1});
-        when(channel.write(any(ByteBuffer.class))).thenAnswer(this::drainBuffer);
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(this::drainBuffers);
         session.write(key);
         verify(frameEncoder).encodeControlFrame(eq(0xA), any(byte[].class));
     }
 
+    @Test
+    @DisplayName("쌓인 프레임들은 헤더 + 페이로드 버퍼로 모아 한 번의 gathering write로 보낸다")
+    void write_gathersQueuedFrames() throws Exception {
+        DefaultWebSocketSession pooled = pooledSession(new ByteBufferPool());
+        pooled.sendText("a");
+        pooled.sendText("bb");
+        pooled.sendBinary(new byte[]{1, 2, 3});
+        List<Integer> batchSizes = new ArrayList<>();
+        ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(inv -> {
+            ByteBuffer[] srcs = inv.getArgument(0);
+            int length = inv.getArgument(2);
+            batchSizes.add(length);
+            for (int i = 0; i < length; i++) {
+                while (srcs[i].hasRemaining()) wire.write(srcs[i].get());
+            }
+            return (long) wire.size();
+        });
+
+        pooled.write(key);
+
+        assertThat(batchSizes).containsExactly(6);
+        assertThat(wire.toByteArray()).containsExactly(
+                0x81, 1, 'a',
+                0x81, 2, 'b', 'b',
+                0x82, 3, 1, 2, 3);
+        assertThat(currentOps()).isEqualTo(OP_READ);
+    }
+
+    @Test
+    @DisplayName("전송이 끝난 헤더 버퍼만 풀로 돌아가고, 덜 쓴 프레임의 헤더는 큐에 남는다")
+    void write_releasesFlushedHeadersToPool() throws Exception {
+        ByteBufferPool pool = new ByteBufferPool();
+        DefaultWebSocketSession pooled = pooledSession(pool);
+        pooled.sendText("first");
+        pooled.sendText("second");
+        // 첫 프레임(헤더 + 페이로드)과 두 번째 헤더의 1바이트만 쓰인다
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(inv -> {
+            ByteBuffer[] srcs = inv.getArgument(0);
+            srcs[0].position(srcs[0].limit());
+            srcs[1].position(srcs[1].limit());
+            srcs[2].get();
+            return 8L;
+        });
+
+        pooled.write(key);
+
+        assertThat(pool.getStats(ByteBufferPool.FRAME_HEADER_BUFFER_SIZE).releaseCount).isEqualTo(1);
+        assertThat(currentOps() & OP_WRITE).isEqualTo(OP_WRITE);
+    }
+
+    @Test
+    @DisplayName("close 정책: 전송 큐가 넘치면 대기 프레임을 버리고 1008 종료 프레임을 보낸 뒤 닫는다")
+    void slowConsumer_closePolicy_closesWith1008() throws Exception {
+        ByteBufferPool pool = new ByteBufferPool();
+        OutboundQueue outbound = new OutboundQueue(
+                new WebSocketOutboundConfig(8, 2, WebSocketOutboundConfig.OverflowPolicy.CLOSE), pool, new Counter());
+        DefaultWebSocketSession slow = new DefaultWebSocketSession("slow", channel, selector, handshakeRequest, endpointInfo,
+                frameParser, new DefaultWebSocketFrameEncoder(), Collections.emptyMap(),
+                argumentResolvers, dispatchers, closeListener, Collections.singletonList(handler), pool, outbound);
+        slow.sendText("12345");
+        assertThat(slow.isWritable()).isTrue();
+
+        slow.sendText("67890");
+
+        assertThat(slow.isClosePending()).isTrue();
+        assertThat(slow.sendFrame(ByteBuffer.wrap(new byte[]{1}))).isFalse();
+        ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(inv -> {
+            ByteBuffer[] srcs = inv.getArgument(0);
+            int length = inv.getArgument(2);
+            for (int i = 0; i < length; i++) {
+                while (srcs[i].hasRemaining()) wire.write(srcs[i].get());
+            }
+            return (long) wire.size();
+        });
+        slow.write(key);
+
+        byte[] bytes = wire.toByteArray();
+        assertThat(bytes[0] & 0x0F).isEqualTo(0x8);
+        assertThat(((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF)).isEqualTo(CloseCodes.VIOLATED_POLICY.getCode());
+        verify(channel).close();
+        verify(closeListener).onSessionClosed(slow);
+    }
+
+    @Test
+    @DisplayName("write가 OP_WRITE를 끄는 사이 drain 스레드가 읽기를 재개해도 OP_READ가 남는다")
+    void write_keepsReadInterestResumedConcurrently() throws Exception {
+        session.sendText("hello");
+        opsHolder.set(OP_WRITE); // 대기 메시지가 가득 차 읽기를 멈춘 상태
+        AtomicBoolean resumed = new AtomicBoolean();
+        Runnable drainResumesReads = () -> {
+            if (resumed.compareAndSet(false, true)) {
+                opsHolder.getAndUpdate(ops -> ops | OP_READ); // SerialExecutor drain 스레드의 resume()
+            }
+        };
+        // 읽고-쓰기로 바꾸면 읽은 직후에, 원자적으로 바꾸면 바꾸기 직전에 drain이 끼어든다
+        when(key.interestOps()).thenAnswer(inv -> {
+            int ops = opsHolder.get();
+            drainResumesReads.run();
+            return ops;
+        });
+        when(key.interestOpsAnd(anyInt())).thenAnswer(inv -> {
+            drainResumesReads.run();
+            return opsHolder.getAndUpdate(ops -> ops & inv.getArgument(0, Integer.class));
+        });
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(this::drainBuffers);
+
+        session.write(key);
+
+        assertThat(resumed.get()).isTrue();
+        assertThat(currentOps()).isEqualTo(OP_READ);
+    }
+
+    @Test
+    @DisplayName("abort: close 핸드셰이크 없이 채널을 닫고 대기 프레임을 버린 뒤 컨테이너에 알린다")
+    void abort_closesChannelWithoutHandshake() throws Exception {
+        ByteBufferPool pool = new ByteBufferPool();
+        DefaultWebSocketSession pooled = pooledSession(pool);
+        pooled.sendText("pending");
+
+        pooled.abort(CloseCodes.CLOSED_ABNORMALLY);
+        pooled.abort(CloseCodes.CLOSED_ABNORMALLY);
+
+        assertThat(pooled.isOpen()).isFalse();
+        assertThat(pooled.getOutboundQueuedBytes()).isZero();
+        assertThat(pooled.sendFrame(ByteBuffer.wrap(new byte[]{1}))).isFalse();
+        verify(channel, never()).write(any(ByteBuffer[].class), anyInt(), anyInt());
+        verify(channel).close();
+        verify(closeListener, times(1)).onSessionClosed(pooled);
+    }
+
+    private DefaultWebSocketSession pooledSession(ByteBufferPool pool) throws IOException {
+        return new DefaultWebSocketSession("pooled", channel, selector, handshakeRequest, endpointInfo,
+                frameParser, new DefaultWebSocketFrameEncoder(), Collections.emptyMap(),
+                argumentResolvers, dispatchers, closeListener, Collections.singletonList(handler), pool);
+    }
+
     private void stubInterestOpsState(int initialOps) {
         opsHolder.set(initialOps);
         when(key.interestOps()).thenAnswer(inv -> opsHolder.get());
@@ -179,16 +321,23 @@ class DefaultWebSocketSessionWriteLogicTest {
             opsHolder.set(inv.getArgument(0));
             return key;
         });
+        when(key.interestOpsOr(anyInt())).thenAnswer(inv -> opsHolder.getAndUpdate(ops -> ops | inv.getArgument(0, Integer.class)));
+        when(key.interestOpsAnd(anyInt())).thenAnswer(inv -> opsHolder.getAndUpdate(ops -> ops & inv.getArgument(0, Integer.class)));
     }
 
     private int currentOps() {
         return opsHolder.get();
     }
 
-    private int drainBuffer(InvocationOnMock inv) {
-        ByteBuffer b = inv.getArgument(0);
-        int r = b.remaining();
-        b.position(b.limit());
+    private long drainBuffers(InvocationOnMock inv) {
+        ByteBuffer[] srcs = inv.getArgument(0);
+        int offset = inv.getArgument(1);
+        int length = inv.getArgument(2);
+        long r = 0;
+        for (int i = offset; i < offset + length; i++) {
+            r += srcs[i].remaining();
+            srcs[i].position(srcs[i].limit());
+        }
         return r;
     }
 }
@@ -0,0 +1,186 @@
+package sprout.server.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.metrics.Counter;
+import sprout.server.ByteBufferPool;
+import sprout.server.websocket.WebSocketOutboundConfig.OverflowPolicy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboundQueueTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool();
+    private final Counter dropped = new Counter();
+
+    @Test
+    @DisplayName("high watermark를 넘기면 unwritable, low watermark 아래로 비우면 다시 writable")
+    void watermarks_toggleWritability() throws Exception {
+        OutboundQueue queue = queue(10, 4, OverflowPolicy.DROP_NEWEST);
+        queue.offer(null, payload("aaaaaa"), null);
+        assertThat(queue.isWritable()).isTrue();
+        queue.offer(null, payload("bbbb"), null);
+        assertThat(queue.isWritable()).isFalse();
+
+        SlowChannel channel = new SlowChannel(7);
+        queue.flush(channel);
+        assertThat(queue.getQueuedBytes()).isEqualTo(4); // 쓰기 시작한 프레임은 다 나갈 때까지 전체 크기로 센다
+        assertThat(queue.isWritable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("drop-newest: 넘치는 새 프레임을 버린다")
+    void dropNewest_discardsIncoming() throws Exception {
+        OutboundQueue queue = queue(8, 2, OverflowPolicy.DROP_NEWEST);
+        assertThat(queue.offer(null, payload("old1"), null)).isEqualTo(OutboundQueue.Offer.QUEUED);
+        assertThat(queue.offer(null, payload("new12"), null)).isEqualTo(OutboundQueue.Offer.DROPPED);
+
+        assertThat(drain(queue)).isEqualTo("old1");
+        assertThat(dropped.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("drop-oldest: 쓰기 시작하지 않은 오래된 프레임부터 버리고, 반쯤 쓴 프레임은 남긴다")
+    void dropOldest_keepsStartedFrame() throws Exception {
+        OutboundQueue queue = queue(8, 2, OverflowPolicy.DROP_OLDEST);
+        queue.offer(null, payload("aaaa"), null);
+        queue.offer(null, payload("bbbb"), null);
+        queue.flush(new SlowChannel(2)); // "aa"까지만 나감
+
+        assertThat(queue.offer(null, payload("cccc"), null)).isEqualTo(OutboundQueue.Offer.QUEUED);
+        assertThat(drain(queue)).isEqualTo("aacccc");
+        assertThat(dropped.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("coalesce: 같은 키로 대기 중인 프레임을 새 프레임으로 바꾸고, 키가 없으면 버린다")
+    void coalesce_replacesSameKey() throws Exception {
+        OutboundQueue queue = queue(8, 2, OverflowPolicy.COALESCE);
+        queue.offer(null, payload("AAPL"), "AAPL");
+        queue.offer(null, payload("MSFT"), "MSFT");
+
+        assertThat(queue.offer(null, payload("aapl"), "AAPL")).isEqualTo(OutboundQueue.Offer.QUEUED);
+        assertThat(queue.offer(null, payload("none"), null)).isEqualTo(OutboundQueue.Offer.DROPPED);
+        assertThat(drain(queue)).isEqualTo("MSFTaapl");
+    }
+
+    @Test
+    @DisplayName("close: 대기 프레임을 모두 버리고 CLOSE를 알린 뒤, 종료 프레임은 watermark와 관계없이 받는다")
+    void close_discardsQueueAndAcceptsCloseFrame() throws Exception {
+        OutboundQueue queue = queue(8, 2, OverflowPolicy.CLOSE);
+        queue.offer(null, payload("aaaa"), null);
+        queue.offer(null, payload("bbbb"), null);
+
+        assertThat(queue.offer(null, payload("cccc"), null)).isEqualTo(OutboundQueue.Offer.CLOSE);
+        assertThat(queue.isEmpty()).isTrue();
+
+        queue.offerClose(payload("bye-bye-bye"));
+        assertThat(drain(queue)).isEqualTo("bye-bye-bye");
+        assertThat(dropped.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("drop-oldest와 close가 큐를 비울 때도 이미 넣은 종료 프레임은 남긴다")
+    void overflow_keepsQueuedCloseFrame() throws Exception {
+        OutboundQueue dropOldest = queue(8, 2, OverflowPolicy.DROP_OLDEST);
+        dropOldest.offerClose(payload("bye1"));
+        dropOldest.offer(null, payload("aaaa"), null);
+        assertThat(dropOldest.offer(null, payload("cccc"), null)).isEqualTo(OutboundQueue.Offer.QUEUED);
+        assertThat(drain(dropOldest)).isEqualTo("bye1cccc");
+
+        OutboundQueue close = queue(8, 2, OverflowPolicy.CLOSE);
+        close.offerClose(payload("bye2"));
+        close.offer(null, payload("aaaa"), null);
+        assertThat(close.offer(null, payload("cccc"), null)).isEqualTo(OutboundQueue.Offer.CLOSE);
+        assertThat(drain(close)).isEqualTo("bye2");
+        assertThat(dropped.get()).isEqualTo(3); // drop-oldest의 aaaa, close의 cccc·aaaa
+    }
+
+    @Test
+    @DisplayName("버리거나 전송한 프레임의 헤더 버퍼는 풀로 돌아간다")
+    void headers_returnToPool() throws Exception {
+        OutboundQueue queue = queue(4, 1, OverflowPolicy.DROP_NEWEST);
+        queue.offer(header(), payload("aa"), null);
+        queue.offer(header(), payload("bbb"), null); // 넘쳐서 버려짐
+
+        drain(queue);
+        assertThat(pool.getStats(ByteBufferPool.FRAME_HEADER_BUFFER_SIZE).releaseCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("큐가 비어 있으면 watermark보다 큰 프레임도 받는다")
+    void emptyQueue_acceptsOversizedFrame() throws Exception {
+        OutboundQueue queue = queue(4, 1, OverflowPolicy.DROP_NEWEST);
+        assertThat(queue.offer(null, payload("oversized"), null)).isEqualTo(OutboundQueue.Offer.QUEUED);
+        assertThat(queue.isWritable()).isFalse();
+        assertThat(drain(queue)).isEqualTo("oversized");
+        assertThat(queue.isWritable()).isTrue();
+    }
+
+    private OutboundQueue queue(long high, long low, OverflowPolicy policy) {
+        return new OutboundQueue(new WebSocketOutboundConfig(high, low, policy), pool, dropped);
+    }
+
+    private ByteBuffer header() {
+        ByteBuffer header = pool.acquire(WebSocketFrameEncoder.MAX_HEADER_LENGTH);
+        header.flip(); // 빈 헤더
+        return header;
+    }
+
+    private static ByteBuffer payload(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String drain(OutboundQueue queue) throws Exception {
+        SlowChannel channel = new SlowChannel(Integer.MAX_VALUE);
+        queue.flush(channel);
+        assertThat(queue.isEmpty()).isTrue();
+        return channel.written.toString(StandardCharsets.UTF_8);
+    }
+
+    /** 한 번의 write에서 최대 budget 바이트만 받는 채널 (소켓 송신 버퍼가 찬 상황) */
+    private static final class SlowChannel implements GatheringByteChannel {
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final int budget;
+
+        SlowChannel(int budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long total = 0;
+            for (int i = offset; i < offset + length && total < budget; i++) {
+                while (srcs[i].hasRemaining() && total < budget) {
+                    written.write(srcs[i].get());
+                    total++;
+                }
+            }
+            return total;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            return (int) write(new ByteBuffer[]{src}, 0, 1);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
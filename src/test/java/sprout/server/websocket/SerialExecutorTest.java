@@ -0,0 +1,107 @@
+package sprout.server.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerialExecutorTest {
+
+    private final List<String> signals = new ArrayList<>();
+    private final SerialExecutor.Backpressure backpressure = new SerialExecutor.Backpressure() {
+        @Override
+        public void suspend() {
+            signals.add("suspend");
+        }
+
+        @Override
+        public void resume() {
+            signals.add("resume");
+        }
+    };
+
+    @Test
+    @DisplayName("공유 실행기가 병렬이어도 한 세션의 작업은 넣은 순서대로 하나씩 실행된다")
+    void execute_preservesOrderOnParallelDelegate() throws Exception {
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        SerialExecutor serial = new SerialExecutor(pool, Integer.MAX_VALUE, backpressure);
+        List<Integer> seen = new ArrayList<>();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1000);
+
+        for (int i = 0; i < 1000; i++) {
+            int n = i;
+            serial.execute(() -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                seen.add(n);
+                concurrent.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+        assertThat(seen).hasSize(1000).isSorted();
+    }
+
+    @Test
+    @DisplayName("대기 작업이 capacity에 닿으면 읽기를 멈추고, 절반 아래로 비워지면 다시 읽는다")
+    void backpressure_suspendsAtCapacity_resumesAtHalf() {
+        ManualExecutor delegate = new ManualExecutor();
+        SerialExecutor serial = new SerialExecutor(delegate, 4, backpressure);
+
+        for (int i = 0; i < 4; i++) {
+            serial.execute(() -> {});
+        }
+        assertThat(serial.isSuspended()).isTrue();
+        assertThat(signals).containsExactly("suspend");
+        assertThat(delegate.pending).hasSize(1); // drain 작업은 하나만 올라간다
+
+        delegate.runAll();
+
+        assertThat(serial.isSuspended()).isFalse();
+        assertThat(serial.getQueuedTaskCount()).isZero();
+        assertThat(signals).containsExactly("suspend", "resume");
+    }
+
+    @Test
+    @DisplayName("앞 작업이 실패해도 뒤 작업은 실행된다")
+    void execute_continuesAfterFailure() {
+        ManualExecutor delegate = new ManualExecutor();
+        SerialExecutor serial = new SerialExecutor(delegate, 8, backpressure);
+        List<String> ran = new ArrayList<>();
+
+        serial.execute(() -> { throw new IllegalStateException("boom"); });
+        serial.execute(() -> ran.add("second"));
+        delegate.runAll();
+
+        assertThat(ran).containsExactly("second");
+    }
+
+    private static final class ManualExecutor implements java.util.concurrent.Executor {
+        private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            pending.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = pending.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package sprout.server.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Utf8ValidatorTest {
+
+    private static boolean valid(byte... bytes) {
+        Utf8Validator validator = new Utf8Validator();
+        return validator.update(ByteBuffer.wrap(bytes)) && validator.isComplete();
+    }
+
+    @Test
+    @DisplayName("ASCII와 2~4바이트 문자가 섞인 텍스트를 통과시킨다")
+    void acceptsValidText() {
+        assertThat(valid("plain ascii text that is longer than eight bytes, 한글 ✓ 😀".getBytes(StandardCharsets.UTF_8))).isTrue();
+    }
+
+    @Test
+    @DisplayName("overlong 인코딩, 서로게이트, U+10FFFF 초과, 잘못된 선두 바이트를 거른다")
+    void rejectsMalformedSequences() {
+        assertThat(valid((byte) 0xC0, (byte) 0x80)).isFalse();
+        assertThat(valid((byte) 0xE0, (byte) 0x80, (byte) 0x80)).isFalse();
+        assertThat(valid((byte) 0xED, (byte) 0xA0, (byte) 0x80)).isFalse();
+        assertThat(valid((byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80)).isFalse();
+        assertThat(valid((byte) 0xFF)).isFalse();
+        assertThat(valid((byte) 0x80)).isFalse();
+    }
+
+    @Test
+    @DisplayName("문자가 조각 경계에서 잘려도 이어서 검사하고, 끝에서 잘리면 완성되지 않은 것으로 본다")
+    void validatesAcrossFragments() {
+        byte[] emoji = "😀".getBytes(StandardCharsets.UTF_8);
+        Utf8Validator validator = new Utf8Validator();
+
+        assertThat(validator.update(ByteBuffer.wrap(Arrays.copyOfRange(emoji, 0, 1)))).isTrue();
+        assertThat(validator.isComplete()).isFalse();
+        assertThat(validator.update(ByteBuffer.wrap(Arrays.copyOfRange(emoji, 1, 4)))).isTrue();
+        assertThat(validator.isComplete()).isTrue();
+    }
+}
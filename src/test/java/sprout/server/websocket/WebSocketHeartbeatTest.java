@@ -0,0 +1,82 @@
+package sprout.server.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.metrics.MetricsRegistry;
+
+import java.nio.channels.Selector;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WebSocketHeartbeatTest {
+
+    private final Selector selector = mock(Selector.class);
+
+    @Test
+    @DisplayName("interval 동안 받은 게 없으면 ping을 보내고, 받은 게 있으면 보내지 않는다")
+    void idleSession_getsPinged() throws Exception {
+        WebSocketHeartbeat heartbeat = heartbeat(20, 5);
+        WebSocketSession idle = session(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(25));
+        WebSocketSession active = mock(WebSocketSession.class);
+        when(active.isOpen()).thenReturn(true);
+        when(active.getLastActivityNanos()).thenAnswer(inv -> System.nanoTime());
+
+        heartbeat.register(idle, selector);
+        heartbeat.register(active, selector);
+        runLoopFor(heartbeat, 60);
+
+        verify(idle, atLeastOnce()).sendPing(any());
+        verify(active, never()).sendPing(any());
+        verify(active, never()).abort(any());
+    }
+
+    @Test
+    @DisplayName("interval * (max-missed + 1) 동안 아무것도 받지 못한 세션은 1006으로 끊긴다")
+    void deadSession_isEvicted() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        WebSocketHeartbeat heartbeat = new WebSocketHeartbeat(new WebSocketHeartbeatConfig(true, 10, 2, 5, 64), registry);
+        WebSocketSession dead = session(System.nanoTime() - TimeUnit.SECONDS.toNanos(1));
+
+        heartbeat.register(dead, selector);
+        runLoopFor(heartbeat, 50);
+
+        verify(dead).abort(CloseCodes.CLOSED_ABNORMALLY);
+        verify(dead, never()).sendPing(any());
+        assertThat(registry.scrape()).contains("sprout_websocket_sessions_evicted_total{reason=\"heartbeat\"} 1");
+    }
+
+    @Test
+    @DisplayName("비활성화하면 세션을 예약하지 않고 select는 무기한 대기한다")
+    void disabled_doesNothing() {
+        WebSocketHeartbeat heartbeat = new WebSocketHeartbeat(new WebSocketHeartbeatConfig(false, 10, 2, 5, 64), new MetricsRegistry());
+        WebSocketSession session = mock(WebSocketSession.class);
+
+        heartbeat.register(session, selector);
+        heartbeat.advance(selector);
+
+        assertThat(heartbeat.selectTimeoutMillis(selector)).isZero();
+        verifyNoInteractions(session);
+    }
+
+    private WebSocketHeartbeat heartbeat(long intervalMillis, long tickMillis) {
+        return new WebSocketHeartbeat(new WebSocketHeartbeatConfig(true, intervalMillis, 2, tickMillis, 64), new MetricsRegistry());
+    }
+
+    private static WebSocketSession session(long lastActivityNanos) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getLastActivityNanos()).thenReturn(lastActivityNanos);
+        return session;
+    }
+
+    private void runLoopFor(WebSocketHeartbeat heartbeat, long millis) throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (System.nanoTime() < end) {
+            Thread.sleep(heartbeat.selectTimeoutMillis(selector));
+            heartbeat.advance(selector);
+        }
+    }
+}
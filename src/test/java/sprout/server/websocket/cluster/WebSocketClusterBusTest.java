@@ -0,0 +1,204 @@
+package sprout.server.websocket.cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.metrics.MetricsRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketClusterBusTest {
+
+    private final InMemoryClusterTransport.Hub hub = new InMemoryClusterTransport.Hub();
+    private final List<WebSocketClusterBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(WebSocketClusterBus::close);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보낸 메시지만 받고, 전송이 되돌려 준 자기 배치는 버린다")
+    void deliversToOtherNodes_andSuppressesEcho() {
+        List<ClusterMessage> onA = new CopyOnWriteArrayList<>();
+        List<ClusterMessage> onB = new CopyOnWriteArrayList<>();
+        WebSocketClusterBus a = bus("node-a", 256, onA::add);
+        bus("node-b", 256, onB::add);
+
+        a.publish(ClusterMessage.toGroup("room-1", 0x1, "hello".getBytes(StandardCharsets.UTF_8)));
+        a.flush();
+
+        assertThat(onA).isEmpty();
+        assertThat(onB).hasSize(1);
+        ClusterMessage received = onB.get(0);
+        assertThat(received.target()).isEqualTo(ClusterMessage.Target.GROUP);
+        assertThat(received.name()).isEqualTo("room-1");
+        assertThat(received.opcode()).isEqualTo(0x1);
+        assertThat(new String(received.payload(), StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("flush 간격 안에 들어온 메시지는 한 배치로 묶어 보낸 순서대로 전달한다")
+    void batchesMessages_inOrder() {
+        AtomicInteger published = new AtomicInteger();
+        List<String> onB = new CopyOnWriteArrayList<>();
+        WebSocketClusterBus a = new WebSocketClusterBus(config("node-a", 256), counting(published), new MetricsRegistry());
+        buses.add(a);
+        bus("node-b", 256, m -> onB.add(m.name()));
+
+        a.publish(ClusterMessage.toPath("/a", 0x1, new byte[]{1}));
+        a.publish(ClusterMessage.toPath("/b", 0x2, new byte[0]));
+        a.publish(ClusterMessage.toPath("/c", 0x1, new byte[]{3}));
+        a.flush();
+
+        assertThat(published.get()).isEqualTo(1);
+        assertThat(onB).containsExactly("/a", "/b", "/c");
+    }
+
+    @Test
+    @DisplayName("배치가 batch-max-messages에 닿으면 flush 간격을 기다리지 않고 보낸다")
+    void fullBatch_isPublishedImmediately() {
+        AtomicInteger published = new AtomicInteger();
+        List<ClusterMessage> onB = new CopyOnWriteArrayList<>();
+        WebSocketClusterBus a = new WebSocketClusterBus(config("node-a", 2), counting(published), new MetricsRegistry());
+        buses.add(a);
+        bus("node-b", 2, onB::add);
+
+        for (int i = 0; i < 3; i++) {
+            a.publish(ClusterMessage.toPath("/chat", 0x1, new byte[]{(byte) i}));
+        }
+        a.flush();
+
+        assertThat(published.get()).isEqualTo(2); // 가득 찬 배치 하나 + flush로 보낸 나머지 하나
+        assertThat(onB).extracting(m -> m.payload()[0]).containsExactly((byte) 0, (byte) 1, (byte) 2);
+    }
+
+    @Test
+    @DisplayName("flush 스레드가 밀려 예약된 flush가 가득 찬 배치보다 먼저 돌아도 보낸 순서를 지킨다")
+    void delayedFlush_doesNotOvertakeFullBatch() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Byte> onB = new CopyOnWriteArrayList<>();
+        WebSocketClusterBus a = new WebSocketClusterBus(config("node-a", 2, 1), blocking(entered, release), new MetricsRegistry());
+        buses.add(a);
+        bus("node-b", 2, m -> onB.add(m.payload()[0]));
+
+        a.publish(message(0));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue(); // 첫 배치를 보내는 동안 flush 스레드가 묶여 있다
+        a.publish(message(1));
+        Thread.sleep(20); // message(1)의 flush 예약 시각이 지나게 한다
+        a.publish(message(2)); // 가득 차서 [1, 2]를 잘라 낸다
+        a.publish(message(3));
+        release.countDown();
+        a.flush();
+
+        assertThat(onB).containsExactly((byte) 0, (byte) 1, (byte) 2, (byte) 3);
+    }
+
+    @Test
+    @DisplayName("컨텍스트가 닫히며 destroy되면 남은 배치를 보내고 전송을 닫는다")
+    void destroy_flushesAndClosesTransport() {
+        List<ClusterMessage> onB = new CopyOnWriteArrayList<>();
+        InMemoryClusterTransport transport = new InMemoryClusterTransport(hub);
+        WebSocketClusterBus a = new WebSocketClusterBus(config("node-a", 256), transport, new MetricsRegistry());
+        bus("node-b", 256, onB::add);
+
+        a.publish(message(7));
+        a.destroy();
+        a.publish(message(8));
+
+        assertThat(onB).hasSize(1);
+        assertThat(onB.get(0).payload()[0]).isEqualTo((byte) 7);
+    }
+
+    @Test
+    @DisplayName("전송이 없으면 발행은 아무 일도 하지 않는다")
+    void disabledBus_ignoresPublish() {
+        WebSocketClusterBus bus = WebSocketClusterBus.disabled();
+
+        bus.publish(ClusterMessage.toPath("/chat", 0x1, new byte[]{1}));
+        bus.flush();
+
+        assertThat(bus.isEnabled()).isFalse();
+    }
+
+    private WebSocketClusterBus bus(String nodeId, int batchMaxMessages, Consumer<ClusterMessage> listener) {
+        WebSocketClusterBus bus = new WebSocketClusterBus(config(nodeId, batchMaxMessages),
+                new InMemoryClusterTransport(hub), new MetricsRegistry());
+        bus.subscribe(listener);
+        buses.add(bus);
+        return bus;
+    }
+
+    private static ClusterMessage message(int seq) {
+        return ClusterMessage.toPath("/chat", 0x1, new byte[]{(byte) seq});
+    }
+
+    // 첫 배치를 보낼 때 release가 열릴 때까지 flush 스레드를 붙잡는다
+    private ClusterTransport blocking(CountDownLatch entered, CountDownLatch release) {
+        InMemoryClusterTransport delegate = new InMemoryClusterTransport(hub);
+        return new ClusterTransport() {
+            @Override
+            public void start(Consumer<byte[]> receiver) {
+                delegate.start(receiver);
+            }
+
+            @Override
+            public void publish(byte[] batch) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delegate.publish(batch);
+            }
+
+            @Override
+            public void close() {
+                delegate.close();
+            }
+        };
+    }
+
+    // 허브로 보내면서 발행한 배치 수를 센다
+    private ClusterTransport counting(AtomicInteger published) {
+        InMemoryClusterTransport delegate = new InMemoryClusterTransport(hub);
+        return new ClusterTransport() {
+            @Override
+            public void start(Consumer<byte[]> receiver) {
+                delegate.start(receiver);
+            }
+
+            @Override
+            public void publish(byte[] batch) {
+                published.incrementAndGet();
+                delegate.publish(batch);
+            }
+
+            @Override
+            public void close() {
+                delegate.close();
+            }
+        };
+    }
+
+    // flush 간격을 길게 잡아 테스트에서는 flush()나 가득 찬 배치로만 발행되게 한다
+    private static WebSocketClusterConfig config(String nodeId, int batchMaxMessages) {
+        return config(nodeId, batchMaxMessages, 60_000);
+    }
+
+    private static WebSocketClusterConfig config(String nodeId, int batchMaxMessages, long flushIntervalMillis) {
+        return new WebSocketClusterConfig("memory", nodeId, "test", flushIntervalMillis, batchMaxMessages, 64 * 1024,
+                "localhost", 6379, null);
+    }
+}
@@ -0,0 +1,98 @@
+package sprout.server.websocket.extension;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sprout.server.websocket.exception.MessageTooBigException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PerMessageDeflateCodecTest {
+
+    private static final String JSON = "{\"type\":\"quote\",\"symbol\":\"SPRT\",\"bid\":101.25,\"ask\":101.27,\"venue\":\"XNYS\"}".repeat(8);
+
+    private final DeflaterPool pool = new DeflaterPool(PerMessageDeflateConfig.DEFAULT);
+
+    @Test
+    @DisplayName("서버가 압축한 메시지는 꼬리(00 00 FF FF) 없이 나가고, 같은 코덱으로 풀면 원문이 된다")
+    void compress_thenInflate_roundTrips() throws Exception {
+        PerMessageDeflateCodec codec = new PerMessageDeflateCodec(new PerMessageDeflate(false, 0), pool);
+        byte[] original = JSON.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer compressed = codec.compress(ByteBuffer.wrap(original));
+
+        assertThat(compressed.remaining()).isLessThan(original.length);
+        assertThat(codec.inflate(compressed, true)).isEqualTo(ByteBuffer.wrap(original));
+    }
+
+    @Test
+    @DisplayName("분할 메시지는 조각마다 풀리고 이어 붙이면 원문이 된다")
+    void inflate_fragmentedMessage() throws Exception {
+        PerMessageDeflateCodec codec = new PerMessageDeflateCodec(new PerMessageDeflate(true, 0), pool);
+        byte[] original = JSON.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = toArray(pool.compress(ByteBuffer.wrap(original)));
+        int third = compressed.length / 3;
+
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        message.write(toArray(codec.inflate(ByteBuffer.wrap(compressed, 0, third), false)));
+        message.write(toArray(codec.inflate(ByteBuffer.wrap(compressed, third, third), false)));
+        message.write(toArray(codec.inflate(ByteBuffer.wrap(compressed, 2 * third, compressed.length - 2 * third), true)));
+
+        assertThat(message.toString(StandardCharsets.UTF_8)).isEqualTo(JSON);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 컨텍스트를 이어 쓰면 앞 메시지를 참조하는 다음 메시지도 풀린다")
+    void inflate_withClientContextTakeover() throws Exception {
+        PerMessageDeflateCodec codec = new PerMessageDeflateCodec(new PerMessageDeflate(false, 0), pool);
+        Deflater client = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+        byte[] first = clientCompress(client, JSON);
+        byte[] second = clientCompress(client, JSON);
+
+        assertThat(second.length).isLessThan(first.length); // 앞 메시지를 참조해 더 작아졌다
+        assertThat(StandardCharsets.UTF_8.decode(codec.inflate(ByteBuffer.wrap(first), true)).toString()).isEqualTo(JSON);
+        assertThat(StandardCharsets.UTF_8.decode(codec.inflate(ByteBuffer.wrap(second), true)).toString()).isEqualTo(JSON);
+        client.end();
+    }
+
+    @Test
+    @DisplayName("min-size보다 작은 메시지는 압축 대상이 아니다")
+    void shouldCompress_respectsMinSize() {
+        PerMessageDeflateCodec codec = new PerMessageDeflateCodec(new PerMessageDeflate(false, 0), pool);
+
+        assertThat(codec.shouldCompress(255)).isFalse();
+        assertThat(codec.shouldCompress(256)).isTrue();
+    }
+
+    @Test
+    @DisplayName("풀린 크기가 한도를 넘으면 끝까지 풀지 않고 MessageTooBigException")
+    void inflate_stopsAtMaxLength() {
+        PerMessageDeflateCodec codec = new PerMessageDeflateCodec(new PerMessageDeflate(false, 0), pool);
+        Deflater client = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        byte[] compressed = clientCompress(client, "0".repeat(4000));
+        client.end();
+
+        assertThatThrownBy(() -> codec.inflate(ByteBuffer.wrap(compressed), true, 1024))
+                .isInstanceOf(MessageTooBigException.class);
+    }
+
+    private static byte[] clientCompress(Deflater deflater, String text) {
+        deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+        byte[] out = new byte[4096];
+        int length = deflater.deflate(out, 0, out.length, Deflater.SYNC_FLUSH);
+        return Arrays.copyOf(out, length - 4);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
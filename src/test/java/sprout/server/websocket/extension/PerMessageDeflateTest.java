@@ -0,0 +1,59 @@
+package sprout.server.websocket.extension;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerMessageDeflateTest {
+
+    private final PerMessageDeflateConfig config = PerMessageDeflateConfig.DEFAULT;
+
+    @Test
+    @DisplayName("파라미터 없는 제안을 받아들이고 서버는 항상 server_no_context_takeover로 응답한다")
+    void accept_plainOffer() {
+        PerMessageDeflate deflate = PerMessageDeflate.accept("permessage-deflate", config);
+
+        assertThat(deflate).isNotNull();
+        assertThat(deflate.clientNoContextTakeover()).isFalse();
+        assertThat(deflate.toResponseHeader()).isEqualTo("permessage-deflate; server_no_context_takeover");
+    }
+
+    @Test
+    @DisplayName("client_no_context_takeover 제안은 응답에도 넣는다")
+    void accept_clientNoContextTakeover() {
+        PerMessageDeflate deflate = PerMessageDeflate.accept(
+                "permessage-deflate; client_no_context_takeover; server_no_context_takeover", config);
+
+        assertThat(deflate.clientNoContextTakeover()).isTrue();
+        assertThat(deflate.toResponseHeader())
+                .isEqualTo("permessage-deflate; server_no_context_takeover; client_no_context_takeover");
+    }
+
+    @Test
+    @DisplayName("server_max_window_bits가 15보다 작으면 java.util.zip으로 맞출 수 없어 거절한다")
+    void decline_smallServerWindow() {
+        assertThat(PerMessageDeflate.accept("permessage-deflate; server_max_window_bits=10", config)).isNull();
+        assertThat(PerMessageDeflate.accept("permessage-deflate; server_max_window_bits=15", config)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("모르는 파라미터, 중복 파라미터, 다른 확장은 거절한다")
+    void decline_invalidOffers() {
+        assertThat(PerMessageDeflate.accept("permessage-deflate; unknown", config)).isNull();
+        assertThat(PerMessageDeflate.accept("permessage-deflate; client_no_context_takeover; client_no_context_takeover", config)).isNull();
+        assertThat(PerMessageDeflate.accept("x-webkit-deflate-frame", config)).isNull();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 client_max_window_bits를 제안하면 설정값과 제안값 중 작은 값으로 응답한다")
+    void accept_clientMaxWindowBits() {
+        PerMessageDeflateConfig small = new PerMessageDeflateConfig(true, 256, 6, false, 12, 8);
+
+        assertThat(PerMessageDeflate.accept("permessage-deflate; client_max_window_bits", small).clientMaxWindowBits()).isEqualTo(12);
+        assertThat(PerMessageDeflate.accept("permessage-deflate; client_max_window_bits=\"10\"", small).clientMaxWindowBits()).isEqualTo(10);
+        // 제안하지 않았으면 넣을 수 없다
+        assertThat(PerMessageDeflate.accept("permessage-deflate", small).clientMaxWindowBits()).isZero();
+        assertThat(PerMessageDeflate.accept("permessage-deflate; client_max_window_bits=7", small)).isNull();
+    }
+}
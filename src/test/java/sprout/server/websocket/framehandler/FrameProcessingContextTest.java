@@ -3,14 +3,18 @@ package sprout.server.websocket.framehandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import sprout.server.websocket.WebSocketFrame;
-import sprout.server.websocket.message.DefaultMessagePayload;
+import sprout.server.websocket.exception.InvalidPayloadDataException;
+import sprout.server.websocket.exception.MessageTooBigException;
+import sprout.server.websocket.message.ByteBufferMessagePayload;
 import sprout.server.websocket.message.MessagePayload;
 
 import java.io.ByteArrayInputStream;
-import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class FrameProcessingContextTest {
 
@@ -37,10 +41,11 @@ class FrameProcessingContextTest {
     @DisplayName("createPayload - 텍스트만 있을 때")
     void createPayload_textOnly() throws Exception {
         FrameProcessingContext ctx = new FrameProcessingContext();
-        ctx.getTextBuffer().append("hello");
+        append(ctx, true, 0x1, "hello".getBytes(StandardCharsets.UTF_8));
         MessagePayload p = ctx.createPayload();
-        assertThat(((DefaultMessagePayload) p).asText()).isEqualTo("hello");
-        assertThat(readBinaryField(p)).isNull();
+        assertThat(p.asText()).isEqualTo("hello");
+        assertThat(p.isText()).isTrue();
+        assertThat(p.isBinary()).isFalse();
     }
 
     @Test
@@ -48,41 +53,80 @@ class FrameProcessingContextTest {
     void createPayload_binaryOnly() throws Exception {
         FrameProcessingContext ctx = new FrameProcessingContext();
         byte[] bin = "bin".getBytes(StandardCharsets.UTF_8);
-        ctx.getBinaryBuffer().write(bin, 0, bin.length);
+        append(ctx, true, 0x2, bin);
         MessagePayload p = ctx.createPayload();
-        assertThat(((DefaultMessagePayload) p).asText()).isEqualTo("bin");
-        assertThat(readBinaryField(p)).isEqualTo(bin);
+        assertThat(p.asText()).isEqualTo("bin");
+        assertThat(p.asBinary()).isEqualTo(bin);
+        assertThat(p.isBinary()).isTrue();
     }
 
     @Test
     @DisplayName("createPayload - 둘 다 없으면 둘 다 null")
-    void createPayload_empty() throws Exception {
+    void createPayload_empty() {
         FrameProcessingContext ctx = new FrameProcessingContext();
         MessagePayload p = ctx.createPayload();
-        assertThat(((DefaultMessagePayload) p).asText()).isNull();
-        assertThat(readBinaryField(p)).isNull();
+        assertThat(p.asText()).isNull();
+        assertThat(p.asBinary()).isNull();
     }
 
     @Test
     @DisplayName("reset은 버퍼/프레임/플래그 초기화")
-    void reset() {
+    void reset() throws Exception {
         FrameProcessingContext ctx = new FrameProcessingContext();
-        ctx.getTextBuffer().append("x");
-        ctx.getBinaryBuffer().write(1);
         ctx.startFragmentedMessage(1);
-        ctx.setCurrentFrame(new WebSocketFrame(true, (byte)1, new ByteArrayInputStream(new byte[0])));
+        append(ctx, false, 0x1, "x".getBytes(StandardCharsets.UTF_8));
 
         ctx.reset();
 
-        assertThat(ctx.getTextBuffer().length()).isZero();
-        assertThat(ctx.getBinaryBuffer().size()).isZero();
+        assertThat(ctx.getMessageLength()).isZero();
+        assertThat(ctx.createPayload().asText()).isNull();
         assertThat(ctx.isFragmented()).isFalse();
         assertThat(ctx.getFrame()).isNull();
     }
 
-    private byte[] readBinaryField(MessagePayload p) throws Exception {
-        Field f = DefaultMessagePayload.class.getDeclaredField("binaryPayload");
-        f.setAccessible(true);
-        return (byte[]) f.get(p);
+    @Test
+    @DisplayName("조각 버퍼를 합치지 않고 페이로드로 넘기고, 프레임 경계에서 잘린 문자도 이어서 검사한다")
+    void fragments_keepSlicesAndValidateAcrossBoundaries() throws Exception {
+        FrameProcessingContext ctx = new FrameProcessingContext();
+        byte[] hangul = "안녕".getBytes(StandardCharsets.UTF_8); // 6바이트, 2바이트째에서 자른다
+        ctx.startFragmentedMessage(0x1);
+        append(ctx, false, 0x1, Arrays.copyOfRange(hangul, 0, 2));
+        append(ctx, false, 0x0, Arrays.copyOfRange(hangul, 2, 4));
+        append(ctx, true, 0x0, Arrays.copyOfRange(hangul, 4, 6));
+
+        ByteBufferMessagePayload p = (ByteBufferMessagePayload) ctx.createPayload();
+
+        assertThat(p.getFragmentCount()).isEqualTo(3);
+        assertThat(p.asText()).isEqualTo("안녕");
+        assertThat(p.asInputStream().readAllBytes()).isEqualTo(hangul);
+    }
+
+    @Test
+    @DisplayName("텍스트 메시지가 UTF-8 문자 중간에서 끝나면 InvalidPayloadDataException")
+    void truncatedUtf8_throws() throws Exception {
+        FrameProcessingContext ctx = new FrameProcessingContext();
+        byte[] hangul = "안".getBytes(StandardCharsets.UTF_8);
+        ctx.startFragmentedMessage(0x1);
+        append(ctx, false, 0x1, Arrays.copyOfRange(hangul, 0, 2));
+
+        assertThatThrownBy(() -> append(ctx, true, 0x0, new byte[0]))
+                .isInstanceOf(InvalidPayloadDataException.class);
+    }
+
+    @Test
+    @DisplayName("메시지가 최대 크기를 넘으면 MessageTooBigException")
+    void tooBig_throws() throws Exception {
+        FrameProcessingContext ctx = new FrameProcessingContext(4);
+        ctx.startFragmentedMessage(0x2);
+        append(ctx, false, 0x2, new byte[3]);
+
+        assertThatThrownBy(() -> append(ctx, true, 0x0, new byte[2]))
+                .isInstanceOf(MessageTooBigException.class);
+        assertThat(ctx.getMessageLength()).isEqualTo(3);
+    }
+
+    private static void append(FrameProcessingContext ctx, boolean fin, int opcode, byte[] payload) throws Exception {
+        ctx.setCurrentFrame(new WebSocketFrame(fin, opcode, ByteBuffer.wrap(payload)));
+        ctx.appendPayload();
     }
 }
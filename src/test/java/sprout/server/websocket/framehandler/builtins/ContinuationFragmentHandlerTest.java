@@ -53,7 +53,8 @@ class ContinuationFragmentHandlerTest {
     void process_textContinuation() throws Exception {
         FrameProcessingContext ctx = new FrameProcessingContext();
         ctx.startFragmentedMessage(0x1);
-        ctx.getTextBuffer().append("Hel");
+        ctx.setCurrentFrame(new WebSocketFrame(false, (byte) 0x0, new ByteArrayInputStream("Hel".getBytes(StandardCharsets.UTF_8))));
+        ctx.appendPayload();
         byte[] data = "lo".getBytes(StandardCharsets.UTF_8);
         CloseTrackingInputStream in = new CloseTrackingInputStream(data);
         ctx.setCurrentFrame(new WebSocketFrame(false, (byte) 0x0, in));
@@ -61,7 +62,7 @@ class ContinuationFragmentHandlerTest {
         boolean r = handler.handle(ctx);
 
         assertThat(r).isFalse();
-        assertThat(ctx.getTextBuffer().toString()).isEqualTo("Hello");
+        assertThat(ctx.createPayload().asText()).isEqualTo("Hello");
         assertThat(in.closed).isTrue();
     }
 
@@ -70,7 +71,8 @@ class ContinuationFragmentHandlerTest {
     void process_binaryContinuation() throws Exception {
         FrameProcessingContext ctx = new FrameProcessingContext();
         ctx.startFragmentedMessage(0x2);
-        ctx.getBinaryBuffer().write("AB".getBytes(StandardCharsets.UTF_8));
+        ctx.setCurrentFrame(new WebSocketFrame(false, (byte) 0x0, new ByteArrayInputStream("AB".getBytes(StandardCharsets.UTF_8))));
+        ctx.appendPayload();
         byte[] more = "CD".getBytes(StandardCharsets.UTF_8);
         CloseTrackingInputStream in = new CloseTrackingInputStream(more);
         ctx.setCurrentFrame(new WebSocketFrame(false, (byte) 0x0, in));
@@ -78,7 +80,7 @@ class ContinuationFragmentHandlerTest {
         boolean r = handler.handle(ctx);
 
         assertThat(r).isFalse();
-        assertThat(ctx.getBinaryBuffer().toByteArray()).isEqualTo("ABCD".getBytes(StandardCharsets.UTF_8));
+        assertThat(ctx.createPayload().asBinary()).isEqualTo("ABCD".getBytes(StandardCharsets.UTF_8));
         assertThat(in.closed).isTrue();
     }
 }
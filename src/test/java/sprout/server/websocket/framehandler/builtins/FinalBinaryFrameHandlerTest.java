@@ -60,7 +60,7 @@ class FinalBinaryFrameHandlerTest {
         boolean r = handler.handle(ctx);
 
         assertThat(r).isTrue();
-        assertThat(ctx.getBinaryBuffer().toByteArray()).isEqualTo(data);
+        assertThat(ctx.createPayload().asBinary()).isEqualTo(data);
         assertThat(in.closed).isFalse();
     }
 }
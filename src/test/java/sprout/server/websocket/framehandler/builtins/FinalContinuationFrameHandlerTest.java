@@ -52,7 +52,8 @@ class FinalContinuationFrameHandlerTest {
     void process_textContinuation() throws Exception {
         FrameProcessingContext ctx = new FrameProcessingContext();
         ctx.startFragmentedMessage(0x1);
-        ctx.getTextBuffer().append("Hello ");
+        ctx.setCurrentFrame(new WebSocketFrame(false, (byte) 0x0, new ByteArrayInputStream("Hello ".getBytes(StandardCharsets.UTF_8))));
+        ctx.appendPayload();
         byte[] data = "World".getBytes(StandardCharsets.UTF_8);
         CloseTrackingInputStream in = new CloseTrackingInputStream(data);
         ctx.setCurrentFrame(new WebSocketFrame(true, (byte) 0x0, in));
@@ -60,7 +61,7 @@ class FinalContinuationFrameHandlerTest {
         boolean r = handler.handle(ctx);
 
         assertThat(r).isTrue();
-        assertThat(ctx.getTextBuffer().toString()).isEqualTo("Hello World");
+        assertThat(ctx.createPayload().asText()).isEqualTo("Hello World");
         assertThat(in.closed).isFalse();
     }
 
@@ -69,7 +70,8 @@ class FinalContinuationFrameHandlerTest {
     void process_binaryContinuation() throws Exception {
         FrameProcessingContext ctx = new FrameProcessingContext();
         ctx.startFragmentedMessage(0x2);
-        ctx.getBinaryBuffer().write("ABC".getBytes(StandardCharsets.UTF_8));
+        ctx.setCurrentFrame(new WebSocketFrame(false, (byte) 0x0, new ByteArrayInputStream("ABC".getBytes(StandardCharsets.UTF_8))));
+        ctx.appendPayload();
         byte[] more = "DEF".getBytes(StandardCharsets.UTF_8);
         CloseTrackingInputStream in = new CloseTrackingInputStream(more);
         ctx.setCurrentFrame(new WebSocketFrame(true, (byte) 0x0, in));
@@ -77,7 +79,7 @@ class FinalContinuationFrameHandlerTest {
         boolean r = handler.handle(ctx);
 
         assertThat(r).isTrue();
-        assertThat(ctx.getBinaryBuffer().toByteArray()).isEqualTo("ABCDEF".getBytes(StandardCharsets.UTF_8));
+        assertThat(ctx.createPayload().asBinary()).isEqualTo("ABCDEF".getBytes(StandardCharsets.UTF_8));
         assertThat(in.closed).isFalse();
     }
 }
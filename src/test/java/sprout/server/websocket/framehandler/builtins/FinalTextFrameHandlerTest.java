@@ -60,7 +60,7 @@ class FinalTextFrameHandlerTest {
         boolean r = handler.handle(ctx);
 
         assertThat(r).isTrue();
-        assertThat(ctx.getTextBuffer().toString()).isEqualTo("Hello");
+        assertThat(ctx.createPayload().asText()).isEqualTo("Hello");
         assertThat(in.closed).isFalse();
     }
 }
@@ -50,7 +50,7 @@ class InitialBinaryFragmentHandlerTest {
         assertThat(r).isFalse();
         assertThat(ctx.isFragmented()).isTrue();
         assertThat(ctx.getFragmentedOpcode()).isEqualTo(0x2);
-        assertThat(ctx.getBinaryBuffer().toByteArray()).isEqualTo(data);
+        assertThat(ctx.createPayload().asBinary()).isEqualTo(data);
         assertThat(in.closed).isTrue();
     }
 
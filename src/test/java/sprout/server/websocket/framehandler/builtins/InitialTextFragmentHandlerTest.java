@@ -50,7 +50,7 @@ class InitialTextFragmentHandlerTest {
         assertThat(r).isFalse();
         assertThat(ctx.isFragmented()).isTrue();
         assertThat(ctx.getFragmentedOpcode()).isEqualTo(0x1);
-        assertThat(ctx.getTextBuffer().toString()).isEqualTo("Hello");
+        assertThat(ctx.createPayload().asText()).isEqualTo("Hello");
         assertThat(in.closed).isTrue();
     }
 
@@ -9,6 +9,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import sprout.mvc.http.HttpRequest;
+import sprout.server.websocket.extension.PerMessageDeflate;
+import sprout.server.websocket.extension.PerMessageDeflateConfig;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -205,4 +207,31 @@ class DefaultWebSocketHandshakeHandlerTest {
         assertTrue(response.contains("HTTP/1.1 400 Bad Request"), "응답 코드가 400이어야 합니다.");
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("permessage-deflate 제안을 받아들이면 101 응답에 Sec-WebSocket-Extensions 헤더를 넣는다.")
+    void performHandshake_shouldNegotiatePerMessageDeflate() throws IOException {
+        // given
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Upgrade", "websocket");
+        headers.put("Connection", "Upgrade");
+        headers.put("Sec-WebSocket-Key", "dGhlIHNhbXBsZSBub25jZQ==");
+        headers.put("Sec-WebSocket-Version", "13");
+        headers.put("Sec-WebSocket-Extensions", "permessage-deflate; server_max_window_bits=10, permessage-deflate; client_max_window_bits");
+
+        when(mockRequest.getHeaders()).thenReturn(headers);
+        when(mockRequest.getPath()).thenReturn("/ws");
+        DefaultWebSocketHandshakeHandler handler = new DefaultWebSocketHandshakeHandler(PerMessageDeflateConfig.DEFAULT);
+
+        // when
+        PerMessageDeflate deflate = handler.negotiateDeflate(mockRequest);
+        boolean success = handler.performHandshake(mockRequest, mockChannel, deflate);
+
+        // then: 윈도를 줄이라는 첫 제안은 거절하고 두 번째 제안을 받아들인다
+        assertTrue(success);
+        assertNotNull(deflate);
+        responseBuffer.flip();
+        String response = StandardCharsets.UTF_8.decode(responseBuffer).toString();
+        assertTrue(response.contains("Sec-WebSocket-Extensions: permessage-deflate; server_no_context_takeover\r\n"));
+    }
+}
@@ -9,12 +9,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sprout.server.argument.annotation.Payload;
+import sprout.server.websocket.DispatchResult;
 import sprout.server.websocket.InvocationContext;
+import sprout.server.websocket.WebSocketSession;
+import sprout.server.websocket.endpoint.WebSocketEndpointInfo;
+import sprout.server.websocket.message.ByteBufferMessagePayload;
 import sprout.server.websocket.message.MessagePayload;
 import sprout.server.websocket.WebSocketFrame;
 import sprout.server.websocket.message.AbstractWebSocketMessageDispatcher.DispatchInfo;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.lenient;
@@ -33,6 +41,9 @@ class JsonWebSocketMessageDispatcherTest {
     @Mock
     private MessagePayload mockMessagePayload;
 
+    @Mock
+    private WebSocketSession mockSession;
+
     @BeforeEach
     void setUp() {
         // 실제 ObjectMapper를 사용하여 JSON 파싱 기능을 직접 테스트합니다.
@@ -100,7 +111,7 @@ class JsonWebSocketMessageDispatcherTest {
         void shouldParseJsonAndReturnCorrectDispatchInfo() throws Exception {
             // given
             String jsonContent = "{\"destination\":\"/topic/greetings\",\"payload\":\"Hello Sprout\"}";
-            when(mockMessagePayload.asText()).thenReturn(jsonContent);
+            givenPayload(jsonContent);
 
             // when
             DispatchInfo result = dispatcher.prepareDispatchInfo(mockContext);
@@ -116,12 +127,123 @@ class JsonWebSocketMessageDispatcherTest {
         void shouldThrowException_forInvalidJson() {
             // given
             String invalidJson = "{\"destination\":\"/topic/greetings\","; // 닫히지 않은 JSON
-            when(mockMessagePayload.asText()).thenReturn(invalidJson);
+            givenPayload(invalidJson);
 
             // when & then
             assertThrows(JsonProcessingException.class, () -> {
                 dispatcher.prepareDispatchInfo(mockContext);
             }, "잘못된 형식의 JSON은 JsonProcessingException을 발생시켜야 합니다.");
         }
+
+        @Test
+        @DisplayName("destination으로 찾은 메서드의 @Payload 타입으로 payload를 바로 바인딩해 호출해야 한다.")
+        void shouldBindTypedPayloadWhileRouting() throws Exception {
+            // given
+            ChatHandler handler = new ChatHandler();
+            WebSocketEndpointInfo endpointInfo = endpointInfo(handler);
+            when(mockContext.session()).thenReturn(mockSession);
+            when(mockSession.getEndpointInfo()).thenReturn(endpointInfo);
+            givenPayload("{\"destination\":\"/chat\",\"payload\":{\"user\":\"sprout\",\"text\":\"hi\"}}");
+
+            // when
+            DispatchInfo info = dispatcher.prepareDispatchInfo(mockContext);
+            DispatchResult result = dispatcher.dispatch(mockFrame, mockContext);
+
+            // then
+            assertSame(endpointInfo.getMessageMapping("/chat"), info.boundTo());
+            assertInstanceOf(ChatMessage.class, info.payload());
+            assertTrue(result.isHandled());
+            assertEquals("sprout", handler.received.user);
+            assertEquals("hi", handler.received.text);
+        }
+
+        @Test
+        @DisplayName("payload가 destination보다 먼저 와도 라우팅 뒤에 같은 타입으로 바인딩해야 한다.")
+        void shouldBindPayloadThatPrecedesDestination() throws Exception {
+            // given
+            WebSocketEndpointInfo endpointInfo = endpointInfo(new ChatHandler());
+            when(mockContext.session()).thenReturn(mockSession);
+            when(mockSession.getEndpointInfo()).thenReturn(endpointInfo);
+            givenPayload("{\"payload\":{\"user\":\"sprout\",\"text\":\"hi\"},\"id\":[1,2],\"destination\":\"/chat\"}");
+
+            // when
+            DispatchInfo info = dispatcher.prepareDispatchInfo(mockContext);
+
+            // then
+            assertEquals("/chat", info.destination());
+            assertNotNull(info.boundTo());
+            ChatMessage message = (ChatMessage) info.payload();
+            assertEquals("sprout", message.user);
+            assertEquals("hi", message.text);
+        }
+
+        @Test
+        @DisplayName("@Payload String 파라미터는 바인딩하지 않고 리졸버에 맡겨야 한다.")
+        void shouldLeaveStringPayloadToResolvers() throws Exception {
+            // given
+            WebSocketEndpointInfo endpointInfo = endpointInfo(new ChatHandler());
+            when(mockContext.session()).thenReturn(mockSession);
+            when(mockSession.getEndpointInfo()).thenReturn(endpointInfo);
+            givenPayload("{\"destination\":\"/echo\",\"payload\":\"Hello\"}");
+
+            // when
+            DispatchInfo info = dispatcher.prepareDispatchInfo(mockContext);
+
+            // then
+            assertNull(info.boundTo());
+            assertEquals("Hello", info.payload());
+        }
+
+        @Test
+        @DisplayName("여러 조각으로 온 메시지도 합치지 않고 이어 읽어 파싱해야 한다.")
+        void shouldParseFragmentedMessage() throws Exception {
+            // given
+            byte[] json = "{\"destination\":\"/topic/greetings\",\"payload\":\"Hello Sprout\"}".getBytes(StandardCharsets.UTF_8);
+            int split = 20;
+            ByteBuffer[] fragments = {
+                    ByteBuffer.wrap(json, 0, split).slice(),
+                    ByteBuffer.allocateDirect(json.length - split).put(json, split, json.length - split).flip()
+            };
+            when(mockContext.getMessagePayload()).thenReturn(new ByteBufferMessagePayload(true, fragments, json.length));
+
+            // when
+            DispatchInfo result = dispatcher.prepareDispatchInfo(mockContext);
+
+            // then
+            assertEquals("/topic/greetings", result.destination());
+            assertEquals("Hello Sprout", result.payload());
+        }
+
+        private void givenPayload(String json) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            // 앞뒤에 다른 바이트가 있는 버퍼의 일부로 넘겨 offset을 지키는지도 함께 본다
+            ByteBuffer framed = ByteBuffer.allocate(bytes.length + 4);
+            framed.position(2);
+            framed.put(bytes);
+            ByteBuffer fragment = framed.position(2).limit(2 + bytes.length).slice();
+            when(mockContext.getMessagePayload()).thenReturn(new ByteBufferMessagePayload(true, new ByteBuffer[]{fragment}, bytes.length));
+        }
+
+        private WebSocketEndpointInfo endpointInfo(ChatHandler handler) throws NoSuchMethodException {
+            return new WebSocketEndpointInfo(null, handler, null, null, null, Map.of(
+                    "/chat", ChatHandler.class.getMethod("chat", ChatMessage.class),
+                    "/echo", ChatHandler.class.getMethod("echo", String.class)));
+        }
+    }
+
+    public static class ChatMessage {
+        public String user;
+        public String text;
+    }
+
+    public static class ChatHandler {
+        ChatMessage received;
+
+        public void chat(@Payload ChatMessage message) {
+            this.received = message;
+        }
+
+        public void echo(@Payload String message) {
+        }
     }
 }
\ No newline at end of file